@@ -1,6 +1,6 @@
 /* eslint-disable no-import-assign */
 import { BleManager, Device, Service, Characteristic } from '../src'
-import { BleErrorCode, BleErrorCodeMessage } from '../src/BleError'
+import { BleError, BleErrorCode, BleErrorCodeMessage } from '../src/BleError'
 import * as Native from '../src/BleModule'
 
 import { NativeEventEmitter } from './Utils'
@@ -19,6 +19,9 @@ beforeEach(() => {
     createClient: jest.fn(),
     destroyClient: jest.fn(),
     cancelTransaction: jest.fn(),
+    getEventQueueStatistics: jest.fn(),
+    setBridgeTrafficAccounting: jest.fn(),
+    getBridgeTraffic: jest.fn(),
     setLogLevel: jest.fn(),
     logLevel: jest.fn(),
     enable: jest.fn(),
@@ -26,6 +29,17 @@ beforeEach(() => {
     state: jest.fn(),
     startDeviceScan: jest.fn(),
     stopDeviceScan: jest.fn(),
+    getScanStatistics: jest.fn(),
+    startScanStatisticsUpdates: jest.fn(),
+    stopScanStatisticsUpdates: jest.fn(),
+    startBackgroundDeviceScan: jest.fn(),
+    stopBackgroundDeviceScan: jest.fn(),
+    getBackgroundScanResults: jest.fn(),
+    setAdvertisementDecryptionKey: jest.fn(),
+    removeAdvertisementDecryptionKey: jest.fn(),
+    startScanCapture: jest.fn(),
+    stopScanCapture: jest.fn(),
+    replayScanCapture: jest.fn(),
     readRSSIForDevice: jest.fn(),
     connectToDevice: jest.fn(),
     cancelDeviceConnection: jest.fn(),
@@ -35,16 +49,28 @@ beforeEach(() => {
     characteristicsForDevice: jest.fn(),
     descriptorsForDevice: jest.fn(),
     readCharacteristicForDevice: jest.fn(),
+    readCharacteristicsForDevice: jest.fn(),
     writeCharacteristicForDevice: jest.fn(),
     monitorCharacteristicForDevice: jest.fn(),
     readDescriptorForDevice: jest.fn(),
     writeDescriptorForDevice: jest.fn(),
     requestMTUForDevice: jest.fn(),
     requestConnectionPriorityForDevice: jest.fn(),
+    setCharacteristicPriorityForDevice: jest.fn(),
+    setGattSchedulerOptions: jest.fn(),
+    getGattSchedulerStatistics: jest.fn(),
+    getOperationQueueStatisticsForDevice: jest.fn(),
     ScanEvent: 'scan_event',
     ReadEvent: 'read_event',
+    CompactReadEvent: 'compact_read_event',
+    BatchReadEvent: 'batch_read_event',
     StateChangeEvent: 'state_change_event',
-    DisconnectionEvent: 'disconnection_event'
+    DisconnectionEvent: 'disconnection_event',
+    BackgroundScanEvent: 'background_scan_event',
+    ScanStatisticsEvent: 'scan_statistics_event',
+    WriteProgressEvent: 'write_progress_event',
+    L2capDataEvent: 'l2cap_data_event',
+    L2capCloseEvent: 'l2cap_close_event'
   }
   bleManager = new BleManager({
     restoreStateIdentifier: 'identifier',
@@ -117,6 +143,21 @@ test('When BleManager cancelTransaction is called it should call BleModule cance
   expect(Native.BleModule.cancelTransaction).toBeCalledWith('id')
 })
 
+test('BleManager passes native event queue statistics', async () => {
+  const statistics = { queueDepth: 3, lag: 12, droppedEventCount: 1 }
+  Native.BleModule.getEventQueueStatistics = jest.fn().mockReturnValueOnce(Promise.resolve(statistics))
+  await expect(bleManager.getEventQueueStatistics()).resolves.toBe(statistics)
+})
+
+test('BleManager enables bridge traffic accounting and passes recorded traffic', async () => {
+  const traffic = { duration: 60000, isEnabled: true, events: { ScanEvent: { count: 10, bytes: 4000 } }, methods: {} }
+  Native.BleModule.setBridgeTrafficAccounting = jest.fn().mockReturnValueOnce(Promise.resolve())
+  Native.BleModule.getBridgeTraffic = jest.fn().mockReturnValueOnce(Promise.resolve(traffic))
+  await bleManager.setBridgeTrafficAccounting(true)
+  expect(Native.BleModule.setBridgeTrafficAccounting).toBeCalledWith(true)
+  await expect(bleManager.getBridgeTraffic()).resolves.toBe(traffic)
+})
+
 test('When BleManager starts scanning it calls BleModule startScanning function', () => {
   const listener = jest.fn()
   bleManager.startDeviceScan(['18a0', '1800'], { allowDuplicates: true }, listener)
@@ -138,6 +179,76 @@ test('When BleManager stops scanning it calls BleModule stopScanning function',
   expect(Native.BleModule.stopDeviceScan).toBeCalled()
 })
 
+test('BleManager passes periodic scan statistics to listener until subscription is removed', () => {
+  Native.BleModule.startScanStatisticsUpdates.mockReturnValueOnce(Promise.resolve())
+  Native.BleModule.stopScanStatisticsUpdates.mockReturnValueOnce(Promise.resolve())
+  const listener = jest.fn()
+
+  const subscription = bleManager.onScanStatistics(listener, 500)
+  expect(Native.BleModule.startScanStatisticsUpdates).toBeCalledWith(500)
+  Native.BleModule.emit(Native.BleModule.ScanStatisticsEvent, { rawResultCount: 10, droppedResultCount: 1 })
+  subscription.remove()
+  expect(Native.BleModule.stopScanStatisticsUpdates).toBeCalled()
+  Native.BleModule.emit(Native.BleModule.ScanStatisticsEvent, { rawResultCount: 20, droppedResultCount: 1 })
+
+  expect(listener.mock.calls.length).toBe(1)
+  expect(listener.mock.calls[0][0].rawResultCount).toBe(10)
+})
+
+test('When BleManager starts background scan it calls BleModule background scan functions', () => {
+  bleManager.startBackgroundDeviceScan(['18a0'], { maxBufferedResults: 10 })
+  expect(Native.BleModule.startBackgroundDeviceScan).toBeCalledWith(['18a0'], { maxBufferedResults: 10 })
+  bleManager.stopBackgroundDeviceScan()
+  expect(Native.BleModule.stopBackgroundDeviceScan).toBeCalled()
+})
+
+test('BleManager passes buffered background scan results to listener when notified', async () => {
+  Native.BleModule.getBackgroundScanResults
+    .mockReturnValueOnce(Promise.resolve({ devices: [], droppedCount: 0 }))
+    .mockReturnValueOnce(Promise.resolve({ devices: [{ id: '1' }, { id: '2' }], droppedCount: 3 }))
+  const listener = jest.fn()
+
+  const subscription = bleManager.onBackgroundScanResults(listener, 5)
+  await Promise.resolve()
+  Native.BleModule.emit(Native.BleModule.BackgroundScanEvent, 2)
+  await new Promise(resolve => setImmediate(resolve))
+
+  expect(Native.BleModule.getBackgroundScanResults).toBeCalledWith(5)
+  expect(listener.mock.calls.length).toBe(1)
+  expect(listener.mock.calls[0][0].devices.map(device => device.id)).toEqual(['1', '2'])
+  expect(listener.mock.calls[0][0].droppedCount).toBe(3)
+  subscription.remove()
+})
+
+test('When BleManager sets advertisement decryption key it uses BTHome format by default', () => {
+  bleManager.setAdvertisementDecryptionKey('id', 'Ix05wdfMGrGu4iTNCW25Mg==')
+  expect(Native.BleModule.setAdvertisementDecryptionKey).toBeCalledWith('id', 'Ix05wdfMGrGu4iTNCW25Mg==', 'BTHomeV2')
+  bleManager.removeAdvertisementDecryptionKey('id')
+  expect(Native.BleModule.removeAdvertisementDecryptionKey).toBeCalledWith('id')
+})
+
+test('When BleManager captures scan it calls BleModule capture functions', () => {
+  bleManager.startScanCapture('/data/capture.bin')
+  expect(Native.BleModule.startScanCapture).toBeCalledWith('/data/capture.bin')
+  bleManager.stopScanCapture()
+  expect(Native.BleModule.stopScanCapture).toBeCalled()
+})
+
+test('When BleManager replays scan capture it calls listener with replayed devices', () => {
+  const listener = jest.fn()
+
+  bleManager.replayScanCapture('/data/capture.bin', { speed: 4 }, listener)
+  expect(Native.BleModule.replayScanCapture).toBeCalledWith('/data/capture.bin', { speed: 4 })
+  Native.BleModule.emit(Native.BleModule.ScanEvent, [null, { id: '2' }])
+  bleManager.stopDeviceScan()
+  Native.BleModule.emit(Native.BleModule.ScanEvent, [null, { id: '3' }])
+
+  expect(listener.mock.calls.length).toBe(1)
+  expect(listener.mock.calls[0][0]).toBeFalsy()
+  expect(listener.mock.calls[0][1].id).toBe('2')
+  expect(Native.BleModule.stopDeviceScan).toBeCalled()
+})
+
 test('When BleManager readRSSI is called it should call BleModule readRSSI', () => {
   bleManager.readRSSIForDevice('id')
   expect(Native.BleModule.readRSSIForDevice).toBeCalledWith('id', '2')
@@ -252,6 +363,19 @@ test('BleManager properly calls servicesForDevice BleModule function', async ()
   expect(Native.BleModule.servicesForDevice).toBeCalledWith('id')
 })
 
+test('BleManager uses synchronous getter when BleModule provides one', async () => {
+  Native.BleModule.servicesForDevice = jest.fn()
+  Native.BleModule.servicesForDeviceSync = jest.fn().mockReturnValueOnce([null, [{ uuid: 'a', deviceId: 'id' }]])
+  const services = await bleManager.servicesForDevice('id')
+  expect(services.length).toBe(1)
+  expect(services[0]).toBeInstanceOf(Service)
+  expect(Native.BleModule.servicesForDeviceSync).toBeCalledWith('id')
+  expect(Native.BleModule.servicesForDevice).not.toBeCalled()
+
+  Native.BleModule.stateSync = jest.fn().mockReturnValueOnce([nativeOperationCancelledError, null])
+  await expect(bleManager.state()).rejects.toThrowError(BleErrorCodeMessage[BleErrorCode.OperationCancelled])
+})
+
 test('BleManager properly calls characteristicsForDevice BleModule function', async () => {
   Native.BleModule.characteristicsForDevice = jest.fn().mockReturnValueOnce(
     Promise.resolve([
@@ -292,7 +416,57 @@ test('BleManager properly reads characteristic value', async () => {
   expect(newCharacteristicValue).toBeInstanceOf(Characteristic)
   expect(newCharacteristicValue.uuid).toBe('aaaa')
   expect(newCharacteristicValue.value).toBe('=AA')
-  expect(Native.BleModule.readCharacteristicForDevice).toBeCalledWith('id', 'bbbb', 'aaaa', 'ok')
+  expect(Native.BleModule.readCharacteristicForDevice).toBeCalledWith('id', 'bbbb', 'aaaa', 'ok', null)
+})
+
+test('BleManager passes decoder schema to characteristic read and exposes decoded value', async () => {
+  const decodedValue = { temperature: 21.5, samples: [1, 2] }
+  Native.BleModule.readCharacteristicForDevice = jest
+    .fn()
+    .mockReturnValueOnce(Promise.resolve({ uuid: 'aaaa', value: null, decodedValue }))
+  const options = {
+    decoder: {
+      fields: [
+        { name: 'temperature', type: 'int16', scale: 0.01 },
+        { name: 'samples', type: 'uint8', count: 2 }
+      ]
+    }
+  }
+  const characteristic = await bleManager.readCharacteristicForDevice('id', 'bbbb', 'aaaa', 'ok', options)
+  expect(Native.BleModule.readCharacteristicForDevice).toBeCalledWith('id', 'bbbb', 'aaaa', 'ok', options)
+  expect(characteristic.decodedValue).toEqual(decodedValue)
+  expect(characteristic.value).toBeNull()
+})
+
+test('BleManager passes decoder schema to characteristic reads by service and characteristic id', async () => {
+  const options = { decoder: { fields: [{ type: 'uint8' }] } }
+  Native.BleModule.readCharacteristicForService = jest.fn().mockReturnValue(Promise.resolve({ uuid: 'aaaa' }))
+  Native.BleModule.readCharacteristic = jest.fn().mockReturnValue(Promise.resolve({ uuid: 'aaaa' }))
+  await bleManager._readCharacteristicForService('serviceId', 'aaaa', 'ok', options)
+  expect(Native.BleModule.readCharacteristicForService).toBeCalledWith('serviceId', 'aaaa', 'ok', options)
+  await bleManager._readCharacteristic('characteristicId', 'ok')
+  expect(Native.BleModule.readCharacteristic).toBeCalledWith('characteristicId', 'ok', null)
+})
+
+test('BleManager reads several characteristics in one call and keeps per-item errors', async () => {
+  Native.BleModule.readCharacteristicsForDevice = jest.fn().mockReturnValueOnce(
+    Promise.resolve([
+      { serviceUUID: 'bbbb', characteristicUUID: 'aaaa', characteristic: { uuid: 'aaaa', value: '=AA' }, error: null },
+      { serviceUUID: 'bbbb', characteristicUUID: 'cccc', characteristic: null, error: nativeOperationCancelledError }
+    ])
+  )
+  const uuids = [
+    ['bbbb', 'aaaa'],
+    ['bbbb', 'cccc']
+  ]
+  const results = await bleManager.readCharacteristicsForDevice('id', uuids, 'ok')
+  expect(Native.BleModule.readCharacteristicsForDevice).toBeCalledWith('id', uuids, 'ok')
+  expect(results[0].characteristic).toBeInstanceOf(Characteristic)
+  expect(results[0].characteristic.value).toBe('=AA')
+  expect(results[0].error).toBeNull()
+  expect(results[1].characteristic).toBeNull()
+  expect(results[1].error).toBeInstanceOf(BleError)
+  expect(results[1].error.errorCode).toBe(BleErrorCode.OperationCancelled)
 })
 
 test('BleManager properly writes characteristic value', async () => {
@@ -327,6 +501,124 @@ test('BleManager properly writes characteristic value', async () => {
   }
 })
 
+test('BleManager writes long characteristic value and reports its progress', async () => {
+  Native.BleModule.writeLongCharacteristicForDevice = jest.fn().mockImplementation(() => {
+    Native.BleModule.emit(Native.BleModule.WriteProgressEvent, ['other', 20, 20])
+    Native.BleModule.emit(Native.BleModule.WriteProgressEvent, ['trans', 20, 40])
+    return Promise.resolve({ uuid: 'bbbb', value: '=AA' })
+  })
+  const onProgress = jest.fn()
+
+  const characteristic = await bleManager.writeLongCharacteristicForDevice(
+    'id',
+    'aaaa',
+    'bbbb',
+    '=AA',
+    { withResponse: false, progressInterval: 50 },
+    onProgress,
+    'trans'
+  )
+  expect(characteristic).toBeInstanceOf(Characteristic)
+  expect(Native.BleModule.writeLongCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', '=AA', false, 50, 'trans')
+
+  // Last batch may be reported after the write is resolved
+  Native.BleModule.emit(Native.BleModule.WriteProgressEvent, ['trans', 40, 40])
+  Native.BleModule.emit(Native.BleModule.WriteProgressEvent, ['trans', 40, 40])
+  expect(onProgress.mock.calls).toEqual([[{ bytesWritten: 20, totalBytes: 40 }], [{ bytesWritten: 40, totalBytes: 40 }]])
+
+  await bleManager.writeLongCharacteristicForDevice('id', 'aaaa', 'bbbb', '=AA')
+  expect(Native.BleModule.writeLongCharacteristicForDevice).toHaveBeenLastCalledWith(
+    'id',
+    'aaaa',
+    'bbbb',
+    '=AA',
+    true,
+    0,
+    expect.any(String)
+  )
+})
+
+test('BleManager writes stream of values without response in one call', async () => {
+  const result = { packetCount: 2, byteCount: 4, duration: 10, bytesPerSecond: 400 }
+  Native.BleModule.writeCharacteristicStreamForDevice = jest.fn().mockReturnValue(Promise.resolve(result))
+
+  await expect(
+    bleManager.writeCharacteristicStreamForDevice('id', 'aaaa', 'bbbb', ['AQI=', new Uint8Array([3, 4]).buffer], 'trans')
+  ).resolves.toEqual(result)
+  expect(Native.BleModule.writeCharacteristicStreamForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', ['AQI=', 'AwQ='], 'trans')
+})
+
+test('BleManager exposes characteristic value as raw bytes', async () => {
+  Native.BleModule.readCharacteristicForDevice = jest
+    .fn()
+    .mockReturnValueOnce(Promise.resolve({ uuid: 'aaaa', value: 'AQID' }))
+  const characteristic = await bleManager.readCharacteristicForDevice('id', 'bbbb', 'aaaa', 'ok')
+  expect(Array.from(new Uint8Array(characteristic.rawValue))).toEqual([1, 2, 3])
+  expect(characteristic.value).toBe('AQID')
+})
+
+test('BleManager writes raw characteristic value as Base64 or handle when binary transport is installed', async () => {
+  Native.BleModule.writeCharacteristicForDevice = jest
+    .fn()
+    .mockReturnValue(Promise.resolve({ uuid: 'aaaa', value: null, valueHandle: 7 }))
+  const rawValue = new Uint8Array([1, 2, 3]).buffer
+
+  await bleManager.writeCharacteristicWithResponseForDevice('id', 'aaaa', 'bbbb', rawValue, 'trans')
+  expect(Native.BleModule.writeCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 'AQID', true, 'trans')
+
+  global.__blePlxPutValue = jest.fn().mockReturnValue(5)
+  global.__blePlxTakeValue = jest.fn().mockReturnValue(rawValue)
+  try {
+    const characteristic = await bleManager.writeCharacteristicWithResponseForDevice(
+      'id',
+      'aaaa',
+      'bbbb',
+      rawValue,
+      'trans'
+    )
+    expect(global.__blePlxPutValue).toBeCalledWith(rawValue)
+    expect(Native.BleModule.writeCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 5, true, 'trans')
+    expect(global.__blePlxTakeValue).toBeCalledWith(7)
+    expect(characteristic.rawValue).toBe(rawValue)
+    expect(characteristic.value).toBe('AQID')
+  } finally {
+    delete global.__blePlxPutValue
+    delete global.__blePlxTakeValue
+  }
+})
+
+test('BleManager falls back to Base64 when binary value store is full', async () => {
+  Native.BleModule.writeCharacteristicForDevice = jest
+    .fn()
+    .mockReturnValue(Promise.resolve({ uuid: 'aaaa', value: 'AQID' }))
+  const rawValue = new Uint8Array([1, 2, 3]).buffer
+  global.__blePlxPutValue = jest.fn().mockReturnValue(0)
+  global.__blePlxTakeValue = jest.fn()
+  try {
+    await bleManager.writeCharacteristicWithResponseForDevice('id', 'aaaa', 'bbbb', rawValue, 't')
+    expect(Native.BleModule.writeCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 'AQID', true, 't')
+  } finally {
+    delete global.__blePlxPutValue
+    delete global.__blePlxTakeValue
+  }
+})
+
+test('BleManager rejects when binary value is no longer available', async () => {
+  Native.BleModule.readCharacteristicForDevice = jest
+    .fn()
+    .mockReturnValue(Promise.resolve({ uuid: 'aaaa', value: null, valueHandle: 7 }))
+  global.__blePlxPutValue = jest.fn()
+  global.__blePlxTakeValue = jest.fn().mockReturnValue(null)
+  try {
+    await expect(bleManager.readCharacteristicForDevice('id', 'bbbb', 'aaaa', 'ok')).rejects.toThrow(
+      'Binary value 7 is no longer available'
+    )
+  } finally {
+    delete global.__blePlxPutValue
+    delete global.__blePlxTakeValue
+  }
+})
+
 test('BleManager properly monitors characteristic value', async () => {
   const listener = jest.fn()
   Native.BleModule.monitorCharacteristicForDevice = jest.fn().mockReturnValue(Promise.resolve(null))
@@ -340,7 +632,275 @@ test('BleManager properly monitors characteristic value', async () => {
   subscription.remove()
   expect(listener).toHaveBeenCalledTimes(2)
   expect(Native.BleModule.cancelTransaction).toBeCalledWith('x')
-  expect(Native.BleModule.monitorCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 'x', undefined)
+  expect(Native.BleModule.monitorCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 'x', undefined, null)
+})
+
+test('BleManager routes monitoring events only to the monitor with matching transaction', async () => {
+  const firstListener = jest.fn()
+  const secondListener = jest.fn()
+  Native.BleModule.monitorCharacteristicForDevice = jest.fn().mockReturnValue(new Promise(() => {}))
+  const addListener = jest.spyOn(bleManager._eventEmitter, 'addListener')
+
+  const first = bleManager.monitorCharacteristicForDevice('id', 'aaaa', 'bbbb', firstListener, 'x1')
+  const second = bleManager.monitorCharacteristicForDevice('id', 'aaaa', 'cccc', secondListener, 'x2')
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 'a', value: 'a' }, 'x1'])
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 'b', value: 'b' }, 'x2'])
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 'b', value: 'c' }, 'x2'])
+
+  expect(addListener).toHaveBeenCalledTimes(1)
+  expect(firstListener).toHaveBeenCalledTimes(1)
+  expect(secondListener).toHaveBeenCalledTimes(2)
+  expect(Native.BleModule.cancelTransaction).not.toBeCalled()
+  first.remove()
+  expect(Native.BleModule.cancelTransaction).toBeCalledWith('x1')
+  second.remove()
+  addListener.mockRestore()
+})
+
+test('BleManager polls characteristic value through monitoring events', async () => {
+  const listener = jest.fn()
+  Native.BleModule.pollCharacteristicForDevice = jest.fn().mockReturnValue(new Promise(() => {}))
+
+  const subscription = bleManager.pollCharacteristicForDevice('id', 'aaaa', 'bbbb', listener, { interval: 500 }, 'x')
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 'a', value: 'AA==' }, 'x'])
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 'a', value: 'AQ==' }, 'x2'])
+  subscription.remove()
+
+  expect(Native.BleModule.pollCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 500, 0, true, 'x', {
+    interval: 500
+  })
+  expect(listener).toHaveBeenCalledTimes(1)
+  expect(listener.mock.calls[0][1]).toBeInstanceOf(Characteristic)
+  expect(listener.mock.calls[0][1].value).toBe('AA==')
+  expect(Native.BleModule.cancelTransaction).toBeCalledWith('x')
+})
+
+test('BleManager builds characteristics from compact monitoring updates', async () => {
+  const listener = jest.fn()
+  Native.BleModule.monitorCharacteristicForDevice = jest.fn().mockReturnValue(Promise.resolve(null))
+  const options = { compact: true, timestamps: true }
+
+  const subscription = bleManager.monitorCharacteristicForDevice('id', 'aaaa', 'bbbb', listener, 'x', null, options)
+  Native.BleModule.emit(Native.BleModule.CompactReadEvent, ['x', 'AQ==', 10.5, { id: 'a', uuid: 'bbbb' }])
+  Native.BleModule.emit(Native.BleModule.CompactReadEvent, ['x2', 'Ag==', 11, null])
+  Native.BleModule.emit(Native.BleModule.CompactReadEvent, ['x', 'Aw==', 12, null])
+  subscription.remove()
+
+  expect(Native.BleModule.monitorCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 'x', null, options)
+  expect(listener).toHaveBeenCalledTimes(2)
+  const characteristic = listener.mock.calls[1][1]
+  expect(characteristic).toBeInstanceOf(Characteristic)
+  expect(characteristic.uuid).toBe('bbbb')
+  expect(characteristic.value).toBe('Aw==')
+  expect(characteristic.timestamp).toBe(12)
+})
+
+test('BleManager passes natively decoded values of compact monitoring updates', async () => {
+  const listener = jest.fn()
+  Native.BleModule.monitorCharacteristicForDevice = jest.fn().mockReturnValue(Promise.resolve(null))
+  const options = { compact: true, decoder: { fields: [{ type: 'int16', count: 3 }] } }
+
+  const subscription = bleManager.monitorCharacteristicForDevice('id', 'aaaa', 'bbbb', listener, 'x', null, options)
+  Native.BleModule.emit(Native.BleModule.CompactReadEvent, ['x', [1, -2, 3], null, { id: 'a', uuid: 'bbbb' }])
+  Native.BleModule.emit(Native.BleModule.CompactReadEvent, ['x', 'AQ==', null, null])
+  subscription.remove()
+
+  expect(listener).toHaveBeenCalledTimes(2)
+  const [decoded, undecoded] = listener.mock.calls.map(call => call[1])
+  expect(decoded.decodedValue).toEqual([1, -2, 3])
+  expect(decoded.value).toBeNull()
+  expect(undecoded.decodedValue).toBeNull()
+  expect(undecoded.value).toBe('AQ==')
+})
+
+test('BleManager unpacks batched monitoring updates', async () => {
+  const listener = jest.fn()
+  Native.BleModule.monitorCharacteristicForDevice = jest.fn().mockReturnValue(Promise.resolve(null))
+  const packed = Buffer.alloc(23)
+  packed.writeDoubleLE(1.5, 0)
+  packed.writeUInt16LE(1, 8)
+  packed.writeUInt8(7, 10)
+  packed.writeDoubleLE(2.5, 11)
+  packed.writeUInt16LE(2, 19)
+  packed.writeUInt8(8, 21)
+  packed.writeUInt8(9, 22)
+
+  const subscription = bleManager.monitorCharacteristicForDevice('id', 'aaaa', 'bbbb', listener, 'x', null, {
+    batchInterval: 50
+  })
+  Native.BleModule.emit(Native.BleModule.BatchReadEvent, ['x', packed.toString('base64'), { id: 'a', uuid: 'bbbb' }])
+  subscription.remove()
+
+  expect(listener).toHaveBeenCalledTimes(2)
+  const [first, second] = listener.mock.calls.map(call => call[1])
+  expect(first.uuid).toBe('bbbb')
+  expect(first.timestamp).toBe(1.5)
+  expect(first.value).toBe('Bw==')
+  expect(second.timestamp).toBe(2.5)
+  expect(Array.from(new Uint8Array(second.rawValue))).toEqual([8, 9])
+})
+
+test('BleManager attaches natively decoded values to batched monitoring updates', async () => {
+  const listener = jest.fn()
+  Native.BleModule.monitorCharacteristicForDevice = jest.fn().mockReturnValue(Promise.resolve(null))
+  const packed = Buffer.alloc(23)
+  packed.writeDoubleLE(1.5, 0)
+  packed.writeUInt16LE(1, 8)
+  packed.writeUInt8(7, 10)
+  packed.writeDoubleLE(2.5, 11)
+  packed.writeUInt16LE(2, 19)
+  packed.writeUInt16LE(0x0908, 21)
+
+  const subscription = bleManager.monitorCharacteristicForDevice('id', 'aaaa', 'bbbb', listener, 'x', null, {
+    batchInterval: 50,
+    decoder: { fields: [{ name: 'level', type: 'uint16' }] }
+  })
+  Native.BleModule.emit(Native.BleModule.BatchReadEvent, [
+    'x',
+    packed.toString('base64'),
+    { id: 'a', uuid: 'bbbb' },
+    [null, { level: 0x0908 }]
+  ])
+  subscription.remove()
+
+  const [first, second] = listener.mock.calls.map(call => call[1])
+  expect(first.decodedValue).toBeNull()
+  expect(first.value).toBe('Bw==')
+  expect(second.decodedValue).toEqual({ level: 0x0908 })
+  expect(second.timestamp).toBe(2.5)
+})
+
+test('BleManager pulls notifications from native characteristic history', async () => {
+  const listener = jest.fn()
+  Native.BleModule.monitorCharacteristicForDevice = jest.fn().mockReturnValue(new Promise(() => {}))
+  const packed = Buffer.alloc(11)
+  packed.writeDoubleLE(4.5, 0)
+  packed.writeUInt16LE(1, 8)
+  packed.writeUInt8(7, 10)
+  Native.BleModule.getCharacteristicHistory = jest.fn().mockReturnValue(
+    Promise.resolve({
+      firstSeq: 3,
+      nextSeq: 4,
+      droppedCount: 1,
+      values: packed.toString('base64'),
+      characteristic: { id: 'a', uuid: 'bbbb' }
+    })
+  )
+  const options = { history: { capacity: 64 } }
+
+  const subscription = bleManager.monitorCharacteristicForDevice('id', 'aaaa', 'bbbb', listener, 'x', null, options)
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 'a', value: 'AQ==' }, 'x'])
+  const history = await bleManager.getCharacteristicHistory(subscription, 2, 10)
+  subscription.remove()
+
+  expect(listener).not.toBeCalled()
+  expect(Native.BleModule.getCharacteristicHistory).toBeCalledWith('x', 2, 10)
+  expect(history.firstSeq).toBe(3)
+  expect(history.nextSeq).toBe(4)
+  expect(history.droppedCount).toBe(1)
+  expect(history.characteristics.length).toBe(1)
+  expect(history.characteristics[0]).toBeInstanceOf(Characteristic)
+  expect(history.characteristics[0].uuid).toBe('bbbb')
+  expect(history.characteristics[0].timestamp).toBe(4.5)
+  expect(history.characteristics[0].value).toBe('Bw==')
+  expect(Native.BleModule.cancelTransaction).toBeCalledWith('x')
+})
+
+test('BleManager rejects history pull of a subscription without history', async () => {
+  Native.BleModule.monitorCharacteristicForDevice = jest.fn().mockReturnValue(new Promise(() => {}))
+  Native.BleModule.getCharacteristicHistory = jest.fn()
+  const subscription = bleManager.monitorCharacteristicForDevice('id', 'aaaa', 'bbbb', jest.fn(), 'x')
+
+  await expect(bleManager.getCharacteristicHistory(subscription)).rejects.toBeInstanceOf(BleError)
+  expect(Native.BleModule.getCharacteristicHistory).not.toBeCalled()
+  subscription.remove()
+})
+
+test('BleManager records notifications natively without passing them to the listener', async () => {
+  const listener = jest.fn()
+  Native.BleModule.openNotificationRecorder = jest.fn().mockReturnValueOnce(Promise.resolve({ nextSeq: 0 }))
+  Native.BleModule.closeNotificationRecorder = jest.fn().mockReturnValueOnce(Promise.resolve(1))
+  Native.BleModule.monitorCharacteristicForDevice = jest.fn().mockReturnValue(new Promise(() => {}))
+
+  const recorderId = await bleManager.openNotificationRecorder('/data/recording', { fsync: 'always' })
+  const options = { recorder: recorderId, recordOnly: true }
+  const subscription = bleManager.monitorCharacteristicForDevice('id', 'aaaa', 'bbbb', listener, 'x', null, options)
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 'a', value: 'AQ==' }, 'x'])
+  subscription.remove()
+
+  expect(Native.BleModule.openNotificationRecorder).toBeCalledWith(recorderId, '/data/recording', { fsync: 'always' })
+  expect(Native.BleModule.monitorCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 'x', null, options)
+  expect(listener).not.toBeCalled()
+  await expect(bleManager.closeNotificationRecorder(recorderId)).resolves.toBe(1)
+  expect(Native.BleModule.closeNotificationRecorder).toBeCalledWith(recorderId)
+})
+
+test('BleManager reads notifications from a native recording', async () => {
+  Native.BleModule.readNotificationRecording = jest.fn().mockReturnValueOnce(
+    Promise.resolve({
+      records: [
+        {
+          seq: 5,
+          timestamp: 1700000000000.5,
+          deviceID: 'id',
+          characteristicID: 3,
+          serviceUUID: 'aaaa',
+          characteristicUUID: 'bbbb',
+          value: 'Bw=='
+        }
+      ],
+      nextSeq: 6
+    })
+  )
+
+  const recording = await bleManager.readNotificationRecording('/data/recording', 5, 100)
+
+  expect(Native.BleModule.readNotificationRecording).toBeCalledWith('/data/recording', 5, 100)
+  expect(recording.nextSeq).toBe(6)
+  expect(recording.records.length).toBe(1)
+  expect(recording.records[0].seq).toBe(5)
+  expect(recording.records[0].deviceID).toBe('id')
+  expect(recording.records[0].characteristicUUID).toBe('bbbb')
+  expect(recording.records[0].value).toBe('Bw==')
+  expect(new Uint8Array(recording.records[0].rawValue)).toEqual(new Uint8Array([7]))
+})
+
+test('BleManager streams data of an L2CAP channel until it is closed', async () => {
+  const listener = jest.fn()
+  const channel = { id: '1', deviceID: 'id', psm: 128, maxTransmitPacketSize: 251, maxReceivePacketSize: 251 }
+  Native.BleModule.openL2capChannelForDevice = jest.fn().mockReturnValueOnce(Promise.resolve(channel))
+  Native.BleModule.writeL2capChannel = jest.fn().mockReturnValueOnce(Promise.resolve())
+
+  await expect(bleManager.openL2capChannelForDevice('id', 128, listener, { chunkSize: 4096 })).resolves.toBe(channel)
+  const transactionId = Native.BleModule.openL2capChannelForDevice.mock.calls[0][2]
+  expect(Native.BleModule.openL2capChannelForDevice).toBeCalledWith('id', 128, transactionId, { chunkSize: 4096 })
+
+  Native.BleModule.emit(Native.BleModule.L2capDataEvent, ['other', 'AQ=='])
+  Native.BleModule.emit(Native.BleModule.L2capDataEvent, [transactionId, 'AQI='])
+  await bleManager.writeL2capChannel(transactionId, new Uint8Array([3, 4]).buffer)
+  expect(Native.BleModule.writeL2capChannel).toBeCalledWith(transactionId, 'AwQ=')
+  await bleManager.closeL2capChannel(transactionId)
+  expect(Native.BleModule.cancelTransaction).toBeCalledWith(transactionId)
+  Native.BleModule.emit(Native.BleModule.L2capCloseEvent, [transactionId, null])
+  Native.BleModule.emit(Native.BleModule.L2capDataEvent, [transactionId, 'BQ=='])
+
+  expect(listener).toHaveBeenCalledTimes(2)
+  expect(listener.mock.calls[0][0]).toBeNull()
+  expect(new Uint8Array(listener.mock.calls[0][1])).toEqual(new Uint8Array([1, 2]))
+  expect(listener.mock.calls[1]).toEqual([null, null])
+})
+
+test('BleManager passes error which closed an L2CAP channel', async () => {
+  const listener = jest.fn()
+  Native.BleModule.openL2capChannelForDevice = jest.fn().mockReturnValueOnce(Promise.resolve({ id: '1' }))
+  await bleManager.openL2capChannelForDevice('id', 128, listener)
+  const transactionId = Native.BleModule.openL2capChannelForDevice.mock.calls[0][2]
+
+  Native.BleModule.emit(Native.BleModule.L2capCloseEvent, [transactionId, nativeOperationCancelledError])
+
+  expect(listener).toHaveBeenCalledTimes(1)
+  expect(listener.mock.calls[0][0]).toBeInstanceOf(BleError)
+  expect(listener.mock.calls[0][1]).toBeNull()
 })
 
 test('BleManager properly handles errors while monitoring characteristic values', async () => {
@@ -363,6 +923,37 @@ test('BleManager properly requests connection priority', async () => {
   expect(Native.BleModule.requestConnectionPriorityForDevice).toBeCalledWith('id', 2, 'trId')
 })
 
+test('BleManager sets GATT scheduler options and passes its statistics', async () => {
+  const statistics = { maxOperationsInFlight: 2, operationsInFlight: 2, waitingDeviceCount: 5, timedOutCount: 0 }
+  Native.BleModule.setGattSchedulerOptions = jest.fn().mockReturnValueOnce(Promise.resolve())
+  Native.BleModule.getGattSchedulerStatistics = jest.fn().mockReturnValueOnce(Promise.resolve(statistics))
+  await bleManager.setGattSchedulerOptions({ maxOperationsInFlight: 2, bulkDeadline: 5000 })
+  expect(Native.BleModule.setGattSchedulerOptions).toBeCalledWith({ maxOperationsInFlight: 2, bulkDeadline: 5000 })
+  await expect(bleManager.getGattSchedulerStatistics()).resolves.toBe(statistics)
+})
+
+test('BleManager sets characteristic priority and passes operation queue statistics', async () => {
+  const statistics = { queueDepth: 2, isOperationRunning: true, preemptedCount: 1 }
+  Native.BleModule.setCharacteristicPriorityForDevice = jest.fn().mockReturnValueOnce(Promise.resolve())
+  Native.BleModule.getOperationQueueStatisticsForDevice = jest.fn().mockReturnValueOnce(Promise.resolve(statistics))
+  await bleManager.setCharacteristicPriorityForDevice('id', 'aaaa', 'bbbb', 'interactive')
+  expect(Native.BleModule.setCharacteristicPriorityForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 'interactive')
+  await expect(bleManager.getOperationQueueStatisticsForDevice('id')).resolves.toBe(statistics)
+})
+
+test('BleManager sets characteristic cache TTL and passes cache statistics', async () => {
+  const statistics = { entryCount: 1, hitCount: 3, missCount: 1, invalidatedCount: 0 }
+  Native.BleModule.setCharacteristicCacheTtlForDevice = jest.fn().mockReturnValue(Promise.resolve())
+  Native.BleModule.getCharacteristicCacheStatisticsForDevice = jest.fn().mockReturnValueOnce(Promise.resolve(statistics))
+  await bleManager.setCharacteristicCacheForDevice('id', 'aaaa', 'bbbb', 'connection')
+  expect(Native.BleModule.setCharacteristicCacheTtlForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', -1)
+  await bleManager.setCharacteristicCacheForDevice('id', 'aaaa', 'bbbb', 5000)
+  expect(Native.BleModule.setCharacteristicCacheTtlForDevice).toHaveBeenLastCalledWith('id', 'aaaa', 'bbbb', 5000)
+  await bleManager.setCharacteristicCacheForDevice('id', 'aaaa', 'bbbb', null)
+  expect(Native.BleModule.setCharacteristicCacheTtlForDevice).toHaveBeenLastCalledWith('id', 'aaaa', 'bbbb', 0)
+  await expect(bleManager.getCharacteristicCacheStatisticsForDevice('id')).resolves.toBe(statistics)
+})
+
 test('BleManager properly reads descriptors value', async () => {
   Native.BleModule.readDescriptorForDevice = jest
     .fn()
@@ -16,7 +16,10 @@ describe("Test if Characteristic is properly calling BleManager's utility functi
 
   test('read', async () => {
     await characteristic.read('id')
-    expect(bleManager._readCharacteristic).toBeCalledWith('cId', 'id')
+    expect(bleManager._readCharacteristic).toBeCalledWith('cId', 'id', undefined)
+    const options = { decoder: { fields: [{ type: 'uint8' }] } }
+    await characteristic.read('id', options)
+    expect(bleManager._readCharacteristic).toBeCalledWith('cId', 'id', options)
   })
 
   test('writeWithResponse', async () => {
@@ -32,7 +35,7 @@ describe("Test if Characteristic is properly calling BleManager's utility functi
   test('monitor', async () => {
     const listener = jest.fn()
     await characteristic.monitor(listener, 'id')
-    expect(bleManager._monitorCharacteristic).toBeCalledWith('cId', listener, 'id', undefined)
+    expect(bleManager._monitorCharacteristic).toBeCalledWith('cId', listener, 'id', undefined, undefined)
   })
 
   test('readDescriptor', async () => {
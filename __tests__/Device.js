@@ -56,7 +56,15 @@ describe("Test if Device is properly calling BleManager's utility function:", ()
 
   test('readCharacteristicForService', async () => {
     await device.readCharacteristicForService('aaaa', 'bbbb', 'id')
-    expect(bleManager.readCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 'id')
+    expect(bleManager.readCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 'id', undefined)
+    const options = { decoder: { fields: [{ type: 'uint8' }] } }
+    await device.readCharacteristicForService('aaaa', 'bbbb', 'id', options)
+    expect(bleManager.readCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 'id', options)
+  })
+
+  test('readCharacteristics', async () => {
+    await device.readCharacteristics([['aaaa', 'bbbb']], 'id')
+    expect(bleManager.readCharacteristicsForDevice).toBeCalledWith('id', [['aaaa', 'bbbb']], 'id')
   })
 
   test('writeCharacteristicWithResponseForService', async () => {
@@ -69,10 +77,41 @@ describe("Test if Device is properly calling BleManager's utility function:", ()
     expect(bleManager.writeCharacteristicWithoutResponseForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 'value', 'id')
   })
 
+  test('writeLongCharacteristicForService', async () => {
+    const onProgress = jest.fn()
+    await device.writeLongCharacteristicForService('aaaa', 'bbbb', 'value', { withResponse: true }, onProgress, 'id')
+    expect(bleManager.writeLongCharacteristicForDevice).toBeCalledWith(
+      'id',
+      'aaaa',
+      'bbbb',
+      'value',
+      { withResponse: true },
+      onProgress,
+      'id'
+    )
+  })
+
+  test('writeCharacteristicStreamForService', async () => {
+    await device.writeCharacteristicStreamForService('aaaa', 'bbbb', ['AQI='], 'id')
+    expect(bleManager.writeCharacteristicStreamForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', ['AQI='], 'id')
+  })
+
+  test('openL2capChannel', async () => {
+    const listener = jest.fn()
+    await device.openL2capChannel(128, listener, { secure: true })
+    expect(bleManager.openL2capChannelForDevice).toBeCalledWith('id', 128, listener, { secure: true })
+  })
+
   test('monitorCharacteristicForService', async () => {
     const listener = jest.fn()
     await device.monitorCharacteristicForService('aaaa', 'bbbb', listener, 'id')
-    expect(bleManager.monitorCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', listener, 'id', undefined)
+    expect(bleManager.monitorCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', listener, 'id', undefined, undefined)
+  })
+
+  test('pollCharacteristicForService', async () => {
+    const listener = jest.fn()
+    await device.pollCharacteristicForService('aaaa', 'bbbb', listener, { interval: 1000 }, 'id')
+    expect(bleManager.pollCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', listener, { interval: 1000 }, 'id')
   })
 
   test('readDescriptorForService', async () => {
@@ -113,4 +152,14 @@ describe("Test if Device is properly calling BleManager's utility function:", ()
     await device.requestConnectionPriority(1, 'tid')
     expect(bleManager.requestConnectionPriorityForDevice).toBeCalledWith('id', 1, 'tid')
   })
+
+  test('setCharacteristicPriority', async () => {
+    await device.setCharacteristicPriority('aaaa', 'bbbb', 'bulk')
+    expect(bleManager.setCharacteristicPriorityForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 'bulk')
+  })
+
+  test('setCharacteristicCache', async () => {
+    await device.setCharacteristicCache('aaaa', 'bbbb', 'connection')
+    expect(bleManager.setCharacteristicCacheForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 'connection')
+  })
 })
@@ -18,7 +18,10 @@ describe("Test if Service is properly calling BleManager's utility function:", (
 
   test('readCharacteristic', async () => {
     await service.readCharacteristic('bbbb', 'id')
-    expect(bleManager._readCharacteristicForService).toBeCalledWith('serviceId', 'bbbb', 'id')
+    expect(bleManager._readCharacteristicForService).toBeCalledWith('serviceId', 'bbbb', 'id', undefined)
+    const options = { decoder: { fields: [{ type: 'uint8' }] } }
+    await service.readCharacteristic('bbbb', 'id', options)
+    expect(bleManager._readCharacteristicForService).toBeCalledWith('serviceId', 'bbbb', 'id', options)
   })
 
   test('writeCharacteristicWithResponse', async () => {
@@ -34,7 +37,7 @@ describe("Test if Service is properly calling BleManager's utility function:", (
   test('monitorCharacteristic', async () => {
     const listener = jest.fn()
     await service.monitorCharacteristic('bbbb', listener, 'id')
-    expect(bleManager._monitorCharacteristicForService).toBeCalledWith('serviceId', 'bbbb', listener, 'id', undefined)
+    expect(bleManager._monitorCharacteristicForService).toBeCalledWith('serviceId', 'bbbb', listener, 'id', undefined, undefined)
   })
 
   test('readDescriptorForCharacteristic', async () => {
@@ -0,0 +1,95 @@
+#include <jni.h>
+#include <jsi/jsi.h>
+
+#include <string>
+
+using namespace facebook;
+
+namespace {
+
+JavaVM *javaVm = nullptr;
+jobject valueStore = nullptr;
+jmethodID putMethod = nullptr;
+jmethodID takeMethod = nullptr;
+
+JNIEnv *getEnv() {
+  JNIEnv *env = nullptr;
+  // JS thread is a Java thread, so it is always attached to the VM
+  javaVm->GetEnv(reinterpret_cast<void **>(&env), JNI_VERSION_1_6);
+  return env;
+}
+
+void rethrowJavaException(jsi::Runtime &runtime, JNIEnv *env, const char *functionName) {
+  if (env->ExceptionCheck()) {
+    env->ExceptionClear();
+    throw jsi::JSError(runtime, std::string(functionName) + " failed in native code");
+  }
+}
+
+jsi::Value takeValue(jsi::Runtime &runtime, const jsi::Value &, const jsi::Value *arguments, size_t count) {
+  if (count < 1 || !arguments[0].isNumber()) {
+    throw jsi::JSError(runtime, "__blePlxTakeValue expects a value handle");
+  }
+  JNIEnv *env = getEnv();
+  auto bytes = static_cast<jbyteArray>(
+      env->CallObjectMethod(valueStore, takeMethod, static_cast<jint>(arguments[0].asNumber())));
+  rethrowJavaException(runtime, env, "__blePlxTakeValue");
+  if (bytes == nullptr) {
+    return jsi::Value::null();
+  }
+
+  jsize length = env->GetArrayLength(bytes);
+  jsi::Object buffer = runtime.global()
+                           .getPropertyAsFunction(runtime, "ArrayBuffer")
+                           .callAsConstructor(runtime, static_cast<int>(length))
+                           .asObject(runtime);
+  env->GetByteArrayRegion(bytes, 0, length, reinterpret_cast<jbyte *>(buffer.getArrayBuffer(runtime).data(runtime)));
+  env->DeleteLocalRef(bytes);
+  return jsi::Value(std::move(buffer));
+}
+
+jsi::Value putValue(jsi::Runtime &runtime, const jsi::Value &, const jsi::Value *arguments, size_t count) {
+  if (count < 1 || !arguments[0].isObject() || !arguments[0].getObject(runtime).isArrayBuffer(runtime)) {
+    throw jsi::JSError(runtime, "__blePlxPutValue expects an ArrayBuffer");
+  }
+  jsi::ArrayBuffer buffer = arguments[0].getObject(runtime).getArrayBuffer(runtime);
+  auto length = static_cast<jsize>(buffer.size(runtime));
+
+  JNIEnv *env = getEnv();
+  jbyteArray bytes = env->NewByteArray(length);
+  env->SetByteArrayRegion(bytes, 0, length, reinterpret_cast<const jbyte *>(buffer.data(runtime)));
+  jint handle = env->CallIntMethod(valueStore, putMethod, bytes);
+  env->DeleteLocalRef(bytes);
+  rethrowJavaException(runtime, env, "__blePlxPutValue");
+  return jsi::Value(static_cast<int>(handle));
+}
+
+void installFunction(jsi::Runtime &runtime, const char *name, jsi::HostFunctionType function) {
+  runtime.global().setProperty(
+      runtime,
+      name,
+      jsi::Function::createFromHostFunction(runtime, jsi::PropNameID::forAscii(runtime, name), 1, std::move(function)));
+}
+
+} // namespace
+
+extern "C" JNIEXPORT jint JNI_OnLoad(JavaVM *vm, void *) {
+  javaVm = vm;
+  return JNI_VERSION_1_6;
+}
+
+extern "C" JNIEXPORT void JNICALL
+Java_com_bleplx_jsi_BinaryTransport_nativeInstall(JNIEnv *env, jclass, jlong runtimePointer, jobject store) {
+  if (valueStore != nullptr) {
+    env->DeleteGlobalRef(valueStore);
+  }
+  valueStore = env->NewGlobalRef(store);
+  jclass storeClass = env->GetObjectClass(store);
+  putMethod = env->GetMethodID(storeClass, "put", "([B)I");
+  takeMethod = env->GetMethodID(storeClass, "take", "(I)[B");
+  env->DeleteLocalRef(storeClass);
+
+  auto &runtime = *reinterpret_cast<jsi::Runtime *>(runtimePointer);
+  installFunction(runtime, "__blePlxTakeValue", takeValue);
+  installFunction(runtime, "__blePlxPutValue", putValue);
+}
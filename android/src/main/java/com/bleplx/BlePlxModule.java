@@ -6,6 +6,7 @@ import androidx.annotation.Nullable;
 import com.bleplx.adapter.BleAdapter;
 import com.bleplx.adapter.BleAdapterFactory;
 import com.bleplx.adapter.Characteristic;
+import com.bleplx.adapter.CharacteristicReadResult;
 import com.bleplx.adapter.ConnectionOptions;
 import com.bleplx.adapter.ConnectionState;
 import com.bleplx.adapter.Descriptor;
@@ -16,18 +17,43 @@ import com.bleplx.adapter.OnSuccessCallback;
 import com.bleplx.adapter.RefreshGattMoment;
 import com.bleplx.adapter.ScanResult;
 import com.bleplx.adapter.Service;
+import com.bleplx.adapter.WriteProgress;
+import com.bleplx.adapter.WriteStreamResult;
+import com.bleplx.adapter.cache.CharacteristicValueCache;
 import com.bleplx.adapter.errors.BleError;
 import com.bleplx.adapter.errors.BleErrorCode;
+import com.bleplx.adapter.errors.BleErrorUtils;
+import com.bleplx.adapter.l2cap.L2capChannel;
+import com.bleplx.adapter.queue.GattScheduler;
+import com.bleplx.adapter.queue.OperationPriority;
+import com.bleplx.adapter.recorder.FsyncPolicy;
+import com.bleplx.adapter.recorder.NotificationRecord;
+import com.bleplx.adapter.recorder.NotificationRecorder;
+import com.bleplx.adapter.recorder.NotificationRecordingReader;
+import com.bleplx.adapter.scan.BackgroundScanBatch;
+import com.bleplx.adapter.scan.BackgroundScanStore;
+import com.bleplx.adapter.scan.ScanStatistics;
+import com.bleplx.adapter.utils.Base64Converter;
 import com.bleplx.converter.BleErrorToJsObjectConverter;
 import com.bleplx.converter.CharacteristicToJsObjectConverter;
+import com.bleplx.converter.CharacteristicValueCacheToJsObjectConverter;
 import com.bleplx.converter.DescriptorToJsObjectConverter;
 import com.bleplx.converter.DeviceToJsObjectConverter;
+import com.bleplx.converter.GattOperationQueueToJsObjectConverter;
+import com.bleplx.converter.GattSchedulerToJsObjectConverter;
 import com.bleplx.converter.ScanResultToJsObjectConverter;
+import com.bleplx.converter.ScanStatisticsToJsObjectConverter;
 import com.bleplx.converter.ServiceToJsObjectConverter;
+import com.bleplx.converter.ValueDecoder;
+import com.bleplx.jsi.BinaryTransport;
+import com.bleplx.jsi.BinaryValueStore;
 import com.bleplx.utils.ErrorDefaults;
 import com.bleplx.utils.ReadableArrayConverter;
 import com.bleplx.utils.SafePromise;
 import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Dynamic;
+import com.facebook.react.bridge.JavaScriptContextHolder;
+import com.facebook.react.bridge.LifecycleEventListener;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
@@ -41,21 +67,40 @@ import com.facebook.react.module.annotations.ReactModule;
 import com.facebook.react.modules.core.DeviceEventManagerModule;
 import com.polidea.rxandroidble2.internal.RxBleLog;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.reactivex.exceptions.UndeliverableException;
 import io.reactivex.plugins.RxJavaPlugins;
 
 @ReactModule(name = BlePlxModule.NAME)
-public class BlePlxModule extends ReactContextBaseJavaModule {
+public class BlePlxModule extends ReactContextBaseJavaModule implements LifecycleEventListener {
   public static final String NAME = "BlePlx";
   private final ReactApplicationContext reactContext;
+  private volatile boolean isHostResumed = false;
+  private final EventQueue eventQueue;
+  private final BridgeTraffic bridgeTraffic = new BridgeTraffic();
 
   public BlePlxModule(ReactApplicationContext reactContext) {
     super(reactContext);
     this.reactContext = reactContext;
+    this.eventQueue = new EventQueue(reactContext, new EventQueue.Emitter() {
+      @Override
+      public void emit(@NonNull Event event, @Nullable Object params) {
+        getReactApplicationContext()
+          .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
+          .emit(event.name, params);
+      }
+    });
+    reactContext.addLifecycleEventListener(this);
     RxJavaPlugins.setErrorHandler(throwable -> {
       if (throwable instanceof UndeliverableException) {
         RxBleLog.e("Handle all unhandled exceptions from RxJava: " + throwable.getMessage());
@@ -75,17 +120,33 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
     return NAME;
   }
 
+  @Override
+  public void invalidate() {
+    eventQueue.stop();
+    super.invalidate();
+  }
+
 
   // Value converters
   private final BleErrorToJsObjectConverter errorConverter = new BleErrorToJsObjectConverter();
   private final ScanResultToJsObjectConverter scanResultConverter = new ScanResultToJsObjectConverter();
+  private final ScanStatisticsToJsObjectConverter scanStatisticsConverter = new ScanStatisticsToJsObjectConverter();
   private final DeviceToJsObjectConverter deviceConverter = new DeviceToJsObjectConverter();
   private final CharacteristicToJsObjectConverter characteristicConverter = new CharacteristicToJsObjectConverter();
   private final DescriptorToJsObjectConverter descriptorConverter = new DescriptorToJsObjectConverter();
   private final ServiceToJsObjectConverter serviceConverter = new ServiceToJsObjectConverter();
+  private final GattOperationQueueToJsObjectConverter operationQueueConverter = new GattOperationQueueToJsObjectConverter();
+  private final GattSchedulerToJsObjectConverter gattSchedulerConverter = new GattSchedulerToJsObjectConverter();
+  private final CharacteristicValueCacheToJsObjectConverter valueCacheConverter = new CharacteristicValueCacheToJsObjectConverter();
 
   private BleAdapter bleAdapter;
 
+  // Histories of monitors with history option by their transaction id
+  private final Map<String, NotificationHistory> notificationHistories = new ConcurrentHashMap<>();
+
+  // Notification recorders opened by JS by their ids
+  private final Map<String, NotificationRecorder> notificationRecorders = new ConcurrentHashMap<>();
+
   @Override
   public Map<String, Object> getConstants() {
     final Map<String, Object> constants = new HashMap<>();
@@ -112,32 +173,121 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
           sendEvent(Event.RestoreStateEvent, null);
         }
       });
+    bleAdapter.setOnBackgroundScanResultsCallback(new OnEventCallback<Integer>() {
+      @Override
+      public void onEvent(Integer count) {
+        // Results delivered while app is in background are handed over when it comes back
+        if (isHostResumed) {
+          sendEvent(Event.BackgroundScanEvent, count);
+        }
+      }
+    });
+  }
+
+  @Override
+  public void onHostResume() {
+    isHostResumed = true;
+    BleAdapter adapter = bleAdapter;
+    if (adapter != null) {
+      int count = adapter.getBackgroundScanResultsCount();
+      if (count > 0) {
+        sendEvent(Event.BackgroundScanEvent, count);
+      }
+    }
+  }
+
+  @Override
+  public void onHostPause() {
+    isHostResumed = false;
+  }
+
+  @Override
+  public void onHostDestroy() {
+    isHostResumed = false;
   }
 
   @ReactMethod
-  public void destroyClient(final Promise promise) {
+  public void destroyClient(Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("destroyClient", jsPromise);
     if (!this.isRequestPossibleHandler("destroyClient", promise)) {
       return;
     }
 
     bleAdapter.destroyClient();
     bleAdapter = null;
+    notificationHistories.clear();
+    for (NotificationRecorder recorder : notificationRecorders.values()) {
+      closeNotificationRecorder(recorder);
+    }
+    notificationRecorders.clear();
     promise.resolve(null);
   }
 
   // Mark: Common --------------------------------------------------------------------------------
 
   @ReactMethod
-  public void cancelTransaction(String transactionId, final Promise promise) {
+  public void getEventQueueStatistics(Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("getEventQueueStatistics", jsPromise);
+    WritableMap statistics = Arguments.createMap();
+    statistics.putInt("queueDepth", eventQueue.getQueueDepth());
+    statistics.putInt("highPriorityQueueDepth", eventQueue.getQueueDepth(Event.Priority.HIGH));
+    statistics.putInt("normalPriorityQueueDepth", eventQueue.getQueueDepth(Event.Priority.NORMAL));
+    statistics.putInt("lowPriorityQueueDepth", eventQueue.getQueueDepth(Event.Priority.LOW));
+    statistics.putDouble("lag", eventQueue.getLagMillis());
+    statistics.putDouble("emittedEventCount", eventQueue.getEmittedCount());
+    statistics.putDouble("coalescedEventCount", eventQueue.getCoalescedCount());
+    statistics.putDouble("droppedEventCount", eventQueue.getDroppedCount());
+    promise.resolve(statistics);
+  }
+
+  @ReactMethod
+  public void setBridgeTrafficAccounting(boolean enabled, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("setBridgeTrafficAccounting", jsPromise);
+    bridgeTraffic.setEnabled(enabled);
+    promise.resolve(null);
+  }
+
+  @ReactMethod
+  public void getBridgeTraffic(Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("getBridgeTraffic", jsPromise);
+    WritableMap traffic = Arguments.createMap();
+    traffic.putDouble("duration", bridgeTraffic.getDurationMillis());
+    traffic.putBoolean("isEnabled", bridgeTraffic.isEnabled());
+    traffic.putMap("events", bridgeTrafficEntriesToJs(bridgeTraffic.getEvents()));
+    traffic.putMap("methods", bridgeTrafficEntriesToJs(bridgeTraffic.getMethods()));
+    promise.resolve(traffic);
+  }
+
+  private WritableMap bridgeTrafficEntriesToJs(Map<String, BridgeTraffic.Entry> entries) {
+    long durationMillis = bridgeTraffic.getDurationMillis();
+    WritableMap jsEntries = Arguments.createMap();
+    for (Map.Entry<String, BridgeTraffic.Entry> entry : entries.entrySet()) {
+      BridgeTraffic.Entry value = entry.getValue();
+      WritableMap jsEntry = Arguments.createMap();
+      jsEntry.putDouble("count", value.getCount());
+      jsEntry.putDouble("errorCount", value.getErrorCount());
+      jsEntry.putDouble("bytes", value.getBytes());
+      jsEntry.putDouble("bytesPerMinute", durationMillis > 0 ? value.getBytes() * 60000.0 / durationMillis : 0);
+      jsEntry.putDouble("averageTime", value.getAverageMicros());
+      jsEntries.putMap(entry.getKey(), jsEntry);
+    }
+    return jsEntries;
+  }
+
+  @ReactMethod
+  public void cancelTransaction(String transactionId, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("cancelTransaction", jsPromise);
     if (!this.isRequestPossibleHandler("cancelTransaction", promise)) {
       return;
     }
     bleAdapter.cancelTransaction(transactionId);
+    notificationHistories.remove(transactionId);
     promise.resolve(null);
   }
 
   @ReactMethod
-  public void setLogLevel(String logLevel, final Promise promise) {
+  public void setLogLevel(String logLevel, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("setLogLevel", jsPromise);
     if (!this.isRequestPossibleHandler("setLogLevel", promise)) {
       return;
     }
@@ -146,7 +296,8 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   }
 
   @ReactMethod
-  public void logLevel(final Promise promise) {
+  public void logLevel(Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("logLevel", jsPromise);
     if (!this.isRequestPossibleHandler("logLevel", promise)) {
       return;
     }
@@ -156,45 +307,46 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   // Mark: Monitoring state ----------------------------------------------------------------------
 
   @ReactMethod
-  public void enable(final String transactionId, final Promise promise) {
+  public void enable(final String transactionId, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("enable", jsPromise);
     if (!this.isRequestPossibleHandler("enable", promise)) {
       return;
     }
-    final SafePromise safePromise = new SafePromise(promise);
     bleAdapter.enable(transactionId, new OnSuccessCallback<Void>() {
       @Override
       public void onSuccess(Void data) {
-        safePromise.resolve(null);
+        promise.resolve(null);
       }
     }, new OnErrorCallback() {
       @Override
       public void onError(BleError error) {
-        safePromise.reject(getErrorCode(error), errorConverter.toJs(error));
+        promise.reject(getErrorCode(error), errorConverter.toJs(error));
       }
     });
   }
 
   @ReactMethod
-  public void disable(final String transactionId, final Promise promise) {
+  public void disable(final String transactionId, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("disable", jsPromise);
     if (!this.isRequestPossibleHandler("disable", promise)) {
       return;
     }
-    final SafePromise safePromise = new SafePromise(promise);
     bleAdapter.disable(transactionId, new OnSuccessCallback<Void>() {
       @Override
       public void onSuccess(Void data) {
-        safePromise.resolve(null);
+        promise.resolve(null);
       }
     }, new OnErrorCallback() {
       @Override
       public void onError(BleError error) {
-        safePromise.reject(getErrorCode(error), errorConverter.toJs(error));
+        promise.reject(getErrorCode(error), errorConverter.toJs(error));
       }
     });
   }
 
   @ReactMethod
-  public void state(final Promise promise) {
+  public void state(Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("state", jsPromise);
     if (!this.isRequestPossibleHandler("state", promise)) {
       return;
     }
@@ -204,16 +356,20 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   // Mark: Scanning ------------------------------------------------------------------------------
 
   @ReactMethod
-  public void startDeviceScan(@Nullable ReadableArray filteredUUIDs, @Nullable ReadableMap options, final Promise promise) {
+  public void startDeviceScan(@Nullable ReadableArray filteredUUIDs, @Nullable ReadableMap options, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("startDeviceScan", jsPromise);
     if (!this.isRequestPossibleHandler("startDeviceScan", promise)) {
       return;
     }
     final int DEFAULT_SCAN_MODE_LOW_POWER = 0;
     final int DEFAULT_CALLBACK_TYPE_ALL_MATCHES = 1;
+    final int DEFAULT_PHY_NOT_SET = 0;
 
     int scanMode = DEFAULT_SCAN_MODE_LOW_POWER;
     int callbackType = DEFAULT_CALLBACK_TYPE_ALL_MATCHES;
-    boolean legacyScan = true;
+    Boolean legacyScan = null;
+    int phy = DEFAULT_PHY_NOT_SET;
+    int resultQueueCapacity = 0;
 
     if (options != null) {
       if (options.hasKey("scanMode") && options.getType("scanMode") == ReadableType.Number) {
@@ -225,20 +381,32 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
       if (options.hasKey("legacyScan") && options.getType("legacyScan") == ReadableType.Boolean) {
         legacyScan = options.getBoolean("legacyScan");
       }
+      if (options.hasKey("phy") && options.getType("phy") == ReadableType.Number) {
+        phy = options.getInt("phy");
+      }
+      if (options.hasKey("resultQueueCapacity") && options.getType("resultQueueCapacity") == ReadableType.Number) {
+        resultQueueCapacity = Math.max(options.getInt("resultQueueCapacity"), 0);
+      }
     }
 
     bleAdapter.startDeviceScan(
       filteredUUIDs != null ? ReadableArrayConverter.toStringArray(filteredUUIDs) : null,
-      scanMode, callbackType, legacyScan,
+      scanMode, callbackType,
+      // Extended scan on a selected PHY is not legacy unless asked explicitly
+      legacyScan != null ? legacyScan : phy == DEFAULT_PHY_NOT_SET,
+      phy,
+      resultQueueCapacity,
       new OnEventCallback<ScanResult>() {
         @Override
         public void onEvent(ScanResult data) {
-          sendEvent(Event.ScanEvent, scanResultConverter.toJSCallback(data));
+          sendScanResult(data);
         }
       }, new OnErrorCallback() {
         @Override
         public void onError(BleError error) {
-          sendEvent(Event.ScanEvent, errorConverter.toJSCallback(error));
+          long conversionStart = System.nanoTime();
+          WritableArray jsError = errorConverter.toJSCallback(error);
+          sendEvent(Event.ScanErrorEvent, jsError, System.nanoTime() - conversionStart);
         }
       });
 
@@ -246,7 +414,8 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   }
 
   @ReactMethod
-  public void stopDeviceScan(final Promise promise) {
+  public void stopDeviceScan(Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("stopDeviceScan", jsPromise);
     if (!this.isRequestPossibleHandler("stopDeviceScan", promise)) {
       return;
     }
@@ -254,10 +423,212 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
     promise.resolve(null);
   }
 
+  @ReactMethod
+  public void getScanStatistics(Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("getScanStatistics", jsPromise);
+    if (!this.isRequestPossibleHandler("getScanStatistics", promise)) {
+      return;
+    }
+    ScanStatistics statistics = bleAdapter.getScanStatistics();
+    promise.resolve(statistics != null ? scanStatisticsConverter.toJSObject(statistics) : null);
+  }
+
+  @ReactMethod
+  public void startScanStatisticsUpdates(int intervalMillis, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("startScanStatisticsUpdates", jsPromise);
+    if (!this.isRequestPossibleHandler("startScanStatisticsUpdates", promise)) {
+      return;
+    }
+    if (intervalMillis <= 0) {
+      rejectWithBleError(promise, new BleError(BleErrorCode.OperationStartFailed, "Scan statistics interval has to be greater than 0", null));
+      return;
+    }
+    bleAdapter.startScanStatisticsUpdates(intervalMillis, new OnEventCallback<ScanStatistics>() {
+      @Override
+      public void onEvent(ScanStatistics data) {
+        long conversionStart = System.nanoTime();
+        WritableMap jsStatistics = scanStatisticsConverter.toJSObject(data);
+        sendEvent(Event.ScanStatisticsEvent, jsStatistics, System.nanoTime() - conversionStart);
+      }
+    });
+    promise.resolve(null);
+  }
+
+  @ReactMethod
+  public void stopScanStatisticsUpdates(Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("stopScanStatisticsUpdates", jsPromise);
+    if (!this.isRequestPossibleHandler("stopScanStatisticsUpdates", promise)) {
+      return;
+    }
+    bleAdapter.stopScanStatisticsUpdates();
+    promise.resolve(null);
+  }
+
+  @ReactMethod
+  public void startBackgroundDeviceScan(@Nullable ReadableArray filteredUUIDs, @Nullable ReadableMap options, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("startBackgroundDeviceScan", jsPromise);
+    if (!this.isRequestPossibleHandler("startBackgroundDeviceScan", promise)) {
+      return;
+    }
+    final int DEFAULT_SCAN_MODE_LOW_POWER = 0;
+    final int DEFAULT_CALLBACK_TYPE_ALL_MATCHES = 1;
+
+    int scanMode = DEFAULT_SCAN_MODE_LOW_POWER;
+    int callbackType = DEFAULT_CALLBACK_TYPE_ALL_MATCHES;
+    int maxBufferedResults = BackgroundScanStore.DEFAULT_CAPACITY;
+
+    if (options != null) {
+      if (options.hasKey("scanMode") && options.getType("scanMode") == ReadableType.Number) {
+        scanMode = options.getInt("scanMode");
+      }
+      if (options.hasKey("callbackType") && options.getType("callbackType") == ReadableType.Number) {
+        callbackType = options.getInt("callbackType");
+      }
+      if (options.hasKey("maxBufferedResults") && options.getType("maxBufferedResults") == ReadableType.Number) {
+        maxBufferedResults = options.getInt("maxBufferedResults");
+      }
+    }
+
+    bleAdapter.startBackgroundDeviceScan(
+      filteredUUIDs != null ? ReadableArrayConverter.toStringArray(filteredUUIDs) : null,
+      scanMode, callbackType, maxBufferedResults,
+      new OnSuccessCallback<Void>() {
+        @Override
+        public void onSuccess(Void data) {
+          promise.resolve(null);
+        }
+      }, new OnErrorCallback() {
+        @Override
+        public void onError(BleError error) {
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
+        }
+      });
+  }
+
+  @ReactMethod
+  public void stopBackgroundDeviceScan(Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("stopBackgroundDeviceScan", jsPromise);
+    if (!this.isRequestPossibleHandler("stopBackgroundDeviceScan", promise)) {
+      return;
+    }
+    bleAdapter.stopBackgroundDeviceScan();
+    promise.resolve(null);
+  }
+
+  @ReactMethod
+  public void getBackgroundScanResults(int maxCount, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("getBackgroundScanResults", jsPromise);
+    if (!this.isRequestPossibleHandler("getBackgroundScanResults", promise)) {
+      return;
+    }
+    BackgroundScanBatch batch = bleAdapter.getBackgroundScanResults(maxCount);
+    WritableArray jsDevices = Arguments.createArray();
+    for (ScanResult scanResult : batch.getScanResults()) {
+      jsDevices.pushMap(scanResultConverter.toJSObject(scanResult));
+    }
+    WritableMap result = Arguments.createMap();
+    result.putArray("devices", jsDevices);
+    result.putDouble("droppedCount", batch.getDroppedCount());
+    promise.resolve(result);
+  }
+
+  @ReactMethod
+  public void setAdvertisementDecryptionKey(final String deviceId,
+                                            final String keyBase64,
+                                            final String format,
+                                            Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("setAdvertisementDecryptionKey", jsPromise);
+    if (!this.isRequestPossibleHandler("setAdvertisementDecryptionKey", promise)) {
+      return;
+    }
+    bleAdapter.setAdvertisementDecryptionKey(deviceId, keyBase64, format,
+      new OnSuccessCallback<Void>() {
+        @Override
+        public void onSuccess(Void data) {
+          promise.resolve(null);
+        }
+      }, new OnErrorCallback() {
+        @Override
+        public void onError(BleError error) {
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
+        }
+      });
+  }
+
+  @ReactMethod
+  public void removeAdvertisementDecryptionKey(final String deviceId, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("removeAdvertisementDecryptionKey", jsPromise);
+    if (!this.isRequestPossibleHandler("removeAdvertisementDecryptionKey", promise)) {
+      return;
+    }
+    bleAdapter.removeAdvertisementDecryptionKey(deviceId);
+    promise.resolve(null);
+  }
+
+  @ReactMethod
+  public void startScanCapture(final String filePath, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("startScanCapture", jsPromise);
+    if (!this.isRequestPossibleHandler("startScanCapture", promise)) {
+      return;
+    }
+    bleAdapter.startScanCapture(filePath,
+      new OnSuccessCallback<Void>() {
+        @Override
+        public void onSuccess(Void data) {
+          promise.resolve(null);
+        }
+      }, new OnErrorCallback() {
+        @Override
+        public void onError(BleError error) {
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
+        }
+      });
+  }
+
+  @ReactMethod
+  public void stopScanCapture(Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("stopScanCapture", jsPromise);
+    if (!this.isRequestPossibleHandler("stopScanCapture", promise)) {
+      return;
+    }
+    promise.resolve(bleAdapter.stopScanCapture());
+  }
+
+  @ReactMethod
+  public void replayScanCapture(final String filePath, @Nullable ReadableMap options, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("replayScanCapture", jsPromise);
+    if (!this.isRequestPossibleHandler("replayScanCapture", promise)) {
+      return;
+    }
+    double speed = 1.0;
+    if (options != null && options.hasKey("speed") && options.getType("speed") == ReadableType.Number) {
+      speed = options.getDouble("speed");
+    }
+
+    bleAdapter.replayScanCapture(filePath, speed,
+      new OnEventCallback<ScanResult>() {
+        @Override
+        public void onEvent(ScanResult data) {
+          sendScanResult(data);
+        }
+      }, new OnSuccessCallback<Void>() {
+        @Override
+        public void onSuccess(Void data) {
+          promise.resolve(null);
+        }
+      }, new OnErrorCallback() {
+        @Override
+        public void onError(BleError error) {
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
+        }
+      });
+  }
+
   // Mark: Device management ---------------------------------------------------------------------
 
   @ReactMethod
-  public void devices(final ReadableArray deviceIdentifiers, final Promise promise) {
+  public void devices(final ReadableArray deviceIdentifiers, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("devices", jsPromise);
     if (!this.isRequestPossibleHandler("devices", promise)) {
       return;
     }
@@ -280,7 +651,8 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   }
 
   @ReactMethod
-  public void connectedDevices(final ReadableArray serviceUUIDs, final Promise promise) {
+  public void connectedDevices(final ReadableArray serviceUUIDs, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("connectedDevices", jsPromise);
     if (!this.isRequestPossibleHandler("connectedDevices", promise)) {
       return;
     }
@@ -305,71 +677,184 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   // Mark: Device operations ---------------------------------------------------------------------
 
   @ReactMethod
-  public void requestConnectionPriorityForDevice(final String deviceId, int connectionPriority, final String transactionId, final Promise promise) {
+  public void setCharacteristicPriorityForDevice(final String deviceId,
+                                                 final String serviceUUID,
+                                                 final String characteristicUUID,
+                                                 final String priority,
+                                                 Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("setCharacteristicPriorityForDevice", jsPromise);
+    if (!this.isRequestPossibleHandler("setCharacteristicPriorityForDevice", promise)) {
+      return;
+    }
+    bleAdapter.setCharacteristicPriorityForDevice(deviceId, serviceUUID, characteristicUUID, priority,
+      new OnSuccessCallback<Void>() {
+        @Override
+        public void onSuccess(Void data) {
+          promise.resolve(null);
+        }
+      }, new OnErrorCallback() {
+        @Override
+        public void onError(BleError error) {
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
+        }
+      });
+  }
+
+  @ReactMethod
+  public void getOperationQueueStatisticsForDevice(final String deviceId, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("getOperationQueueStatisticsForDevice", jsPromise);
+    if (!this.isRequestPossibleHandler("getOperationQueueStatisticsForDevice", promise)) {
+      return;
+    }
+    promise.resolve(operationQueueConverter.toJSObject(bleAdapter.getOperationQueueForDevice(deviceId)));
+  }
+
+  @ReactMethod
+  public void setCharacteristicCacheTtlForDevice(final String deviceId,
+                                                 final String serviceUUID,
+                                                 final String characteristicUUID,
+                                                 final double ttl,
+                                                 Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("setCharacteristicCacheTtlForDevice", jsPromise);
+    if (!this.isRequestPossibleHandler("setCharacteristicCacheTtlForDevice", promise)) {
+      return;
+    }
+    if (ttl < 0 && ttl != CharacteristicValueCache.UNTIL_DISCONNECT) {
+      rejectWithBleError(promise, new BleError(BleErrorCode.OperationStartFailed, "Cache TTL can't be negative", null));
+      return;
+    }
+    bleAdapter.setCharacteristicCacheTtlForDevice(deviceId, serviceUUID, characteristicUUID, (long) ttl,
+      new OnSuccessCallback<Void>() {
+        @Override
+        public void onSuccess(Void data) {
+          promise.resolve(null);
+        }
+      }, new OnErrorCallback() {
+        @Override
+        public void onError(BleError error) {
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
+        }
+      });
+  }
+
+  @ReactMethod
+  public void getCharacteristicCacheStatisticsForDevice(final String deviceId, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("getCharacteristicCacheStatisticsForDevice", jsPromise);
+    if (!this.isRequestPossibleHandler("getCharacteristicCacheStatisticsForDevice", promise)) {
+      return;
+    }
+    promise.resolve(valueCacheConverter.toJSObject(bleAdapter.getValueCacheForDevice(deviceId)));
+  }
+
+  @ReactMethod
+  public void setGattSchedulerOptions(final ReadableMap options, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("setGattSchedulerOptions", jsPromise);
+    if (!this.isRequestPossibleHandler("setGattSchedulerOptions", promise)) {
+      return;
+    }
+    GattScheduler scheduler = bleAdapter.getGattScheduler();
+    if (options.hasKey("maxOperationsInFlight")) {
+      int maxOperationsInFlight = options.getType("maxOperationsInFlight") == ReadableType.Number
+        ? options.getInt("maxOperationsInFlight")
+        : GattScheduler.UNLIMITED_OPERATIONS_IN_FLIGHT;
+      if (maxOperationsInFlight < 0) {
+        rejectWithBleError(promise, new BleError(BleErrorCode.OperationStartFailed, "maxOperationsInFlight can't be negative", null));
+        return;
+      }
+      scheduler.setMaxOperationsInFlight(maxOperationsInFlight);
+    }
+    setGattSchedulerDeadline(scheduler, options, "interactiveDeadline", OperationPriority.INTERACTIVE);
+    setGattSchedulerDeadline(scheduler, options, "normalDeadline", OperationPriority.NORMAL);
+    setGattSchedulerDeadline(scheduler, options, "bulkDeadline", OperationPriority.BULK);
+    promise.resolve(null);
+  }
+
+  private static void setGattSchedulerDeadline(GattScheduler scheduler,
+                                               ReadableMap options,
+                                               String key,
+                                               OperationPriority priority) {
+    if (options.hasKey(key) && options.getType(key) == ReadableType.Number) {
+      scheduler.setDefaultDeadline(priority, Math.max(0, (long) options.getDouble(key)));
+    } else if (options.hasKey(key) && options.getType(key) == ReadableType.Null) {
+      scheduler.setDefaultDeadline(priority, 0);
+    }
+  }
+
+  @ReactMethod
+  public void getGattSchedulerStatistics(Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("getGattSchedulerStatistics", jsPromise);
+    if (!this.isRequestPossibleHandler("getGattSchedulerStatistics", promise)) {
+      return;
+    }
+    promise.resolve(gattSchedulerConverter.toJSObject(bleAdapter.getGattScheduler()));
+  }
+
+  @ReactMethod
+  public void requestConnectionPriorityForDevice(final String deviceId, int connectionPriority, final String transactionId, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("requestConnectionPriorityForDevice", jsPromise);
     if (!this.isRequestPossibleHandler("requestConnectionPriorityForDevice", promise)) {
       return;
     }
-    final SafePromise safePromise = new SafePromise(promise);
     bleAdapter.requestConnectionPriorityForDevice(deviceId, connectionPriority, transactionId,
       new OnSuccessCallback<Device>() {
         @Override
         public void onSuccess(Device data) {
-          safePromise.resolve(deviceConverter.toJSObject(data));
+          promise.resolve(deviceConverter.toJSObject(data));
         }
       }, new OnErrorCallback() {
         @Override
         public void onError(BleError error) {
-          safePromise.reject(getErrorCode(error), errorConverter.toJs(error));
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
         }
       });
   }
 
   @ReactMethod
-  public void requestMTUForDevice(final String deviceId, int mtu, final String transactionId, final Promise promise) {
+  public void requestMTUForDevice(final String deviceId, int mtu, final String transactionId, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("requestMTUForDevice", jsPromise);
     if (!this.isRequestPossibleHandler("requestMTUForDevice", promise)) {
       return;
     }
-    final SafePromise safePromise = new SafePromise(promise);
     bleAdapter.requestMTUForDevice(deviceId, mtu, transactionId,
       new OnSuccessCallback<Device>() {
         @Override
         public void onSuccess(Device data) {
-          safePromise.resolve(deviceConverter.toJSObject(data));
+          promise.resolve(deviceConverter.toJSObject(data));
         }
       }, new OnErrorCallback() {
         @Override
         public void onError(BleError error) {
-          safePromise.reject(getErrorCode(error), errorConverter.toJs(error));
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
         }
       });
   }
 
   @ReactMethod
-  public void readRSSIForDevice(final String deviceId, final String transactionId, final Promise promise) {
+  public void readRSSIForDevice(final String deviceId, final String transactionId, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("readRSSIForDevice", jsPromise);
     if (!this.isRequestPossibleHandler("readRSSIForDevice", promise)) {
       return;
     }
-    final SafePromise safePromise = new SafePromise(promise);
     bleAdapter.readRSSIForDevice(deviceId, transactionId,
       new OnSuccessCallback<Device>() {
         @Override
         public void onSuccess(Device data) {
-          safePromise.resolve(deviceConverter.toJSObject(data));
+          promise.resolve(deviceConverter.toJSObject(data));
         }
       }, new OnErrorCallback() {
         @Override
         public void onError(BleError error) {
-          safePromise.reject(getErrorCode(error), errorConverter.toJs(error));
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
         }
       });
   }
 
   @ReactMethod
-  public void connectToDevice(final String deviceId, @Nullable ReadableMap options, final Promise promise) {
+  public void connectToDevice(final String deviceId, @Nullable ReadableMap options, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("connectToDevice", jsPromise);
     if (!this.isRequestPossibleHandler("connectToDevice", promise)) {
       return;
     }
-    final SafePromise safePromise = new SafePromise(promise);
 
     boolean autoConnect = false;
     int requestMtu = 0;
@@ -404,7 +889,7 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
       new OnSuccessCallback<Device>() {
         @Override
         public void onSuccess(Device data) {
-          safePromise.resolve(deviceConverter.toJSObject(data));
+          promise.resolve(deviceConverter.toJSObject(data));
         }
       },
       new OnEventCallback<ConnectionState>() {
@@ -416,40 +901,41 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
             WritableMap device = Arguments.createMap();
             device.putString("id", deviceId);
             event.pushMap(device);
-            sendEvent(Event.DisconnectionEvent, event);
+            sendEvent(Event.DisconnectionEvent, event, 0, deviceId);
           }
         }
       },
       new OnErrorCallback() {
         @Override
         public void onError(BleError error) {
-          safePromise.reject(getErrorCode(error), errorConverter.toJs(error));
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
         }
       });
   }
 
   @ReactMethod
-  public void cancelDeviceConnection(String deviceId, final Promise promise) {
+  public void cancelDeviceConnection(String deviceId, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("cancelDeviceConnection", jsPromise);
     if (!this.isRequestPossibleHandler("cancelDeviceConnection", promise)) {
       return;
     }
-    final SafePromise safePromise = new SafePromise(promise);
     bleAdapter.cancelDeviceConnection(deviceId,
       new OnSuccessCallback<Device>() {
         @Override
         public void onSuccess(Device data) {
-          safePromise.resolve(deviceConverter.toJSObject(data));
+          promise.resolve(deviceConverter.toJSObject(data));
         }
       }, new OnErrorCallback() {
         @Override
         public void onError(BleError error) {
-          safePromise.reject(getErrorCode(error), errorConverter.toJs(error));
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
         }
       });
   }
 
   @ReactMethod
-  public void isDeviceConnected(String deviceId, final Promise promise) {
+  public void isDeviceConnected(String deviceId, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("isDeviceConnected", jsPromise);
     if (!this.isRequestPossibleHandler("isDeviceConnected", promise)) {
       return;
     }
@@ -470,21 +956,21 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   // Mark: Discovery -----------------------------------------------------------------------------
 
   @ReactMethod
-  public void discoverAllServicesAndCharacteristicsForDevice(String deviceId, final String transactionId, final Promise promise) {
+  public void discoverAllServicesAndCharacteristicsForDevice(String deviceId, final String transactionId, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("discoverAllServicesAndCharacteristicsForDevice", jsPromise);
     if (!this.isRequestPossibleHandler("discoverAllServicesAndCharacteristicsForDevice", promise)) {
       return;
     }
-    final SafePromise safePromise = new SafePromise(promise);
     bleAdapter.discoverAllServicesAndCharacteristicsForDevice(deviceId, transactionId,
       new OnSuccessCallback<Device>() {
         @Override
         public void onSuccess(Device data) {
-          safePromise.resolve(deviceConverter.toJSObject(data));
+          promise.resolve(deviceConverter.toJSObject(data));
         }
       }, new OnErrorCallback() {
         @Override
         public void onError(BleError error) {
-          safePromise.reject(getErrorCode(error), errorConverter.toJs(error));
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
         }
       });
   }
@@ -492,17 +978,13 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   // Mark: Service and characteristic getters ----------------------------------------------------
 
   @ReactMethod
-  public void servicesForDevice(final String deviceId, final Promise promise) {
+  public void servicesForDevice(final String deviceId, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("servicesForDevice", jsPromise);
     if (!this.isRequestPossibleHandler("servicesForDevice", promise)) {
       return;
     }
     try {
-      List<Service> services = bleAdapter.getServicesForDevice(deviceId);
-      WritableArray jsArray = Arguments.createArray();
-      for (Service service : services) {
-        jsArray.pushMap(serviceConverter.toJSObject(service));
-      }
-      promise.resolve(jsArray);
+      promise.resolve(servicesToJs(bleAdapter.getServicesForDevice(deviceId)));
     } catch (BleError error) {
       rejectWithBleError(promise, error);
     }
@@ -512,35 +994,26 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   @ReactMethod
   public void characteristicsForDevice(final String deviceId,
                                        final String serviceUUID,
-                                       final Promise promise) {
+                                       Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("characteristicsForDevice", jsPromise);
     if (!this.isRequestPossibleHandler("characteristicsForDevice", promise)) {
       return;
     }
     try {
-      List<Characteristic> characteristics = bleAdapter.getCharacteristicsForDevice(deviceId, serviceUUID);
-
-      WritableArray jsCharacteristics = Arguments.createArray();
-      for (Characteristic characteristic : characteristics) {
-        jsCharacteristics.pushMap(characteristicConverter.toJSObject(characteristic));
-      }
-      promise.resolve(jsCharacteristics);
+      promise.resolve(characteristicsToJs(bleAdapter.getCharacteristicsForDevice(deviceId, serviceUUID)));
     } catch (BleError error) {
       rejectWithBleError(promise, error);
     }
   }
 
   @ReactMethod
-  public void characteristicsForService(final int serviceIdentifier, final Promise promise) {
+  public void characteristicsForService(final int serviceIdentifier, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("characteristicsForService", jsPromise);
     if (!this.isRequestPossibleHandler("characteristicsForService", promise)) {
       return;
     }
     try {
-      List<Characteristic> characteristics = bleAdapter.getCharacteristicsForService(serviceIdentifier);
-      WritableArray jsCharacteristics = Arguments.createArray();
-      for (Characteristic characteristic : characteristics) {
-        jsCharacteristics.pushMap(characteristicConverter.toJSObject(characteristic));
-      }
-      promise.resolve(jsCharacteristics);
+      promise.resolve(characteristicsToJs(bleAdapter.getCharacteristicsForService(serviceIdentifier)));
     } catch (BleError error) {
       rejectWithBleError(promise, error);
     }
@@ -550,17 +1023,13 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   public void descriptorsForDevice(final String deviceIdentifier,
                                    final String serviceUUID,
                                    final String characteristicUUID,
-                                   final Promise promise) {
+                                   Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("descriptorsForDevice", jsPromise);
     if (!this.isRequestPossibleHandler("descriptorsForDevice", promise)) {
       return;
     }
     try {
-      List<Descriptor> descriptors = bleAdapter.descriptorsForDevice(deviceIdentifier, serviceUUID, characteristicUUID);
-      WritableArray jsDescriptors = Arguments.createArray();
-      for (Descriptor descriptor : descriptors) {
-        jsDescriptors.pushMap(descriptorConverter.toJSObject(descriptor));
-      }
-      promise.resolve(jsDescriptors);
+      promise.resolve(descriptorsToJs(bleAdapter.descriptorsForDevice(deviceIdentifier, serviceUUID, characteristicUUID)));
     } catch (BleError error) {
       rejectWithBleError(promise, error);
     }
@@ -569,17 +1038,13 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   @ReactMethod
   public void descriptorsForService(final int serviceIdentifier,
                                     final String characteristicUUID,
-                                    final Promise promise) {
+                                    Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("descriptorsForService", jsPromise);
     if (!this.isRequestPossibleHandler("descriptorsForService", promise)) {
       return;
     }
     try {
-      List<Descriptor> descriptors = bleAdapter.descriptorsForService(serviceIdentifier, characteristicUUID);
-      WritableArray jsDescriptors = Arguments.createArray();
-      for (Descriptor descriptor : descriptors) {
-        jsDescriptors.pushMap(descriptorConverter.toJSObject(descriptor));
-      }
-      promise.resolve(jsDescriptors);
+      promise.resolve(descriptorsToJs(bleAdapter.descriptorsForService(serviceIdentifier, characteristicUUID)));
     } catch (BleError error) {
       rejectWithBleError(promise, error);
     }
@@ -587,48 +1052,240 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
 
   @ReactMethod
   public void descriptorsForCharacteristic(final int characteristicIdentifier,
-                                           final Promise promise) {
+                                           Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("descriptorsForCharacteristic", jsPromise);
     if (!this.isRequestPossibleHandler("descriptorsForCharacteristic", promise)) {
       return;
     }
     try {
-      List<Descriptor> descriptors = bleAdapter.descriptorsForCharacteristic(characteristicIdentifier);
-      WritableArray jsDescriptors = Arguments.createArray();
-      for (Descriptor descriptor : descriptors) {
-        jsDescriptors.pushMap(descriptorConverter.toJSObject(descriptor));
-      }
-      promise.resolve(jsDescriptors);
+      promise.resolve(descriptorsToJs(bleAdapter.descriptorsForCharacteristic(characteristicIdentifier)));
     } catch (BleError error) {
       rejectWithBleError(promise, error);
     }
   }
 
+  // Mark: Synchronous getters -------------------------------------------------------------------
+  // Lookups served from memory are also exposed as blocking methods which JS calls directly, without
+  // an asynchronous hop over the bridge. They return [error, value] pairs, same as events do. The module
+  // has no TurboModule spec, on the new architecture blocking methods are called through the interop layer.
+  // They run on the JS thread, so state they read is kept in concurrent collections by BleModule.
+
+  @ReactMethod(isBlockingSynchronousMethod = true)
+  public WritableArray stateSync() {
+    long startNanos = System.nanoTime();
+    BleAdapter adapter = bleAdapter;
+    if (adapter == null) {
+      return recordSync("stateSync", startNanos, syncDestroyedError("state"));
+    }
+    WritableArray result = Arguments.createArray();
+    result.pushNull();
+    result.pushString(adapter.getCurrentState());
+    return recordSync("stateSync", startNanos, result);
+  }
+
+  @ReactMethod(isBlockingSynchronousMethod = true)
+  public WritableArray logLevelSync() {
+    long startNanos = System.nanoTime();
+    BleAdapter adapter = bleAdapter;
+    if (adapter == null) {
+      return recordSync("logLevelSync", startNanos, syncDestroyedError("logLevel"));
+    }
+    WritableArray result = Arguments.createArray();
+    result.pushNull();
+    result.pushString(adapter.getLogLevel());
+    return recordSync("logLevelSync", startNanos, result);
+  }
+
+  @ReactMethod(isBlockingSynchronousMethod = true)
+  public WritableArray servicesForDeviceSync(final String deviceId) {
+    long startNanos = System.nanoTime();
+    BleAdapter adapter = bleAdapter;
+    if (adapter == null) {
+      return recordSync("servicesForDeviceSync", startNanos, syncDestroyedError("servicesForDevice"));
+    }
+    try {
+      return recordSync("servicesForDeviceSync", startNanos, syncResult(servicesToJs(adapter.getServicesForDevice(deviceId))));
+    } catch (BleError error) {
+      return recordSync("servicesForDeviceSync", startNanos, syncError(error));
+    }
+  }
+
+  @ReactMethod(isBlockingSynchronousMethod = true)
+  public WritableArray characteristicsForDeviceSync(final String deviceId, final String serviceUUID) {
+    long startNanos = System.nanoTime();
+    BleAdapter adapter = bleAdapter;
+    if (adapter == null) {
+      return recordSync("characteristicsForDeviceSync", startNanos, syncDestroyedError("characteristicsForDevice"));
+    }
+    try {
+      return recordSync("characteristicsForDeviceSync", startNanos, syncResult(characteristicsToJs(adapter.getCharacteristicsForDevice(deviceId, serviceUUID))));
+    } catch (BleError error) {
+      return recordSync("characteristicsForDeviceSync", startNanos, syncError(error));
+    }
+  }
+
+  @ReactMethod(isBlockingSynchronousMethod = true)
+  public WritableArray characteristicsForServiceSync(final int serviceIdentifier) {
+    long startNanos = System.nanoTime();
+    BleAdapter adapter = bleAdapter;
+    if (adapter == null) {
+      return recordSync("characteristicsForServiceSync", startNanos, syncDestroyedError("characteristicsForService"));
+    }
+    try {
+      return recordSync("characteristicsForServiceSync", startNanos, syncResult(characteristicsToJs(adapter.getCharacteristicsForService(serviceIdentifier))));
+    } catch (BleError error) {
+      return recordSync("characteristicsForServiceSync", startNanos, syncError(error));
+    }
+  }
+
+  @ReactMethod(isBlockingSynchronousMethod = true)
+  public WritableArray descriptorsForDeviceSync(final String deviceIdentifier,
+                                                final String serviceUUID,
+                                                final String characteristicUUID) {
+    long startNanos = System.nanoTime();
+    BleAdapter adapter = bleAdapter;
+    if (adapter == null) {
+      return recordSync("descriptorsForDeviceSync", startNanos, syncDestroyedError("descriptorsForDevice"));
+    }
+    try {
+      return recordSync("descriptorsForDeviceSync", startNanos, syncResult(descriptorsToJs(adapter.descriptorsForDevice(deviceIdentifier, serviceUUID, characteristicUUID))));
+    } catch (BleError error) {
+      return recordSync("descriptorsForDeviceSync", startNanos, syncError(error));
+    }
+  }
+
+  @ReactMethod(isBlockingSynchronousMethod = true)
+  public WritableArray descriptorsForServiceSync(final int serviceIdentifier, final String characteristicUUID) {
+    long startNanos = System.nanoTime();
+    BleAdapter adapter = bleAdapter;
+    if (adapter == null) {
+      return recordSync("descriptorsForServiceSync", startNanos, syncDestroyedError("descriptorsForService"));
+    }
+    try {
+      return recordSync("descriptorsForServiceSync", startNanos, syncResult(descriptorsToJs(adapter.descriptorsForService(serviceIdentifier, characteristicUUID))));
+    } catch (BleError error) {
+      return recordSync("descriptorsForServiceSync", startNanos, syncError(error));
+    }
+  }
+
+  @ReactMethod(isBlockingSynchronousMethod = true)
+  public WritableArray descriptorsForCharacteristicSync(final int characteristicIdentifier) {
+    long startNanos = System.nanoTime();
+    BleAdapter adapter = bleAdapter;
+    if (adapter == null) {
+      return recordSync("descriptorsForCharacteristicSync", startNanos, syncDestroyedError("descriptorsForCharacteristic"));
+    }
+    try {
+      return recordSync("descriptorsForCharacteristicSync", startNanos, syncResult(descriptorsToJs(adapter.descriptorsForCharacteristic(characteristicIdentifier))));
+    } catch (BleError error) {
+      return recordSync("descriptorsForCharacteristicSync", startNanos, syncError(error));
+    }
+  }
+
   // Mark: Characteristics operations ------------------------------------------------------------
 
   @ReactMethod
   public void writeCharacteristicForDevice(final String deviceId,
                                            final String serviceUUID,
                                            final String characteristicUUID,
-                                           final String valueBase64,
+                                           final Dynamic value,
                                            final Boolean response,
                                            final String transactionId,
-                                           final Promise promise) {
+                                           Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("writeCharacteristicForDevice", jsPromise);
     if (!this.isRequestPossibleHandler("writeCharacteristicForDevice", promise)) {
       return;
     }
-    final SafePromise safePromise = new SafePromise(promise);
 
     bleAdapter.writeCharacteristicForDevice(
-      deviceId, serviceUUID, characteristicUUID, valueBase64, response, transactionId,
+      deviceId, serviceUUID, characteristicUUID, toBytes(value), response, transactionId,
       new OnSuccessCallback<Characteristic>() {
         @Override
         public void onSuccess(Characteristic data) {
-          safePromise.resolve(characteristicConverter.toJSObject(data));
+          promise.resolve(characteristicConverter.toJSObject(data));
         }
       }, new OnErrorCallback() {
         @Override
         public void onError(BleError error) {
-          safePromise.reject(getErrorCode(error), errorConverter.toJs(error));
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
+        }
+      }
+    );
+  }
+
+  @ReactMethod
+  public void writeLongCharacteristicForDevice(final String deviceId,
+                                               final String serviceUUID,
+                                               final String characteristicUUID,
+                                               final Dynamic value,
+                                               final Boolean response,
+                                               final int progressInterval,
+                                               final String transactionId,
+                                               Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("writeLongCharacteristicForDevice", jsPromise);
+    if (!this.isRequestPossibleHandler("writeLongCharacteristicForDevice", promise)) {
+      return;
+    }
+
+    bleAdapter.writeLongCharacteristicForDevice(
+      deviceId, serviceUUID, characteristicUUID, toBytes(value), response, progressInterval, transactionId,
+      new OnEventCallback<WriteProgress>() {
+        @Override
+        public void onEvent(WriteProgress data) {
+          long conversionStart = System.nanoTime();
+          WritableArray jsResult = Arguments.createArray();
+          jsResult.pushString(transactionId);
+          jsResult.pushInt(data.getBytesWritten());
+          jsResult.pushInt(data.getTotalBytes());
+          sendEvent(Event.WriteProgressEvent, jsResult, System.nanoTime() - conversionStart, deviceId);
+        }
+      },
+      new OnSuccessCallback<Characteristic>() {
+        @Override
+        public void onSuccess(Characteristic data) {
+          promise.resolve(characteristicConverter.toJSObject(data));
+        }
+      }, new OnErrorCallback() {
+        @Override
+        public void onError(BleError error) {
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
+        }
+      }
+    );
+  }
+
+  @ReactMethod
+  public void writeCharacteristicStreamForDevice(final String deviceId,
+                                                 final String serviceUUID,
+                                                 final String characteristicUUID,
+                                                 final ReadableArray values,
+                                                 final String transactionId,
+                                                 Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("writeCharacteristicStreamForDevice", jsPromise);
+    if (!this.isRequestPossibleHandler("writeCharacteristicStreamForDevice", promise)) {
+      return;
+    }
+    List<byte[]> bytes = new ArrayList<>(values.size());
+    for (int i = 0; i < values.size(); i++) {
+      bytes.add(toBytes(values.getDynamic(i)));
+    }
+
+    bleAdapter.writeCharacteristicStreamForDevice(
+      deviceId, serviceUUID, characteristicUUID, bytes, transactionId,
+      new OnSuccessCallback<WriteStreamResult>() {
+        @Override
+        public void onSuccess(WriteStreamResult data) {
+          WritableMap jsResult = Arguments.createMap();
+          jsResult.putInt("packetCount", data.getPacketCount());
+          jsResult.putDouble("byteCount", data.getByteCount());
+          jsResult.putDouble("duration", data.getDurationMillis());
+          jsResult.putDouble("bytesPerSecond", data.getBytesPerSecond());
+          promise.resolve(jsResult);
+        }
+      }, new OnErrorCallback() {
+        @Override
+        public void onError(BleError error) {
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
         }
       }
     );
@@ -637,25 +1294,25 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   @ReactMethod
   public void writeCharacteristicForService(final int serviceIdentifier,
                                             final String characteristicUUID,
-                                            final String valueBase64,
+                                            final Dynamic value,
                                             final Boolean response,
                                             final String transactionId,
-                                            final Promise promise) {
+                                            Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("writeCharacteristicForService", jsPromise);
     if (!this.isRequestPossibleHandler("writeCharacteristicForService", promise)) {
       return;
     }
-    final SafePromise safePromise = new SafePromise(promise);
     bleAdapter.writeCharacteristicForService(
-      serviceIdentifier, characteristicUUID, valueBase64, response, transactionId,
+      serviceIdentifier, characteristicUUID, toBytes(value), response, transactionId,
       new OnSuccessCallback<Characteristic>() {
         @Override
         public void onSuccess(Characteristic data) {
-          safePromise.resolve(characteristicConverter.toJSObject(data));
+          promise.resolve(characteristicConverter.toJSObject(data));
         }
       }, new OnErrorCallback() {
         @Override
         public void onError(BleError error) {
-          safePromise.reject(getErrorCode(error), errorConverter.toJs(error));
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
         }
       }
     );
@@ -663,25 +1320,25 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
 
   @ReactMethod
   public void writeCharacteristic(final int characteristicIdentifier,
-                                  final String valueBase64,
+                                  final Dynamic value,
                                   final Boolean response,
                                   final String transactionId,
-                                  final Promise promise) {
+                                  Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("writeCharacteristic", jsPromise);
     if (!this.isRequestPossibleHandler("writeCharacteristic", promise)) {
       return;
     }
-    final SafePromise safePromise = new SafePromise(promise);
 
-    bleAdapter.writeCharacteristic(characteristicIdentifier, valueBase64, response, transactionId,
+    bleAdapter.writeCharacteristic(characteristicIdentifier, toBytes(value), response, transactionId,
       new OnSuccessCallback<Characteristic>() {
         @Override
         public void onSuccess(Characteristic data) {
-          safePromise.resolve(characteristicConverter.toJSObject(data));
+          promise.resolve(characteristicConverter.toJSObject(data));
         }
       }, new OnErrorCallback() {
         @Override
         public void onError(BleError error) {
-          safePromise.reject(getErrorCode(error), errorConverter.toJs(error));
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
         }
       });
   }
@@ -691,49 +1348,137 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
                                           final String serviceUUID,
                                           final String characteristicUUID,
                                           final String transactionId,
-                                          final Promise promise) {
+                                          @Nullable final ReadableMap options,
+                                          Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("readCharacteristicForDevice", jsPromise);
     if (!this.isRequestPossibleHandler("readCharacteristicForDevice", promise)) {
       return;
     }
-    final SafePromise safePromise = new SafePromise(promise);
+    final ValueDecoder decoder;
+    try {
+      decoder = parseReadDecoder(options);
+    } catch (IllegalArgumentException e) {
+      rejectWithBleError(promise, new BleError(BleErrorCode.OperationStartFailed, e.getMessage(), null));
+      return;
+    }
 
     bleAdapter.readCharacteristicForDevice(
       deviceId, serviceUUID, characteristicUUID, transactionId,
       new OnSuccessCallback<Characteristic>() {
         @Override
         public void onSuccess(Characteristic data) {
-          safePromise.resolve(characteristicConverter.toJSObject(data));
+          promise.resolve(characteristicConverter.toJSObject(data, decoder));
+        }
+      }, new OnErrorCallback() {
+        @Override
+        public void onError(BleError error) {
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
+        }
+      }
+    );
+  }
+
+  /**
+   * @return decoder of read options or null if they don't contain any.
+   * @throws IllegalArgumentException when decoder schema is malformed.
+   */
+  @Nullable
+  private static ValueDecoder parseReadDecoder(@Nullable ReadableMap options) {
+    return options != null && options.hasKey("decoder") && options.getType("decoder") == ReadableType.Map
+      ? ValueDecoder.fromJs(options.getMap("decoder"))
+      : null;
+  }
+
+  @ReactMethod
+  public void readCharacteristicsForDevice(final String deviceId,
+                                           final ReadableArray characteristicUUIDs,
+                                           final String transactionId,
+                                           Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("readCharacteristicsForDevice", jsPromise);
+    if (!this.isRequestPossibleHandler("readCharacteristicsForDevice", promise)) {
+      return;
+    }
+
+    String[][] uuids = new String[characteristicUUIDs.size()][];
+    for (int i = 0; i < characteristicUUIDs.size(); i++) {
+      ReadableArray pair = characteristicUUIDs.getType(i) == ReadableType.Array ? characteristicUUIDs.getArray(i) : null;
+      if (pair != null && pair.size() == 2
+        && pair.getType(0) == ReadableType.String && pair.getType(1) == ReadableType.String) {
+        uuids[i] = new String[]{pair.getString(0), pair.getString(1)};
+      } else {
+        // Reported as invalid identifiers of this item
+        uuids[i] = new String[]{"", ""};
+      }
+    }
+
+    bleAdapter.readCharacteristicsForDevice(
+      deviceId, uuids, transactionId,
+      new OnSuccessCallback<List<CharacteristicReadResult>>() {
+        @Override
+        public void onSuccess(List<CharacteristicReadResult> data) {
+          WritableArray jsResults = Arguments.createArray();
+          for (CharacteristicReadResult result : data) {
+            jsResults.pushMap(characteristicReadResultToJs(result));
+          }
+          promise.resolve(jsResults);
         }
       }, new OnErrorCallback() {
         @Override
         public void onError(BleError error) {
-          safePromise.reject(getErrorCode(error), errorConverter.toJs(error));
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
         }
       }
     );
   }
 
+  private WritableMap characteristicReadResultToJs(CharacteristicReadResult result) {
+    WritableMap jsResult = Arguments.createMap();
+    jsResult.putString("serviceUUID", result.getServiceUUID());
+    jsResult.putString("characteristicUUID", result.getCharacteristicUUID());
+    Characteristic characteristic = result.getCharacteristic();
+    if (characteristic != null) {
+      jsResult.putMap("characteristic", characteristicConverter.toJSObject(characteristic));
+    } else {
+      jsResult.putNull("characteristic");
+    }
+    BleError error = result.getError();
+    if (error != null) {
+      jsResult.putString("error", errorConverter.toJs(error));
+    } else {
+      jsResult.putNull("error");
+    }
+    return jsResult;
+  }
+
   @ReactMethod
   public void readCharacteristicForService(final int serviceIdentifier,
                                            final String characteristicUUID,
                                            final String transactionId,
-                                           final Promise promise) {
+                                           @Nullable final ReadableMap options,
+                                           Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("readCharacteristicForService", jsPromise);
     if (!this.isRequestPossibleHandler("readCharacteristicForService", promise)) {
       return;
     }
-    final SafePromise safePromise = new SafePromise(promise);
+    final ValueDecoder decoder;
+    try {
+      decoder = parseReadDecoder(options);
+    } catch (IllegalArgumentException e) {
+      rejectWithBleError(promise, new BleError(BleErrorCode.OperationStartFailed, e.getMessage(), null));
+      return;
+    }
 
     bleAdapter.readCharacteristicForService(
       serviceIdentifier, characteristicUUID, transactionId,
       new OnSuccessCallback<Characteristic>() {
         @Override
         public void onSuccess(Characteristic data) {
-          safePromise.resolve(characteristicConverter.toJSObject(data));
+          promise.resolve(characteristicConverter.toJSObject(data, decoder));
         }
       }, new OnErrorCallback() {
         @Override
         public void onError(BleError error) {
-          safePromise.reject(getErrorCode(error), errorConverter.toJs(error));
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
         }
       }
     );
@@ -742,23 +1487,31 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   @ReactMethod
   public void readCharacteristic(final int characteristicIdentifier,
                                  final String transactionId,
-                                 final Promise promise) {
+                                 @Nullable final ReadableMap options,
+                                 Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("readCharacteristic", jsPromise);
     if (!this.isRequestPossibleHandler("readCharacteristic", promise)) {
       return;
     }
-    final SafePromise safePromise = new SafePromise(promise);
+    final ValueDecoder decoder;
+    try {
+      decoder = parseReadDecoder(options);
+    } catch (IllegalArgumentException e) {
+      rejectWithBleError(promise, new BleError(BleErrorCode.OperationStartFailed, e.getMessage(), null));
+      return;
+    }
 
     bleAdapter.readCharacteristic(
       characteristicIdentifier, transactionId,
       new OnSuccessCallback<Characteristic>() {
         @Override
         public void onSuccess(Characteristic data) {
-          safePromise.resolve(characteristicConverter.toJSObject(data));
+          promise.resolve(characteristicConverter.toJSObject(data, decoder));
         }
       }, new OnErrorCallback() {
         @Override
         public void onError(BleError error) {
-          safePromise.reject(getErrorCode(error), errorConverter.toJs(error));
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
         }
       }
     );
@@ -770,26 +1523,61 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
                                              final String characteristicUUID,
                                              final String transactionId,
                                              final String subscriptionType,
-                                             final Promise promise) {
+                                             @Nullable final ReadableMap options,
+                                             Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("monitorCharacteristicForDevice", jsPromise);
     if (!this.isRequestPossibleHandler("monitorCharacteristicForDevice", promise)) {
       return;
     }
-    final SafePromise safePromise = new SafePromise(promise);
+    final MonitorOptions monitorOptions = parseMonitorOptions(options, promise);
+    if (monitorOptions == null) {
+      return;
+    }
+    final OnEventCallback<Characteristic> eventCallback = createMonitorCallback(transactionId, monitorOptions);
     bleAdapter.monitorCharacteristicForDevice(
       deviceId, serviceUUID, characteristicUUID, transactionId, subscriptionType,
-      new OnEventCallback<Characteristic>() {
+      eventCallback,
+      new OnErrorCallback() {
         @Override
-        public void onEvent(Characteristic data) {
-          WritableArray jsResult = Arguments.createArray();
-          jsResult.pushNull();
-          jsResult.pushMap(characteristicConverter.toJSObject(data));
-          jsResult.pushString(transactionId);
-          sendEvent(Event.ReadEvent, jsResult);
+        public void onError(BleError error) {
+          closeMonitorCallback(eventCallback);
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
         }
-      }, new OnErrorCallback() {
+      }
+    );
+  }
+
+  @ReactMethod
+  public void pollCharacteristicForDevice(final String deviceId,
+                                          final String serviceUUID,
+                                          final String characteristicUUID,
+                                          final double interval,
+                                          final double jitter,
+                                          final boolean emitOnChangeOnly,
+                                          final String transactionId,
+                                          @Nullable final ReadableMap options,
+                                          Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("pollCharacteristicForDevice", jsPromise);
+    if (!this.isRequestPossibleHandler("pollCharacteristicForDevice", promise)) {
+      return;
+    }
+    if (interval < 1 || jitter < 0) {
+      rejectWithBleError(promise, new BleError(BleErrorCode.OperationStartFailed, "Poll interval has to be at least 1 ms and jitter can't be negative", null));
+      return;
+    }
+    final MonitorOptions monitorOptions = parseMonitorOptions(options, promise);
+    if (monitorOptions == null) {
+      return;
+    }
+    final OnEventCallback<Characteristic> eventCallback = createMonitorCallback(transactionId, monitorOptions);
+    bleAdapter.pollCharacteristicForDevice(
+      deviceId, serviceUUID, characteristicUUID, (long) interval, (long) jitter, emitOnChangeOnly, transactionId,
+      eventCallback,
+      new OnErrorCallback() {
         @Override
         public void onError(BleError error) {
-          safePromise.reject(getErrorCode(error), errorConverter.toJs(error));
+          closeMonitorCallback(eventCallback);
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
         }
       }
     );
@@ -800,26 +1588,25 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
                                               final String characteristicUUID,
                                               final String transactionId,
                                               final String subscriptionType,
-                                              final Promise promise) {
+                                              @Nullable final ReadableMap options,
+                                              Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("monitorCharacteristicForService", jsPromise);
     if (!this.isRequestPossibleHandler("monitorCharacteristicForService", promise)) {
       return;
     }
-    final SafePromise safePromise = new SafePromise(promise);
+    final MonitorOptions monitorOptions = parseMonitorOptions(options, promise);
+    if (monitorOptions == null) {
+      return;
+    }
+    final OnEventCallback<Characteristic> eventCallback = createMonitorCallback(transactionId, monitorOptions);
     bleAdapter.monitorCharacteristicForService(
       serviceIdentifier, characteristicUUID, transactionId, subscriptionType,
-      new OnEventCallback<Characteristic>() {
-        @Override
-        public void onEvent(Characteristic data) {
-          WritableArray jsResult = Arguments.createArray();
-          jsResult.pushNull();
-          jsResult.pushMap(characteristicConverter.toJSObject(data));
-          jsResult.pushString(transactionId);
-          sendEvent(Event.ReadEvent, jsResult);
-        }
-      }, new OnErrorCallback() {
+      eventCallback,
+      new OnErrorCallback() {
         @Override
         public void onError(BleError error) {
-          safePromise.reject(getErrorCode(error), errorConverter.toJs(error));
+          closeMonitorCallback(eventCallback);
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
         }
       }
     );
@@ -829,30 +1616,336 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   public void monitorCharacteristic(final int characteristicIdentifier,
                                     final String transactionId,
                                     final String subscriptionType,
-                                    final Promise promise) {
+                                    @Nullable final ReadableMap options,
+                                    Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("monitorCharacteristic", jsPromise);
     if (!this.isRequestPossibleHandler("monitorCharacteristic", promise)) {
       return;
     }
-    final SafePromise safePromise = new SafePromise(promise);
+    final MonitorOptions monitorOptions = parseMonitorOptions(options, promise);
+    if (monitorOptions == null) {
+      return;
+    }
     //TODO resolve safePromise with null when monitoring has been completed
+    final OnEventCallback<Characteristic> eventCallback = createMonitorCallback(transactionId, monitorOptions);
     bleAdapter.monitorCharacteristic(
       characteristicIdentifier, transactionId, subscriptionType,
-      new OnEventCallback<Characteristic>() {
+      eventCallback,
+      new OnErrorCallback() {
+        @Override
+        public void onError(BleError error) {
+          closeMonitorCallback(eventCallback);
+          promise.reject(getErrorCode(error), errorConverter.toJs(error));
+        }
+      }
+    );
+  }
+
+  @Nullable
+  private MonitorOptions parseMonitorOptions(@Nullable ReadableMap options, SafePromise promise) {
+    MonitorOptions monitorOptions;
+    try {
+      monitorOptions = MonitorOptions.fromJs(options);
+    } catch (IllegalArgumentException e) {
+      rejectWithBleError(promise, new BleError(BleErrorCode.OperationStartFailed, e.getMessage(), null));
+      return null;
+    }
+    String recorderId = monitorOptions.getRecorderId();
+    if (recorderId != null && !notificationRecorders.containsKey(recorderId)) {
+      rejectWithBleError(promise, new BleError(BleErrorCode.OperationStartFailed, "Unknown notification recorder " + recorderId, null));
+      return null;
+    }
+    return monitorOptions;
+  }
+
+  private OnEventCallback<Characteristic> createMonitorCallback(final String transactionId,
+                                                                final MonitorOptions options) {
+    NotificationRecorder recorder = options.getRecorderId() != null
+      ? notificationRecorders.get(options.getRecorderId())
+      : null;
+    // Recorder closed since options were parsed, notifications are sent to JS instead
+    if (recorder == null) {
+      return createEventCallback(transactionId, options);
+    }
+    return new RecordingCallback(recorder, options.isRecordOnly() ? null : createEventCallback(transactionId, options));
+  }
+
+  private static void closeMonitorCallback(OnEventCallback<Characteristic> eventCallback) {
+    if (eventCallback instanceof RecordingCallback) {
+      eventCallback = ((RecordingCallback) eventCallback).delegate;
+    }
+    if (eventCallback instanceof NotificationBatcher) {
+      ((NotificationBatcher) eventCallback).close();
+    }
+  }
+
+  /**
+   * Writes notifications to a recorder before passing them to the callback sending them to JS.
+   */
+  private static class RecordingCallback implements OnEventCallback<Characteristic> {
+
+    private final NotificationRecorder recorder;
+    @Nullable
+    private final OnEventCallback<Characteristic> delegate;
+
+    RecordingCallback(NotificationRecorder recorder, @Nullable OnEventCallback<Characteristic> delegate) {
+      this.recorder = recorder;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void onEvent(Characteristic data) {
+      try {
+        recorder.write(data);
+      } catch (IOException e) {
+        RxBleLog.e(e, "Failed to record notification to %s", recorder.getDirectory());
+      }
+      if (delegate != null) {
+        delegate.onEvent(data);
+      }
+    }
+  }
+
+  private OnEventCallback<Characteristic> createEventCallback(final String transactionId,
+                                                              final MonitorOptions options) {
+    final ValueDecoder decoder = options.getDecoder();
+    if (options.hasHistory()) {
+      // Kept after monitoring ends, so that JS can pull remaining notifications, until the
+      // transaction is cancelled
+      NotificationHistory history = new NotificationHistory(options.getHistoryCapacity(), decoder);
+      notificationHistories.put(transactionId, history);
+      return history;
+    }
+
+    if (options.isBatched()) {
+      return new NotificationBatcher(options.getBatchInterval(), options.getBatchSize(),
+        new NotificationBatcher.OnFlushCallback() {
+          @Override
+          public void onFlush(@Nullable Characteristic firstCharacteristic, byte[] packedValues) {
+            long conversionStart = System.nanoTime();
+            WritableArray jsResult = Arguments.createArray();
+            jsResult.pushString(transactionId);
+            characteristicConverter.pushValue(jsResult, packedValues);
+            if (firstCharacteristic != null) {
+              jsResult.pushMap(characteristicConverter.toJSMetadata(firstCharacteristic));
+            } else {
+              jsResult.pushNull();
+            }
+            if (decoder != null) {
+              WritableArray decodedValues = Arguments.createArray();
+              for (byte[] value : NotificationBatcher.unpackValues(packedValues)) {
+                if (!decoder.pushDecoded(decodedValues, value)) {
+                  decodedValues.pushNull();
+                }
+              }
+              jsResult.pushArray(decodedValues);
+            }
+            sendEvent(Event.BatchReadEvent, jsResult, System.nanoTime() - conversionStart,
+              firstCharacteristic != null ? firstCharacteristic.getDeviceId() : null);
+          }
+        });
+    }
+
+    if (!options.isCompact()) {
+      return new OnEventCallback<Characteristic>() {
         @Override
         public void onEvent(Characteristic data) {
+          long conversionStart = System.nanoTime();
           WritableArray jsResult = Arguments.createArray();
           jsResult.pushNull();
-          jsResult.pushMap(characteristicConverter.toJSObject(data));
+          jsResult.pushMap(characteristicConverter.toJSObject(data, decoder));
           jsResult.pushString(transactionId);
-          sendEvent(Event.ReadEvent, jsResult);
+          if (options.hasTimestamps()) {
+            jsResult.pushDouble(toMillis(data.getValueTimestampNanos()));
+          }
+          sendEvent(Event.ReadEvent, jsResult, System.nanoTime() - conversionStart, data.getDeviceId());
         }
-      }, new OnErrorCallback() {
-        @Override
-        public void onError(BleError error) {
-          safePromise.reject(getErrorCode(error), errorConverter.toJs(error));
+      };
+    }
+
+    // Characteristic metadata doesn't change during monitoring, so it is sent only once.
+    // It is sent with the first notification, when isNotifying is already up to date.
+    return new OnEventCallback<Characteristic>() {
+      private boolean metadataSent = false;
+
+      @Override
+      public void onEvent(Characteristic data) {
+        long conversionStart = System.nanoTime();
+        WritableArray jsResult = Arguments.createArray();
+        jsResult.pushString(transactionId);
+        characteristicConverter.pushValue(jsResult, data.getValue(), decoder);
+        if (options.hasTimestamps()) {
+          jsResult.pushDouble(toMillis(data.getValueTimestampNanos()));
+        } else {
+          jsResult.pushNull();
+        }
+        if (!metadataSent) {
+          jsResult.pushMap(characteristicConverter.toJSMetadata(data));
+          metadataSent = true;
         }
+        sendEvent(Event.CompactReadEvent, jsResult, System.nanoTime() - conversionStart, data.getDeviceId());
       }
-    );
+    };
+  }
+
+  @ReactMethod
+  public void getCharacteristicHistory(final String transactionId,
+                                       final double sinceSeq,
+                                       final int max,
+                                       Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("getCharacteristicHistory", jsPromise);
+    if (!this.isRequestPossibleHandler("getCharacteristicHistory", promise)) {
+      return;
+    }
+    NotificationHistory history = notificationHistories.get(transactionId);
+    if (history == null) {
+      rejectWithBleError(promise, new BleError(BleErrorCode.OperationStartFailed, "No characteristic history for transaction " + transactionId, null));
+      return;
+    }
+    NotificationHistory.Snapshot snapshot = history.read((long) sinceSeq, max);
+    WritableMap jsResult = Arguments.createMap();
+    jsResult.putDouble("firstSeq", snapshot.firstSeq);
+    jsResult.putDouble("nextSeq", snapshot.nextSeq);
+    jsResult.putDouble("droppedCount", snapshot.droppedCount);
+    characteristicConverter.putValue(jsResult, "values", snapshot.packedValues);
+    if (snapshot.characteristic != null) {
+      jsResult.putMap("characteristic", characteristicConverter.toJSMetadata(snapshot.characteristic));
+    } else {
+      jsResult.putNull("characteristic");
+    }
+    ValueDecoder decoder = history.getDecoder();
+    if (decoder != null) {
+      WritableArray decodedValues = Arguments.createArray();
+      for (byte[] value : snapshot.values) {
+        if (!decoder.pushDecoded(decodedValues, value)) {
+          decodedValues.pushNull();
+        }
+      }
+      jsResult.putArray("decodedValues", decodedValues);
+    }
+    promise.resolve(jsResult);
+  }
+
+  @ReactMethod
+  public void openNotificationRecorder(final String recorderId,
+                                       final String directoryPath,
+                                       @Nullable final ReadableMap options,
+                                       Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("openNotificationRecorder", jsPromise);
+    if (!this.isRequestPossibleHandler("openNotificationRecorder", promise)) {
+      return;
+    }
+    int segmentSize = NotificationRecorder.DEFAULT_SEGMENT_SIZE;
+    int maxSegments = 0;
+    String fsync = "interval";
+    int fsyncInterval = 1000;
+    if (options != null) {
+      if (options.hasKey("segmentSize") && options.getType("segmentSize") == ReadableType.Number) {
+        segmentSize = options.getInt("segmentSize");
+      }
+      if (options.hasKey("maxSegments") && options.getType("maxSegments") == ReadableType.Number) {
+        maxSegments = Math.max(options.getInt("maxSegments"), 0);
+      }
+      if (options.hasKey("fsync") && options.getType("fsync") == ReadableType.String) {
+        fsync = options.getString("fsync");
+      }
+      if (options.hasKey("fsyncInterval") && options.getType("fsyncInterval") == ReadableType.Number) {
+        fsyncInterval = Math.max(options.getInt("fsyncInterval"), 1);
+      }
+    }
+    FsyncPolicy fsyncPolicy = FsyncPolicy.getByName(fsync);
+    if (fsyncPolicy == null) {
+      rejectWithBleError(promise, BleErrorUtils.notificationRecordingFailed(directoryPath, "Unknown fsync policy " + fsync));
+      return;
+    }
+    NotificationRecorder recorder;
+    synchronized (notificationRecorders) {
+      try {
+        File directory = new File(directoryPath).getCanonicalFile();
+        // Two recorders appending to the same segments would overwrite each other's records
+        for (NotificationRecorder openRecorder : notificationRecorders.values()) {
+          if (openRecorder.getDirectory().equals(directory)) {
+            rejectWithBleError(promise, BleErrorUtils.notificationRecordingFailed(directoryPath, "Recorder of the directory is already open"));
+            return;
+          }
+        }
+        recorder = new NotificationRecorder(directory, segmentSize, maxSegments, fsyncPolicy, fsyncInterval);
+      } catch (IOException | IllegalArgumentException e) {
+        rejectWithBleError(promise, BleErrorUtils.notificationRecordingFailed(directoryPath, e.getMessage()));
+        return;
+      }
+      NotificationRecorder previousRecorder = notificationRecorders.put(recorderId, recorder);
+      if (previousRecorder != null) {
+        closeNotificationRecorder(previousRecorder);
+      }
+    }
+    WritableMap jsResult = Arguments.createMap();
+    jsResult.putDouble("nextSeq", recorder.getNextSeq());
+    promise.resolve(jsResult);
+  }
+
+  @ReactMethod
+  public void closeNotificationRecorder(final String recorderId, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("closeNotificationRecorder", jsPromise);
+    if (!this.isRequestPossibleHandler("closeNotificationRecorder", promise)) {
+      return;
+    }
+    NotificationRecorder recorder = notificationRecorders.remove(recorderId);
+    if (recorder == null) {
+      promise.resolve(0);
+      return;
+    }
+    closeNotificationRecorder(recorder);
+    promise.resolve((double) recorder.getRecordCount());
+  }
+
+  private static void closeNotificationRecorder(NotificationRecorder recorder) {
+    try {
+      recorder.close();
+    } catch (IOException e) {
+      RxBleLog.e(e, "Failed to close notification recorder of %s", recorder.getDirectory());
+    }
+  }
+
+  @ReactMethod
+  public void readNotificationRecording(final String directoryPath,
+                                        final double sinceSeq,
+                                        final int max,
+                                        Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("readNotificationRecording", jsPromise);
+    if (!this.isRequestPossibleHandler("readNotificationRecording", promise)) {
+      return;
+    }
+    WritableArray records = Arguments.createArray();
+    long nextSeq = (long) sinceSeq;
+    try (NotificationRecordingReader reader = new NotificationRecordingReader(new File(directoryPath), (long) sinceSeq)) {
+      NotificationRecord record;
+      int count = 0;
+      while ((max <= 0 || count < max) && (record = reader.read()) != null) {
+        WritableMap jsRecord = Arguments.createMap();
+        jsRecord.putDouble("seq", record.getSeq());
+        jsRecord.putDouble("timestamp", toMillis(record.getTimestampNanos()));
+        jsRecord.putString("deviceID", record.getDeviceId());
+        jsRecord.putInt("characteristicID", record.getCharacteristicId());
+        jsRecord.putString("serviceUUID", record.getServiceUUID().toString());
+        jsRecord.putString("characteristicUUID", record.getCharacteristicUUID().toString());
+        characteristicConverter.putValue(jsRecord, "value", record.getValue());
+        records.pushMap(jsRecord);
+        nextSeq = record.getSeq() + 1;
+        count++;
+      }
+    } catch (IOException e) {
+      rejectWithBleError(promise, BleErrorUtils.notificationRecordingFailed(directoryPath, e.getMessage()));
+      return;
+    }
+    WritableMap jsResult = Arguments.createMap();
+    jsResult.putArray("records", records);
+    jsResult.putDouble("nextSeq", nextSeq);
+    promise.resolve(jsResult);
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1_000_000.0;
   }
 
   @ReactMethod
@@ -861,7 +1954,8 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
                                       final String characteristicUUID,
                                       final String descriptorUUID,
                                       final String transactionId,
-                                      final Promise promise) {
+                                      Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("readDescriptorForDevice", jsPromise);
     if (!this.isRequestPossibleHandler("readDescriptorForDevice", promise)) {
       return;
     }
@@ -889,7 +1983,8 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
                                        final String characteristicUUID,
                                        final String descriptorUUID,
                                        final String transactionId,
-                                       final Promise promise) {
+                                       Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("readDescriptorForService", jsPromise);
     if (!this.isRequestPossibleHandler("readDescriptorForService", promise)) {
       return;
     }
@@ -916,7 +2011,8 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   public void readDescriptorForCharacteristic(final int characteristicIdentifier,
                                               final String descriptorUUID,
                                               final String transactionId,
-                                              final Promise promise) {
+                                              Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("readDescriptorForCharacteristic", jsPromise);
     if (!this.isRequestPossibleHandler("readDescriptorForCharacteristic", promise)) {
       return;
     }
@@ -941,7 +2037,8 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   @ReactMethod
   public void readDescriptor(final int descriptorIdentifier,
                              final String transactionId,
-                             final Promise promise) {
+                             Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("readDescriptor", jsPromise);
     if (!this.isRequestPossibleHandler("readDescriptor", promise)) {
       return;
     }
@@ -967,9 +2064,10 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
                                        final String serviceUUID,
                                        final String characteristicUUID,
                                        final String descriptorUUID,
-                                       final String valueBase64,
+                                       final Dynamic value,
                                        final String transactionId,
-                                       final Promise promise) {
+                                       Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("writeDescriptorForDevice", jsPromise);
     if (!this.isRequestPossibleHandler("writeDescriptorForDevice", promise)) {
       return;
     }
@@ -978,7 +2076,7 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
       serviceUUID,
       characteristicUUID,
       descriptorUUID,
-      valueBase64,
+      toBytes(value),
       transactionId,
       new OnSuccessCallback<Descriptor>() {
         @Override
@@ -999,9 +2097,10 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   public void writeDescriptorForService(final int serviceIdentifier,
                                         final String characteristicUUID,
                                         final String descriptorUUID,
-                                        final String valueBase64,
+                                        final Dynamic value,
                                         final String transactionId,
-                                        final Promise promise) {
+                                        Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("writeDescriptorForService", jsPromise);
     if (!this.isRequestPossibleHandler("writeDescriptorForService", promise)) {
       return;
     }
@@ -1009,7 +2108,7 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
       serviceIdentifier,
       characteristicUUID,
       descriptorUUID,
-      valueBase64,
+      toBytes(value),
       transactionId,
       new OnSuccessCallback<Descriptor>() {
         @Override
@@ -1029,16 +2128,17 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
   @ReactMethod
   public void writeDescriptorForCharacteristic(final int characteristicIdentifier,
                                                final String descriptorUUID,
-                                               final String valueBase64,
+                                               final Dynamic value,
                                                final String transactionId,
-                                               final Promise promise) {
+                                               Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("writeDescriptorForCharacteristic", jsPromise);
     if (!this.isRequestPossibleHandler("writeDescriptorForCharacteristic", promise)) {
       return;
     }
     bleAdapter.writeDescriptorForCharacteristic(
       characteristicIdentifier,
       descriptorUUID,
-      valueBase64,
+      toBytes(value),
       transactionId,
       new OnSuccessCallback<Descriptor>() {
         @Override
@@ -1057,15 +2157,16 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
 
   @ReactMethod
   public void writeDescriptor(final int descriptorIdentifier,
-                              final String valueBase64,
+                              final Dynamic value,
                               final String transactionId,
-                              final Promise promise) {
+                              Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("writeDescriptor", jsPromise);
     if (!this.isRequestPossibleHandler("writeDescriptor", promise)) {
       return;
     }
     bleAdapter.writeDescriptor(
       descriptorIdentifier,
-      valueBase64,
+      toBytes(value),
       transactionId,
       new OnSuccessCallback<Descriptor>() {
         @Override
@@ -1082,6 +2183,113 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
     );
   }
 
+  // Mark: L2CAP channels ------------------------------------------------------------------------
+
+  @ReactMethod
+  public void openL2capChannelForDevice(final String deviceId,
+                                        final int psm,
+                                        final String transactionId,
+                                        @Nullable final ReadableMap options,
+                                        Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("openL2capChannelForDevice", jsPromise);
+    if (!this.isRequestPossibleHandler("openL2capChannelForDevice", promise)) {
+      return;
+    }
+    boolean secure = false;
+    int chunkSize = L2capChannel.DEFAULT_CHUNK_SIZE;
+    if (options != null) {
+      if (options.hasKey("secure") && options.getType("secure") == ReadableType.Boolean) {
+        secure = options.getBoolean("secure");
+      }
+      if (options.hasKey("chunkSize") && options.getType("chunkSize") == ReadableType.Number) {
+        chunkSize = Math.max(options.getInt("chunkSize"), 1);
+      }
+    }
+    // Errors before the channel is open reject the promise, later ones close the channel
+    final AtomicBoolean isOpen = new AtomicBoolean(false);
+
+    bleAdapter.openL2capChannelForDevice(
+      deviceId, psm, secure, chunkSize, transactionId,
+      new OnSuccessCallback<L2capChannel>() {
+        @Override
+        public void onSuccess(L2capChannel channel) {
+          isOpen.set(true);
+          WritableMap jsResult = Arguments.createMap();
+          jsResult.putString("id", transactionId);
+          jsResult.putString("deviceID", channel.getDeviceId());
+          jsResult.putInt("psm", channel.getPsm());
+          jsResult.putInt("maxTransmitPacketSize", channel.getMaxTransmitPacketSize());
+          jsResult.putInt("maxReceivePacketSize", channel.getMaxReceivePacketSize());
+          promise.resolve(jsResult);
+        }
+      },
+      new OnEventCallback<ByteBuffer>() {
+        @Override
+        public void onEvent(ByteBuffer data) {
+          long conversionStart = System.nanoTime();
+          WritableArray jsResult = Arguments.createArray();
+          jsResult.pushString(transactionId);
+          characteristicConverter.pushValue(jsResult, data);
+          sendEvent(Event.L2capDataEvent, jsResult, System.nanoTime() - conversionStart, deviceId);
+        }
+      },
+      new OnSuccessCallback<Void>() {
+        @Override
+        public void onSuccess(Void data) {
+          WritableArray jsResult = Arguments.createArray();
+          jsResult.pushString(transactionId);
+          jsResult.pushNull();
+          sendEvent(Event.L2capCloseEvent, jsResult, 0, deviceId);
+        }
+      },
+      new OnErrorCallback() {
+        @Override
+        public void onError(BleError error) {
+          if (!isOpen.get()) {
+            promise.reject(getErrorCode(error), errorConverter.toJs(error));
+            return;
+          }
+          WritableArray jsResult = Arguments.createArray();
+          jsResult.pushString(transactionId);
+          jsResult.pushString(errorConverter.toJs(error));
+          sendEvent(Event.L2capCloseEvent, jsResult, 0, deviceId);
+        }
+      }
+    );
+  }
+
+  @ReactMethod
+  public void writeL2capChannel(final String transactionId, final Dynamic value, Promise jsPromise) {
+    final SafePromise promise = bridgeTraffic.track("writeL2capChannel", jsPromise);
+    if (!this.isRequestPossibleHandler("writeL2capChannel", promise)) {
+      return;
+    }
+    bleAdapter.writeL2capChannel(transactionId, toBytes(value),
+      new OnSuccessCallback<Void>() {
+        @Override
+        public void onSuccess(Void data) {
+          promise.resolve(null);
+        }
+      }, new OnErrorCallback() {
+        @Override
+        public void onError(BleError error) {
+          rejectWithBleError(promise, error);
+        }
+      });
+  }
+
+  // Mark: Binary transport ----------------------------------------------------------------------
+
+  @ReactMethod(isBlockingSynchronousMethod = true)
+  public boolean installBinaryTransport() {
+    JavaScriptContextHolder contextHolder = getReactApplicationContext().getJavaScriptContextHolder();
+    boolean installed = contextHolder != null && BinaryTransport.install(contextHolder.get());
+    BinaryValueStore valueStore = installed ? BinaryTransport.getValueStore() : null;
+    characteristicConverter.setValueStore(valueStore);
+    descriptorConverter.setValueStore(valueStore);
+    return installed;
+  }
+
   @ReactMethod
   public void addListener(String eventName) {
     // Keep: Required for RN built in Event Emitter Calls.
@@ -1092,9 +2300,8 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
     // Keep: Required for RN built in Event Emitter Calls.
   }
 
-  private void rejectWithBleError(Promise promise, BleError error) {
-    String message = errorConverter.toJs(error);
-    promise.reject(getErrorCode(error), message == null ? ErrorDefaults.MESSAGE : message);
+  private void rejectWithBleError(SafePromise promise, BleError error) {
+    promise.reject(getErrorCode(error), errorConverter.toJs(error));
   }
 
   private String getErrorCode(@Nullable BleError error) {
@@ -1104,20 +2311,127 @@ public class BlePlxModule extends ReactContextBaseJavaModule {
     return error.errorCode.name();
   }
 
+  /**
+   * Values are written either as base64 strings or, with binary transport, as handles of raw values.
+   *
+   * @return bytes of the value or null if it is invalid.
+   */
+  @Nullable
+  private byte[] toBytes(Dynamic value) {
+    if (value.getType() == ReadableType.Number) {
+      return BinaryTransport.getValueStore().take(value.asInt());
+    }
+    if (value.getType() == ReadableType.String) {
+      String base64 = value.asString();
+      int length = base64.length();
+      while (length > 0 && base64.charAt(length - 1) == '=') {
+        length--;
+      }
+      // Sized from unpadded length, canonical base64 is decoded without copying the result
+      byte[] bytes = new byte[Base64Converter.maxDecodedLength(length)];
+      try {
+        int count = Base64Converter.decode(base64, bytes, 0);
+        return count == bytes.length ? bytes : Arrays.copyOf(bytes, count);
+      } catch (IllegalArgumentException e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  private WritableArray servicesToJs(List<Service> services) {
+    WritableArray jsServices = Arguments.createArray();
+    for (Service service : services) {
+      jsServices.pushMap(serviceConverter.toJSObject(service));
+    }
+    return jsServices;
+  }
+
+  private WritableArray characteristicsToJs(List<Characteristic> characteristics) {
+    WritableArray jsCharacteristics = Arguments.createArray();
+    for (Characteristic characteristic : characteristics) {
+      jsCharacteristics.pushMap(characteristicConverter.toJSObject(characteristic));
+    }
+    return jsCharacteristics;
+  }
+
+  private WritableArray descriptorsToJs(List<Descriptor> descriptors) {
+    WritableArray jsDescriptors = Arguments.createArray();
+    for (Descriptor descriptor : descriptors) {
+      jsDescriptors.pushMap(descriptorConverter.toJSObject(descriptor));
+    }
+    return jsDescriptors;
+  }
+
+  private WritableArray syncResult(WritableArray value) {
+    WritableArray result = Arguments.createArray();
+    result.pushNull();
+    result.pushArray(value);
+    return result;
+  }
+
+  private WritableArray syncError(BleError error) {
+    String message = errorConverter.toJs(error);
+    WritableArray result = Arguments.createArray();
+    result.pushString(message == null ? ErrorDefaults.MESSAGE : message);
+    result.pushNull();
+    return result;
+  }
+
+  private WritableArray recordSync(String methodName, long startNanos, WritableArray result) {
+    boolean error = result.getType(0) != ReadableType.Null;
+    bridgeTraffic.recordMethod(methodName, result, System.nanoTime() - startNanos, error);
+    return result;
+  }
+
+  private WritableArray syncDestroyedError(String functionName) {
+    return syncError(managerDestroyedError(functionName));
+  }
+
+  private void sendScanResult(ScanResult scanResult) {
+    long conversionStart = System.nanoTime();
+    WritableArray jsScanResult = scanResultConverter.toJSCallback(scanResult);
+    long emitStart = System.nanoTime();
+    bridgeTraffic.recordEvent(Event.ScanEvent, jsScanResult, emitStart - conversionStart);
+    eventQueue.send(Event.ScanEvent, jsScanResult, scanResult.getDeviceId());
+    long emitEnd = System.nanoTime();
+
+    BleAdapter adapter = bleAdapter;
+    ScanStatistics statistics = adapter != null ? adapter.getScanStatistics() : null;
+    if (statistics != null) {
+      statistics.onDelivered(emitStart - conversionStart, emitEnd - emitStart);
+    }
+  }
+
   private void sendEvent(@NonNull Event event, @Nullable Object params) {
-    getReactApplicationContext()
-      .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
-      .emit(event.name, params);
+    sendEvent(event, params, 0);
   }
 
-  private boolean isRequestPossibleHandler(String functionName, final Promise promise) {
-    if(this.bleAdapter == null){
-      BleError bleError = new BleError(BleErrorCode.BluetoothManagerDestroyed, String.format("BleManager cannot call the %s function because BleManager has been destroyed", functionName), null);
+  private void sendEvent(@NonNull Event event, @Nullable Object params, long conversionNanos) {
+    sendEvent(event, params, conversionNanos, null);
+  }
 
-      rejectWithBleError(promise, bleError);
+  /**
+   * @param deviceId device the event is about, keeps its order with other events of the device.
+   */
+  private void sendEvent(@NonNull Event event,
+                         @Nullable Object params,
+                         long conversionNanos,
+                         @Nullable String deviceId) {
+    bridgeTraffic.recordEvent(event, params, conversionNanos);
+    eventQueue.send(event, params, deviceId);
+  }
+
+  private boolean isRequestPossibleHandler(String functionName, final SafePromise promise) {
+    if(this.bleAdapter == null){
+      rejectWithBleError(promise, managerDestroyedError(functionName));
       return false;
     }
 
     return true;
   }
+
+  private BleError managerDestroyedError(String functionName) {
+    return new BleError(BleErrorCode.BluetoothManagerDestroyed, String.format("BleManager cannot call the %s function because BleManager has been destroyed", functionName), null);
+  }
 }
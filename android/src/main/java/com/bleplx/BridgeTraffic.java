@@ -0,0 +1,208 @@
+package com.bleplx;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bleplx.utils.SafePromise;
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableMapKeySetIterator;
+import com.facebook.react.bridge.ReadableType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accounting of values sent over the bridge, per event and per method. Payload size is estimated as
+ * the length of its JSON representation, which requires a walk over the whole payload, so nothing
+ * is recorded until accounting is enabled.
+ * <p>
+ * Time recorded for events is time spent converting native objects to JS values. Time recorded for
+ * methods is time from the call until its promise was settled, or until a blocking method returned.
+ */
+class BridgeTraffic {
+
+  static final class Entry {
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong nanos = new AtomicLong();
+
+    void record(long bytes, long nanos, boolean error) {
+      count.incrementAndGet();
+      if (error) {
+        errorCount.incrementAndGet();
+      }
+      this.bytes.addAndGet(bytes);
+      this.nanos.addAndGet(nanos);
+    }
+
+    long getCount() {
+      return count.get();
+    }
+
+    long getErrorCount() {
+      return errorCount.get();
+    }
+
+    long getBytes() {
+      return bytes.get();
+    }
+
+    double getAverageMicros() {
+      long count = this.count.get();
+      return count > 0 ? nanos.get() / 1000.0 / count : 0;
+    }
+  }
+
+  private final ConcurrentHashMap<String, Entry> events = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, Entry> methods = new ConcurrentHashMap<>();
+  private volatile boolean enabled = false;
+  private volatile long startNanos = System.nanoTime();
+
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enabling accounting clears values recorded so far.
+   */
+  void setEnabled(boolean enabled) {
+    if (enabled) {
+      events.clear();
+      methods.clear();
+      startNanos = System.nanoTime();
+    }
+    this.enabled = enabled;
+  }
+
+  long getDurationMillis() {
+    return (System.nanoTime() - startNanos) / 1_000_000;
+  }
+
+  Map<String, Entry> getEvents() {
+    return events;
+  }
+
+  Map<String, Entry> getMethods() {
+    return methods;
+  }
+
+  void recordEvent(@NonNull Event event, @Nullable Object params, long conversionNanos) {
+    if (!enabled) {
+      return;
+    }
+    entry(events, event.name).record(estimateSize(params), conversionNanos, false);
+  }
+
+  /**
+   * @return promise which records the value it is settled with when accounting is enabled.
+   */
+  SafePromise track(@NonNull String methodName, @NonNull Promise promise) {
+    return new SafePromise(promise, enabled ? new MethodCall(entry(methods, methodName)) : null);
+  }
+
+  /**
+   * Records a blocking method call which returned {@code result} after {@code nanos}.
+   */
+  void recordMethod(@NonNull String methodName, @Nullable Object result, long nanos, boolean error) {
+    if (!enabled) {
+      return;
+    }
+    entry(methods, methodName).record(estimateSize(result), nanos, error);
+  }
+
+  private static Entry entry(ConcurrentHashMap<String, Entry> entries, String name) {
+    Entry entry = entries.get(name);
+    if (entry == null) {
+      Entry newEntry = new Entry();
+      entry = entries.putIfAbsent(name, newEntry);
+      if (entry == null) {
+        entry = newEntry;
+      }
+    }
+    return entry;
+  }
+
+  static long estimateSize(@Nullable Object value) {
+    if (value == null) {
+      return 4;
+    }
+    if (value instanceof Boolean) {
+      return 5;
+    }
+    if (value instanceof Number) {
+      return 8;
+    }
+    if (value instanceof String) {
+      return ((String) value).length() + 2;
+    }
+    if (value instanceof ReadableMap) {
+      ReadableMap map = (ReadableMap) value;
+      long size = 2;
+      ReadableMapKeySetIterator iterator = map.keySetIterator();
+      while (iterator.hasNextKey()) {
+        String key = iterator.nextKey();
+        size += key.length() + 4 + estimateSize(map, key);
+      }
+      return size;
+    }
+    if (value instanceof ReadableArray) {
+      ReadableArray array = (ReadableArray) value;
+      long size = 2;
+      for (int i = 0; i < array.size(); i++) {
+        size += 1 + estimateSize(array, i);
+      }
+      return size;
+    }
+    return 8;
+  }
+
+  private static long estimateSize(ReadableMap map, String key) {
+    ReadableType type = map.getType(key);
+    if (type == ReadableType.String) {
+      return estimateSize(map.getString(key));
+    }
+    if (type == ReadableType.Map) {
+      return estimateSize(map.getMap(key));
+    }
+    if (type == ReadableType.Array) {
+      return estimateSize(map.getArray(key));
+    }
+    return type == ReadableType.Number ? 8 : 5;
+  }
+
+  private static long estimateSize(ReadableArray array, int index) {
+    ReadableType type = array.getType(index);
+    if (type == ReadableType.String) {
+      return estimateSize(array.getString(index));
+    }
+    if (type == ReadableType.Map) {
+      return estimateSize(array.getMap(index));
+    }
+    if (type == ReadableType.Array) {
+      return estimateSize(array.getArray(index));
+    }
+    return type == ReadableType.Number ? 8 : 5;
+  }
+
+  /**
+   * Records a method call when its promise is settled. Values are measured before they are passed
+   * on, native maps and arrays can't be read once they have been sent.
+   */
+  private static final class MethodCall implements SafePromise.OnSettledListener {
+    private final Entry entry;
+    private final long startNanos = System.nanoTime();
+
+    MethodCall(Entry entry) {
+      this.entry = entry;
+    }
+
+    @Override
+    public void onSettled(@Nullable Object value, boolean error) {
+      entry.record(estimateSize(value), System.nanoTime() - startNanos, error);
+    }
+  }
+}
@@ -2,15 +2,37 @@ package com.bleplx;
 
 public enum Event {
 
-  ScanEvent("ScanEvent"),
-  ReadEvent("ReadEvent"),
-  StateChangeEvent("StateChangeEvent"),
-  RestoreStateEvent("RestoreStateEvent"),
-  DisconnectionEvent("DisconnectionEvent");
+  ScanEvent("ScanEvent", Priority.LOW),
+  // Scan errors are emitted to the same JS listener as scan results, but are never dropped
+  ScanErrorEvent("ScanEvent", Priority.NORMAL),
+  ReadEvent("ReadEvent", Priority.NORMAL),
+  CompactReadEvent("CompactReadEvent", Priority.NORMAL),
+  BatchReadEvent("BatchReadEvent", Priority.NORMAL),
+  StateChangeEvent("StateChangeEvent", Priority.HIGH),
+  RestoreStateEvent("RestoreStateEvent", Priority.HIGH),
+  DisconnectionEvent("DisconnectionEvent", Priority.HIGH),
+  BackgroundScanEvent("BackgroundScanEvent", Priority.HIGH),
+  ScanStatisticsEvent("ScanStatisticsEvent", Priority.LOW),
+  WriteProgressEvent("WriteProgressEvent", Priority.NORMAL),
+  L2capDataEvent("L2capDataEvent", Priority.NORMAL),
+  L2capCloseEvent("L2capCloseEvent", Priority.NORMAL);
+
+  /**
+   * Order in which queued events are emitted to JS. Only low priority events may be coalesced or
+   * dropped when JS is lagging.
+   */
+  public enum Priority {
+    HIGH,
+    NORMAL,
+    LOW
+  }
 
   public String name;
 
-  Event(String name) {
+  public Priority priority;
+
+  Event(String name, Priority priority) {
     this.name = name;
+    this.priority = priority;
   }
 }
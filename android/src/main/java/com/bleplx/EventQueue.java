@@ -0,0 +1,322 @@
+package com.bleplx;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.ReactContext;
+import com.polidea.rxandroidble2.internal.RxBleLog;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Emits events to JS from a single thread. Events are taken from lanes in order of their
+ * {@link Event.Priority}, so state changes and disconnections are not delayed by floods of
+ * notifications or scan results.
+ * <p>
+ * JS lag is measured by posting a probe to the JS queue thread, which runs after all calls
+ * already queued for JS. While the lag exceeds {@link #LAG_THRESHOLD_MILLIS} low priority events
+ * with the same key are coalesced, only the latest one is kept, and the low priority lane is
+ * limited to {@link #LAGGING_LOW_LANE_CAPACITY} events, oldest are dropped. High and normal priority
+ * events are never dropped.
+ * <p>
+ * Events may carry a key of the device they are about. A high priority event doesn't overtake
+ * normal priority events with the same key which were sent before it, e.g. a disconnection is
+ * emitted after notifications of the device which were already queued.
+ * <p>
+ * The emitter thread sleeps while there are no events and no lag measurement is needed. Once
+ * stopped, the queue drops all events.
+ */
+class EventQueue {
+
+  interface Emitter {
+    void emit(@NonNull Event event, @Nullable Object params);
+  }
+
+  static final long LAG_THRESHOLD_MILLIS = 250;
+  static final long LAG_PROBE_INTERVAL_MILLIS = 100;
+  static final int LOW_LANE_CAPACITY = 1024;
+  static final int LAGGING_LOW_LANE_CAPACITY = 64;
+
+  private static final class QueuedEvent {
+    final Event event;
+    @Nullable
+    final Object params;
+    @Nullable
+    final Object key;
+    final long sequenceNumber;
+
+    QueuedEvent(Event event, @Nullable Object params, @Nullable Object key, long sequenceNumber) {
+      this.event = event;
+      this.params = params;
+      this.key = key;
+      this.sequenceNumber = sequenceNumber;
+    }
+  }
+
+  private final ReactContext reactContext;
+  private final Emitter emitter;
+  private final Object lock = new Object();
+
+  private final ArrayDeque<QueuedEvent> highLane = new ArrayDeque<>();
+  private final ArrayDeque<QueuedEvent> normalLane = new ArrayDeque<>();
+  // Keyed by coalescing key, or by unique object for events without one
+  private final LinkedHashMap<Object, QueuedEvent> lowLane = new LinkedHashMap<>();
+
+  @Nullable
+  private Thread thread;
+  private boolean stopped = false;
+  private long nextSequenceNumber = 0;
+  private long emittedCount = 0;
+  private long coalescedCount = 0;
+  private long droppedCount = 0;
+
+  private volatile long lagMillis = 0;
+  private volatile long probeSentAtMillis = 0;
+  private volatile boolean probePending = false;
+
+  EventQueue(ReactContext reactContext, Emitter emitter) {
+    this.reactContext = reactContext;
+    this.emitter = emitter;
+  }
+
+  void send(@NonNull Event event, @Nullable Object params) {
+    send(event, params, null);
+  }
+
+  /**
+   * @param key device the event is about. Pending low priority event with the same key may be
+   *            replaced by this one when JS is lagging. High priority event is emitted after pending
+   *            normal priority events with the same key.
+   */
+  void send(@NonNull Event event, @Nullable Object params, @Nullable Object key) {
+    synchronized (lock) {
+      if (stopped) {
+        return;
+      }
+      ensureStarted();
+      QueuedEvent queuedEvent = new QueuedEvent(event, params, key, nextSequenceNumber++);
+      switch (event.priority) {
+        case HIGH:
+          highLane.add(queuedEvent);
+          break;
+        case NORMAL:
+          normalLane.add(queuedEvent);
+          break;
+        case LOW:
+          enqueueLow(queuedEvent);
+          break;
+      }
+      lock.notifyAll();
+    }
+  }
+
+  /**
+   * Stops the emitter thread for good, events sent afterwards are dropped.
+   */
+  void stop() {
+    Thread stoppedThread;
+    synchronized (lock) {
+      stopped = true;
+      stoppedThread = thread;
+      thread = null;
+      highLane.clear();
+      normalLane.clear();
+      lowLane.clear();
+      lock.notifyAll();
+    }
+    if (stoppedThread != null) {
+      stoppedThread.interrupt();
+    }
+  }
+
+  int getQueueDepth() {
+    synchronized (lock) {
+      return highLane.size() + normalLane.size() + lowLane.size();
+    }
+  }
+
+  int getQueueDepth(Event.Priority priority) {
+    synchronized (lock) {
+      switch (priority) {
+        case HIGH:
+          return highLane.size();
+        case NORMAL:
+          return normalLane.size();
+        default:
+          return lowLane.size();
+      }
+    }
+  }
+
+  /**
+   * @return time in milliseconds which the last probe waited for JS thread, or the current probe
+   * has been waiting for if it is longer.
+   */
+  long getLagMillis() {
+    long lag = lagMillis;
+    if (probePending) {
+      lag = Math.max(lag, System.currentTimeMillis() - probeSentAtMillis);
+    }
+    return lag;
+  }
+
+  long getEmittedCount() {
+    synchronized (lock) {
+      return emittedCount;
+    }
+  }
+
+  long getCoalescedCount() {
+    synchronized (lock) {
+      return coalescedCount;
+    }
+  }
+
+  long getDroppedCount() {
+    synchronized (lock) {
+      return droppedCount;
+    }
+  }
+
+  private boolean isLagging() {
+    return getLagMillis() > LAG_THRESHOLD_MILLIS;
+  }
+
+  private void enqueueLow(QueuedEvent queuedEvent) {
+    boolean lagging = isLagging();
+    Object key = queuedEvent.key;
+    if (lagging && key != null && lowLane.remove(key) != null) {
+      coalescedCount++;
+    }
+    lowLane.put(key != null ? key : new Object(), queuedEvent);
+
+    int capacity = lagging ? LAGGING_LOW_LANE_CAPACITY : LOW_LANE_CAPACITY;
+    Iterator<Map.Entry<Object, QueuedEvent>> iterator = lowLane.entrySet().iterator();
+    while (lowLane.size() > capacity && iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+      droppedCount++;
+    }
+  }
+
+  private void ensureStarted() {
+    if (thread != null) {
+      return;
+    }
+    final Thread emitterThread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        emitLoop(Thread.currentThread());
+      }
+    }, "BlePlxEventEmitter");
+    emitterThread.setDaemon(true);
+    thread = emitterThread;
+    emitterThread.start();
+  }
+
+  private void emitLoop(Thread emitterThread) {
+    while (true) {
+      QueuedEvent queuedEvent;
+      synchronized (lock) {
+        if (thread != emitterThread) {
+          return;
+        }
+        queuedEvent = poll();
+        if (queuedEvent == null) {
+          try {
+            lock.wait(idleWaitMillis());
+          } catch (InterruptedException e) {
+            return;
+          }
+        } else {
+          emittedCount++;
+        }
+      }
+      if (queuedEvent != null) {
+        try {
+          emitter.emit(queuedEvent.event, queuedEvent.params);
+        } catch (RuntimeException e) {
+          RxBleLog.e(e, "Failed to emit " + queuedEvent.event.name);
+        }
+        probeLag();
+      } else if (lagMillis > LAG_THRESHOLD_MILLIS) {
+        // Refresh lag measured during the last burst, so it doesn't affect the next one
+        probeLag();
+      }
+    }
+  }
+
+  /**
+   * @return time to wait for events, 0 to wait without a timeout.
+   */
+  private long idleWaitMillis() {
+    if (lagMillis <= LAG_THRESHOLD_MILLIS || probePending) {
+      // Nothing to refresh, or the pending probe wakes the thread up when it completes
+      return 0;
+    }
+    long sinceLastProbe = System.currentTimeMillis() - probeSentAtMillis;
+    return Math.max(1, LAG_PROBE_INTERVAL_MILLIS - sinceLastProbe);
+  }
+
+  @Nullable
+  private QueuedEvent poll() {
+    QueuedEvent highEvent = highLane.peek();
+    if (highEvent != null) {
+      QueuedEvent earlierNormalEvent = highEvent.key != null ? pollNormalSentBefore(highEvent) : null;
+      return earlierNormalEvent != null ? earlierNormalEvent : highLane.poll();
+    }
+    if (!normalLane.isEmpty()) {
+      return normalLane.poll();
+    }
+    Iterator<QueuedEvent> iterator = lowLane.values().iterator();
+    if (iterator.hasNext()) {
+      QueuedEvent queuedEvent = iterator.next();
+      iterator.remove();
+      return queuedEvent;
+    }
+    return null;
+  }
+
+  @Nullable
+  private QueuedEvent pollNormalSentBefore(QueuedEvent highEvent) {
+    Iterator<QueuedEvent> iterator = normalLane.iterator();
+    while (iterator.hasNext()) {
+      QueuedEvent normalEvent = iterator.next();
+      if (normalEvent.sequenceNumber > highEvent.sequenceNumber) {
+        return null;
+      }
+      if (highEvent.key.equals(normalEvent.key)) {
+        iterator.remove();
+        return normalEvent;
+      }
+    }
+    return null;
+  }
+
+  private void probeLag() {
+    long now = System.currentTimeMillis();
+    if (probePending || now - probeSentAtMillis < LAG_PROBE_INTERVAL_MILLIS) {
+      return;
+    }
+    final long sentAt = now;
+    probeSentAtMillis = sentAt;
+    probePending = true;
+    boolean posted = reactContext.runOnJSQueueThread(new Runnable() {
+      @Override
+      public void run() {
+        synchronized (lock) {
+          lagMillis = System.currentTimeMillis() - sentAt;
+          probePending = false;
+          // Emitter thread may be waiting for the result to refresh the lag again
+          lock.notifyAll();
+        }
+      }
+    });
+    if (!posted) {
+      probePending = false;
+    }
+  }
+}
@@ -0,0 +1,169 @@
+package com.bleplx;
+
+import androidx.annotation.Nullable;
+
+import com.bleplx.converter.ValueDecoder;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+
+/**
+ * Options of characteristic monitoring passed from JS.
+ */
+class MonitorOptions {
+
+  static final int DEFAULT_BATCH_SIZE = 16 * 1024;
+
+  /**
+   * Whether characteristic metadata is sent only with the first notification and further
+   * notifications carry only the transaction id and the value.
+   */
+  private final boolean compact;
+
+  /**
+   * Whether notifications carry the time when the value was received.
+   */
+  private final boolean timestamps;
+
+  /**
+   * Interval in milliseconds in which packed notifications are sent, batching is disabled if 0.
+   */
+  private final int batchInterval;
+
+  /**
+   * Size in bytes of packed notifications after which they are sent before the interval elapses.
+   */
+  private final int batchSize;
+
+  /**
+   * Decoder of values passed instead of raw values, if any.
+   */
+  @Nullable
+  private final ValueDecoder decoder;
+
+  /**
+   * Number of notifications kept in a history pulled by JS instead of sending them as events, the
+   * history is disabled if 0.
+   */
+  private final int historyCapacity;
+
+  /**
+   * Id of a notification recorder to which notifications are written, if any.
+   */
+  @Nullable
+  private final String recorderId;
+
+  /**
+   * Whether notifications are only written to the recorder and not sent to JS.
+   */
+  private final boolean recordOnly;
+
+  MonitorOptions(boolean compact, boolean timestamps, int batchInterval, int batchSize,
+                 @Nullable ValueDecoder decoder, int historyCapacity,
+                 @Nullable String recorderId, boolean recordOnly) {
+    this.compact = compact;
+    this.timestamps = timestamps;
+    this.batchInterval = batchInterval;
+    this.batchSize = batchSize;
+    this.decoder = decoder;
+    this.historyCapacity = historyCapacity;
+    this.recorderId = recorderId;
+    this.recordOnly = recordOnly;
+  }
+
+  /**
+   * @throws IllegalArgumentException when decoder schema or history capacity is malformed or
+   *                                  notifications are recorded only without a recorder.
+   */
+  static MonitorOptions fromJs(@Nullable ReadableMap options) {
+    boolean compact = false;
+    boolean timestamps = false;
+    int batchInterval = 0;
+    int batchSize = DEFAULT_BATCH_SIZE;
+    ValueDecoder decoder = null;
+    int historyCapacity = 0;
+    String recorderId = null;
+    boolean recordOnly = false;
+    if (options != null) {
+      if (options.hasKey("compact") && options.getType("compact") == ReadableType.Boolean) {
+        compact = options.getBoolean("compact");
+      }
+      if (options.hasKey("timestamps") && options.getType("timestamps") == ReadableType.Boolean) {
+        timestamps = options.getBoolean("timestamps");
+      }
+      if (options.hasKey("batchInterval") && options.getType("batchInterval") == ReadableType.Number) {
+        batchInterval = Math.max(options.getInt("batchInterval"), 0);
+      }
+      if (options.hasKey("batchSize") && options.getType("batchSize") == ReadableType.Number) {
+        batchSize = Math.max(options.getInt("batchSize"), NotificationBatcher.RECORD_HEADER_SIZE);
+      }
+      if (options.hasKey("decoder") && options.getType("decoder") == ReadableType.Map) {
+        decoder = ValueDecoder.fromJs(options.getMap("decoder"));
+      }
+      if (options.hasKey("history") && options.getType("history") == ReadableType.Map) {
+        ReadableMap history = options.getMap("history");
+        historyCapacity = history.hasKey("capacity") && history.getType("capacity") == ReadableType.Number
+          ? history.getInt("capacity")
+          : 0;
+        if (historyCapacity < 1) {
+          throw new IllegalArgumentException("History capacity has to be at least 1");
+        }
+        if (historyCapacity > NotificationHistory.MAX_CAPACITY) {
+          throw new IllegalArgumentException("History capacity has to be at most " + NotificationHistory.MAX_CAPACITY);
+        }
+      }
+      if (options.hasKey("recorder") && options.getType("recorder") == ReadableType.String) {
+        recorderId = options.getString("recorder");
+      }
+      if (options.hasKey("recordOnly") && options.getType("recordOnly") == ReadableType.Boolean) {
+        recordOnly = options.getBoolean("recordOnly");
+      }
+      if (recordOnly && recorderId == null) {
+        throw new IllegalArgumentException("Notifications can be recorded only with a recorder");
+      }
+    }
+    return new MonitorOptions(compact, timestamps, batchInterval, batchSize, decoder, historyCapacity,
+      recorderId, recordOnly);
+  }
+
+  boolean isCompact() {
+    return compact;
+  }
+
+  boolean hasTimestamps() {
+    return timestamps;
+  }
+
+  boolean isBatched() {
+    return batchInterval > 0;
+  }
+
+  int getBatchInterval() {
+    return batchInterval;
+  }
+
+  int getBatchSize() {
+    return batchSize;
+  }
+
+  @Nullable
+  ValueDecoder getDecoder() {
+    return decoder;
+  }
+
+  boolean hasHistory() {
+    return historyCapacity > 0;
+  }
+
+  int getHistoryCapacity() {
+    return historyCapacity;
+  }
+
+  @Nullable
+  String getRecorderId() {
+    return recorderId;
+  }
+
+  boolean isRecordOnly() {
+    return recordOnly;
+  }
+}
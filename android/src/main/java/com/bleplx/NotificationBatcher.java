@@ -0,0 +1,119 @@
+package com.bleplx;
+
+import androidx.annotation.Nullable;
+
+import com.bleplx.adapter.Characteristic;
+import com.bleplx.adapter.OnEventCallback;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+
+/**
+ * Packs notifications of a single monitored characteristic and passes them on as one buffer every
+ * interval or when the buffer reaches flush size. Each record consists of:
+ * <ul>
+ *   <li>arrival time in milliseconds since boot as little endian float64,</li>
+ *   <li>value length as little endian uint16,</li>
+ *   <li>value bytes.</li>
+ * </ul>
+ */
+class NotificationBatcher implements OnEventCallback<Characteristic> {
+
+  static final int RECORD_HEADER_SIZE = 10;
+
+  interface OnFlushCallback {
+    /**
+     * @param firstCharacteristic characteristic of the first notification, passed only with the
+     *                            first flush.
+     * @param packedValues        records of all notifications since the previous flush.
+     */
+    void onFlush(@Nullable Characteristic firstCharacteristic, byte[] packedValues);
+  }
+
+  private final int flushSize;
+  private final OnFlushCallback onFlushCallback;
+  private final Disposable flushSubscription;
+
+  private byte[] buffer;
+  private int size = 0;
+  @Nullable
+  private Characteristic firstCharacteristic;
+  private boolean firstFlushed = false;
+
+  NotificationBatcher(long intervalMillis, int flushSize, OnFlushCallback onFlushCallback) {
+    this.flushSize = flushSize;
+    this.onFlushCallback = onFlushCallback;
+    this.buffer = new byte[Math.min(flushSize, 1024)];
+    this.flushSubscription = Observable.interval(intervalMillis, intervalMillis, TimeUnit.MILLISECONDS)
+      .subscribe(tick -> flush());
+  }
+
+  @Override
+  public synchronized void onEvent(Characteristic data) {
+    if (firstCharacteristic == null && !firstFlushed) {
+      firstCharacteristic = data;
+    }
+    byte[] value = data.getValue() != null ? data.getValue() : new byte[0];
+    ensureCapacity(size + RECORD_HEADER_SIZE + value.length);
+    putLong(Double.doubleToLongBits(data.getValueTimestampNanos() / 1_000_000.0));
+    buffer[size++] = (byte) value.length;
+    buffer[size++] = (byte) (value.length >>> 8);
+    System.arraycopy(value, 0, buffer, size, value.length);
+    size += value.length;
+    if (size >= flushSize) {
+      flush();
+    }
+  }
+
+  /**
+   * Stops the interval and passes on remaining notifications.
+   */
+  synchronized void close() {
+    flushSubscription.dispose();
+    flush();
+  }
+
+  private synchronized void flush() {
+    if (size == 0) {
+      return;
+    }
+    byte[] packedValues = Arrays.copyOf(buffer, size);
+    size = 0;
+    Characteristic first = firstCharacteristic;
+    firstCharacteristic = null;
+    firstFlushed = true;
+    onFlushCallback.onFlush(first, packedValues);
+  }
+
+  /**
+   * @return values of records packed by a batcher, in order of arrival.
+   */
+  static List<byte[]> unpackValues(byte[] packedValues) {
+    List<byte[]> values = new ArrayList<>();
+    int offset = 0;
+    while (offset + RECORD_HEADER_SIZE <= packedValues.length) {
+      int length = (packedValues[offset + 8] & 0xFF) | ((packedValues[offset + 9] & 0xFF) << 8);
+      offset += RECORD_HEADER_SIZE;
+      values.add(Arrays.copyOfRange(packedValues, offset, offset + length));
+      offset += length;
+    }
+    return values;
+  }
+
+  private void putLong(long value) {
+    for (int i = 0; i < 8; i++) {
+      buffer[size++] = (byte) (value >>> (8 * i));
+    }
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (buffer.length < capacity) {
+      buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+    }
+  }
+}
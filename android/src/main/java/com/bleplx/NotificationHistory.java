@@ -0,0 +1,118 @@
+package com.bleplx;
+
+import androidx.annotation.Nullable;
+
+import com.bleplx.adapter.Characteristic;
+import com.bleplx.adapter.OnEventCallback;
+import com.bleplx.converter.ValueDecoder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the latest notifications of a single monitored characteristic in a ring buffer of fixed
+ * capacity, from which JS pulls them at its own pace instead of receiving an event for each of them.
+ * Each notification gets a sequence number, consecutive from 0, so that JS can tell how many of
+ * them were overwritten before it pulled them.
+ */
+class NotificationHistory implements OnEventCallback<Characteristic> {
+
+  /**
+   * Largest capacity accepted from JS. Only value references and timestamps are allocated up
+   * front, each notification brings its own value array, so with values of the maximum attribute
+   * length of 512 bytes a full history retains up to 8 MB.
+   */
+  static final int MAX_CAPACITY = 16_384;
+
+  /**
+   * Notifications pulled from the history.
+   */
+  static class Snapshot {
+    @Nullable
+    final Characteristic characteristic;
+    final long firstSeq;
+    final long nextSeq;
+    final long droppedCount;
+    final List<byte[]> values;
+    /**
+     * Records in the layout of {@link NotificationBatcher}.
+     */
+    final byte[] packedValues;
+
+    Snapshot(@Nullable Characteristic characteristic, long firstSeq, long nextSeq, long droppedCount,
+             List<byte[]> values, byte[] packedValues) {
+      this.characteristic = characteristic;
+      this.firstSeq = firstSeq;
+      this.nextSeq = nextSeq;
+      this.droppedCount = droppedCount;
+      this.values = values;
+      this.packedValues = packedValues;
+    }
+  }
+
+  private final double[] timestamps;
+  private final byte[][] values;
+  @Nullable
+  private final ValueDecoder decoder;
+
+  @Nullable
+  private Characteristic characteristic;
+  private long nextSeq = 0;
+
+  NotificationHistory(int capacity, @Nullable ValueDecoder decoder) {
+    this.timestamps = new double[capacity];
+    this.values = new byte[capacity][];
+    this.decoder = decoder;
+  }
+
+  @Override
+  public synchronized void onEvent(Characteristic data) {
+    if (characteristic == null) {
+      characteristic = data;
+    }
+    int index = (int) (nextSeq % values.length);
+    timestamps[index] = data.getValueTimestampNanos() / 1_000_000.0;
+    values[index] = data.getValue() != null ? data.getValue() : new byte[0];
+    nextSeq++;
+  }
+
+  /**
+   * @param sinceSeq sequence number of the first notification to pull, notifications which were
+   *                 already overwritten are counted as dropped.
+   * @param max      maximum number of notifications to pull, all available if not positive.
+   */
+  synchronized Snapshot read(long sinceSeq, int max) {
+    long oldestSeq = Math.max(nextSeq - values.length, 0);
+    long firstSeq = Math.min(Math.max(sinceSeq, oldestSeq), nextSeq);
+    long droppedCount = Math.max(oldestSeq - Math.max(sinceSeq, 0), 0);
+    long endSeq = max > 0 ? Math.min(nextSeq, firstSeq + max) : nextSeq;
+
+    List<byte[]> snapshotValues = new ArrayList<>();
+    int packedSize = 0;
+    for (long seq = firstSeq; seq < endSeq; seq++) {
+      byte[] value = values[(int) (seq % values.length)];
+      snapshotValues.add(value);
+      packedSize += NotificationBatcher.RECORD_HEADER_SIZE + value.length;
+    }
+    byte[] packedValues = new byte[packedSize];
+    int offset = 0;
+    for (long seq = firstSeq; seq < endSeq; seq++) {
+      int index = (int) (seq % values.length);
+      long timestampBits = Double.doubleToLongBits(timestamps[index]);
+      for (int i = 0; i < 8; i++) {
+        packedValues[offset++] = (byte) (timestampBits >>> (8 * i));
+      }
+      byte[] value = values[index];
+      packedValues[offset++] = (byte) value.length;
+      packedValues[offset++] = (byte) (value.length >>> 8);
+      System.arraycopy(value, 0, packedValues, offset, value.length);
+      offset += value.length;
+    }
+    return new Snapshot(characteristic, firstSeq, endSeq, droppedCount, snapshotValues, packedValues);
+  }
+
+  @Nullable
+  ValueDecoder getDecoder() {
+    return decoder;
+  }
+}
@@ -1,7 +1,14 @@
 package com.bleplx.adapter;
 
+import com.bleplx.adapter.cache.CharacteristicValueCache;
 import com.bleplx.adapter.errors.BleError;
+import com.bleplx.adapter.l2cap.L2capChannel;
+import com.bleplx.adapter.queue.GattOperationQueue;
+import com.bleplx.adapter.queue.GattScheduler;
+import com.bleplx.adapter.scan.BackgroundScanBatch;
+import com.bleplx.adapter.scan.ScanStatistics;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 public interface BleAdapter {
@@ -29,11 +36,85 @@ public interface BleAdapter {
     int scanMode,
     int callbackType,
     boolean legacyScan,
+    int phy,
+    int resultQueueCapacity,
     OnEventCallback<ScanResult> onEventCallback,
     OnErrorCallback onErrorCallback);
 
   void stopDeviceScan();
 
+  ScanStatistics getScanStatistics();
+
+  void startScanStatisticsUpdates(int intervalMillis, OnEventCallback<ScanStatistics> onEventCallback);
+
+  void stopScanStatisticsUpdates();
+
+  void startBackgroundDeviceScan(
+    String[] filteredUUIDs,
+    int scanMode,
+    int callbackType,
+    int maxBufferedResults,
+    OnSuccessCallback<Void> onSuccessCallback,
+    OnErrorCallback onErrorCallback);
+
+  void stopBackgroundDeviceScan();
+
+  BackgroundScanBatch getBackgroundScanResults(int maxCount);
+
+  int getBackgroundScanResultsCount();
+
+  void setOnBackgroundScanResultsCallback(OnEventCallback<Integer> onEventCallback);
+
+  void setAdvertisementDecryptionKey(
+    String deviceIdentifier,
+    String keyBase64,
+    String format,
+    OnSuccessCallback<Void> onSuccessCallback,
+    OnErrorCallback onErrorCallback);
+
+  void removeAdvertisementDecryptionKey(String deviceIdentifier);
+
+  void startScanCapture(
+    String filePath,
+    OnSuccessCallback<Void> onSuccessCallback,
+    OnErrorCallback onErrorCallback);
+
+  int stopScanCapture();
+
+  void replayScanCapture(
+    String filePath,
+    double speed,
+    OnEventCallback<ScanResult> onEventCallback,
+    OnSuccessCallback<Void> onSuccessCallback,
+    OnErrorCallback onErrorCallback);
+
+  void setCharacteristicPriorityForDevice(
+    String deviceIdentifier,
+    String serviceUUID,
+    String characteristicUUID,
+    String priority,
+    OnSuccessCallback<Void> onSuccessCallback,
+    OnErrorCallback onErrorCallback);
+
+  GattOperationQueue getOperationQueueForDevice(String deviceIdentifier);
+
+  /**
+   * @param ttlMillis time for which read values of the characteristic are cached, {@link
+   *                  CharacteristicValueCache#UNTIL_DISCONNECT} to cache them until the device
+   *                  disconnects or 0 to stop caching them.
+   */
+  void setCharacteristicCacheTtlForDevice(
+    String deviceIdentifier,
+    String serviceUUID,
+    String characteristicUUID,
+    long ttlMillis,
+    OnSuccessCallback<Void> onSuccessCallback,
+    OnErrorCallback onErrorCallback);
+
+  CharacteristicValueCache getValueCacheForDevice(String deviceIdentifier);
+
+  GattScheduler getGattScheduler();
+
   void requestConnectionPriorityForDevice(
     String deviceIdentifier,
     int connectionPriority,
@@ -118,6 +199,13 @@ public interface BleAdapter {
     OnSuccessCallback<Characteristic> onSuccessCallback,
     OnErrorCallback onErrorCallback);
 
+  void readCharacteristicsForDevice(
+    String deviceIdentifier,
+    String[][] characteristicUUIDs,
+    String transactionId,
+    OnSuccessCallback<List<CharacteristicReadResult>> onSuccessCallback,
+    OnErrorCallback onErrorCallback);
+
   void readCharacteristicForService(
     int serviceIdentifier,
     String characteristicUUID,
@@ -135,7 +223,7 @@ public interface BleAdapter {
     String deviceIdentifier,
     String serviceUUID,
     String characteristicUUID,
-    String valueBase64,
+    byte[] value,
     boolean withResponse,
     String transactionId,
     OnSuccessCallback<Characteristic> onSuccessCallback,
@@ -144,7 +232,7 @@ public interface BleAdapter {
   void writeCharacteristicForService(
     int serviceIdentifier,
     String characteristicUUID,
-    String valueBase64,
+    byte[] value,
     boolean withResponse,
     String transactionId,
     OnSuccessCallback<Characteristic> onSuccessCallback,
@@ -152,12 +240,64 @@ public interface BleAdapter {
 
   void writeCharacteristic(
     int characteristicIdentifier,
-    String valueBase64,
+    byte[] value,
+    boolean withResponse,
+    String transactionId,
+    OnSuccessCallback<Characteristic> onSuccessCallback,
+    OnErrorCallback onErrorCallback);
+
+  /**
+   * Writes value longer than a single GATT write allows. Value is split into batches of the size
+   * derived from the negotiated MTU and written one after another as a single queued operation.
+   *
+   * @param progressIntervalMillis minimum time between progress callbacks, the last batch is
+   *                               always reported. Progress is not reported when 0.
+   */
+  void writeLongCharacteristicForDevice(
+    String deviceIdentifier,
+    String serviceUUID,
+    String characteristicUUID,
+    byte[] value,
     boolean withResponse,
+    int progressIntervalMillis,
     String transactionId,
+    OnEventCallback<WriteProgress> onProgressCallback,
     OnSuccessCallback<Characteristic> onSuccessCallback,
     OnErrorCallback onErrorCallback);
 
+  /**
+   * Writes values without response one after another. Next value is passed to the connection when
+   * the stack reports the previous one written.
+   */
+  void writeCharacteristicStreamForDevice(
+    String deviceIdentifier,
+    String serviceUUID,
+    String characteristicUUID,
+    List<byte[]> values,
+    String transactionId,
+    OnSuccessCallback<WriteStreamResult> onSuccessCallback,
+    OnErrorCallback onErrorCallback);
+
+  /**
+   * Reads the characteristic periodically and passes read values to {@code onEventCallback} like
+   * notifications of a monitored characteristic. A tick is skipped while the previous read is still
+   * in progress.
+   *
+   * @param jitterMillis maximum random delay of each read.
+   * @param emitOnChangeOnly whether only values different from the previous one are passed, the
+   *                         first read value is always passed.
+   */
+  void pollCharacteristicForDevice(
+    String deviceIdentifier,
+    String serviceUUID,
+    String characteristicUUID,
+    long intervalMillis,
+    long jitterMillis,
+    boolean emitOnChangeOnly,
+    String transactionId,
+    OnEventCallback<Characteristic> onEventCallback,
+    OnErrorCallback onErrorCallback);
+
   void monitorCharacteristicForDevice(
     String deviceIdentifier,
     String serviceUUID,
@@ -217,7 +357,7 @@ public interface BleAdapter {
     final String serviceUUID,
     final String characteristicUUID,
     final String descriptorUUID,
-    final String valueBase64,
+    final byte[] value,
     final String transactionId,
     OnSuccessCallback<Descriptor> successCallback,
     OnErrorCallback errorCallback);
@@ -226,7 +366,7 @@ public interface BleAdapter {
     final int serviceIdentifier,
     final String characteristicUUID,
     final String descriptorUUID,
-    final String valueBase64,
+    final byte[] value,
     final String transactionId,
     OnSuccessCallback<Descriptor> successCallback,
     OnErrorCallback errorCallback);
@@ -234,18 +374,48 @@ public interface BleAdapter {
   void writeDescriptorForCharacteristic(
     final int characteristicIdentifier,
     final String descriptorUUID,
-    final String valueBase64,
+    final byte[] value,
     final String transactionId,
     OnSuccessCallback<Descriptor> successCallback,
     OnErrorCallback errorCallback);
 
   void writeDescriptor(
     final int descriptorIdentifier,
-    final String valueBase64,
+    final byte[] value,
     final String transactionId,
     OnSuccessCallback<Descriptor> successCallback,
     OnErrorCallback errorCallback);
 
+  /**
+   * Opens an LE L2CAP connection-oriented channel to a connected device. Received data is passed
+   * to {@code onDataCallback} in chunks until the channel is closed by the peer, which is reported
+   * to {@code onCloseCallback}, or the transaction is cancelled, which closes the channel. Chunks
+   * are passed in the read buffer of the channel, which is reused once the callback returns.
+   *
+   * @param secure    whether the channel requires an encrypted and authenticated link.
+   * @param chunkSize maximum size of passed chunks of received data.
+   */
+  void openL2capChannelForDevice(
+    String deviceIdentifier,
+    int psm,
+    boolean secure,
+    int chunkSize,
+    String transactionId,
+    OnSuccessCallback<L2capChannel> onOpenCallback,
+    OnEventCallback<ByteBuffer> onDataCallback,
+    OnSuccessCallback<Void> onCloseCallback,
+    OnErrorCallback onErrorCallback);
+
+  /**
+   * Writes data to a channel opened by {@link #openL2capChannelForDevice}. Writes to the same
+   * channel are passed to it in order of calls.
+   */
+  void writeL2capChannel(
+    String channelTransactionId,
+    byte[] data,
+    OnSuccessCallback<Void> onSuccessCallback,
+    OnErrorCallback onErrorCallback);
+
   void cancelTransaction(String transactionId);
 
   void setLogLevel(String logLevel);
@@ -5,25 +5,43 @@ import static com.bleplx.adapter.utils.Constants.BluetoothState;
 import android.annotation.SuppressLint;
 import android.app.Activity;
 import android.bluetooth.BluetoothAdapter;
+import android.bluetooth.BluetoothDevice;
 import android.bluetooth.BluetoothGattCharacteristic;
 import android.bluetooth.BluetoothGattDescriptor;
 import android.bluetooth.BluetoothGattService;
 import android.bluetooth.BluetoothManager;
+import android.bluetooth.le.BluetoothLeScanner;
 import android.content.Context;
 import android.content.Intent;
 import android.content.pm.PackageManager;
 import android.os.Build;
 import android.os.ParcelUuid;
-import android.util.SparseArray;
+import android.os.SystemClock;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.bleplx.adapter.cache.CharacteristicValueCache;
 import com.bleplx.adapter.errors.BleError;
 import com.bleplx.adapter.errors.BleErrorCode;
 import com.bleplx.adapter.errors.BleErrorUtils;
 import com.bleplx.adapter.errors.ErrorConverter;
 import com.bleplx.adapter.exceptions.CannotMonitorCharacteristicException;
+import com.bleplx.adapter.l2cap.BluetoothL2capTransport;
+import com.bleplx.adapter.l2cap.L2capChannel;
+import com.bleplx.adapter.l2cap.L2capTransport;
+import com.bleplx.adapter.poll.PollScheduler;
+import com.bleplx.adapter.queue.GattOperationQueue;
+import com.bleplx.adapter.queue.GattScheduler;
+import com.bleplx.adapter.queue.OperationPriority;
+import com.bleplx.adapter.scan.AdvertisementDecryptor;
+import com.bleplx.adapter.scan.BackgroundScanBatch;
+import com.bleplx.adapter.scan.BackgroundScanReceiver;
+import com.bleplx.adapter.scan.BackgroundScanStore;
+import com.bleplx.adapter.scan.ExtendedScanner;
+import com.bleplx.adapter.scan.ScanCaptureReplay;
+import com.bleplx.adapter.scan.ScanCaptureWriter;
+import com.bleplx.adapter.scan.ScanStatistics;
 import com.bleplx.adapter.utils.Base64Converter;
 import com.bleplx.adapter.utils.Constants;
 import com.bleplx.adapter.utils.DisposableMap;
@@ -33,6 +51,7 @@ import com.bleplx.adapter.utils.RefreshGattCustomOperation;
 import com.bleplx.adapter.utils.SafeExecutor;
 import com.bleplx.adapter.utils.ServiceFactory;
 import com.bleplx.adapter.utils.UUIDConverter;
+import com.bleplx.adapter.utils.mapper.NativeScanResultToScanResultMapper;
 import com.bleplx.adapter.utils.mapper.RxBleDeviceToDeviceMapper;
 import com.bleplx.adapter.utils.mapper.RxScanResultToScanResultMapper;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
@@ -42,17 +61,28 @@ import com.polidea.rxandroidble2.RxBleClient;
 import com.polidea.rxandroidble2.RxBleConnection;
 import com.polidea.rxandroidble2.RxBleDevice;
 import com.polidea.rxandroidble2.internal.RxBleLog;
+import com.polidea.rxandroidble2.scan.BleScanException;
+import com.polidea.rxandroidble2.scan.IsConnectable;
 import com.polidea.rxandroidble2.scan.ScanFilter;
 import com.polidea.rxandroidble2.scan.ScanSettings;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
+import io.reactivex.BackpressureOverflowStrategy;
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Observable;
+import io.reactivex.Single;
 import io.reactivex.disposables.Disposable;
 import io.reactivex.functions.Action;
 import io.reactivex.schedulers.Schedulers;
@@ -60,6 +90,8 @@ import io.reactivex.schedulers.Schedulers;
 public class BleModule extends ReactContextBaseJavaModule implements BleAdapter {
   public static final String NAME = "Ble";
 
+  private static final String INVALID_WRITE_VALUE_MESSAGE = "value is neither valid Base64 nor an available binary value";
+
   private final ErrorConverter errorConverter = new ErrorConverter();
 
   @Nullable
@@ -67,20 +99,41 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
 
   private final HashMap<String, Device> discoveredDevices = new HashMap<>();
 
-  private final HashMap<String, Device> connectedDevices = new HashMap<>();
+  // Read from the JS thread by synchronous getters while connections update it
+  private final ConcurrentHashMap<String, Device> connectedDevices = new ConcurrentHashMap<>();
 
   private final HashMap<String, RxBleConnection> activeConnections = new HashMap<>();
 
-  private final SparseArray<Service> discoveredServices = new SparseArray<>();
+  // Kept across reconnections, so characteristic priorities don't have to be set again
+  private final HashMap<String, GattOperationQueue> operationQueues = new HashMap<>();
+
+  private final GattScheduler gattScheduler = new GattScheduler();
+
+  // Kept across reconnections like operation queues, values are cleared on disconnection
+  private final HashMap<String, CharacteristicValueCache> valueCaches = new HashMap<>();
+
+  private final PollScheduler pollScheduler = new PollScheduler(Schedulers.single());
 
-  private final SparseArray<Characteristic> discoveredCharacteristics = new SparseArray<>();
+  // GATT reads in flight by characteristic id, shared by all callers reading the same characteristic
+  private final HashMap<Integer, Observable<byte[]>> inFlightReads = new HashMap<>();
 
-  private final SparseArray<Descriptor> discoveredDescriptors = new SparseArray<>();
+  // Concurrent for the same reason as connected devices, discovery fills them on RxJava threads
+  private final ConcurrentHashMap<Integer, Service> discoveredServices = new ConcurrentHashMap<>();
+
+  private final ConcurrentHashMap<Integer, Characteristic> discoveredCharacteristics = new ConcurrentHashMap<>();
+
+  private final ConcurrentHashMap<Integer, Descriptor> discoveredDescriptors = new ConcurrentHashMap<>();
 
   private final DisposableMap pendingTransactions = new DisposableMap();
 
   private final DisposableMap connectingDevices = new DisposableMap();
 
+  // Open L2CAP channels by transaction id of the open call, which closes them when cancelled
+  private final HashMap<String, L2capChannel> l2capChannels = new HashMap<>();
+
+  @Nullable
+  private final L2capTransport l2capTransport;
+
   private final BluetoothManager bluetoothManager;
 
   private final BluetoothAdapter bluetoothAdapter;
@@ -93,12 +146,26 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
   @Nullable
   private Disposable adapterStateChangesSubscription;
 
+  @Nullable
+  private volatile ScanCaptureWriter scanCaptureWriter;
+
+  @Nullable
+  private volatile ScanStatistics scanStatistics;
+
+  @Nullable
+  private Disposable scanStatisticsSubscription;
+
   private final RxBleDeviceToDeviceMapper rxBleDeviceToDeviceMapper = new RxBleDeviceToDeviceMapper();
 
   private final RxScanResultToScanResultMapper rxScanResultToScanResultMapper = new RxScanResultToScanResultMapper();
 
+  @SuppressLint("NewApi")
+  private final NativeScanResultToScanResultMapper nativeScanResultToScanResultMapper = new NativeScanResultToScanResultMapper();
+
   private final ServiceFactory serviceFactory = new ServiceFactory();
 
+  private final AdvertisementDecryptor advertisementDecryptor = new AdvertisementDecryptor();
+
   private int currentLogLevel = RxBleLog.NONE;
 
   @Override
@@ -108,9 +175,21 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
   }
 
   public BleModule(Context context) {
+    this(context, null);
+  }
+
+  /**
+   * @param l2capTransport transport of L2CAP channels, channels are opened with Bluetooth sockets
+   *                       if null.
+   */
+  public BleModule(Context context, @Nullable L2capTransport l2capTransport) {
     this.context = context;
     bluetoothManager = (BluetoothManager) context.getSystemService(Context.BLUETOOTH_SERVICE);
     bluetoothAdapter = bluetoothManager.getAdapter();
+    if (l2capTransport == null && bluetoothAdapter != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+      l2capTransport = new BluetoothL2capTransport(bluetoothAdapter);
+    }
+    this.l2capTransport = l2capTransport;
   }
 
   @Override
@@ -145,7 +224,20 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
       scanSubscription.dispose();
       scanSubscription = null;
     }
+    stopScanCapture();
+    stopScanStatisticsUpdates();
+    setOnBackgroundScanResultsCallback(null);
+    advertisementDecryptor.clear();
     clearActiveConnections();
+    synchronized (operationQueues) {
+      operationQueues.clear();
+    }
+    synchronized (valueCaches) {
+      valueCaches.clear();
+    }
+    synchronized (inFlightReads) {
+      inFlightReads.clear();
+    }
     discoveredServices.clear();
     discoveredCharacteristics.clear();
     discoveredDescriptors.clear();
@@ -190,6 +282,8 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
                               int scanMode,
                               int callbackType,
                               boolean legacyScan,
+                              int phy,
+                              int resultQueueCapacity,
                               OnEventCallback<ScanResult> onEventCallback,
                               OnErrorCallback onErrorCallback) {
     UUID[] uuids = null;
@@ -202,7 +296,12 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
       }
     }
 
-    safeStartDeviceScan(uuids, scanMode, callbackType, legacyScan, onEventCallback, onErrorCallback);
+    if (phy != 0) {
+      safeStartExtendedDeviceScan(uuids, scanMode, callbackType, legacyScan, phy, resultQueueCapacity,
+        onEventCallback, onErrorCallback);
+      return;
+    }
+    safeStartDeviceScan(uuids, scanMode, callbackType, legacyScan, resultQueueCapacity, onEventCallback, onErrorCallback);
   }
 
   @Override
@@ -213,6 +312,263 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
     }
   }
 
+  @Override
+  public void setAdvertisementDecryptionKey(String deviceIdentifier,
+                                            String keyBase64,
+                                            String format,
+                                            OnSuccessCallback<Void> onSuccessCallback,
+                                            OnErrorCallback onErrorCallback) {
+    try {
+      advertisementDecryptor.setKey(deviceIdentifier, Base64Converter.decode(keyBase64), format);
+    } catch (Throwable e) {
+      onErrorCallback.onError(BleErrorUtils.invalidDecryptionKey(deviceIdentifier, e.getMessage()));
+      return;
+    }
+    onSuccessCallback.onSuccess(null);
+  }
+
+  @Override
+  public void removeAdvertisementDecryptionKey(String deviceIdentifier) {
+    advertisementDecryptor.removeKey(deviceIdentifier);
+  }
+
+  @Override
+  public void startScanCapture(String filePath,
+                               OnSuccessCallback<Void> onSuccessCallback,
+                               OnErrorCallback onErrorCallback) {
+    final ScanCaptureWriter writer;
+    try {
+      writer = new ScanCaptureWriter(new File(filePath));
+    } catch (IOException e) {
+      onErrorCallback.onError(BleErrorUtils.scanCaptureFailed(filePath, e.getMessage()));
+      return;
+    }
+    stopScanCapture();
+    scanCaptureWriter = writer;
+    onSuccessCallback.onSuccess(null);
+  }
+
+  @Override
+  public int stopScanCapture() {
+    final ScanCaptureWriter writer = scanCaptureWriter;
+    if (writer == null) {
+      return 0;
+    }
+    scanCaptureWriter = null;
+    try {
+      writer.close();
+    } catch (IOException e) {
+      RxBleLog.e(e, "Error while closing scan capture");
+    }
+    return writer.getRecordCount();
+  }
+
+  @Override
+  public void replayScanCapture(final String filePath,
+                                double speed,
+                                final OnEventCallback<ScanResult> onEventCallback,
+                                final OnSuccessCallback<Void> onSuccessCallback,
+                                final OnErrorCallback onErrorCallback) {
+    stopDeviceScan();
+
+    final SafeExecutor<Void> safeExecutor = new SafeExecutor<>(onSuccessCallback, onErrorCallback);
+    final ScanStatistics statistics = new ScanStatistics();
+    scanStatistics = statistics;
+    scanSubscription = ScanCaptureReplay
+      .replay(new File(filePath), speed, Schedulers.io())
+      .map(record -> {
+        long parseStart = System.nanoTime();
+        ScanResult result = rxScanResultToScanResultMapper.map(record);
+        advertisementDecryptor.decrypt(result);
+        statistics.onRawResult(record.getDeviceId(), System.nanoTime() - parseStart);
+        return result;
+      })
+      .doFinally(statistics::stop)
+      .doOnDispose(() -> safeExecutor.error(BleErrorUtils.cancelled()))
+      .subscribe(
+        onEventCallback::onEvent,
+        throwable -> safeExecutor.error(BleErrorUtils.scanCaptureFailed(filePath, throwable.getMessage())),
+        () -> safeExecutor.success(null));
+  }
+
+  @Nullable
+  @Override
+  public ScanStatistics getScanStatistics() {
+    return scanStatistics;
+  }
+
+  @Override
+  public void startScanStatisticsUpdates(int intervalMillis, final OnEventCallback<ScanStatistics> onEventCallback) {
+    stopScanStatisticsUpdates();
+    scanStatisticsSubscription = Observable
+      .interval(intervalMillis, intervalMillis, TimeUnit.MILLISECONDS)
+      .subscribe(tick -> {
+        final ScanStatistics statistics = scanStatistics;
+        if (statistics != null && statistics.isActive()) {
+          onEventCallback.onEvent(statistics);
+        }
+      });
+  }
+
+  @Override
+  public void stopScanStatisticsUpdates() {
+    if (scanStatisticsSubscription != null) {
+      scanStatisticsSubscription.dispose();
+      scanStatisticsSubscription = null;
+    }
+  }
+
+  @Override
+  public void startBackgroundDeviceScan(String[] filteredUUIDs,
+                                        int scanMode,
+                                        int callbackType,
+                                        int maxBufferedResults,
+                                        OnSuccessCallback<Void> onSuccessCallback,
+                                        OnErrorCallback onErrorCallback) {
+    if (rxBleClient == null) {
+      onErrorCallback.onError(new BleError(BleErrorCode.BluetoothManagerDestroyed, "BleManager not created when tried to start background device scan", null));
+      return;
+    }
+
+    UUID[] uuids = null;
+    if (filteredUUIDs != null) {
+      uuids = UUIDConverter.convert(filteredUUIDs);
+      if (uuids == null) {
+        onErrorCallback.onError(BleErrorUtils.invalidIdentifiers(filteredUUIDs));
+        return;
+      }
+    }
+
+    ScanSettings scanSettings = new ScanSettings.Builder()
+      .setScanMode(scanMode)
+      .setCallbackType(callbackType)
+      .build();
+
+    int length = uuids == null ? 0 : uuids.length;
+    ScanFilter[] filters = new ScanFilter[length];
+    for (int i = 0; i < length; i++) {
+      filters[i] = new ScanFilter.Builder().setServiceUuid(ParcelUuid.fromString(uuids[i].toString())).build();
+    }
+
+    BackgroundScanStore.getInstance().setCapacity(maxBufferedResults);
+    try {
+      rxBleClient.getBackgroundScanner().scanBleDeviceInBackground(
+        BackgroundScanReceiver.createPendingIntent(context), scanSettings, filters);
+    } catch (BleScanException e) {
+      onErrorCallback.onError(errorConverter.toError(e));
+      return;
+    }
+    onSuccessCallback.onSuccess(null);
+  }
+
+  @Override
+  public void stopBackgroundDeviceScan() {
+    if (rxBleClient == null) {
+      return;
+    }
+    rxBleClient.getBackgroundScanner().stopBackgroundBleScan(BackgroundScanReceiver.createPendingIntent(context));
+  }
+
+  @Override
+  public BackgroundScanBatch getBackgroundScanResults(int maxCount) {
+    BackgroundScanStore store = BackgroundScanStore.getInstance();
+    synchronized (store) {
+      return new BackgroundScanBatch(store.drain(maxCount), store.takeDroppedCount());
+    }
+  }
+
+  @Override
+  public int getBackgroundScanResultsCount() {
+    return BackgroundScanStore.getInstance().size();
+  }
+
+  @Override
+  public void setOnBackgroundScanResultsCallback(@Nullable final OnEventCallback<Integer> onEventCallback) {
+    BackgroundScanStore.getInstance().setListener(onEventCallback == null ? null : onEventCallback::onEvent);
+  }
+
+  private void captureScanResult(@NonNull ScanCaptureWriter writer,
+                                 long timestampNanos,
+                                 String deviceId,
+                                 int rssi,
+                                 boolean isConnectable,
+                                 byte[] scanRecord) {
+    try {
+      writer.write(timestampNanos, deviceId, rssi, isConnectable, scanRecord);
+    } catch (IOException e) {
+      RxBleLog.e(e, "Error while writing scan capture, capture stopped");
+      if (scanCaptureWriter == writer) {
+        stopScanCapture();
+      }
+    }
+  }
+
+  @Override
+  public void setCharacteristicPriorityForDevice(String deviceIdentifier,
+                                                 String serviceUUID,
+                                                 String characteristicUUID,
+                                                 String priority,
+                                                 OnSuccessCallback<Void> onSuccessCallback,
+                                                 OnErrorCallback onErrorCallback) {
+    final UUID[] UUIDs = UUIDConverter.convert(serviceUUID, characteristicUUID);
+    if (UUIDs == null) {
+      onErrorCallback.onError(BleErrorUtils.invalidIdentifiers(serviceUUID, characteristicUUID));
+      return;
+    }
+    final OperationPriority operationPriority = OperationPriority.getByName(priority);
+    if (operationPriority == null) {
+      onErrorCallback.onError(BleErrorUtils.invalidOperationPriority(priority));
+      return;
+    }
+    getOperationQueueForDevice(deviceIdentifier).setCharacteristicPriority(UUIDs[0], UUIDs[1], operationPriority);
+    onSuccessCallback.onSuccess(null);
+  }
+
+  @Override
+  public GattOperationQueue getOperationQueueForDevice(String deviceIdentifier) {
+    synchronized (operationQueues) {
+      GattOperationQueue queue = operationQueues.get(deviceIdentifier);
+      if (queue == null) {
+        queue = new GattOperationQueue(gattScheduler);
+        operationQueues.put(deviceIdentifier, queue);
+      }
+      return queue;
+    }
+  }
+
+  @Override
+  public void setCharacteristicCacheTtlForDevice(String deviceIdentifier,
+                                                 String serviceUUID,
+                                                 String characteristicUUID,
+                                                 long ttlMillis,
+                                                 OnSuccessCallback<Void> onSuccessCallback,
+                                                 OnErrorCallback onErrorCallback) {
+    final UUID[] UUIDs = UUIDConverter.convert(serviceUUID, characteristicUUID);
+    if (UUIDs == null) {
+      onErrorCallback.onError(BleErrorUtils.invalidIdentifiers(serviceUUID, characteristicUUID));
+      return;
+    }
+    getValueCacheForDevice(deviceIdentifier).setTtl(UUIDs[0], UUIDs[1], ttlMillis);
+    onSuccessCallback.onSuccess(null);
+  }
+
+  @Override
+  public CharacteristicValueCache getValueCacheForDevice(String deviceIdentifier) {
+    synchronized (valueCaches) {
+      CharacteristicValueCache cache = valueCaches.get(deviceIdentifier);
+      if (cache == null) {
+        cache = new CharacteristicValueCache();
+        valueCaches.put(deviceIdentifier, cache);
+      }
+      return cache;
+    }
+  }
+
+  @Override
+  public GattScheduler getGattScheduler() {
+    return gattScheduler;
+  }
+
   @Override
   public void requestConnectionPriorityForDevice(String deviceIdentifier,
                                                  int connectionPriority,
@@ -587,6 +943,70 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
     safeReadCharacteristicForDevice(characteristic, transactionId, onSuccessCallback, onErrorCallback);
   }
 
+  @Override
+  public void readCharacteristicsForDevice(String deviceIdentifier,
+                                           String[][] characteristicUUIDs,
+                                           String transactionId,
+                                           OnSuccessCallback<List<CharacteristicReadResult>> onSuccessCallback,
+                                           OnErrorCallback onErrorCallback) {
+    final RxBleConnection connection = getConnectionOrEmitError(deviceIdentifier, onErrorCallback);
+    if (connection == null) {
+      return;
+    }
+
+    // All reads are queued at once, so they run back to back
+    final List<Single<CharacteristicReadResult>> reads = new ArrayList<>();
+    for (String[] uuids : characteristicUUIDs) {
+      final String serviceUUID = uuids[0];
+      final String characteristicUUID = uuids[1];
+      final BleError[] lookupError = new BleError[1];
+      final Characteristic characteristic = getCharacteristicOrEmitError(
+        deviceIdentifier, serviceUUID, characteristicUUID, error -> lookupError[0] = error);
+      if (characteristic == null) {
+        reads.add(Single.just(CharacteristicReadResult.failure(serviceUUID, characteristicUUID, lookupError[0])));
+        continue;
+      }
+
+      reads.add(readCharacteristicValue(connection, characteristic)
+        .map(bytes -> {
+          characteristic.logValue("Read from", bytes);
+          characteristic.setValue(bytes);
+          return CharacteristicReadResult.success(serviceUUID, characteristicUUID, new Characteristic(characteristic));
+        })
+        .onErrorReturn(throwable -> CharacteristicReadResult.failure(
+          serviceUUID, characteristicUUID, errorConverter.toError(throwable))));
+    }
+
+    if (reads.isEmpty()) {
+      onSuccessCallback.onSuccess(new ArrayList<>());
+      return;
+    }
+
+    final SafeExecutor<List<CharacteristicReadResult>> safeExecutor = new SafeExecutor<>(onSuccessCallback, onErrorCallback);
+
+    final Disposable subscription = Single
+      .zip(reads, results -> {
+        List<CharacteristicReadResult> readResults = new ArrayList<>(results.length);
+        for (Object result : results) {
+          readResults.add((CharacteristicReadResult) result);
+        }
+        return readResults;
+      })
+      .doOnDispose(() -> {
+        safeExecutor.error(BleErrorUtils.cancelled());
+        pendingTransactions.removeSubscription(transactionId);
+      })
+      .subscribe(readResults -> {
+        safeExecutor.success(readResults);
+        pendingTransactions.removeSubscription(transactionId);
+      }, throwable -> {
+        safeExecutor.error(errorConverter.toError(throwable));
+        pendingTransactions.removeSubscription(transactionId);
+      });
+
+    pendingTransactions.replaceSubscription(transactionId, subscription);
+  }
+
   @Override
   public void readCharacteristicForService(int serviceIdentifier,
                                            String characteristicUUID,
@@ -619,7 +1039,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
   public void writeCharacteristicForDevice(String deviceIdentifier,
                                            String serviceUUID,
                                            String characteristicUUID,
-                                           String valueBase64,
+                                           byte[] value,
                                            boolean withResponse,
                                            String transactionId,
                                            OnSuccessCallback<Characteristic> onSuccessCallback,
@@ -632,7 +1052,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
 
     writeCharacteristicWithValue(
       characteristic,
-      valueBase64,
+      value,
       withResponse,
       transactionId,
       onSuccessCallback,
@@ -642,7 +1062,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
   @Override
   public void writeCharacteristicForService(int serviceIdentifier,
                                             String characteristicUUID,
-                                            String valueBase64,
+                                            byte[] value,
                                             boolean withResponse,
                                             String transactionId,
                                             OnSuccessCallback<Characteristic> onSuccessCallback,
@@ -655,7 +1075,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
 
     writeCharacteristicWithValue(
       characteristic,
-      valueBase64,
+      value,
       withResponse,
       transactionId,
       onSuccessCallback,
@@ -664,7 +1084,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
 
   @Override
   public void writeCharacteristic(int characteristicIdentifier,
-                                  String valueBase64,
+                                  byte[] value,
                                   boolean withResponse,
                                   String transactionId,
                                   OnSuccessCallback<Characteristic> onSuccessCallback,
@@ -676,7 +1096,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
 
     writeCharacteristicWithValue(
       characteristic,
-      valueBase64,
+      value,
       withResponse,
       transactionId,
       onSuccessCallback,
@@ -684,6 +1104,130 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
     );
   }
 
+  @Override
+  public void writeLongCharacteristicForDevice(String deviceIdentifier,
+                                               String serviceUUID,
+                                               String characteristicUUID,
+                                               byte[] value,
+                                               boolean withResponse,
+                                               int progressIntervalMillis,
+                                               String transactionId,
+                                               OnEventCallback<WriteProgress> onProgressCallback,
+                                               OnSuccessCallback<Characteristic> onSuccessCallback,
+                                               OnErrorCallback onErrorCallback) {
+    final Characteristic characteristic = getCharacteristicOrEmitError(
+      deviceIdentifier, serviceUUID, characteristicUUID, onErrorCallback);
+    if (characteristic == null) {
+      return;
+    }
+    if (value == null) {
+      onErrorCallback.onError(
+        BleErrorUtils.invalidWriteDataForCharacteristic(INVALID_WRITE_VALUE_MESSAGE,
+          UUIDConverter.fromUUID(characteristic.getUuid())));
+      return;
+    }
+
+    characteristic.setWriteType(withResponse ?
+      BluetoothGattCharacteristic.WRITE_TYPE_DEFAULT :
+      BluetoothGattCharacteristic.WRITE_TYPE_NO_RESPONSE);
+
+    safeWriteLongCharacteristicForDevice(
+      characteristic,
+      value,
+      progressIntervalMillis,
+      transactionId,
+      onProgressCallback,
+      onSuccessCallback,
+      onErrorCallback);
+  }
+
+  @Override
+  public void writeCharacteristicStreamForDevice(String deviceIdentifier,
+                                                 String serviceUUID,
+                                                 String characteristicUUID,
+                                                 List<byte[]> values,
+                                                 String transactionId,
+                                                 OnSuccessCallback<WriteStreamResult> onSuccessCallback,
+                                                 OnErrorCallback onErrorCallback) {
+    final Characteristic characteristic = getCharacteristicOrEmitError(
+      deviceIdentifier, serviceUUID, characteristicUUID, onErrorCallback);
+    if (characteristic == null) {
+      return;
+    }
+    for (byte[] value : values) {
+      if (value == null) {
+        onErrorCallback.onError(
+          BleErrorUtils.invalidWriteDataForCharacteristic(INVALID_WRITE_VALUE_MESSAGE,
+            UUIDConverter.fromUUID(characteristic.getUuid())));
+        return;
+      }
+    }
+
+    characteristic.setWriteType(BluetoothGattCharacteristic.WRITE_TYPE_NO_RESPONSE);
+
+    safeWriteCharacteristicStreamForDevice(
+      characteristic,
+      values,
+      transactionId,
+      onSuccessCallback,
+      onErrorCallback);
+  }
+
+  @Override
+  public void pollCharacteristicForDevice(String deviceIdentifier,
+                                          String serviceUUID,
+                                          String characteristicUUID,
+                                          long intervalMillis,
+                                          long jitterMillis,
+                                          boolean emitOnChangeOnly,
+                                          String transactionId,
+                                          OnEventCallback<Characteristic> onEventCallback,
+                                          OnErrorCallback onErrorCallback) {
+    final Characteristic characteristic = getCharacteristicOrEmitError(
+      deviceIdentifier, serviceUUID, characteristicUUID, onErrorCallback);
+    if (characteristic == null) {
+      return;
+    }
+
+    final RxBleConnection connection = getConnectionOrEmitError(characteristic.getDeviceId(), onErrorCallback);
+    if (connection == null) {
+      return;
+    }
+
+    final SafeExecutor<Void> safeExecutor = new SafeExecutor<>(null, onErrorCallback);
+    final AtomicBoolean reading = new AtomicBoolean(false);
+    final byte[][] lastValue = new byte[1][];
+
+    final Disposable subscription = Observable
+      .<Boolean>create(emitter -> emitter.setDisposable(
+        pollScheduler.register(intervalMillis, jitterMillis, () -> emitter.onNext(Boolean.TRUE))))
+      .filter(tick -> reading.compareAndSet(false, true))
+      .flatMapSingle(tick -> readCharacteristicValue(connection, characteristic)
+        .doFinally(() -> reading.set(false)))
+      .filter(bytes -> {
+        if (emitOnChangeOnly && lastValue[0] != null && Arrays.equals(lastValue[0], bytes)) {
+          return false;
+        }
+        lastValue[0] = bytes;
+        return true;
+      })
+      .map(bytes -> new Characteristic(characteristic, bytes, SystemClock.elapsedRealtimeNanos()))
+      .doOnDispose(() -> {
+        safeExecutor.error(BleErrorUtils.cancelled());
+        pendingTransactions.removeSubscription(transactionId);
+      })
+      .subscribe(polled -> {
+        characteristic.logValue("Polled from", polled.getValue());
+        characteristic.setValue(polled.getValue());
+        onEventCallback.onEvent(polled);
+      }, throwable -> {
+        safeExecutor.error(errorConverter.toError(throwable));
+        pendingTransactions.removeSubscription(transactionId);
+      });
+
+    pendingTransactions.replaceSubscription(transactionId, subscription);
+  }
+
   @Override
   public void monitorCharacteristicForDevice(String deviceIdentifier,
                                              String serviceUUID,
@@ -800,8 +1344,12 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
 
     final SafeExecutor<Descriptor> safeExecutor = new SafeExecutor<>(onSuccessCallback, onErrorCallback);
 
-    final Disposable subscription = connection
-      .readDescriptor(descriptor.getNativeDescriptor())
+    final GattOperationQueue queue = getOperationQueueForDevice(descriptor.getDeviceId());
+    final OperationPriority priority = queue.getCharacteristicPriority(
+      descriptor.getServiceUuid(), descriptor.getCharacteristicUuid());
+
+    final Disposable subscription = queue
+      .schedule(priority, connection.readDescriptor(descriptor.getNativeDescriptor()))
       .doOnDispose(() -> {
         safeExecutor.error(BleErrorUtils.cancelled());
         pendingTransactions.removeSubscription(transactionId);
@@ -824,7 +1372,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
                                        final String serviceUUID,
                                        final String characteristicUUID,
                                        final String descriptorUUID,
-                                       final String valueBase64,
+                                       final byte[] value,
                                        final String transactionId,
                                        OnSuccessCallback<Descriptor> successCallback,
                                        OnErrorCallback errorCallback) {
@@ -832,7 +1380,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
       Descriptor descriptor = getDescriptor(deviceId, serviceUUID, characteristicUUID, descriptorUUID);
       safeWriteDescriptorForDevice(
         descriptor,
-        valueBase64,
+        value,
         transactionId,
         successCallback,
         errorCallback);
@@ -845,7 +1393,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
   public void writeDescriptorForService(final int serviceIdentifier,
                                         final String characteristicUUID,
                                         final String descriptorUUID,
-                                        final String valueBase64,
+                                        final byte[] value,
                                         final String transactionId,
                                         OnSuccessCallback<Descriptor> successCallback,
                                         OnErrorCallback errorCallback) {
@@ -853,7 +1401,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
       Descriptor descriptor = getDescriptor(serviceIdentifier, characteristicUUID, descriptorUUID);
       safeWriteDescriptorForDevice(
         descriptor,
-        valueBase64,
+        value,
         transactionId,
         successCallback,
         errorCallback);
@@ -865,7 +1413,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
   @Override
   public void writeDescriptorForCharacteristic(final int characteristicIdentifier,
                                                final String descriptorUUID,
-                                               final String valueBase64,
+                                               final byte[] value,
                                                final String transactionId,
                                                OnSuccessCallback<Descriptor> successCallback,
                                                OnErrorCallback errorCallback) {
@@ -873,7 +1421,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
       Descriptor descriptor = getDescriptor(characteristicIdentifier, descriptorUUID);
       safeWriteDescriptorForDevice(
         descriptor,
-        valueBase64,
+        value,
         transactionId,
         successCallback,
         errorCallback);
@@ -884,7 +1432,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
 
   @Override
   public void writeDescriptor(final int descriptorIdentifier,
-                              final String valueBase64,
+                              final byte[] value,
                               final String transactionId,
                               OnSuccessCallback<Descriptor> successCallback,
                               OnErrorCallback errorCallback) {
@@ -892,7 +1440,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
       Descriptor descriptor = getDescriptor(descriptorIdentifier);
       safeWriteDescriptorForDevice(
         descriptor,
-        valueBase64,
+        value,
         transactionId,
         successCallback,
         errorCallback);
@@ -903,7 +1451,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
   }
 
   private void safeWriteDescriptorForDevice(final Descriptor descriptor,
-                                            final String valueBase64,
+                                            @Nullable final byte[] value,
                                             final String transactionId,
                                             OnSuccessCallback<Descriptor> successCallback,
                                             OnErrorCallback errorCallback) {
@@ -919,19 +1467,20 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
       return;
     }
 
-    final byte[] value;
-    try {
-      value = Base64Converter.decode(valueBase64);
-    } catch (Throwable e) {
+    if (value == null) {
       String uuid = UUIDConverter.fromUUID(nativeDescriptor.getUuid());
-      errorCallback.onError(BleErrorUtils.invalidWriteDataForDescriptor(valueBase64, uuid));
+      errorCallback.onError(BleErrorUtils.invalidWriteDataForDescriptor(INVALID_WRITE_VALUE_MESSAGE, uuid));
       return;
     }
 
     final SafeExecutor<Descriptor> safeExecutor = new SafeExecutor<>(successCallback, errorCallback);
 
-    final Disposable subscription = connection
-      .writeDescriptor(nativeDescriptor, value)
+    final GattOperationQueue queue = getOperationQueueForDevice(descriptor.getDeviceId());
+    final OperationPriority priority = queue.getCharacteristicPriority(
+      descriptor.getServiceUuid(), descriptor.getCharacteristicUuid());
+
+    final Disposable subscription = queue
+      .schedule(priority, connection.writeDescriptor(nativeDescriptor, value))
       .doOnDispose(() -> {
         safeExecutor.error(BleErrorUtils.cancelled());
         pendingTransactions.removeSubscription(transactionId);
@@ -1039,6 +1588,115 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
     return descriptor;
   }
 
+  @Override
+  public void openL2capChannelForDevice(String deviceIdentifier,
+                                        int psm,
+                                        boolean secure,
+                                        int chunkSize,
+                                        String transactionId,
+                                        OnSuccessCallback<L2capChannel> onOpenCallback,
+                                        OnEventCallback<ByteBuffer> onDataCallback,
+                                        OnSuccessCallback<Void> onCloseCallback,
+                                        OnErrorCallback onErrorCallback) {
+    final L2capTransport transport = l2capTransport;
+    if (transport == null) {
+      onErrorCallback.onError(BleErrorUtils.l2capChannelOpenFailed(deviceIdentifier, "L2CAP channels require Android 10 or newer"));
+      return;
+    }
+    final Device device;
+    try {
+      device = getDeviceById(deviceIdentifier);
+    } catch (BleError error) {
+      onErrorCallback.onError(error);
+      return;
+    }
+
+    final SafeExecutor<Void> safeExecutor = new SafeExecutor<>(onCloseCallback, onErrorCallback);
+    final AtomicBoolean isOpen = new AtomicBoolean(false);
+
+    // Connecting and reading block, so each channel takes an IO thread while it is open
+    final Disposable subscription = Observable.<ByteBuffer>create(emitter -> {
+        final L2capChannel channel;
+        try {
+          channel = new L2capChannel(device.getId(), psm, transport.connect(device.getId(), psm, secure), chunkSize);
+        } catch (IOException e) {
+          emitter.tryOnError(e);
+          return;
+        }
+        emitter.setCancellable(() -> {
+          synchronized (l2capChannels) {
+            l2capChannels.remove(transactionId);
+          }
+          channel.close();
+        });
+        if (emitter.isDisposed()) {
+          return;
+        }
+        synchronized (l2capChannels) {
+          l2capChannels.put(transactionId, channel);
+        }
+        isOpen.set(true);
+        onOpenCallback.onSuccess(channel);
+        try {
+          // Chunks are passed on synchronously, the buffer is read again only after the callback returns
+          ByteBuffer chunk;
+          while ((chunk = channel.readChunk()) != null) {
+            emitter.onNext(chunk);
+          }
+          emitter.onComplete();
+        } catch (IOException e) {
+          // Closing the channel on cancellation fails the blocked read as well
+          emitter.tryOnError(e);
+        }
+      })
+      .subscribeOn(Schedulers.io())
+      .doOnDispose(() -> {
+        // Cancelling the transaction is how an open channel is closed
+        if (isOpen.get()) {
+          safeExecutor.success(null);
+        } else {
+          safeExecutor.error(BleErrorUtils.cancelled());
+        }
+        pendingTransactions.removeSubscription(transactionId);
+      })
+      .subscribe(onDataCallback::onEvent, throwable -> {
+        safeExecutor.error(isOpen.get()
+          ? BleErrorUtils.l2capChannelFailed(device.getId(), throwable.getMessage())
+          : BleErrorUtils.l2capChannelOpenFailed(device.getId(), throwable.getMessage()));
+        pendingTransactions.removeSubscription(transactionId);
+      }, () -> {
+        safeExecutor.success(null);
+        pendingTransactions.removeSubscription(transactionId);
+      });
+
+    pendingTransactions.replaceSubscription(transactionId, subscription);
+  }
+
+  @Override
+  public void writeL2capChannel(String channelTransactionId,
+                                byte[] data,
+                                OnSuccessCallback<Void> onSuccessCallback,
+                                OnErrorCallback onErrorCallback) {
+    final L2capChannel channel;
+    synchronized (l2capChannels) {
+      channel = l2capChannels.get(channelTransactionId);
+    }
+    if (channel == null) {
+      onErrorCallback.onError(new BleError(BleErrorCode.OperationStartFailed, "L2CAP channel is not open", null));
+      return;
+    }
+    if (data == null) {
+      onErrorCallback.onError(new BleError(BleErrorCode.OperationStartFailed, INVALID_WRITE_VALUE_MESSAGE, null));
+      return;
+    }
+
+    final SafeExecutor<Void> safeExecutor = new SafeExecutor<>(onSuccessCallback, onErrorCallback);
+    channel.write(data)
+      .subscribe(
+        () -> safeExecutor.success(null),
+        throwable -> safeExecutor.error(BleErrorUtils.l2capChannelFailed(channel.getDeviceId(), throwable.getMessage())));
+  }
+
   @Override
   public void cancelTransaction(String transactionId) {
     pendingTransactions.removeSubscription(transactionId);
@@ -1176,6 +1834,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
                                    final int scanMode,
                                    final int callbackType,
                                    final boolean legacyScan,
+                                   final int resultQueueCapacity,
                                    final OnEventCallback<ScanResult> onEventCallback,
                                    final OnErrorCallback onErrorCallback) {
     if (rxBleClient == null) {
@@ -1195,14 +1854,117 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
       filters[i] = new ScanFilter.Builder().setServiceUuid(ParcelUuid.fromString(uuids[i].toString())).build();
     }
 
-    scanSubscription = rxBleClient
+    final ScanStatistics statistics = new ScanStatistics();
+    scanStatistics = statistics;
+    Observable<ScanResult> scanResults = rxBleClient
       .scanBleDevices(scanSettings, filters)
-      .subscribe(scanResult -> {
+      .map(scanResult -> {
         String deviceId = scanResult.getBleDevice().getMacAddress();
         if (!discoveredDevices.containsKey(deviceId)) {
           discoveredDevices.put(deviceId, rxBleDeviceToDeviceMapper.map(scanResult.getBleDevice(), null));
         }
-        onEventCallback.onEvent(rxScanResultToScanResultMapper.map(scanResult));
+        final ScanCaptureWriter captureWriter = scanCaptureWriter;
+        if (captureWriter != null) {
+          captureScanResult(captureWriter,
+            scanResult.getTimestampNanos(),
+            deviceId,
+            scanResult.getRssi(),
+            scanResult.isConnectable() == IsConnectable.CONNECTABLE,
+            scanResult.getScanRecord().getBytes());
+        }
+        long parseStart = System.nanoTime();
+        ScanResult result = rxScanResultToScanResultMapper.map(scanResult);
+        advertisementDecryptor.decrypt(result);
+        statistics.onRawResult(deviceId, System.nanoTime() - parseStart);
+        return result;
+      });
+    scanSubscription = subscribeToScanResults(scanResults, resultQueueCapacity, statistics, onEventCallback, onErrorCallback);
+  }
+
+  private void safeStartExtendedDeviceScan(final UUID[] uuids,
+                                           final int scanMode,
+                                           final int callbackType,
+                                           final boolean legacyScan,
+                                           final int phy,
+                                           final int resultQueueCapacity,
+                                           final OnEventCallback<ScanResult> onEventCallback,
+                                           final OnErrorCallback onErrorCallback) {
+    if (rxBleClient == null) {
+      onErrorCallback.onError(new BleError(BleErrorCode.BluetoothManagerDestroyed, "BleManager not created when tried to start device scan", null));
+      return;
+    }
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.O) {
+      onErrorCallback.onError(new BleError(BleErrorCode.ScanStartFailed, "Extended scan requires Android 8.0 or newer", null));
+      return;
+    }
+    if (legacyScan && phy != BluetoothDevice.PHY_LE_1M) {
+      // Legacy advertisements are sent only on LE 1M PHY, the platform ignores other PHYs in legacy mode
+      onErrorCallback.onError(new BleError(BleErrorCode.ScanStartFailed, "Legacy scan can run only on LE 1M PHY, disable legacyScan to scan on other PHYs", null));
+      return;
+    }
+    if (phy == BluetoothDevice.PHY_LE_CODED && !bluetoothAdapter.isLeCodedPhySupported()) {
+      onErrorCallback.onError(new BleError(BleErrorCode.ScanStartFailed, "LE Coded PHY is not supported by this device", null));
+      return;
+    }
+    final BluetoothLeScanner scanner = bluetoothAdapter.getBluetoothLeScanner();
+    if (scanner == null) {
+      onErrorCallback.onError(new BleError(BleErrorCode.BluetoothPoweredOff, "Bluetooth LE scanner is not available", null));
+      return;
+    }
+
+    final RxBleClient client = rxBleClient;
+    final ScanStatistics statistics = new ScanStatistics();
+    scanStatistics = statistics;
+    Observable<ScanResult> scanResults = new ExtendedScanner(scanner)
+      .scan(uuids, scanMode, callbackType, legacyScan, phy)
+      .map(scanResult -> {
+        String deviceId = scanResult.getDevice().getAddress();
+        if (!discoveredDevices.containsKey(deviceId)) {
+          discoveredDevices.put(deviceId, rxBleDeviceToDeviceMapper.map(client.getBleDevice(deviceId), null));
+        }
+        final ScanCaptureWriter captureWriter = scanCaptureWriter;
+        if (captureWriter != null && scanResult.getScanRecord() != null) {
+          captureScanResult(captureWriter,
+            scanResult.getTimestampNanos(),
+            deviceId,
+            scanResult.getRssi(),
+            scanResult.isConnectable(),
+            scanResult.getScanRecord().getBytes());
+        }
+        long parseStart = System.nanoTime();
+        ScanResult result = nativeScanResultToScanResultMapper.map(scanResult);
+        advertisementDecryptor.decrypt(result);
+        statistics.onRawResult(deviceId, System.nanoTime() - parseStart);
+        return result;
+      });
+    scanSubscription = subscribeToScanResults(scanResults, resultQueueCapacity, statistics, onEventCallback, onErrorCallback);
+  }
+
+  /**
+   * Delivers parsed scan results on the scanner thread. With a positive {@code queueCapacity} they
+   * are handed over to a computation thread through a bounded queue instead, so the scanner thread
+   * is not blocked by conversion and bridge traffic. When the consumer cannot keep up the oldest
+   * results are dropped, newer advertisements of the same devices supersede them anyway.
+   */
+  private Disposable subscribeToScanResults(Observable<ScanResult> scanResults,
+                                            int queueCapacity,
+                                            final ScanStatistics statistics,
+                                            final OnEventCallback<ScanResult> onEventCallback,
+                                            final OnErrorCallback onErrorCallback) {
+    if (queueCapacity <= 0) {
+      return scanResults
+        .doFinally(statistics::stop)
+        .subscribe(onEventCallback::onEvent, throwable -> onErrorCallback.onError(errorConverter.toError(throwable)));
+    }
+    return scanResults
+      .doOnNext(result -> statistics.onEnqueued())
+      .toFlowable(BackpressureStrategy.MISSING)
+      .onBackpressureBuffer(queueCapacity, statistics::onDropped, BackpressureOverflowStrategy.DROP_OLDEST)
+      .observeOn(Schedulers.computation())
+      .doFinally(statistics::stop)
+      .subscribe(result -> {
+        statistics.onDequeued();
+        onEventCallback.onEvent(result);
       }, throwable -> onErrorCallback.onError(errorConverter.toError(throwable)));
   }
 
@@ -1295,6 +2057,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
 
   private void onDeviceDisconnected(RxBleDevice rxDevice) {
     activeConnections.remove(rxDevice.getMacAddress());
+    getValueCacheForDevice(rxDevice.getMacAddress()).clear();
     Device device = connectedDevices.remove(rxDevice.getMacAddress());
     if (device == null) {
       return;
@@ -1361,8 +2124,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
 
     final SafeExecutor<Characteristic> safeExecutor = new SafeExecutor<>(onSuccessCallback, onErrorCallback);
 
-    final Disposable subscription = connection
-      .readCharacteristic(characteristic.gattCharacteristic)
+    final Disposable subscription = readCharacteristicValue(connection, characteristic)
       .doOnDispose(() -> {
         safeExecutor.error(BleErrorUtils.cancelled());
         pendingTransactions.removeSubscription(transactionId);
@@ -1380,18 +2142,83 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
     pendingTransactions.replaceSubscription(transactionId, subscription);
   }
 
+  /**
+   * @return single which reads value of the characteristic through the device's operation queue,
+   * or emits its cached value without touching the radio. Concurrent reads of the same
+   * characteristic share one GATT read, which is disposed only when all of them are disposed.
+   */
+  private Single<byte[]> readCharacteristicValue(final RxBleConnection connection, final Characteristic characteristic) {
+    final CharacteristicValueCache cache = getValueCacheForDevice(characteristic.getDeviceId());
+    final GattOperationQueue queue = getOperationQueueForDevice(characteristic.getDeviceId());
+    return Single.defer(() -> {
+      byte[] cachedValue = cache.get(characteristic);
+      if (cachedValue != null) {
+        characteristic.logValue("Read from cache of", cachedValue);
+        return Single.just(cachedValue);
+      }
+      synchronized (inFlightReads) {
+        Observable<byte[]> read = inFlightReads.get(characteristic.getId());
+        if (read == null) {
+          read = newSharedRead(connection, queue, cache, characteristic);
+          inFlightReads.put(characteristic.getId(), read);
+        }
+        return read.singleOrError();
+      }
+    });
+  }
+
+  private Observable<byte[]> newSharedRead(final RxBleConnection connection,
+                                           final GattOperationQueue queue,
+                                           final CharacteristicValueCache cache,
+                                           final Characteristic characteristic) {
+    final long readToken = cache.startRead();
+    final OperationPriority priority = queue.getCharacteristicPriority(
+      characteristic.getServiceUUID(), characteristic.getUuid());
+    final AtomicReference<Observable<byte[]>> self = new AtomicReference<>();
+    Observable<byte[]> read = queue
+      .schedule(priority, connection.readCharacteristic(characteristic.gattCharacteristic))
+      .doOnSuccess(bytes -> cache.put(characteristic, bytes, readToken))
+      .toObservable()
+      .doFinally(() -> removeInFlightRead(characteristic, self.get()))
+      .share();
+    self.set(read);
+    return read;
+  }
+
+  /**
+   * @param read read to remove, or null to remove any read of the characteristic.
+   */
+  private void removeInFlightRead(Characteristic characteristic, @Nullable Observable<byte[]> read) {
+    synchronized (inFlightReads) {
+      if (read == null || inFlightReads.get(characteristic.getId()) == read) {
+        inFlightReads.remove(characteristic.getId());
+      }
+    }
+  }
+
+  /**
+   * @return {@code write} which drops cached value of the characteristic when it is requested and
+   * again when it is done, so reads which overtook it in the queue don't keep the old value.
+   */
+  private <T> Single<T> invalidatingCachedValue(final Characteristic characteristic, final Single<T> write) {
+    final CharacteristicValueCache cache = getValueCacheForDevice(characteristic.getDeviceId());
+    return Single.defer(() -> {
+      cache.invalidate(characteristic);
+      // Reads requested from now on may not share a read which started before the write
+      removeInFlightRead(characteristic, null);
+      return write;
+    }).doFinally(() -> cache.invalidate(characteristic));
+  }
+
   private void writeCharacteristicWithValue(final Characteristic characteristic,
-                                            final String valueBase64,
+                                            @Nullable final byte[] value,
                                             final Boolean response,
                                             final String transactionId,
                                             OnSuccessCallback<Characteristic> onSuccessCallback,
                                             OnErrorCallback onErrorCallback) {
-    final byte[] value;
-    try {
-      value = Base64Converter.decode(valueBase64);
-    } catch (Throwable error) {
+    if (value == null) {
       onErrorCallback.onError(
-        BleErrorUtils.invalidWriteDataForCharacteristic(valueBase64,
+        BleErrorUtils.invalidWriteDataForCharacteristic(INVALID_WRITE_VALUE_MESSAGE,
           UUIDConverter.fromUUID(characteristic.getUuid())));
       return;
     }
@@ -1420,8 +2247,12 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
 
     final SafeExecutor<Characteristic> safeExecutor = new SafeExecutor<>(onSuccessCallback, onErrorCallback);
 
-    final Disposable subscription = connection
-      .writeCharacteristic(characteristic.gattCharacteristic, value)
+    final GattOperationQueue queue = getOperationQueueForDevice(characteristic.getDeviceId());
+    final OperationPriority priority = queue.getCharacteristicPriority(
+      characteristic.getServiceUUID(), characteristic.getUuid());
+
+    final Disposable subscription = invalidatingCachedValue(characteristic,
+      queue.schedule(priority, connection.writeCharacteristic(characteristic.gattCharacteristic, value)))
       .doOnDispose(() -> {
         safeExecutor.error(BleErrorUtils.cancelled());
         pendingTransactions.removeSubscription(transactionId);
@@ -1439,6 +2270,127 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
     pendingTransactions.replaceSubscription(transactionId, subscription);
   }
 
+  private void safeWriteLongCharacteristicForDevice(final Characteristic characteristic,
+                                                    final byte[] value,
+                                                    final int progressIntervalMillis,
+                                                    final String transactionId,
+                                                    final OnEventCallback<WriteProgress> onProgressCallback,
+                                                    final OnSuccessCallback<Characteristic> onSuccessCallback,
+                                                    final OnErrorCallback onErrorCallback) {
+    final RxBleConnection connection = getConnectionOrEmitError(characteristic.getDeviceId(), onErrorCallback);
+    if (connection == null) {
+      return;
+    }
+
+    final SafeExecutor<Characteristic> safeExecutor = new SafeExecutor<>(onSuccessCallback, onErrorCallback);
+
+    final GattOperationQueue queue = getOperationQueueForDevice(characteristic.getDeviceId());
+    final OperationPriority priority = queue.getCharacteristicPriority(
+      characteristic.getServiceUUID(), characteristic.getUuid());
+
+    // Each batch is a separate queued operation, so operations of higher priority and other devices
+    // don't wait for the whole value. The deadline of the priority applies to the whole write.
+    final Single<byte[]> longWrite = Single.defer(() -> {
+      final long defaultDeadlineMillis = gattScheduler.getDefaultDeadlineMillis(priority);
+      final long deadlineAt = SystemClock.elapsedRealtime() + defaultDeadlineMillis;
+      final long[] lastProgressAt = {0};
+      final int[] bytesWritten = {0};
+      return Single.defer(() -> {
+        long deadlineMillis = defaultDeadlineMillis > 0
+          ? Math.max(1, deadlineAt - SystemClock.elapsedRealtime())
+          : 0;
+        return queue.schedule(priority, deadlineMillis, Single.defer(() -> {
+          // MTU is read when the batch starts, it may have been negotiated while the write was queued
+          final int batchSize = Math.max(1, connection.getMtu() - RxBleConnection.GATT_WRITE_MTU_OVERHEAD);
+          final byte[] batch = Arrays.copyOfRange(
+            value, bytesWritten[0], Math.min(value.length, bytesWritten[0] + batchSize));
+          return connection.writeCharacteristic(characteristic.gattCharacteristic, batch)
+            .doOnSuccess(written -> {
+              bytesWritten[0] += batch.length;
+              boolean hasRemaining = bytesWritten[0] < value.length;
+              if (progressIntervalMillis <= 0) {
+                return;
+              }
+              long now = SystemClock.elapsedRealtime();
+              if (hasRemaining && now - lastProgressAt[0] < progressIntervalMillis) {
+                return;
+              }
+              lastProgressAt[0] = now;
+              onProgressCallback.onEvent(new WriteProgress(bytesWritten[0], value.length, batchSize));
+            });
+        }));
+      })
+        .repeatUntil(() -> bytesWritten[0] >= value.length)
+        .ignoreElements()
+        .toSingleDefault(value);
+    });
+
+    final Disposable subscription = invalidatingCachedValue(characteristic, longWrite)
+      .doOnDispose(() -> {
+        safeExecutor.error(BleErrorUtils.cancelled());
+        pendingTransactions.removeSubscription(transactionId);
+      })
+      .subscribe(bytes -> {
+        characteristic.logValue("Long write to", bytes);
+        characteristic.setValue(bytes);
+        safeExecutor.success(new Characteristic(characteristic));
+        pendingTransactions.removeSubscription(transactionId);
+      }, throwable -> {
+        safeExecutor.error(errorConverter.toError(throwable));
+        pendingTransactions.removeSubscription(transactionId);
+      });
+
+    pendingTransactions.replaceSubscription(transactionId, subscription);
+  }
+
+  private void safeWriteCharacteristicStreamForDevice(final Characteristic characteristic,
+                                                      final List<byte[]> values,
+                                                      final String transactionId,
+                                                      final OnSuccessCallback<WriteStreamResult> onSuccessCallback,
+                                                      final OnErrorCallback onErrorCallback) {
+    final RxBleConnection connection = getConnectionOrEmitError(characteristic.getDeviceId(), onErrorCallback);
+    if (connection == null) {
+      return;
+    }
+
+    final SafeExecutor<WriteStreamResult> safeExecutor = new SafeExecutor<>(onSuccessCallback, onErrorCallback);
+
+    final GattOperationQueue queue = getOperationQueueForDevice(characteristic.getDeviceId());
+    final OperationPriority priority = queue.getCharacteristicPriority(
+      characteristic.getServiceUUID(), characteristic.getUuid());
+
+    final List<Single<byte[]>> writes = new ArrayList<>(values.size());
+    for (byte[] value : values) {
+      writes.add(connection.writeCharacteristic(characteristic.gattCharacteristic, value));
+    }
+
+    // Android has a single GATT operation of a connection in flight, so the stream is paced by the
+    // stack's write callbacks: each write completes when the stack took the value into its buffer.
+    // Each value is queued separately, so operations of higher priority don't wait for the stream.
+    final Single<WriteStreamResult> stream = Single.defer(() -> {
+      final long startedAt = SystemClock.elapsedRealtime();
+      return queue.scheduleSequence(priority, gattScheduler.getDefaultDeadlineMillis(priority), writes)
+        .reduce(0L, (byteCount, bytes) -> byteCount + bytes.length)
+        .map(byteCount -> new WriteStreamResult(
+          values.size(), byteCount, SystemClock.elapsedRealtime() - startedAt));
+    });
+
+    final Disposable subscription = invalidatingCachedValue(characteristic, stream)
+      .doOnDispose(() -> {
+        safeExecutor.error(BleErrorUtils.cancelled());
+        pendingTransactions.removeSubscription(transactionId);
+      })
+      .subscribe(result -> {
+        safeExecutor.success(result);
+        pendingTransactions.removeSubscription(transactionId);
+      }, throwable -> {
+        safeExecutor.error(errorConverter.toError(throwable));
+        pendingTransactions.removeSubscription(transactionId);
+      });
+
+    pendingTransactions.replaceSubscription(transactionId, subscription);
+  }
+
   private void safeMonitorCharacteristicForDevice(final Characteristic characteristic,
                                                   final String transactionId,
                                                   final String subscriptionType,
@@ -1470,6 +2422,7 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
         return Observable.error(new CannotMonitorCharacteristicException(characteristic));
       })
       .flatMap(observable -> observable)
+      .map(bytes -> new Characteristic(characteristic, bytes, SystemClock.elapsedRealtimeNanos()))
       .toFlowable(BackpressureStrategy.BUFFER)
       .observeOn(Schedulers.computation())
       .doOnCancel(() -> {
@@ -1477,10 +2430,10 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
         pendingTransactions.removeSubscription(transactionId);
       })
       .doOnComplete(() -> pendingTransactions.removeSubscription(transactionId))
-      .subscribe(bytes -> {
-        characteristic.logValue("Notification from", bytes);
-        characteristic.setValue(bytes);
-        onEventCallback.onEvent(new Characteristic(characteristic));
+      .subscribe(notification -> {
+        characteristic.logValue("Notification from", notification.getValue());
+        characteristic.setValue(notification.getValue());
+        onEventCallback.onEvent(notification);
       }, throwable -> {
         safeExecutor.error(errorConverter.toError(throwable));
         pendingTransactions.removeSubscription(transactionId);
@@ -1562,47 +2515,9 @@ public class BleModule extends ReactContextBaseJavaModule implements BleAdapter
   }
 
   private void cleanServicesAndCharacteristicsForDevice(@NonNull Device device) {
-    List<Integer> discoveredServicesKeysToRemove = new ArrayList<>();
-    for (int i = 0; i < discoveredServices.size(); i++) {
-      int key = discoveredServices.keyAt(i);
-      Service service = discoveredServices.get(key);
-      if (service == null || service.getDeviceID().equals(device.getId())) {
-          discoveredServicesKeysToRemove.add(key);
-      }
-    }
-    for (int key : discoveredServicesKeysToRemove) {
-      if (discoveredServices.indexOfKey(key) >= 0) {
-        discoveredServices.remove(key);
-      }
-    }
-    
-    List<Integer> discoveredCharacteristicsKeysToRemove = new ArrayList<>();
-    for (int i = 0; i < discoveredCharacteristics.size(); i++) {
-      int key = discoveredCharacteristics.keyAt(i);
-      Characteristic characteristic = discoveredCharacteristics.get(key);
-      if (characteristic == null || characteristic.getDeviceId().equals(device.getId())) {
-        discoveredCharacteristicsKeysToRemove.add(key);
-      }
-    }
-    for (int key : discoveredCharacteristicsKeysToRemove) {
-      if (discoveredCharacteristics.indexOfKey(key) >= 0) {
-        discoveredCharacteristics.remove(key);
-      }
-    }
-
-    List<Integer> discoveredDescriptorsKeysToRemove = new ArrayList<>();
-    for (int i = 0; i < discoveredDescriptors.size(); i++) {
-      int key = discoveredDescriptors.keyAt(i);
-      Descriptor descriptor = discoveredDescriptors.get(key);
-      if (descriptor == null || descriptor.getDeviceId().equals(device.getId())) {
-        discoveredDescriptorsKeysToRemove.add(key);
-      }
-    }
-    for (int key : discoveredDescriptorsKeysToRemove) {
-      if (discoveredDescriptors.indexOfKey(key) >= 0) {
-        discoveredDescriptors.remove(key);
-      }
-    }
+    discoveredServices.values().removeIf(service -> service.getDeviceID().equals(device.getId()));
+    discoveredCharacteristics.values().removeIf(characteristic -> characteristic.getDeviceId().equals(device.getId()));
+    discoveredDescriptors.values().removeIf(descriptor -> descriptor.getDeviceId().equals(device.getId()));
   }
 
   @Override
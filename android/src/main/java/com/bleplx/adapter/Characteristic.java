@@ -26,6 +26,7 @@ public class Characteristic {
   final private UUID serviceUUID;
   final private String deviceID;
   private byte[] value;
+  private long valueTimestampNanos;
   final BluetoothGattCharacteristic gattCharacteristic;
 
   public void setValue(byte[] value) {
@@ -54,6 +55,22 @@ public class Characteristic {
     serviceUUID = other.serviceUUID;
     deviceID = other.deviceID;
     if (other.value != null) value = other.value.clone();
+    valueTimestampNanos = other.valueTimestampNanos;
+    gattCharacteristic = other.gattCharacteristic;
+  }
+
+  /**
+   * Copy of {@code other} holding received {@code value} which is not copied.
+   *
+   * @param valueTimestampNanos {@link android.os.SystemClock#elapsedRealtimeNanos()} when value was received.
+   */
+  public Characteristic(Characteristic other, byte[] value, long valueTimestampNanos) {
+    id = other.id;
+    serviceID = other.serviceID;
+    serviceUUID = other.serviceUUID;
+    deviceID = other.deviceID;
+    this.value = value;
+    this.valueTimestampNanos = valueTimestampNanos;
     gattCharacteristic = other.gattCharacteristic;
   }
 
@@ -133,6 +150,14 @@ public class Characteristic {
     return value;
   }
 
+  /**
+   * @return {@link android.os.SystemClock#elapsedRealtimeNanos()} when value was received from
+   * notification or indication, 0 otherwise.
+   */
+  public long getValueTimestampNanos() {
+    return valueTimestampNanos;
+  }
+
   @Nullable
   public Descriptor getDescriptorByUUID(@NonNull UUID uuid) {
     BluetoothGattDescriptor descriptor = this.gattCharacteristic.getDescriptor(uuid);
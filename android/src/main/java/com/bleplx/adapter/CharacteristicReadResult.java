@@ -0,0 +1,58 @@
+package com.bleplx.adapter;
+
+import androidx.annotation.Nullable;
+
+import com.bleplx.adapter.errors.BleError;
+
+/**
+ * Result of a single read of a batch read, holds either the read characteristic or the error.
+ */
+public class CharacteristicReadResult {
+
+  private final String serviceUUID;
+  private final String characteristicUUID;
+  @Nullable
+  private final Characteristic characteristic;
+  @Nullable
+  private final BleError error;
+
+  private CharacteristicReadResult(String serviceUUID,
+                                   String characteristicUUID,
+                                   @Nullable Characteristic characteristic,
+                                   @Nullable BleError error) {
+    this.serviceUUID = serviceUUID;
+    this.characteristicUUID = characteristicUUID;
+    this.characteristic = characteristic;
+    this.error = error;
+  }
+
+  public static CharacteristicReadResult success(String serviceUUID,
+                                                 String characteristicUUID,
+                                                 Characteristic characteristic) {
+    return new CharacteristicReadResult(serviceUUID, characteristicUUID, characteristic, null);
+  }
+
+  public static CharacteristicReadResult failure(String serviceUUID,
+                                                 String characteristicUUID,
+                                                 BleError error) {
+    return new CharacteristicReadResult(serviceUUID, characteristicUUID, null, error);
+  }
+
+  public String getServiceUUID() {
+    return serviceUUID;
+  }
+
+  public String getCharacteristicUUID() {
+    return characteristicUUID;
+  }
+
+  @Nullable
+  public Characteristic getCharacteristic() {
+    return characteristic;
+  }
+
+  @Nullable
+  public BleError getError() {
+    return error;
+  }
+}
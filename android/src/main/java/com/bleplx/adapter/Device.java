@@ -15,8 +15,9 @@ public class Device {
   private Integer rssi;
   @Nullable
   private Integer mtu;
+  // Replaced as a whole after discovery and read by synchronous getters on the JS thread
   @Nullable
-  private List<Service> services;
+  private volatile List<Service> services;
 
   public Device(String id, String name) {
     this.id = id;
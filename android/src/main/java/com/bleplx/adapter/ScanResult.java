@@ -4,6 +4,7 @@ package com.bleplx.adapter;
 import androidx.annotation.Nullable;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -20,6 +21,18 @@ public class ScanResult {
   @Nullable
   private UUID[] overflowServiceUUIDs;
   private AdvertisementData advertisementData;
+  @Nullable
+  private Integer advertisingSid;
+  @Nullable
+  private Integer primaryPhy;
+  @Nullable
+  private Integer secondaryPhy;
+  @Nullable
+  private Integer periodicAdvertisingInterval;
+  @Nullable
+  private Map<UUID, byte[]> decryptedServiceData;
+  @Nullable
+  private String decryptionStatus;
 
   public ScanResult(String deviceId, String deviceName, int rssi, int mtu, boolean isConnectable, @Nullable UUID[] overflowServiceUUIDs, AdvertisementData advertisementData) {
     this.deviceId = deviceId;
@@ -87,6 +100,63 @@ public class ScanResult {
     this.advertisementData = advertisementData;
   }
 
+  @Nullable
+  public Integer getAdvertisingSid() {
+    return advertisingSid;
+  }
+
+  public void setAdvertisingSid(@Nullable Integer advertisingSid) {
+    this.advertisingSid = advertisingSid;
+  }
+
+  @Nullable
+  public Integer getPrimaryPhy() {
+    return primaryPhy;
+  }
+
+  public void setPrimaryPhy(@Nullable Integer primaryPhy) {
+    this.primaryPhy = primaryPhy;
+  }
+
+  @Nullable
+  public Integer getSecondaryPhy() {
+    return secondaryPhy;
+  }
+
+  public void setSecondaryPhy(@Nullable Integer secondaryPhy) {
+    this.secondaryPhy = secondaryPhy;
+  }
+
+  /**
+   * Periodic advertising interval in units of 1.25 ms, null if device does not advertise periodically.
+   */
+  @Nullable
+  public Integer getPeriodicAdvertisingInterval() {
+    return periodicAdvertisingInterval;
+  }
+
+  public void setPeriodicAdvertisingInterval(@Nullable Integer periodicAdvertisingInterval) {
+    this.periodicAdvertisingInterval = periodicAdvertisingInterval;
+  }
+
+  @Nullable
+  public Map<UUID, byte[]> getDecryptedServiceData() {
+    return decryptedServiceData;
+  }
+
+  public void setDecryptedServiceData(@Nullable Map<UUID, byte[]> decryptedServiceData) {
+    this.decryptedServiceData = decryptedServiceData;
+  }
+
+  @Nullable
+  public String getDecryptionStatus() {
+    return decryptionStatus;
+  }
+
+  public void setDecryptionStatus(@Nullable String decryptionStatus) {
+    this.decryptionStatus = decryptionStatus;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -102,6 +172,12 @@ public class ScanResult {
       return false;
     // Probably incorrect - comparing Object[] arrays with Arrays.equals
     if (!Arrays.equals(overflowServiceUUIDs, that.overflowServiceUUIDs)) return false;
+    if (!Objects.equals(advertisingSid, that.advertisingSid)) return false;
+    if (!Objects.equals(primaryPhy, that.primaryPhy)) return false;
+    if (!Objects.equals(secondaryPhy, that.secondaryPhy)) return false;
+    if (!Objects.equals(periodicAdvertisingInterval, that.periodicAdvertisingInterval))
+      return false;
+    if (!Objects.equals(decryptionStatus, that.decryptionStatus)) return false;
     return Objects.equals(advertisementData, that.advertisementData);
   }
 
@@ -114,6 +190,11 @@ public class ScanResult {
     result = 31 * result + (isConnectable ? 1 : 0);
     result = 31 * result + Arrays.hashCode(overflowServiceUUIDs);
     result = 31 * result + (advertisementData != null ? advertisementData.hashCode() : 0);
+    result = 31 * result + Objects.hashCode(advertisingSid);
+    result = 31 * result + Objects.hashCode(primaryPhy);
+    result = 31 * result + Objects.hashCode(secondaryPhy);
+    result = 31 * result + Objects.hashCode(periodicAdvertisingInterval);
+    result = 31 * result + Objects.hashCode(decryptionStatus);
     return result;
   }
 
@@ -127,6 +208,11 @@ public class ScanResult {
       ", isConnectable=" + isConnectable +
       ", overflowServiceUUIDs=" + Arrays.toString(overflowServiceUUIDs) +
       ", advertisementData=" + advertisementData +
+      ", advertisingSid=" + advertisingSid +
+      ", primaryPhy=" + primaryPhy +
+      ", secondaryPhy=" + secondaryPhy +
+      ", periodicAdvertisingInterval=" + periodicAdvertisingInterval +
+      ", decryptionStatus='" + decryptionStatus + '\'' +
       '}';
   }
 }
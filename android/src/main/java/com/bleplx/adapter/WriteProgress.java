@@ -0,0 +1,36 @@
+package com.bleplx.adapter;
+
+/**
+ * Progress of a long write, reported after batches written to the characteristic.
+ */
+public class WriteProgress {
+
+  private final int bytesWritten;
+  private final int totalBytes;
+  private final int batchSize;
+
+  public WriteProgress(int bytesWritten, int totalBytes, int batchSize) {
+    this.bytesWritten = bytesWritten;
+    this.totalBytes = totalBytes;
+    this.batchSize = batchSize;
+  }
+
+  public int getBytesWritten() {
+    return bytesWritten;
+  }
+
+  public int getTotalBytes() {
+    return totalBytes;
+  }
+
+  /**
+   * @return maximum number of bytes written in a single GATT write, derived from the negotiated MTU.
+   */
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public boolean isDone() {
+    return bytesWritten >= totalBytes;
+  }
+}
@@ -0,0 +1,36 @@
+package com.bleplx.adapter;
+
+/**
+ * Summary of a stream of writes without response.
+ */
+public class WriteStreamResult {
+
+  private final int packetCount;
+  private final long byteCount;
+  private final long durationMillis;
+
+  public WriteStreamResult(int packetCount, long byteCount, long durationMillis) {
+    this.packetCount = packetCount;
+    this.byteCount = byteCount;
+    this.durationMillis = durationMillis;
+  }
+
+  public int getPacketCount() {
+    return packetCount;
+  }
+
+  public long getByteCount() {
+    return byteCount;
+  }
+
+  public long getDurationMillis() {
+    return durationMillis;
+  }
+
+  /**
+   * @return bytes written per second, 0 if the stream took less than a millisecond.
+   */
+  public double getBytesPerSecond() {
+    return durationMillis > 0 ? byteCount * 1000.0 / durationMillis : 0;
+  }
+}
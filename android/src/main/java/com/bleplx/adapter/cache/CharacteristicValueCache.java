@@ -0,0 +1,177 @@
+package com.bleplx.adapter.cache;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bleplx.adapter.Characteristic;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.UUID;
+
+/**
+ * Values read from characteristics of a single device, kept so that repeated reads of attributes
+ * which don't change can be resolved without a radio round trip. Only characteristics with a TTL
+ * set are cached. Values are keyed by characteristic id, they are invalidated by writes to the
+ * characteristic and all of them are cleared when the device disconnects.
+ * <p>
+ * A read which was in flight when its characteristic was invalidated doesn't store its value, it
+ * may have been read before the write.
+ */
+public class CharacteristicValueCache {
+
+  /**
+   * TTL of values kept until the device disconnects.
+   */
+  public static final long UNTIL_DISCONNECT = -1;
+
+  private static final class Entry {
+    final String ttlKey;
+    final byte[] value;
+    final long expiresAtNanos;
+
+    Entry(String ttlKey, byte[] value, long expiresAtNanos) {
+      this.ttlKey = ttlKey;
+      this.value = value;
+      this.expiresAtNanos = expiresAtNanos;
+    }
+  }
+
+  private final Object lock = new Object();
+  private final HashMap<String, Long> ttls = new HashMap<>();
+  private final HashMap<Integer, Entry> entries = new HashMap<>();
+  private final HashMap<Integer, Long> invalidations = new HashMap<>();
+
+  private long generation = 0;
+  private long clearedAtGeneration = -1;
+  private long hitCount = 0;
+  private long missCount = 0;
+  private long invalidatedCount = 0;
+
+  /**
+   * @param ttlMillis time for which read values are used, {@link #UNTIL_DISCONNECT} to keep them
+   *                  until the device disconnects or 0 to stop caching the characteristic.
+   */
+  public void setTtl(@NonNull UUID serviceUUID, @NonNull UUID characteristicUUID, long ttlMillis) {
+    String key = ttlKey(serviceUUID, characteristicUUID);
+    synchronized (lock) {
+      if (ttlMillis == 0) {
+        ttls.remove(key);
+      } else {
+        ttls.put(key, ttlMillis);
+      }
+      // Values were stored with the previous TTL
+      Iterator<Entry> iterator = entries.values().iterator();
+      while (iterator.hasNext()) {
+        if (iterator.next().ttlKey.equals(key)) {
+          iterator.remove();
+        }
+      }
+    }
+  }
+
+  /**
+   * @return cached value of the characteristic or null if it has to be read. Counts a hit or
+   * a miss for characteristics which are cached.
+   */
+  @Nullable
+  public byte[] get(@NonNull Characteristic characteristic) {
+    synchronized (lock) {
+      if (!ttls.containsKey(ttlKey(characteristic.getServiceUUID(), characteristic.getUuid()))) {
+        return null;
+      }
+      Entry entry = entries.get(characteristic.getId());
+      if (entry != null && entry.expiresAtNanos != Long.MAX_VALUE && System.nanoTime() - entry.expiresAtNanos >= 0) {
+        entries.remove(characteristic.getId());
+        entry = null;
+      }
+      if (entry == null) {
+        missCount++;
+        return null;
+      }
+      hitCount++;
+      return entry.value;
+    }
+  }
+
+  /**
+   * @return token to be passed to {@link #put} when the read started now is done.
+   */
+  public long startRead() {
+    synchronized (lock) {
+      return generation;
+    }
+  }
+
+  public void put(@NonNull Characteristic characteristic, @NonNull byte[] value, long readToken) {
+    String key = ttlKey(characteristic.getServiceUUID(), characteristic.getUuid());
+    synchronized (lock) {
+      Long ttlMillis = ttls.get(key);
+      if (ttlMillis == null) {
+        return;
+      }
+      Long invalidatedAt = invalidations.get(characteristic.getId());
+      if (readToken <= clearedAtGeneration || (invalidatedAt != null && invalidatedAt >= readToken)) {
+        return;
+      }
+      long expiresAtNanos = ttlMillis == UNTIL_DISCONNECT
+        ? Long.MAX_VALUE
+        : System.nanoTime() + ttlMillis * 1_000_000;
+      entries.put(characteristic.getId(), new Entry(key, value, expiresAtNanos));
+    }
+  }
+
+  /**
+   * Drops cached value of the characteristic, called when it is written.
+   */
+  public void invalidate(@NonNull Characteristic characteristic) {
+    synchronized (lock) {
+      invalidations.put(characteristic.getId(), generation++);
+      if (entries.remove(characteristic.getId()) != null) {
+        invalidatedCount++;
+      }
+    }
+  }
+
+  /**
+   * Drops all cached values, called when the device disconnects. TTLs are kept.
+   */
+  public void clear() {
+    synchronized (lock) {
+      entries.clear();
+      invalidations.clear();
+      clearedAtGeneration = generation++;
+    }
+  }
+
+  public int getEntryCount() {
+    synchronized (lock) {
+      return entries.size();
+    }
+  }
+
+  public long getHitCount() {
+    synchronized (lock) {
+      return hitCount;
+    }
+  }
+
+  public long getMissCount() {
+    synchronized (lock) {
+      return missCount;
+    }
+  }
+
+  /**
+   * @return number of cached values dropped because their characteristic was written.
+   */
+  public long getInvalidatedCount() {
+    synchronized (lock) {
+      return invalidatedCount;
+    }
+  }
+
+  private static String ttlKey(UUID serviceUUID, UUID characteristicUUID) {
+    return serviceUUID + "/" + characteristicUUID;
+  }
+}
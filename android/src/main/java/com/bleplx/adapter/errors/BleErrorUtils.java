@@ -83,4 +83,40 @@ public class BleErrorUtils {
     bleError.deviceID = deviceID;
     return bleError;
   }
+
+  static public BleError invalidDecryptionKey(String deviceID, String reason) {
+    BleError bleError = new BleError(BleErrorCode.OperationStartFailed, reason, null);
+    bleError.deviceID = deviceID;
+    return bleError;
+  }
+
+  static public BleError scanCaptureFailed(String filePath, String reason) {
+    BleError bleError = new BleError(BleErrorCode.OperationStartFailed, reason, null);
+    bleError.internalMessage = filePath;
+    return bleError;
+  }
+
+  static public BleError notificationRecordingFailed(String directoryPath, String reason) {
+    BleError bleError = new BleError(BleErrorCode.OperationStartFailed, reason, null);
+    bleError.internalMessage = directoryPath;
+    return bleError;
+  }
+
+  static public BleError l2capChannelOpenFailed(String deviceID, String reason) {
+    BleError bleError = new BleError(BleErrorCode.DeviceConnectionFailed, reason, null);
+    bleError.deviceID = deviceID;
+    return bleError;
+  }
+
+  static public BleError l2capChannelFailed(String deviceID, String reason) {
+    BleError bleError = new BleError(BleErrorCode.DeviceDisconnected, reason, null);
+    bleError.deviceID = deviceID;
+    return bleError;
+  }
+
+  static public BleError invalidOperationPriority(String priority) {
+    BleError bleError = new BleError(BleErrorCode.OperationStartFailed, "Unknown operation priority", null);
+    bleError.internalMessage = priority;
+    return bleError;
+  }
 }
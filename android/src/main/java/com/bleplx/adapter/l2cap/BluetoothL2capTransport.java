@@ -0,0 +1,92 @@
+package com.bleplx.adapter.l2cap;
+
+import android.annotation.SuppressLint;
+import android.bluetooth.BluetoothAdapter;
+import android.bluetooth.BluetoothDevice;
+import android.bluetooth.BluetoothSocket;
+import android.os.Build;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.RequiresApi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Opens L2CAP channels with {@link BluetoothSocket}. The platform exposes channels only as
+ * streams of arrays, so buffers passed to the sockets have to be backed by an array, which is
+ * read and written in place.
+ */
+@RequiresApi(api = Build.VERSION_CODES.Q)
+public class BluetoothL2capTransport implements L2capTransport {
+
+  private final BluetoothAdapter bluetoothAdapter;
+
+  public BluetoothL2capTransport(@NonNull BluetoothAdapter bluetoothAdapter) {
+    this.bluetoothAdapter = bluetoothAdapter;
+  }
+
+  @SuppressLint("MissingPermission")
+  @Override
+  public L2capSocket connect(String deviceId, int psm, boolean secure) throws IOException {
+    BluetoothDevice device = bluetoothAdapter.getRemoteDevice(deviceId);
+    BluetoothSocket socket = secure ? device.createL2capChannel(psm) : device.createInsecureL2capChannel(psm);
+    try {
+      socket.connect();
+    } catch (IOException e) {
+      socket.close();
+      throw e;
+    }
+    return new Socket(socket);
+  }
+
+  private static class Socket implements L2capSocket {
+
+    private final BluetoothSocket socket;
+    private final InputStream inputStream;
+    private final OutputStream outputStream;
+
+    Socket(BluetoothSocket socket) throws IOException {
+      this.socket = socket;
+      this.inputStream = socket.getInputStream();
+      this.outputStream = socket.getOutputStream();
+    }
+
+    @Override
+    public int read(ByteBuffer buffer) throws IOException {
+      int count = inputStream.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+      if (count > 0) {
+        buffer.position(buffer.position() + count);
+      }
+      return count;
+    }
+
+    @Override
+    public int available() throws IOException {
+      return inputStream.available();
+    }
+
+    @Override
+    public void write(ByteBuffer buffer) throws IOException {
+      outputStream.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+      buffer.position(buffer.limit());
+    }
+
+    @Override
+    public int getMaxReceivePacketSize() {
+      return socket.getMaxReceivePacketSize();
+    }
+
+    @Override
+    public int getMaxTransmitPacketSize() {
+      return socket.getMaxTransmitPacketSize();
+    }
+
+    @Override
+    public void close() throws IOException {
+      socket.close();
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package com.bleplx.adapter.l2cap;
+
+import androidx.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Completable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Open L2CAP channel of a device. Received data is read in chunks to a single buffer allocated
+ * when the channel is opened, SDUs which are already waiting when a chunk is read are joined to
+ * it, so a busy channel is passed on in few large chunks instead of many small ones. Chunks are
+ * passed on in that buffer, nothing is allocated per chunk.
+ * <p>
+ * Chunks are read by a single thread. Writes are passed to the socket by a thread of the channel,
+ * in order of calls.
+ */
+public class L2capChannel implements Closeable {
+
+  public static final int DEFAULT_CHUNK_SIZE = 16 * 1024;
+
+  private final String deviceId;
+  private final int psm;
+  private final L2capSocket socket;
+  private final ByteBuffer readBuffer;
+  private final Scheduler writeScheduler;
+  private volatile boolean isClosed = false;
+
+  /**
+   * @param chunkSize maximum size of a chunk of received data, at least one received SDU.
+   */
+  public L2capChannel(String deviceId, int psm, L2capSocket socket, int chunkSize) {
+    this.deviceId = deviceId;
+    this.psm = psm;
+    this.socket = socket;
+    this.readBuffer = ByteBuffer.allocate(Math.max(chunkSize, socket.getMaxReceivePacketSize()));
+    // The write thread ends when there are no writes, so a channel which isn't closed doesn't leak it
+    ThreadPoolExecutor writeExecutor = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    writeExecutor.allowCoreThreadTimeOut(true);
+    this.writeScheduler = Schedulers.from(writeExecutor);
+  }
+
+  /**
+   * Blocks until data is received.
+   *
+   * @return buffer of the channel with received data between its position and limit, valid until
+   * the next read. Null when the channel was closed by the peer.
+   */
+  @Nullable
+  public ByteBuffer readChunk() throws IOException {
+    readBuffer.clear();
+    if (socket.read(readBuffer) < 0) {
+      return null;
+    }
+    // Only whole SDUs are joined, so that a chunk never waits for the rest of an SDU
+    while (readBuffer.remaining() >= socket.getMaxReceivePacketSize() && socket.available() > 0) {
+      if (socket.read(readBuffer) < 0) {
+        break;
+      }
+    }
+    readBuffer.flip();
+    return readBuffer;
+  }
+
+  /**
+   * @return completes when the data is passed to the channel.
+   */
+  public Completable write(byte[] data) {
+    return Completable
+      .fromAction(() -> {
+        if (isClosed) {
+          throw new IOException("L2CAP channel is closed");
+        }
+        socket.write(ByteBuffer.wrap(data));
+      })
+      .subscribeOn(writeScheduler);
+  }
+
+  public String getDeviceId() {
+    return deviceId;
+  }
+
+  public int getPsm() {
+    return psm;
+  }
+
+  public int getMaxReceivePacketSize() {
+    return socket.getMaxReceivePacketSize();
+  }
+
+  public int getMaxTransmitPacketSize() {
+    return socket.getMaxTransmitPacketSize();
+  }
+
+  /**
+   * Closes the socket, which unblocks pending reads and writes with an error.
+   */
+  @Override
+  public void close() throws IOException {
+    isClosed = true;
+    socket.close();
+  }
+}
@@ -0,0 +1,39 @@
+package com.bleplx.adapter.l2cap;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Connected LE L2CAP connection-oriented channel. Data is passed in buffers owned by the caller,
+ * so they can be reused for the whole life of the channel.
+ */
+public interface L2capSocket extends Closeable {
+
+  /**
+   * Blocks until data is received and reads it to the buffer from its position up to its limit.
+   *
+   * @return number of read bytes, -1 when the channel was closed by the peer.
+   */
+  int read(ByteBuffer buffer) throws IOException;
+
+  /**
+   * @return number of bytes which can be read without blocking.
+   */
+  int available() throws IOException;
+
+  /**
+   * Blocks until all remaining bytes of the buffer are passed to the channel.
+   */
+  void write(ByteBuffer buffer) throws IOException;
+
+  /**
+   * @return maximum size of a single SDU received from the peer.
+   */
+  int getMaxReceivePacketSize();
+
+  /**
+   * @return maximum size of a single SDU sent to the peer.
+   */
+  int getMaxTransmitPacketSize();
+}
@@ -0,0 +1,17 @@
+package com.bleplx.adapter.l2cap;
+
+import java.io.IOException;
+
+/**
+ * Opens L2CAP channels. The Bluetooth implementation is {@link BluetoothL2capTransport}, tests
+ * pass fakes which don't need a radio.
+ */
+public interface L2capTransport {
+
+  /**
+   * Blocks until the channel is connected.
+   *
+   * @param secure whether the channel requires an encrypted and authenticated link.
+   */
+  L2capSocket connect(String deviceId, int psm, boolean secure) throws IOException;
+}
@@ -0,0 +1,122 @@
+package com.bleplx.adapter.poll;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+
+/**
+ * Runs timers of all characteristic polls on a single worker. Ticks are aligned to multiples of
+ * their interval on a clock shared by all polls, so polls with the same or commensurate intervals
+ * tick together, and reads of several devices are started at once instead of waking the radio up
+ * at unrelated times. Jitter delays each tick by a random time up to its value.
+ */
+public class PollScheduler {
+
+  private static final class Registration {
+    final long intervalMillis;
+    final long jitterMillis;
+    final Runnable tick;
+    long dueAtMillis;
+    volatile boolean cancelled = false;
+
+    Registration(long intervalMillis, long jitterMillis, Runnable tick) {
+      this.intervalMillis = intervalMillis;
+      this.jitterMillis = jitterMillis;
+      this.tick = tick;
+    }
+  }
+
+  private final Scheduler.Worker worker;
+  private final Object lock = new Object();
+  private final List<Registration> registrations = new ArrayList<>();
+  private final Random random = new Random();
+
+  @Nullable
+  private Disposable timer;
+  private long timerDueAtMillis = Long.MAX_VALUE;
+
+  public PollScheduler(@NonNull Scheduler scheduler) {
+    this.worker = scheduler.createWorker();
+  }
+
+  /**
+   * @return disposable which stops the ticks. {@code tick} is called on the scheduler's worker
+   * thread and should not block it.
+   */
+  public Disposable register(long intervalMillis, long jitterMillis, @NonNull Runnable tick) {
+    final Registration registration = new Registration(Math.max(intervalMillis, 1), Math.max(jitterMillis, 0), tick);
+    synchronized (lock) {
+      registration.dueAtMillis = nextTick(registration, worker.now(TimeUnit.MILLISECONDS));
+      registrations.add(registration);
+      reschedule();
+    }
+    return Disposables.fromRunnable(() -> {
+      synchronized (lock) {
+        registration.cancelled = true;
+        registrations.remove(registration);
+        if (registrations.isEmpty() && timer != null) {
+          timer.dispose();
+          timer = null;
+          timerDueAtMillis = Long.MAX_VALUE;
+        }
+      }
+    });
+  }
+
+  private long nextTick(Registration registration, long nowMillis) {
+    long aligned = (nowMillis / registration.intervalMillis + 1) * registration.intervalMillis;
+    if (registration.jitterMillis > 0) {
+      aligned += (long) (random.nextDouble() * registration.jitterMillis);
+    }
+    return aligned;
+  }
+
+  private void reschedule() {
+    long dueAtMillis = Long.MAX_VALUE;
+    for (Registration registration : registrations) {
+      dueAtMillis = Math.min(dueAtMillis, registration.dueAtMillis);
+    }
+    if (dueAtMillis == timerDueAtMillis && timer != null) {
+      return;
+    }
+    if (timer != null) {
+      timer.dispose();
+      timer = null;
+    }
+    timerDueAtMillis = dueAtMillis;
+    if (dueAtMillis != Long.MAX_VALUE) {
+      long delay = Math.max(0, dueAtMillis - worker.now(TimeUnit.MILLISECONDS));
+      timer = worker.schedule(this::onTimer, delay, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void onTimer() {
+    List<Registration> dueRegistrations = new ArrayList<>();
+    synchronized (lock) {
+      timer = null;
+      timerDueAtMillis = Long.MAX_VALUE;
+      long nowMillis = worker.now(TimeUnit.MILLISECONDS);
+      for (Registration registration : registrations) {
+        if (registration.dueAtMillis <= nowMillis) {
+          dueRegistrations.add(registration);
+          // Ticks missed while the thread was busy are skipped, not caught up
+          registration.dueAtMillis = nextTick(registration, nowMillis);
+        }
+      }
+      reschedule();
+    }
+    for (Registration registration : dueRegistrations) {
+      if (!registration.cancelled) {
+        registration.tick.run();
+      }
+    }
+  }
+}
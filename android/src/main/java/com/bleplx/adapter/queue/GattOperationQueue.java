@@ -0,0 +1,364 @@
+package com.bleplx.adapter.queue;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.reactivex.Completable;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import io.reactivex.SingleEmitter;
+import io.reactivex.SingleObserver;
+import io.reactivex.disposables.Disposable;
+
+/**
+ * Queue of GATT operations of a single device placed in front of its {@code RxBleConnection}.
+ * Only one operation is passed to the connection at a time, the rest wait in lanes of their
+ * {@link OperationPriority}. Queued bulk operations are overtaken by every interactive or normal
+ * one, an operation already passed to the connection runs to completion. When the device is
+ * ready to start its next operation, it waits for its turn in the {@link GattScheduler} shared
+ * by all devices.
+ * <p>
+ * Disposing an operation which is still queued only removes it from its lane, the connection
+ * never sees it.
+ */
+public class GattOperationQueue {
+
+  private static final int PRIORITY_COUNT = OperationPriority.values().length;
+
+  private final GattScheduler scheduler;
+  private final Object lock = new Object();
+  private final List<ArrayDeque<Operation<?>>> lanes = new ArrayList<>(PRIORITY_COUNT);
+  private final Map<String, OperationPriority> characteristicPriorities = new HashMap<>();
+
+  @Nullable
+  private Operation<?> runningOperation;
+  private long nextSequenceNumber = 0;
+  private long preemptedCount = 0;
+  private long cancelledCount = 0;
+  private long timedOutCount = 0;
+  private final long[] completedCount = new long[PRIORITY_COUNT];
+  private final long[] totalWaitNanos = new long[PRIORITY_COUNT];
+  private final long[] maxWaitNanos = new long[PRIORITY_COUNT];
+
+  public GattOperationQueue(@NonNull GattScheduler scheduler) {
+    this.scheduler = scheduler;
+    for (int i = 0; i < PRIORITY_COUNT; i++) {
+      lanes.add(new ArrayDeque<>());
+    }
+  }
+
+  public void setCharacteristicPriority(@NonNull UUID serviceUUID,
+                                        @NonNull UUID characteristicUUID,
+                                        @NonNull OperationPriority priority) {
+    synchronized (lock) {
+      characteristicPriorities.put(characteristicKey(serviceUUID, characteristicUUID), priority);
+    }
+  }
+
+  /**
+   * @return priority of operations on the characteristic and its descriptors, {@link
+   * OperationPriority#NORMAL} unless it was set.
+   */
+  @NonNull
+  public OperationPriority getCharacteristicPriority(@NonNull UUID serviceUUID, @NonNull UUID characteristicUUID) {
+    synchronized (lock) {
+      OperationPriority priority = characteristicPriorities.get(characteristicKey(serviceUUID, characteristicUUID));
+      return priority != null ? priority : OperationPriority.NORMAL;
+    }
+  }
+
+  /**
+   * Schedules {@code operation} with the default deadline of its priority set in {@link
+   * GattScheduler}.
+   */
+  public <T> Single<T> schedule(@NonNull OperationPriority priority, @NonNull Single<T> operation) {
+    return schedule(priority, scheduler.getDefaultDeadlineMillis(priority), operation);
+  }
+
+  /**
+   * @param deadlineMillis time in milliseconds in which the operation has to be done, including
+   *                       time spent in the queue, 0 if it has no deadline.
+   * @return single which queues {@code operation} when subscribed and subscribes to it when all
+   * operations of higher priority and operations of the same priority queued before it are done.
+   * It fails with {@link TimeoutException} when the operation is not done before its deadline.
+   */
+  public <T> Single<T> schedule(@NonNull final OperationPriority priority,
+                                long deadlineMillis,
+                                @NonNull final Single<T> operation) {
+    Single<T> queued = Single.create(emitter -> {
+      final Operation<T> queuedOperation = new Operation<>(priority, operation, emitter);
+      emitter.setCancellable(queuedOperation::cancel);
+      enqueue(queuedOperation);
+    });
+    if (deadlineMillis <= 0) {
+      return queued;
+    }
+    return queued
+      .timeout(deadlineMillis, TimeUnit.MILLISECONDS)
+      .doOnError(throwable -> {
+        if (throwable instanceof TimeoutException) {
+          onTimedOut();
+        }
+      });
+  }
+
+  /**
+   * Schedules {@code operations} one after another. Each one is queued when the previous one is
+   * done, so operations of higher priority and operations of other devices may run in between.
+   *
+   * @param deadlineMillis time in milliseconds in which all operations have to be done, 0 if they
+   *                       have no deadline.
+   * @return observable which emits results of the operations in order.
+   */
+  public <T> Observable<T> scheduleSequence(@NonNull final OperationPriority priority,
+                                            final long deadlineMillis,
+                                            @NonNull final Iterable<Single<T>> operations) {
+    return Observable.defer(() -> {
+      final long startedAtNanos = System.nanoTime();
+      return Observable.fromIterable(operations).concatMapSingle(operation -> {
+        if (deadlineMillis <= 0) {
+          return schedule(priority, 0, operation);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+        return schedule(priority, Math.max(1, deadlineMillis - elapsedMillis), operation);
+      });
+    });
+  }
+
+  public Completable schedule(@NonNull OperationPriority priority, @NonNull Completable operation) {
+    return schedule(priority, operation.toSingleDefault(Boolean.TRUE)).ignoreElement();
+  }
+
+  public int getQueueDepth() {
+    synchronized (lock) {
+      int depth = 0;
+      for (ArrayDeque<Operation<?>> lane : lanes) {
+        depth += lane.size();
+      }
+      return depth;
+    }
+  }
+
+  public int getQueueDepth(@NonNull OperationPriority priority) {
+    synchronized (lock) {
+      return lanes.get(priority.ordinal()).size();
+    }
+  }
+
+  public boolean isOperationRunning() {
+    synchronized (lock) {
+      return runningOperation != null;
+    }
+  }
+
+  public long getCompletedCount(@NonNull OperationPriority priority) {
+    synchronized (lock) {
+      return completedCount[priority.ordinal()];
+    }
+  }
+
+  public double getAverageWaitMillis(@NonNull OperationPriority priority) {
+    synchronized (lock) {
+      long count = completedCount[priority.ordinal()];
+      return count > 0 ? totalWaitNanos[priority.ordinal()] / 1_000_000.0 / count : 0;
+    }
+  }
+
+  public double getMaxWaitMillis(@NonNull OperationPriority priority) {
+    synchronized (lock) {
+      return maxWaitNanos[priority.ordinal()] / 1_000_000.0;
+    }
+  }
+
+  /**
+   * @return number of operations started before an older operation of lower priority.
+   */
+  public long getPreemptedCount() {
+    synchronized (lock) {
+      return preemptedCount;
+    }
+  }
+
+  /**
+   * @return number of operations disposed while they were still queued.
+   */
+  public long getCancelledCount() {
+    synchronized (lock) {
+      return cancelledCount;
+    }
+  }
+
+  /**
+   * @return number of operations which failed because they were not done before their deadline.
+   */
+  public long getTimedOutCount() {
+    synchronized (lock) {
+      return timedOutCount;
+    }
+  }
+
+  boolean hasWaitingOperation() {
+    synchronized (lock) {
+      if (runningOperation != null) {
+        return false;
+      }
+      for (ArrayDeque<Operation<?>> lane : lanes) {
+        if (!lane.isEmpty()) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Called by {@link GattScheduler} when this device's turn comes.
+   *
+   * @return operation to start outside of the scheduler's lock, or null if there is no waiting
+   * operation or one is already running.
+   */
+  @Nullable
+  Runnable takeNextOperation() {
+    synchronized (lock) {
+      if (runningOperation != null) {
+        return null;
+      }
+      final Operation<?> next = poll();
+      if (next == null) {
+        return null;
+      }
+      runningOperation = next;
+      int index = next.priority.ordinal();
+      long waitNanos = System.nanoTime() - next.enqueuedAtNanos;
+      totalWaitNanos[index] += waitNanos;
+      maxWaitNanos[index] = Math.max(maxWaitNanos[index], waitNanos);
+      return next::start;
+    }
+  }
+
+  private void enqueue(Operation<?> operation) {
+    synchronized (lock) {
+      operation.sequenceNumber = nextSequenceNumber++;
+      operation.enqueuedAtNanos = System.nanoTime();
+      lanes.get(operation.priority.ordinal()).add(operation);
+    }
+    scheduler.onOperationQueued(this);
+  }
+
+  private void onTimedOut() {
+    synchronized (lock) {
+      timedOutCount++;
+    }
+    scheduler.onOperationTimedOut();
+  }
+
+  @Nullable
+  private Operation<?> poll() {
+    for (int i = 0; i < PRIORITY_COUNT; i++) {
+      Operation<?> operation = lanes.get(i).poll();
+      if (operation == null) {
+        continue;
+      }
+      for (int j = i + 1; j < PRIORITY_COUNT; j++) {
+        Operation<?> waiting = lanes.get(j).peek();
+        if (waiting != null && waiting.sequenceNumber < operation.sequenceNumber) {
+          preemptedCount++;
+          break;
+        }
+      }
+      return operation;
+    }
+    return null;
+  }
+
+  private void onFinished(Operation<?> operation) {
+    synchronized (lock) {
+      if (runningOperation != operation) {
+        return;
+      }
+      runningOperation = null;
+      completedCount[operation.priority.ordinal()]++;
+    }
+    scheduler.onOperationFinished(this);
+  }
+
+  private void onCancelled(Operation<?> operation) {
+    boolean wasQueued;
+    synchronized (lock) {
+      wasQueued = lanes.get(operation.priority.ordinal()).remove(operation);
+      if (wasQueued) {
+        cancelledCount++;
+      }
+    }
+    if (!wasQueued) {
+      onFinished(operation);
+    }
+  }
+
+  private static String characteristicKey(UUID serviceUUID, UUID characteristicUUID) {
+    return serviceUUID + "/" + characteristicUUID;
+  }
+
+  private final class Operation<T> implements SingleObserver<T> {
+    final OperationPriority priority;
+    private final Single<T> source;
+    private final SingleEmitter<T> emitter;
+    long sequenceNumber;
+    long enqueuedAtNanos;
+    @Nullable
+    private volatile Disposable disposable;
+    private volatile boolean cancelled = false;
+
+    Operation(OperationPriority priority, Single<T> source, SingleEmitter<T> emitter) {
+      this.priority = priority;
+      this.source = source;
+      this.emitter = emitter;
+    }
+
+    void start() {
+      if (cancelled) {
+        onFinished(this);
+        return;
+      }
+      source.subscribe(this);
+    }
+
+    void cancel() {
+      cancelled = true;
+      Disposable current = disposable;
+      if (current != null) {
+        current.dispose();
+      }
+      onCancelled(this);
+    }
+
+    @Override
+    public void onSubscribe(@NonNull Disposable d) {
+      disposable = d;
+      if (cancelled) {
+        d.dispose();
+      }
+    }
+
+    @Override
+    public void onSuccess(@NonNull T value) {
+      emitter.onSuccess(value);
+      onFinished(this);
+    }
+
+    @Override
+    public void onError(@NonNull Throwable e) {
+      emitter.tryOnError(e);
+      onFinished(this);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.bleplx.adapter.queue;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.reactivex.Single;
+
+/**
+ * Optionally limits the number of GATT operations in flight across all devices. Each device has
+ * at most one operation in flight, devices ready to start their next one take turns in round-robin
+ * order, so a device with a long queue can't starve the others once the limit is reached.
+ */
+public class GattScheduler {
+
+  /**
+   * Operations in flight are not limited, unless the app sets a limit.
+   */
+  public static final int UNLIMITED_OPERATIONS_IN_FLIGHT = 0;
+
+  private final Object lock = new Object();
+  private final ArrayDeque<GattOperationQueue> readyQueues = new ArrayDeque<>();
+  private final long[] defaultDeadlineMillis = new long[OperationPriority.values().length];
+
+  private int maxOperationsInFlight = UNLIMITED_OPERATIONS_IN_FLIGHT;
+  private int operationsInFlight = 0;
+  private long timedOutCount = 0;
+
+  /**
+   * @param maxOperationsInFlight limit of operations in flight across all devices or {@link
+   *                              #UNLIMITED_OPERATIONS_IN_FLIGHT}.
+   */
+  public void setMaxOperationsInFlight(int maxOperationsInFlight) {
+    synchronized (lock) {
+      this.maxOperationsInFlight = maxOperationsInFlight;
+    }
+    dispatch();
+  }
+
+  public int getMaxOperationsInFlight() {
+    synchronized (lock) {
+      return maxOperationsInFlight;
+    }
+  }
+
+  /**
+   * Sets deadline of operations of the priority which are scheduled without their own deadline,
+   * see {@link GattOperationQueue#schedule(OperationPriority, Single)}.
+   *
+   * @param deadlineMillis deadline in milliseconds, 0 if operations don't have a deadline.
+   */
+  public void setDefaultDeadline(@NonNull OperationPriority priority, long deadlineMillis) {
+    synchronized (lock) {
+      this.defaultDeadlineMillis[priority.ordinal()] = deadlineMillis;
+    }
+  }
+
+  public long getDefaultDeadlineMillis(@NonNull OperationPriority priority) {
+    synchronized (lock) {
+      return defaultDeadlineMillis[priority.ordinal()];
+    }
+  }
+
+  public int getOperationsInFlight() {
+    synchronized (lock) {
+      return operationsInFlight;
+    }
+  }
+
+  /**
+   * @return number of devices waiting for their turn to start an operation.
+   */
+  public int getWaitingDeviceCount() {
+    synchronized (lock) {
+      return readyQueues.size();
+    }
+  }
+
+  public long getTimedOutCount() {
+    synchronized (lock) {
+      return timedOutCount;
+    }
+  }
+
+  void onOperationQueued(GattOperationQueue queue) {
+    synchronized (lock) {
+      // Device with an operation in flight joins the line when that operation finishes
+      if (queue.hasWaitingOperation() && !readyQueues.contains(queue)) {
+        readyQueues.add(queue);
+      }
+    }
+    dispatch();
+  }
+
+  void onOperationFinished(GattOperationQueue queue) {
+    synchronized (lock) {
+      operationsInFlight--;
+      // Goes to the end of the line, after devices which were waiting
+      if (queue.hasWaitingOperation() && !readyQueues.contains(queue)) {
+        readyQueues.add(queue);
+      }
+    }
+    dispatch();
+  }
+
+  void onOperationTimedOut() {
+    synchronized (lock) {
+      timedOutCount++;
+    }
+  }
+
+  private void dispatch() {
+    List<Runnable> operations = new ArrayList<>();
+    synchronized (lock) {
+      while ((maxOperationsInFlight == UNLIMITED_OPERATIONS_IN_FLIGHT || operationsInFlight < maxOperationsInFlight)
+        && !readyQueues.isEmpty()) {
+        Runnable operation = readyQueues.poll().takeNextOperation();
+        if (operation != null) {
+          operationsInFlight++;
+          operations.add(operation);
+        }
+      }
+    }
+    for (Runnable operation : operations) {
+      operation.run();
+    }
+  }
+}
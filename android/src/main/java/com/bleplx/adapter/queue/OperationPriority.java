@@ -0,0 +1,24 @@
+package com.bleplx.adapter.queue;
+
+/**
+ * Priority class of GATT operations queued for a device, in order from the most urgent.
+ */
+public enum OperationPriority {
+
+  INTERACTIVE("interactive"),
+  NORMAL("normal"),
+  BULK("bulk");
+
+  final String name;
+
+  OperationPriority(String name) {
+    this.name = name;
+  }
+
+  public static OperationPriority getByName(String name) {
+    for (OperationPriority priority : OperationPriority.values()) {
+      if (priority.name.equals(name)) return priority;
+    }
+    return null;
+  }
+}
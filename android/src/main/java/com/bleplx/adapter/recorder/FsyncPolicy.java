@@ -0,0 +1,33 @@
+package com.bleplx.adapter.recorder;
+
+/**
+ * When recorded notifications are forced from the page cache to the storage device.
+ */
+public enum FsyncPolicy {
+
+  /**
+   * Only when the recorder is closed or a segment is full, otherwise the OS decides.
+   */
+  NEVER("never"),
+  /**
+   * Periodically, at most the interval of notifications is lost when the device loses power.
+   */
+  INTERVAL("interval"),
+  /**
+   * After every notification, which blocks the monitor until the write reaches storage.
+   */
+  ALWAYS("always");
+
+  final String name;
+
+  FsyncPolicy(String name) {
+    this.name = name;
+  }
+
+  public static FsyncPolicy getByName(String name) {
+    for (FsyncPolicy policy : FsyncPolicy.values()) {
+      if (policy.name.equals(name)) return policy;
+    }
+    return null;
+  }
+}
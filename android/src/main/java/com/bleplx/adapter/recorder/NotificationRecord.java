@@ -0,0 +1,67 @@
+package com.bleplx.adapter.recorder;
+
+import java.util.UUID;
+
+/**
+ * Single notification read from a recording.
+ */
+public class NotificationRecord {
+
+  private final long seq;
+  private final long timestampNanos;
+  private final String deviceId;
+  private final int characteristicId;
+  private final UUID serviceUUID;
+  private final UUID characteristicUUID;
+  private final byte[] value;
+
+  public NotificationRecord(long seq,
+                            long timestampNanos,
+                            String deviceId,
+                            int characteristicId,
+                            UUID serviceUUID,
+                            UUID characteristicUUID,
+                            byte[] value) {
+    this.seq = seq;
+    this.timestampNanos = timestampNanos;
+    this.deviceId = deviceId;
+    this.characteristicId = characteristicId;
+    this.serviceUUID = serviceUUID;
+    this.characteristicUUID = characteristicUUID;
+    this.value = value;
+  }
+
+  public long getSeq() {
+    return seq;
+  }
+
+  /**
+   * @return time when the notification was received in nanoseconds since the Unix epoch.
+   */
+  public long getTimestampNanos() {
+    return timestampNanos;
+  }
+
+  public String getDeviceId() {
+    return deviceId;
+  }
+
+  /**
+   * @return id of the characteristic in the session in which it was recorded.
+   */
+  public int getCharacteristicId() {
+    return characteristicId;
+  }
+
+  public UUID getServiceUUID() {
+    return serviceUUID;
+  }
+
+  public UUID getCharacteristicUUID() {
+    return characteristicUUID;
+  }
+
+  public byte[] getValue() {
+    return value;
+  }
+}
@@ -0,0 +1,235 @@
+package com.bleplx.adapter.recorder;
+
+import android.os.SystemClock;
+
+import androidx.annotation.Nullable;
+
+import com.bleplx.adapter.Characteristic;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
+
+import static com.bleplx.adapter.recorder.NotificationRecordingFormat.RECORD_FIXED_SIZE;
+import static com.bleplx.adapter.recorder.NotificationRecordingFormat.RECORD_LENGTH_SIZE;
+import static com.bleplx.adapter.recorder.NotificationRecordingFormat.SEGMENT_HEADER_SIZE;
+
+/**
+ * Appends notifications to a recording. See {@link NotificationRecordingFormat} for the layout.
+ * Notifications are copied to a memory mapped segment, so a write doesn't make a system call
+ * unless the segment is full or {@link FsyncPolicy#ALWAYS} is used. When the oldest segments
+ * exceed the maximum count, they are deleted. Recording to an existing directory continues after
+ * its last record.
+ * <p>
+ * A recorder which fails to write is closed, following writes are ignored.
+ */
+public class NotificationRecorder implements Closeable {
+
+  public static final int DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+  public static final int MIN_SEGMENT_SIZE = 4096;
+
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private final File directory;
+  private final int segmentSize;
+  private final int maxSegments;
+  private final FsyncPolicy fsyncPolicy;
+  private final long epochOffsetNanos;
+  @Nullable
+  private final Disposable fsyncSubscription;
+
+  @Nullable
+  private FileChannel channel;
+  @Nullable
+  private MappedByteBuffer segment;
+  private long segmentIndex;
+  private long nextSeq = 0;
+  private long recordCount = 0;
+  private boolean isDirty = false;
+  private boolean isClosed = false;
+
+  /**
+   * @param maxSegments         maximum number of kept segments, 0 to keep all of them.
+   * @param fsyncIntervalMillis interval of {@link FsyncPolicy#INTERVAL}.
+   * @throws IOException when the directory cannot be created or contains an invalid segment.
+   */
+  public NotificationRecorder(File directory,
+                              int segmentSize,
+                              int maxSegments,
+                              FsyncPolicy fsyncPolicy,
+                              long fsyncIntervalMillis) throws IOException {
+    if (segmentSize < MIN_SEGMENT_SIZE) {
+      throw new IllegalArgumentException("Segment size has to be at least " + MIN_SEGMENT_SIZE + " bytes");
+    }
+    if (!directory.exists() && !directory.mkdirs()) {
+      throw new IOException("Cannot create directory " + directory);
+    }
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.maxSegments = maxSegments;
+    this.fsyncPolicy = fsyncPolicy;
+    this.epochOffsetNanos = System.currentTimeMillis() * 1_000_000 - SystemClock.elapsedRealtimeNanos();
+    resume();
+    this.fsyncSubscription = fsyncPolicy == FsyncPolicy.INTERVAL
+      ? Observable.interval(fsyncIntervalMillis, fsyncIntervalMillis, TimeUnit.MILLISECONDS, Schedulers.io())
+      .subscribe(tick -> sync())
+      : null;
+  }
+
+  public synchronized void write(Characteristic characteristic) throws IOException {
+    if (isClosed || segment == null) {
+      return;
+    }
+    byte[] deviceId = characteristic.getDeviceId().getBytes(UTF_8);
+    byte[] value = characteristic.getValue() != null ? characteristic.getValue() : new byte[0];
+    int length = RECORD_FIXED_SIZE + deviceId.length + value.length;
+    try {
+      if (deviceId.length > 0xFF || SEGMENT_HEADER_SIZE + RECORD_LENGTH_SIZE + length > segmentSize) {
+        throw new IOException("Notification doesn't fit in a segment");
+      }
+      if (segment.remaining() < RECORD_LENGTH_SIZE + length) {
+        closeSegment();
+        openSegment(segmentIndex + 1);
+      }
+      int start = segment.position();
+      segment.position(start + RECORD_LENGTH_SIZE);
+      segment.putLong(nextSeq);
+      segment.putLong(epochOffsetNanos + characteristic.getValueTimestampNanos());
+      segment.putInt(characteristic.getId());
+      putUUID(characteristic.getServiceUUID());
+      putUUID(characteristic.getUuid());
+      segment.put((byte) deviceId.length);
+      segment.put(deviceId);
+      segment.put(value);
+      // Written last, the record is complete once its length is set
+      segment.putInt(start, length);
+      nextSeq++;
+      recordCount++;
+      isDirty = true;
+      if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+        sync();
+      }
+    } catch (IOException e) {
+      try {
+        close();
+      } catch (IOException closeError) {
+        // The write error is reported
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Forces written notifications to the storage device.
+   */
+  public synchronized void sync() {
+    if (segment != null && isDirty) {
+      segment.force();
+      isDirty = false;
+    }
+  }
+
+  /**
+   * @return sequence number of the next written notification.
+   */
+  public synchronized long getNextSeq() {
+    return nextSeq;
+  }
+
+  /**
+   * @return number of notifications written by this recorder.
+   */
+  public synchronized long getRecordCount() {
+    return recordCount;
+  }
+
+  public File getDirectory() {
+    return directory;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (isClosed) {
+      return;
+    }
+    isClosed = true;
+    if (fsyncSubscription != null) {
+      fsyncSubscription.dispose();
+    }
+    closeSegment();
+  }
+
+  private void resume() throws IOException {
+    File[] segments = NotificationRecordingFormat.listSegments(directory);
+    if (segments.length == 0) {
+      openSegment(0);
+      return;
+    }
+    File lastSegment = segments[segments.length - 1];
+    segmentIndex = NotificationRecordingFormat.segmentIndex(lastSegment);
+    channel = new RandomAccessFile(lastSegment, "rw").getChannel();
+    segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentSize, channel.size()));
+    if (!NotificationRecordingFormat.readHeader(segment)) {
+      closeSegment();
+      throw new IOException("Not a notification recording segment: " + lastSegment);
+    }
+    nextSeq = segment.getLong(SEGMENT_HEADER_SIZE - 8);
+    int length;
+    while ((length = NotificationRecordingFormat.peekRecordLength(segment)) > 0) {
+      segment.position(segment.position() + RECORD_LENGTH_SIZE + length);
+      nextSeq++;
+    }
+  }
+
+  private void openSegment(long index) throws IOException {
+    channel = new RandomAccessFile(NotificationRecordingFormat.segmentFile(directory, index), "rw").getChannel();
+    segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    segment.putInt(NotificationRecordingFormat.MAGIC);
+    segment.put((byte) NotificationRecordingFormat.VERSION);
+    segment.putLong(nextSeq);
+    segmentIndex = index;
+    isDirty = true;
+    deleteOldSegments();
+  }
+
+  private void closeSegment() throws IOException {
+    if (segment == null || channel == null) {
+      return;
+    }
+    try {
+      // Segment keeps its size, readers may have it mapped. Its unused end is zeros, which end records
+      segment.force();
+    } finally {
+      channel.close();
+      segment = null;
+      channel = null;
+      isDirty = false;
+    }
+  }
+
+  private void deleteOldSegments() {
+    if (maxSegments <= 0) {
+      return;
+    }
+    File[] segments = NotificationRecordingFormat.listSegments(directory);
+    for (int i = 0; i < segments.length - maxSegments; i++) {
+      //noinspection ResultOfMethodCallIgnored
+      segments[i].delete();
+    }
+  }
+
+  private void putUUID(UUID uuid) {
+    segment.putLong(uuid.getMostSignificantBits());
+    segment.putLong(uuid.getLeastSignificantBits());
+  }
+}
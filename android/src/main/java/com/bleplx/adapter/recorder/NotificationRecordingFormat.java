@@ -0,0 +1,83 @@
+package com.bleplx.adapter.recorder;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Layout of notification recordings. A recording is a directory of segment files of fixed size,
+ * numbered in order of writing. Each segment is memory mapped while it is written:
+ * <pre>
+ * segment := magic(4) version(1) firstSeq(8) record* zeros
+ * record  := length(4) seq(8) timestampNanos(8) characteristicId(4) serviceUUID(16)
+ *            characteristicUUID(16) deviceIdLength(1) deviceId(deviceIdLength) value
+ * </pre>
+ * All numbers are big endian. Length counts bytes of the record after the length field, the
+ * value takes the rest of them. Records end at the first zero length, the length of a record is
+ * written after its content so that a record cut off by a crash is never read. Sequence numbers
+ * are consecutive across segments, timestamps are nanoseconds since the Unix epoch.
+ */
+final class NotificationRecordingFormat {
+
+  static final int MAGIC = 0x424E5243; // "BNRC"
+  static final int VERSION = 1;
+
+  static final int SEGMENT_HEADER_SIZE = 4 + 1 + 8;
+  static final int RECORD_LENGTH_SIZE = 4;
+  static final int RECORD_FIXED_SIZE = 8 + 8 + 4 + 16 + 16 + 1;
+
+  private static final String SEGMENT_SUFFIX = ".nrec";
+
+  private NotificationRecordingFormat() {
+  }
+
+  static File segmentFile(File directory, long index) {
+    return new File(directory, String.format(Locale.US, "%010d%s", index, SEGMENT_SUFFIX));
+  }
+
+  /**
+   * @return segment files of the recording in order of writing, empty if there aren't any.
+   */
+  static File[] listSegments(File directory) {
+    File[] segments = directory.listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+    if (segments == null) {
+      return new File[0];
+    }
+    Arrays.sort(segments);
+    return segments;
+  }
+
+  static long segmentIndex(File segment) {
+    String name = segment.getName();
+    return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+  }
+
+  /**
+   * @return whether the segment starts with a valid header, which is then skipped.
+   */
+  static boolean readHeader(ByteBuffer segment) {
+    if (segment.remaining() < SEGMENT_HEADER_SIZE
+      || segment.getInt() != MAGIC
+      || segment.get() != VERSION) {
+      return false;
+    }
+    segment.getLong();
+    return true;
+  }
+
+  /**
+   * @return length of the record starting at the current position, 0 if there are no more
+   * complete records.
+   */
+  static int peekRecordLength(ByteBuffer segment) {
+    if (segment.remaining() < RECORD_LENGTH_SIZE) {
+      return 0;
+    }
+    int length = segment.getInt(segment.position());
+    if (length < RECORD_FIXED_SIZE || length > segment.remaining() - RECORD_LENGTH_SIZE) {
+      return 0;
+    }
+    return length;
+  }
+}
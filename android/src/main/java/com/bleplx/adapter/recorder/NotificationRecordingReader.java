@@ -0,0 +1,138 @@
+package com.bleplx.adapter.recorder;
+
+import androidx.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.UUID;
+
+import static com.bleplx.adapter.recorder.NotificationRecordingFormat.RECORD_FIXED_SIZE;
+import static com.bleplx.adapter.recorder.NotificationRecordingFormat.RECORD_LENGTH_SIZE;
+
+/**
+ * Reads notifications written by {@link NotificationRecorder}, also while the recording is still
+ * being written. Segments which contain only notifications before the requested sequence number
+ * are skipped without reading them. Segments deleted by the recorder after the reader was created
+ * are skipped too.
+ */
+public class NotificationRecordingReader implements Closeable {
+
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private final File[] segments;
+  private final long sinceSeq;
+  private int segmentPosition = -1;
+  @Nullable
+  private FileChannel channel;
+  @Nullable
+  private ByteBuffer segment;
+
+  /**
+   * @param sinceSeq sequence number of the first notification to read.
+   */
+  public NotificationRecordingReader(File directory, long sinceSeq) {
+    this.segments = NotificationRecordingFormat.listSegments(directory);
+    this.sinceSeq = sinceSeq;
+  }
+
+  /**
+   * @return next recorded notification or null when there are no more notifications.
+   * @throws IOException when a segment cannot be read or is not a notification recording.
+   */
+  @Nullable
+  public NotificationRecord read() throws IOException {
+    while (true) {
+      if (segment == null && !openNextSegment()) {
+        return null;
+      }
+      int length = NotificationRecordingFormat.peekRecordLength(segment);
+      if (length == 0) {
+        closeSegment();
+        continue;
+      }
+      if (segment.getLong(segment.position() + RECORD_LENGTH_SIZE) < sinceSeq) {
+        segment.position(segment.position() + RECORD_LENGTH_SIZE + length);
+        continue;
+      }
+      return readRecord(length);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    closeSegment();
+  }
+
+  private boolean openNextSegment() throws IOException {
+    while (++segmentPosition < segments.length) {
+      File file = segments[segmentPosition];
+      try {
+        if (segmentPosition + 1 < segments.length && readFirstSeq(segments[segmentPosition + 1]) <= sinceSeq) {
+          continue;
+        }
+        channel = new FileInputStream(file).getChannel();
+      } catch (FileNotFoundException e) {
+        continue;
+      }
+      segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (!NotificationRecordingFormat.readHeader(segment)) {
+        closeSegment();
+        throw new IOException("Not a notification recording segment: " + file);
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private void closeSegment() throws IOException {
+    segment = null;
+    if (channel != null) {
+      channel.close();
+      channel = null;
+    }
+  }
+
+  private NotificationRecord readRecord(int length) throws IOException {
+    segment.position(segment.position() + RECORD_LENGTH_SIZE);
+    long seq = segment.getLong();
+    long timestampNanos = segment.getLong();
+    int characteristicId = segment.getInt();
+    UUID serviceUUID = new UUID(segment.getLong(), segment.getLong());
+    UUID characteristicUUID = new UUID(segment.getLong(), segment.getLong());
+    int deviceIdLength = segment.get() & 0xFF;
+    int valueLength = length - RECORD_FIXED_SIZE - deviceIdLength;
+    if (valueLength < 0) {
+      throw new IOException("Malformed notification record " + seq);
+    }
+    byte[] deviceId = new byte[deviceIdLength];
+    segment.get(deviceId);
+    byte[] value = new byte[valueLength];
+    segment.get(value);
+    return new NotificationRecord(
+      seq,
+      timestampNanos,
+      new String(deviceId, UTF_8),
+      characteristicId,
+      serviceUUID,
+      characteristicUUID,
+      value
+    );
+  }
+
+  private static long readFirstSeq(File file) throws IOException {
+    try (DataInputStream inputStream = new DataInputStream(new FileInputStream(file))) {
+      if (inputStream.readInt() != NotificationRecordingFormat.MAGIC
+        || inputStream.readUnsignedByte() != NotificationRecordingFormat.VERSION) {
+        throw new IOException("Not a notification recording segment: " + file);
+      }
+      return inputStream.readLong();
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package com.bleplx.adapter.scan;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bleplx.adapter.AdvertisementData;
+import com.bleplx.adapter.ScanResult;
+
+import java.security.GeneralSecurityException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decrypts encrypted advertisement payloads of devices which have a key registered. Currently
+ * supported format is BTHome v2 encrypted service data (AES-CCM, 4 byte MIC), decrypted payload
+ * is reported in the plaintext BTHome format.
+ */
+public class AdvertisementDecryptor {
+
+  public interface Format {
+    String BTHOME_V2 = "BTHomeV2";
+  }
+
+  public interface Status {
+    String DECRYPTED = "Decrypted";
+    String AUTHENTICATION_FAILED = "AuthenticationFailed";
+  }
+
+  public static final int KEY_LENGTH = 16;
+
+  private static final UUID BTHOME_UUID = UUID.fromString("0000fcd2-0000-1000-8000-00805f9b34fb");
+  private static final int BTHOME_ENCRYPTION_FLAG = 0x01;
+  private static final int BTHOME_COUNTER_LENGTH = 4;
+  private static final int BTHOME_MIC_LENGTH = 4;
+  private static final int BTHOME_NONCE_LENGTH = 13;
+
+  private final Map<String, AesCcm> keys = new ConcurrentHashMap<>();
+
+  /**
+   * @throws GeneralSecurityException when key cannot be used with AES.
+   * @throws IllegalArgumentException when key or format is invalid.
+   */
+  public void setKey(@NonNull String deviceId, @NonNull byte[] key, @NonNull String format) throws GeneralSecurityException {
+    if (!Format.BTHOME_V2.equals(format)) {
+      throw new IllegalArgumentException("Unsupported advertisement encryption format: " + format);
+    }
+    if (key.length != KEY_LENGTH) {
+      throw new IllegalArgumentException("Decryption key has to be " + KEY_LENGTH + " bytes long");
+    }
+    keys.put(deviceId.toUpperCase(), new AesCcm(key));
+  }
+
+  public void removeKey(@NonNull String deviceId) {
+    keys.remove(deviceId.toUpperCase());
+  }
+
+  public void clear() {
+    keys.clear();
+  }
+
+  public boolean isEmpty() {
+    return keys.isEmpty();
+  }
+
+  /**
+   * Decrypts payloads of the scan result in place when its device has a registered key. Results of
+   * devices without a key are left untouched.
+   */
+  public void decrypt(@NonNull ScanResult scanResult) {
+    if (keys.isEmpty()) {
+      return;
+    }
+    AesCcm aesCcm = keys.get(scanResult.getDeviceId().toUpperCase());
+    AdvertisementData advertisementData = scanResult.getAdvertisementData();
+    if (aesCcm == null || advertisementData == null || advertisementData.getServiceData() == null) {
+      return;
+    }
+    byte[] payload = advertisementData.getServiceData().get(BTHOME_UUID);
+    if (payload == null || payload.length == 0 || (payload[0] & BTHOME_ENCRYPTION_FLAG) == 0) {
+      return;
+    }
+
+    byte[] plaintext = decryptBTHome(aesCcm, scanResult.getDeviceId(), payload);
+    if (plaintext == null) {
+      scanResult.setDecryptionStatus(Status.AUTHENTICATION_FAILED);
+      return;
+    }
+    Map<UUID, byte[]> decryptedServiceData = new HashMap<>();
+    decryptedServiceData.put(BTHOME_UUID, plaintext);
+    scanResult.setDecryptedServiceData(decryptedServiceData);
+    scanResult.setDecryptionStatus(Status.DECRYPTED);
+  }
+
+  /**
+   * Encrypted BTHome v2 service data: device info (1), ciphertext (n), counter (4), MIC (4). Nonce is
+   * MAC address (6), UUID in little endian (2), device info (1) and counter (4).
+   */
+  @Nullable
+  static byte[] decryptBTHome(AesCcm aesCcm, String deviceId, byte[] payload) {
+    int ciphertextLength = payload.length - 1 - BTHOME_COUNTER_LENGTH - BTHOME_MIC_LENGTH;
+    if (ciphertextLength < 0) {
+      return null;
+    }
+    byte[] nonce = new byte[BTHOME_NONCE_LENGTH];
+    ScanCaptureFormat.macToBytes(deviceId, nonce, 0);
+    nonce[6] = (byte) 0xD2;
+    nonce[7] = (byte) 0xFC;
+    nonce[8] = payload[0];
+    System.arraycopy(payload, 1 + ciphertextLength, nonce, 9, BTHOME_COUNTER_LENGTH);
+
+    final byte[] decrypted;
+    try {
+      decrypted = aesCcm.decrypt(nonce, payload, 1, ciphertextLength,
+        payload, payload.length - BTHOME_MIC_LENGTH, BTHOME_MIC_LENGTH);
+    } catch (GeneralSecurityException e) {
+      return null;
+    }
+    if (decrypted == null) {
+      return null;
+    }
+    byte[] plaintext = new byte[1 + ciphertextLength];
+    plaintext[0] = (byte) (payload[0] & ~BTHOME_ENCRYPTION_FLAG);
+    System.arraycopy(decrypted, 0, plaintext, 1, ciphertextLength);
+    return plaintext;
+  }
+}
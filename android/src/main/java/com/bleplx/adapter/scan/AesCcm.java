@@ -0,0 +1,92 @@
+package com.bleplx.adapter.scan;
+
+import androidx.annotation.Nullable;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * AES-CCM (RFC 3610) decryption without associated data. Platform providers on Android do not
+ * implement CCM, so it is built on top of the AES block cipher. Instances keep an initialized
+ * cipher and scratch blocks for a single key and are safe to use from multiple threads.
+ */
+public class AesCcm {
+
+  private static final int BLOCK_SIZE = 16;
+
+  private final Cipher cipher;
+  private final byte[] counterBlock = new byte[BLOCK_SIZE];
+  private final byte[] keyStream = new byte[BLOCK_SIZE];
+  private final byte[] macBlock = new byte[BLOCK_SIZE];
+  private final byte[] tagMask = new byte[BLOCK_SIZE];
+
+  public AesCcm(byte[] key) throws GeneralSecurityException {
+    cipher = Cipher.getInstance("AES/ECB/NoPadding");
+    cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"));
+  }
+
+  /**
+   * @return plaintext or null when authentication tag does not match.
+   */
+  @Nullable
+  public synchronized byte[] decrypt(byte[] nonce,
+                                     byte[] input,
+                                     int offset,
+                                     int length,
+                                     byte[] tag,
+                                     int tagOffset,
+                                     int tagLength) throws GeneralSecurityException {
+    final int lengthFieldSize = 15 - nonce.length;
+    if (lengthFieldSize < 2 || lengthFieldSize > 8) {
+      throw new IllegalArgumentException("Nonce has to be between 7 and 13 bytes long");
+    }
+    if (tagLength < 4 || tagLength > 16 || tagLength % 2 != 0) {
+      throw new IllegalArgumentException("Invalid tag length: " + tagLength);
+    }
+
+    // CTR mode decryption, counter 0 is reserved for the tag
+    byte[] plaintext = new byte[length];
+    counterBlock[0] = (byte) (lengthFieldSize - 1);
+    System.arraycopy(nonce, 0, counterBlock, 1, nonce.length);
+    setCounter(counterBlock, lengthFieldSize, 0);
+    cipher.doFinal(counterBlock, 0, BLOCK_SIZE, tagMask, 0);
+    for (int position = 0, counter = 1; position < length; position += BLOCK_SIZE, counter++) {
+      setCounter(counterBlock, lengthFieldSize, counter);
+      cipher.doFinal(counterBlock, 0, BLOCK_SIZE, keyStream, 0);
+      int blockLength = Math.min(BLOCK_SIZE, length - position);
+      for (int i = 0; i < blockLength; i++) {
+        plaintext[position + i] = (byte) (input[offset + position + i] ^ keyStream[i]);
+      }
+    }
+
+    // CBC-MAC over B0 and the plaintext
+    macBlock[0] = (byte) ((((tagLength - 2) / 2) << 3) | (lengthFieldSize - 1));
+    System.arraycopy(nonce, 0, macBlock, 1, nonce.length);
+    setCounter(macBlock, lengthFieldSize, length);
+    cipher.doFinal(macBlock, 0, BLOCK_SIZE, macBlock, 0);
+    for (int position = 0; position < length; position += BLOCK_SIZE) {
+      int blockLength = Math.min(BLOCK_SIZE, length - position);
+      for (int i = 0; i < blockLength; i++) {
+        macBlock[i] ^= plaintext[position + i];
+      }
+      cipher.doFinal(macBlock, 0, BLOCK_SIZE, macBlock, 0);
+    }
+
+    byte[] expectedTag = new byte[tagLength];
+    byte[] receivedTag = new byte[tagLength];
+    for (int i = 0; i < tagLength; i++) {
+      expectedTag[i] = (byte) (macBlock[i] ^ tagMask[i]);
+      receivedTag[i] = tag[tagOffset + i];
+    }
+    return MessageDigest.isEqual(expectedTag, receivedTag) ? plaintext : null;
+  }
+
+  private static void setCounter(byte[] block, int lengthFieldSize, int value) {
+    for (int i = 0; i < lengthFieldSize; i++) {
+      block[BLOCK_SIZE - 1 - i] = (byte) (i < 4 ? value >>> (i * 8) : 0);
+    }
+  }
+}
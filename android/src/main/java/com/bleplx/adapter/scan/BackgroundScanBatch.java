@@ -0,0 +1,28 @@
+package com.bleplx.adapter.scan;
+
+import com.bleplx.adapter.ScanResult;
+
+import java.util.List;
+
+/**
+ * Scan results drained from {@link BackgroundScanStore} together with the number of results which
+ * were dropped since the previous batch because the store was full.
+ */
+public class BackgroundScanBatch {
+
+  private final List<ScanResult> scanResults;
+  private final long droppedCount;
+
+  public BackgroundScanBatch(List<ScanResult> scanResults, long droppedCount) {
+    this.scanResults = scanResults;
+    this.droppedCount = droppedCount;
+  }
+
+  public List<ScanResult> getScanResults() {
+    return scanResults;
+  }
+
+  public long getDroppedCount() {
+    return droppedCount;
+  }
+}
@@ -0,0 +1,67 @@
+package com.bleplx.adapter.scan;
+
+import android.app.PendingIntent;
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.os.Build;
+
+import com.bleplx.adapter.ScanResult;
+import com.bleplx.adapter.utils.mapper.RxScanResultToScanResultMapper;
+import com.polidea.rxandroidble2.RxBleClient;
+import com.polidea.rxandroidble2.internal.RxBleLog;
+import com.polidea.rxandroidble2.scan.BleScanException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Receives scan results which the system delivers for a background scan and keeps them in
+ * {@link BackgroundScanStore} until JS asks for them. The receiver may be started while the
+ * React Native runtime is not running, so it does not depend on it.
+ */
+public class BackgroundScanReceiver extends BroadcastReceiver {
+
+  public static final String ACTION_SCAN_RESULT = "com.bleplx.ACTION_BACKGROUND_SCAN_RESULT";
+
+  private static final int REQUEST_CODE = 0x426C;
+
+  private static RxBleClient rxBleClient;
+
+  private final RxScanResultToScanResultMapper mapper = new RxScanResultToScanResultMapper();
+
+  public static PendingIntent createPendingIntent(Context context) {
+    Intent intent = new Intent(context, BackgroundScanReceiver.class).setAction(ACTION_SCAN_RESULT);
+    int flags = PendingIntent.FLAG_UPDATE_CURRENT;
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
+      // System fills the intent with scan results, so it has to stay mutable
+      flags |= PendingIntent.FLAG_MUTABLE;
+    }
+    return PendingIntent.getBroadcast(context, REQUEST_CODE, intent, flags);
+  }
+
+  @Override
+  public void onReceive(Context context, Intent intent) {
+    if (!ACTION_SCAN_RESULT.equals(intent.getAction())) {
+      return;
+    }
+    try {
+      List<com.polidea.rxandroidble2.scan.ScanResult> rxScanResults =
+        getClient(context).getBackgroundScanner().onScanResultReceived(intent);
+      List<ScanResult> scanResults = new ArrayList<>(rxScanResults.size());
+      for (com.polidea.rxandroidble2.scan.ScanResult rxScanResult : rxScanResults) {
+        scanResults.add(mapper.map(rxScanResult));
+      }
+      BackgroundScanStore.getInstance().addAll(scanResults);
+    } catch (BleScanException e) {
+      RxBleLog.e(e, "Background scan failed");
+    }
+  }
+
+  private static synchronized RxBleClient getClient(Context context) {
+    if (rxBleClient == null) {
+      rxBleClient = RxBleClient.create(context.getApplicationContext());
+    }
+    return rxBleClient;
+  }
+}
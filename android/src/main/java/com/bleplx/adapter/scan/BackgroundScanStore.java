@@ -0,0 +1,95 @@
+package com.bleplx.adapter.scan;
+
+import androidx.annotation.Nullable;
+
+import com.bleplx.adapter.ScanResult;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded buffer for scan results delivered by the system while scanning in background. Results
+ * are kept until they are drained; when the buffer is full the oldest result is dropped.
+ */
+public class BackgroundScanStore {
+
+  public static final int DEFAULT_CAPACITY = 256;
+
+  public interface OnResultsAvailableListener {
+    void onResultsAvailable(int count);
+  }
+
+  private static final BackgroundScanStore INSTANCE = new BackgroundScanStore();
+
+  private final ArrayDeque<ScanResult> results = new ArrayDeque<>();
+  private int capacity = DEFAULT_CAPACITY;
+  private long droppedCount = 0;
+  @Nullable
+  private OnResultsAvailableListener listener;
+
+  public static BackgroundScanStore getInstance() {
+    return INSTANCE;
+  }
+
+  BackgroundScanStore() {
+  }
+
+  public synchronized void setCapacity(int capacity) {
+    this.capacity = Math.max(1, capacity);
+    while (results.size() > this.capacity) {
+      results.pollFirst();
+      droppedCount++;
+    }
+  }
+
+  public synchronized void setListener(@Nullable OnResultsAvailableListener listener) {
+    this.listener = listener;
+  }
+
+  public void addAll(List<ScanResult> scanResults) {
+    final OnResultsAvailableListener currentListener;
+    final int count;
+    synchronized (this) {
+      for (ScanResult scanResult : scanResults) {
+        if (results.size() >= capacity) {
+          results.pollFirst();
+          droppedCount++;
+        }
+        results.addLast(scanResult);
+      }
+      currentListener = listener;
+      count = results.size();
+    }
+    if (currentListener != null && !scanResults.isEmpty()) {
+      currentListener.onResultsAvailable(count);
+    }
+  }
+
+  public synchronized List<ScanResult> drain(int maxCount) {
+    int count = maxCount > 0 ? Math.min(maxCount, results.size()) : results.size();
+    List<ScanResult> drained = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      drained.add(results.pollFirst());
+    }
+    return drained;
+  }
+
+  public synchronized int size() {
+    return results.size();
+  }
+
+  /**
+   * @return number of results dropped because the buffer was full since the last call.
+   */
+  public synchronized long takeDroppedCount() {
+    long dropped = droppedCount;
+    droppedCount = 0;
+    return dropped;
+  }
+
+  public synchronized void clear() {
+    results.clear();
+    droppedCount = 0;
+  }
+}
@@ -0,0 +1,99 @@
+package com.bleplx.adapter.scan;
+
+import android.annotation.SuppressLint;
+import android.bluetooth.le.BluetoothLeScanner;
+import android.bluetooth.le.ScanCallback;
+import android.bluetooth.le.ScanFilter;
+import android.bluetooth.le.ScanResult;
+import android.bluetooth.le.ScanSettings;
+import android.os.Build;
+import android.os.ParcelUuid;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+
+import com.polidea.rxandroidble2.scan.BleScanException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import io.reactivex.Observable;
+
+/**
+ * Scans with the platform scanner directly. RxAndroidBle does not expose PHY selection nor the
+ * extended advertising fields of scan results (advertising SID, PHYs, periodic advertising
+ * interval), so scans which need them bypass it. Synchronizing to periodic advertising trains is
+ * not supported, the public SDK does not give regular apps access to it.
+ */
+@RequiresApi(api = Build.VERSION_CODES.O)
+public class ExtendedScanner {
+
+  private final BluetoothLeScanner scanner;
+
+  public ExtendedScanner(@NonNull BluetoothLeScanner scanner) {
+    this.scanner = scanner;
+  }
+
+  @SuppressLint("MissingPermission")
+  public Observable<ScanResult> scan(@Nullable UUID[] uuids, int scanMode, int callbackType, boolean legacy, int phy) {
+    final ScanSettings scanSettings = new ScanSettings.Builder()
+      .setScanMode(scanMode)
+      .setCallbackType(callbackType)
+      .setLegacy(legacy)
+      .setPhy(phy)
+      .build();
+
+    final List<ScanFilter> filters = new ArrayList<>();
+    if (uuids != null) {
+      for (UUID uuid : uuids) {
+        filters.add(new ScanFilter.Builder().setServiceUuid(new ParcelUuid(uuid)).build());
+      }
+    }
+
+    return Observable.create(emitter -> {
+      final ScanCallback scanCallback = new ScanCallback() {
+        @Override
+        public void onScanResult(int callbackType, ScanResult result) {
+          emitter.onNext(result);
+        }
+
+        @Override
+        public void onBatchScanResults(List<ScanResult> results) {
+          for (ScanResult result : results) {
+            emitter.onNext(result);
+          }
+        }
+
+        @Override
+        public void onScanFailed(int errorCode) {
+          emitter.tryOnError(new BleScanException(toScanExceptionReason(errorCode)));
+        }
+      };
+      scanner.startScan(filters, scanSettings, scanCallback);
+      emitter.setCancellable(() -> {
+        try {
+          scanner.stopScan(scanCallback);
+        } catch (IllegalStateException e) {
+          // Adapter was turned off, scan is already stopped
+        }
+      });
+    });
+  }
+
+  private static int toScanExceptionReason(int errorCode) {
+    switch (errorCode) {
+      case ScanCallback.SCAN_FAILED_ALREADY_STARTED:
+        return BleScanException.SCAN_FAILED_ALREADY_STARTED;
+      case ScanCallback.SCAN_FAILED_APPLICATION_REGISTRATION_FAILED:
+        return BleScanException.SCAN_FAILED_APPLICATION_REGISTRATION_FAILED;
+      case ScanCallback.SCAN_FAILED_INTERNAL_ERROR:
+        return BleScanException.SCAN_FAILED_INTERNAL_ERROR;
+      case ScanCallback.SCAN_FAILED_FEATURE_UNSUPPORTED:
+        return BleScanException.SCAN_FAILED_FEATURE_UNSUPPORTED;
+      default:
+        return BleScanException.UNKNOWN_ERROR_CODE;
+    }
+  }
+}
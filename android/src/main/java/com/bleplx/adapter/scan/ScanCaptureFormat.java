@@ -0,0 +1,48 @@
+package com.bleplx.adapter.scan;
+
+/**
+ * Layout of scan capture files. A file is an append-only sequence of sessions, every time a
+ * capture is started a new session header is written:
+ * <pre>
+ * session := SESSION_TAG magic(4) version(1) baseTimestampNanos(8)
+ * record  := RECORD_TAG deltaMicros(varint) mac(6) rssi(1) flags(1) length(varint) scanRecord(length)
+ * </pre>
+ * Record timestamps are stored as a delta from the previous record of the same session, so a
+ * typical advertisement costs ~12 bytes of overhead on top of its raw scan record.
+ */
+final class ScanCaptureFormat {
+
+  static final int SESSION_TAG = 'S';
+  static final int RECORD_TAG = 'R';
+  static final int MAGIC = 0x42504C58; // "BPLX"
+  static final int VERSION = 1;
+
+  static final int FLAG_CONNECTABLE = 0x01;
+
+  static final int MAC_LENGTH = 6;
+
+  private ScanCaptureFormat() {
+  }
+
+  static void macToBytes(String deviceId, byte[] out, int offset) {
+    for (int i = 0; i < MAC_LENGTH; i++) {
+      int index = i * 3;
+      out[offset + i] = (byte) ((Character.digit(deviceId.charAt(index), 16) << 4)
+        | Character.digit(deviceId.charAt(index + 1), 16));
+    }
+  }
+
+  static String bytesToMac(byte[] mac) {
+    final char[] hexArray = "0123456789ABCDEF".toCharArray();
+    char[] chars = new char[MAC_LENGTH * 3 - 1];
+    for (int i = 0; i < MAC_LENGTH; i++) {
+      int v = mac[i] & 0xFF;
+      chars[i * 3] = hexArray[v >>> 4];
+      chars[i * 3 + 1] = hexArray[v & 0x0F];
+      if (i < MAC_LENGTH - 1) {
+        chars[i * 3 + 2] = ':';
+      }
+    }
+    return new String(chars);
+  }
+}
@@ -0,0 +1,110 @@
+package com.bleplx.adapter.scan;
+
+import androidx.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Reads records written by {@link ScanCaptureWriter}. Timestamps of consecutive sessions are
+ * rebased so that every session continues where the previous one ended, which keeps replayed
+ * timelines monotonic. A truncated record at the end of the file (e.g. when the app was killed
+ * during capture) is treated as end of file.
+ */
+public class ScanCaptureReader implements Closeable {
+
+  private final DataInputStream inputStream;
+  private final byte[] mac = new byte[ScanCaptureFormat.MAC_LENGTH];
+  private boolean isSessionStarted = false;
+  private long timestampNanos;
+  private long sessionOffsetNanos = 0;
+  private long lastTimestampNanos = 0;
+
+  public ScanCaptureReader(File file) throws IOException {
+    this.inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+  }
+
+  /**
+   * @return next captured record or null when there are no more records.
+   * @throws IOException when file cannot be read or is not a scan capture.
+   */
+  @Nullable
+  public ScanCaptureRecord read() throws IOException {
+    try {
+      while (true) {
+        int tag = inputStream.read();
+        if (tag == -1) {
+          return null;
+        }
+        if (tag == ScanCaptureFormat.SESSION_TAG) {
+          readSessionHeader();
+          continue;
+        }
+        if (tag != ScanCaptureFormat.RECORD_TAG || !isSessionStarted) {
+          throw new IOException("Invalid scan capture record tag: " + tag);
+        }
+        return readRecord();
+      }
+    } catch (EOFException e) {
+      return null;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    inputStream.close();
+  }
+
+  private void readSessionHeader() throws IOException {
+    if (inputStream.readInt() != ScanCaptureFormat.MAGIC) {
+      throw new IOException("Not a scan capture file");
+    }
+    int version = inputStream.readUnsignedByte();
+    if (version != ScanCaptureFormat.VERSION) {
+      throw new IOException("Unsupported scan capture version: " + version);
+    }
+    long baseTimestampNanos = inputStream.readLong();
+    sessionOffsetNanos = isSessionStarted ? lastTimestampNanos - baseTimestampNanos : 0;
+    timestampNanos = baseTimestampNanos;
+    isSessionStarted = true;
+  }
+
+  private ScanCaptureRecord readRecord() throws IOException {
+    timestampNanos += readVarLong() * 1000;
+    inputStream.readFully(mac);
+    int rssi = inputStream.readByte();
+    int flags = inputStream.readUnsignedByte();
+    long length = readVarLong();
+    if (length > Integer.MAX_VALUE) {
+      throw new IOException("Invalid scan record length: " + length);
+    }
+    byte[] scanRecord = new byte[(int) length];
+    inputStream.readFully(scanRecord);
+
+    lastTimestampNanos = timestampNanos + sessionOffsetNanos;
+    return new ScanCaptureRecord(
+      lastTimestampNanos,
+      ScanCaptureFormat.bytesToMac(mac),
+      rssi,
+      (flags & ScanCaptureFormat.FLAG_CONNECTABLE) != 0,
+      scanRecord
+    );
+  }
+
+  private long readVarLong() throws IOException {
+    long result = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = inputStream.readUnsignedByte();
+      result |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new IOException("Malformed varint in scan capture");
+  }
+}
@@ -0,0 +1,54 @@
+package com.bleplx.adapter.scan;
+
+import java.util.Arrays;
+
+/**
+ * Single raw advertisement captured during a scan session.
+ */
+public class ScanCaptureRecord {
+
+  private final long timestampNanos;
+  private final String deviceId;
+  private final int rssi;
+  private final boolean isConnectable;
+  private final byte[] scanRecord;
+
+  public ScanCaptureRecord(long timestampNanos, String deviceId, int rssi, boolean isConnectable, byte[] scanRecord) {
+    this.timestampNanos = timestampNanos;
+    this.deviceId = deviceId;
+    this.rssi = rssi;
+    this.isConnectable = isConnectable;
+    this.scanRecord = scanRecord;
+  }
+
+  public long getTimestampNanos() {
+    return timestampNanos;
+  }
+
+  public String getDeviceId() {
+    return deviceId;
+  }
+
+  public int getRssi() {
+    return rssi;
+  }
+
+  public boolean isConnectable() {
+    return isConnectable;
+  }
+
+  public byte[] getScanRecord() {
+    return scanRecord;
+  }
+
+  @Override
+  public String toString() {
+    return "ScanCaptureRecord{" +
+      "timestampNanos=" + timestampNanos +
+      ", deviceId='" + deviceId + '\'' +
+      ", rssi=" + rssi +
+      ", isConnectable=" + isConnectable +
+      ", scanRecord=" + Arrays.toString(scanRecord) +
+      '}';
+  }
+}
@@ -0,0 +1,58 @@
+package com.bleplx.adapter.scan;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+
+/**
+ * Replays a capture file as a stream of records. Records are emitted at their original pace
+ * divided by {@code speed}; a speed of zero or less emits records as fast as they can be read.
+ * Replay does not require Bluetooth hardware, so it can drive the same mapping and conversion
+ * pipeline as a live scan both on device and on a plain JVM.
+ */
+public final class ScanCaptureReplay {
+
+  private ScanCaptureReplay() {
+  }
+
+  public static Observable<ScanCaptureRecord> replay(final File file,
+                                                     final double speed,
+                                                     final Scheduler scheduler) {
+    Observable<ScanCaptureRecord> records = Observable.using(
+      () -> new ScanCaptureReader(file),
+      reader -> Observable.<ScanCaptureRecord>generate(emitter -> {
+        ScanCaptureRecord record = reader.read();
+        if (record == null) {
+          emitter.onComplete();
+        } else {
+          emitter.onNext(record);
+        }
+      }),
+      ScanCaptureReader::close
+    ).subscribeOn(scheduler);
+
+    if (speed <= 0) {
+      return records;
+    }
+
+    return Observable.defer(() -> {
+      final long[] timeline = {Long.MIN_VALUE, 0}; // first record timestamp, replay start time
+      return records.concatMap(record -> {
+        long now = scheduler.now(TimeUnit.NANOSECONDS);
+        if (timeline[0] == Long.MIN_VALUE) {
+          timeline[0] = record.getTimestampNanos();
+          timeline[1] = now;
+        }
+        // Scheduling against the start of the replay instead of the previous record keeps
+        // accumulated timer inaccuracy from stretching long captures.
+        long dueTime = timeline[1] + (long) ((record.getTimestampNanos() - timeline[0]) / speed);
+        long delay = dueTime - now;
+        return delay > 0
+          ? Observable.just(record).delay(delay, TimeUnit.NANOSECONDS, scheduler)
+          : Observable.just(record);
+      });
+    });
+  }
+}
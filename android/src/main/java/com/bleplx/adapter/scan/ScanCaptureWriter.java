@@ -0,0 +1,111 @@
+package com.bleplx.adapter.scan;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Appends raw scan results to a capture file. See {@link ScanCaptureFormat} for the layout.
+ * Writes are buffered, data is guaranteed to be on disk only after {@link #flush()} or
+ * {@link #close()}.
+ */
+public class ScanCaptureWriter implements Closeable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  // tag + delta + mac + rssi + flags + length, varints take at most 10 bytes
+  private static final int MAX_RECORD_HEADER_SIZE = 1 + 10 + ScanCaptureFormat.MAC_LENGTH + 1 + 1 + 5;
+
+  private final OutputStream outputStream;
+  private byte[] scratch = new byte[MAX_RECORD_HEADER_SIZE + 62];
+  private boolean isSessionStarted = false;
+  private long previousTimestampNanos;
+  private int recordCount = 0;
+
+  public ScanCaptureWriter(File file) throws IOException {
+    File parent = file.getParentFile();
+    if (parent != null && !parent.exists() && !parent.mkdirs()) {
+      throw new IOException("Cannot create directory " + parent);
+    }
+    this.outputStream = new BufferedOutputStream(new FileOutputStream(file, true), BUFFER_SIZE);
+  }
+
+  public synchronized void write(ScanCaptureRecord record) throws IOException {
+    write(record.getTimestampNanos(), record.getDeviceId(), record.getRssi(), record.isConnectable(), record.getScanRecord());
+  }
+
+  public synchronized void write(long timestampNanos,
+                                 String deviceId,
+                                 int rssi,
+                                 boolean isConnectable,
+                                 byte[] scanRecord) throws IOException {
+    if (!isSessionStarted) {
+      writeSessionHeader(timestampNanos);
+    }
+
+    int length = scanRecord != null ? scanRecord.length : 0;
+    if (scratch.length < MAX_RECORD_HEADER_SIZE + length) {
+      scratch = new byte[MAX_RECORD_HEADER_SIZE + length];
+    }
+
+    long deltaMicros = Math.max(0, (timestampNanos - previousTimestampNanos) / 1000);
+    previousTimestampNanos = timestampNanos;
+
+    int position = 0;
+    scratch[position++] = (byte) ScanCaptureFormat.RECORD_TAG;
+    position = putVarLong(deltaMicros, position);
+    ScanCaptureFormat.macToBytes(deviceId, scratch, position);
+    position += ScanCaptureFormat.MAC_LENGTH;
+    scratch[position++] = (byte) rssi;
+    scratch[position++] = (byte) (isConnectable ? ScanCaptureFormat.FLAG_CONNECTABLE : 0);
+    position = putVarLong(length, position);
+    if (length > 0) {
+      System.arraycopy(scanRecord, 0, scratch, position, length);
+      position += length;
+    }
+    outputStream.write(scratch, 0, position);
+    recordCount++;
+  }
+
+  public synchronized int getRecordCount() {
+    return recordCount;
+  }
+
+  public synchronized void flush() throws IOException {
+    outputStream.flush();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    outputStream.close();
+  }
+
+  private void writeSessionHeader(long baseTimestampNanos) throws IOException {
+    int position = 0;
+    scratch[position++] = (byte) ScanCaptureFormat.SESSION_TAG;
+    position = putLong(ScanCaptureFormat.MAGIC, 4, position);
+    scratch[position++] = (byte) ScanCaptureFormat.VERSION;
+    position = putLong(baseTimestampNanos, 8, position);
+    outputStream.write(scratch, 0, position);
+    previousTimestampNanos = baseTimestampNanos;
+    isSessionStarted = true;
+  }
+
+  private int putLong(long value, int bytes, int position) {
+    for (int i = bytes - 1; i >= 0; i--) {
+      scratch[position++] = (byte) (value >>> (i * 8));
+    }
+    return position;
+  }
+
+  private int putVarLong(long value, int position) {
+    while ((value & ~0x7FL) != 0) {
+      scratch[position++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    scratch[position++] = (byte) value;
+    return position;
+  }
+}
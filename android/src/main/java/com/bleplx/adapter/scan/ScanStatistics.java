@@ -0,0 +1,118 @@
+package com.bleplx.adapter.scan;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of a single device scan session. Results pass three stages which are timed separately:
+ * parsing of the raw result on the scanner thread, conversion to a JS object and emitting it over
+ * the bridge. When the scan has a result queue, results wait in it between parsing and conversion,
+ * so a slow consumer shows up as a growing queue and dropped results instead of a stalled scanner
+ * thread. Without it the queue counters stay zero.
+ */
+public class ScanStatistics {
+
+  private final long startNanos = System.nanoTime();
+  private volatile long stopNanos = 0;
+
+  private final AtomicLong rawResultCount = new AtomicLong();
+  private final AtomicLong deliveredResultCount = new AtomicLong();
+  private final AtomicLong droppedResultCount = new AtomicLong();
+  private final AtomicLong parseNanos = new AtomicLong();
+  private final AtomicLong conversionNanos = new AtomicLong();
+  private final AtomicLong emitNanos = new AtomicLong();
+  private final AtomicInteger queueSize = new AtomicInteger();
+  private final AtomicInteger queueHighWaterMark = new AtomicInteger();
+  private final Set<String> deviceIds = ConcurrentHashMap.newKeySet();
+
+  public void onRawResult(String deviceId, long parseNanos) {
+    rawResultCount.incrementAndGet();
+    deviceIds.add(deviceId);
+    this.parseNanos.addAndGet(parseNanos);
+  }
+
+  public void onEnqueued() {
+    int size = queueSize.incrementAndGet();
+    int highWaterMark;
+    do {
+      highWaterMark = queueHighWaterMark.get();
+    } while (size > highWaterMark && !queueHighWaterMark.compareAndSet(highWaterMark, size));
+  }
+
+  public void onDequeued() {
+    queueSize.decrementAndGet();
+  }
+
+  public void onDropped() {
+    queueSize.decrementAndGet();
+    droppedResultCount.incrementAndGet();
+  }
+
+  public void onDelivered(long conversionNanos, long emitNanos) {
+    deliveredResultCount.incrementAndGet();
+    this.conversionNanos.addAndGet(conversionNanos);
+    this.emitNanos.addAndGet(emitNanos);
+  }
+
+  public void stop() {
+    if (stopNanos == 0) {
+      stopNanos = System.nanoTime();
+    }
+  }
+
+  public boolean isActive() {
+    return stopNanos == 0;
+  }
+
+  public long getDurationMillis() {
+    long endNanos = stopNanos != 0 ? stopNanos : System.nanoTime();
+    return (endNanos - startNanos) / 1_000_000;
+  }
+
+  public long getRawResultCount() {
+    return rawResultCount.get();
+  }
+
+  public double getResultsPerSecond() {
+    long durationMillis = getDurationMillis();
+    return durationMillis > 0 ? rawResultCount.get() * 1000.0 / durationMillis : 0;
+  }
+
+  public int getUniqueDeviceCount() {
+    return deviceIds.size();
+  }
+
+  public long getDeliveredResultCount() {
+    return deliveredResultCount.get();
+  }
+
+  public long getDroppedResultCount() {
+    return droppedResultCount.get();
+  }
+
+  public double getAverageParseMicros() {
+    return averageMicros(parseNanos.get(), rawResultCount.get());
+  }
+
+  public double getAverageConversionMicros() {
+    return averageMicros(conversionNanos.get(), deliveredResultCount.get());
+  }
+
+  public double getAverageEmitMicros() {
+    return averageMicros(emitNanos.get(), deliveredResultCount.get());
+  }
+
+  public int getQueueSize() {
+    return queueSize.get();
+  }
+
+  public int getQueueHighWaterMark() {
+    return queueHighWaterMark.get();
+  }
+
+  private static double averageMicros(long totalNanos, long count) {
+    return count > 0 ? totalNanos / 1000.0 / count : 0;
+  }
+}
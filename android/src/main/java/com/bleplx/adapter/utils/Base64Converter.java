@@ -1,13 +1,178 @@
 package com.bleplx.adapter.utils;
 
-import android.util.Base64;
+import java.util.Arrays;
 
+/**
+ * Table driven Base64 codec without line wrapping. Decoding is as lenient as
+ * {@code android.util.Base64} with {@code NO_WRAP}: characters outside of the alphabet are skipped
+ * and padding is optional.
+ * <p>
+ * Besides allocating variants, values can be encoded into and decoded from caller supplied buffers.
+ * Allocating variants use thread local scratch buffers, so only the result is allocated.
+ */
 public class Base64Converter {
+
+  private static final char[] ENCODE =
+    "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+  private static final int SKIP = -1;
+  private static final int EQUALS = -2;
+
+  private static final int[] DECODE = new int[128];
+
+  // Scratch buffers grow up to this size, longer values use temporary buffers
+  private static final int MAX_SCRATCH_LENGTH = 4096;
+
+  private static final ThreadLocal<char[]> charScratch = new ThreadLocal<char[]>() {
+    @Override
+    protected char[] initialValue() {
+      return new char[256];
+    }
+  };
+
+  private static final ThreadLocal<byte[]> byteScratch = new ThreadLocal<byte[]>() {
+    @Override
+    protected byte[] initialValue() {
+      return new byte[256];
+    }
+  };
+
+  static {
+    Arrays.fill(DECODE, SKIP);
+    for (int i = 0; i < ENCODE.length; i++) {
+      DECODE[ENCODE[i]] = i;
+    }
+    DECODE['='] = EQUALS;
+  }
+
   public static String encode(byte[] bytes) {
-    return Base64.encodeToString(bytes, Base64.NO_WRAP);
+    return encode(bytes, 0, bytes.length);
+  }
+
+  public static String encode(byte[] bytes, int offset, int length) {
+    char[] chars = charBuffer(encodedLength(length));
+    int count = encode(bytes, offset, length, chars, 0);
+    return new String(chars, 0, count);
+  }
+
+  /**
+   * @return number of characters written to {@code dst}, equal to {@link #encodedLength(int)}.
+   */
+  public static int encode(byte[] src, int srcOffset, int length, char[] dst, int dstOffset) {
+    int end = srcOffset + length;
+    int ip = srcOffset;
+    int op = dstOffset;
+    for (; ip + 2 < end; ip += 3) {
+      int bits = (src[ip] & 0xff) << 16 | (src[ip + 1] & 0xff) << 8 | (src[ip + 2] & 0xff);
+      dst[op++] = ENCODE[bits >>> 18];
+      dst[op++] = ENCODE[(bits >>> 12) & 0x3f];
+      dst[op++] = ENCODE[(bits >>> 6) & 0x3f];
+      dst[op++] = ENCODE[bits & 0x3f];
+    }
+    int remaining = end - ip;
+    if (remaining > 0) {
+      int bits = (src[ip] & 0xff) << 16 | (remaining == 2 ? (src[ip + 1] & 0xff) << 8 : 0);
+      dst[op++] = ENCODE[bits >>> 18];
+      dst[op++] = ENCODE[(bits >>> 12) & 0x3f];
+      dst[op++] = remaining == 2 ? ENCODE[(bits >>> 6) & 0x3f] : '=';
+      dst[op++] = '=';
+    }
+    return op - dstOffset;
+  }
+
+  public static int encodedLength(int byteCount) {
+    return (byteCount + 2) / 3 * 4;
   }
 
+  /**
+   * @throws IllegalArgumentException if {@code base64} is not valid Base64.
+   */
   public static byte[] decode(String base64) {
-    return Base64.decode(base64, Base64.NO_WRAP);
+    byte[] bytes = byteBuffer(maxDecodedLength(base64.length()));
+    int count = decode(base64, bytes, 0);
+    return Arrays.copyOf(bytes, count);
+  }
+
+  /**
+   * {@code dst} needs at least {@link #maxDecodedLength(int)} bytes available from {@code dstOffset}.
+   *
+   * @return number of bytes written to {@code dst}.
+   * @throws IllegalArgumentException if {@code src} is not valid Base64.
+   */
+  public static int decode(CharSequence src, byte[] dst, int dstOffset) {
+    int state = 0;
+    int bits = 0;
+    int op = dstOffset;
+    int length = src.length();
+    for (int i = 0; i < length; i++) {
+      char c = src.charAt(i);
+      int value = c < DECODE.length ? DECODE[c] : SKIP;
+      if (value == SKIP) {
+        continue;
+      }
+      if (value >= 0 && state < 4) {
+        bits = bits << 6 | value;
+        if (state == 3) {
+          dst[op++] = (byte) (bits >> 16);
+          dst[op++] = (byte) (bits >> 8);
+          dst[op++] = (byte) bits;
+          bits = 0;
+          state = 0;
+        } else {
+          state++;
+        }
+      } else if (value == EQUALS && state == 2) {
+        dst[op++] = (byte) (bits >> 4);
+        state = 4;
+      } else if (value == EQUALS && state == 3) {
+        dst[op++] = (byte) (bits >> 10);
+        dst[op++] = (byte) (bits >> 2);
+        state = 5;
+      } else if (value == EQUALS && state == 4) {
+        state = 5;
+      } else {
+        throw new IllegalArgumentException("bad base-64");
+      }
+    }
+
+    if (state == 1 || state == 4) {
+      throw new IllegalArgumentException("bad base-64");
+    } else if (state == 2) {
+      dst[op++] = (byte) (bits >> 4);
+    } else if (state == 3) {
+      dst[op++] = (byte) (bits >> 10);
+      dst[op++] = (byte) (bits >> 2);
+    }
+    return op - dstOffset;
+  }
+
+  public static int maxDecodedLength(int charCount) {
+    return charCount / 4 * 3 + (charCount % 4) * 3 / 4;
+  }
+
+  private static char[] charBuffer(int length) {
+    char[] buffer = charScratch.get();
+    if (buffer.length >= length) {
+      return buffer;
+    }
+    if (length > MAX_SCRATCH_LENGTH) {
+      return new char[length];
+    }
+    buffer = new char[MAX_SCRATCH_LENGTH];
+    charScratch.set(buffer);
+    return buffer;
+  }
+
+  private static byte[] byteBuffer(int length) {
+    byte[] buffer = byteScratch.get();
+    if (buffer.length >= length) {
+      return buffer;
+    }
+    if (length > MAX_SCRATCH_LENGTH) {
+      return new byte[length];
+    }
+    buffer = new byte[MAX_SCRATCH_LENGTH];
+    byteScratch.set(buffer);
+    return buffer;
   }
 }
@@ -0,0 +1,39 @@
+package com.bleplx.adapter.utils.mapper;
+
+import android.annotation.SuppressLint;
+import android.bluetooth.le.ScanRecord;
+import android.os.Build;
+
+import androidx.annotation.RequiresApi;
+
+import com.bleplx.adapter.AdvertisementData;
+import com.bleplx.adapter.ScanResult;
+import com.bleplx.adapter.utils.Constants;
+
+@RequiresApi(api = Build.VERSION_CODES.O)
+public class NativeScanResultToScanResultMapper {
+
+  @SuppressLint("MissingPermission")
+  public ScanResult map(android.bluetooth.le.ScanResult nativeScanResult) {
+    ScanRecord scanRecord = nativeScanResult.getScanRecord();
+    ScanResult scanResult = new ScanResult(
+      nativeScanResult.getDevice().getAddress(),
+      nativeScanResult.getDevice().getName(),
+      nativeScanResult.getRssi(),
+      Constants.MINIMUM_MTU,
+      nativeScanResult.isConnectable(),
+      null, //overflowServiceUUIDs are not available on Android
+      AdvertisementData.parseScanResponseData(scanRecord != null ? scanRecord.getBytes() : new byte[0])
+    );
+
+    int advertisingSid = nativeScanResult.getAdvertisingSid();
+    scanResult.setAdvertisingSid(advertisingSid != android.bluetooth.le.ScanResult.SID_NOT_PRESENT ? advertisingSid : null);
+    scanResult.setPrimaryPhy(nativeScanResult.getPrimaryPhy());
+    int secondaryPhy = nativeScanResult.getSecondaryPhy();
+    scanResult.setSecondaryPhy(secondaryPhy != android.bluetooth.le.ScanResult.PHY_UNUSED ? secondaryPhy : null);
+    int periodicAdvertisingInterval = nativeScanResult.getPeriodicAdvertisingInterval();
+    scanResult.setPeriodicAdvertisingInterval(
+      periodicAdvertisingInterval != android.bluetooth.le.ScanResult.PERIODIC_INTERVAL_NOT_PRESENT ? periodicAdvertisingInterval : null);
+    return scanResult;
+  }
+}
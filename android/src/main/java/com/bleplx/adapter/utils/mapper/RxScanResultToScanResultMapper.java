@@ -4,6 +4,7 @@ import static com.polidea.rxandroidble2.scan.IsConnectable.CONNECTABLE;
 
 import com.bleplx.adapter.AdvertisementData;
 import com.bleplx.adapter.ScanResult;
+import com.bleplx.adapter.scan.ScanCaptureRecord;
 import com.bleplx.adapter.utils.Constants;
 
 public class RxScanResultToScanResultMapper {
@@ -19,4 +20,17 @@ public class RxScanResultToScanResultMapper {
       AdvertisementData.parseScanResponseData(rxScanResult.getScanRecord().getBytes())
     );
   }
+
+  public ScanResult map(ScanCaptureRecord record) {
+    AdvertisementData advertisementData = AdvertisementData.parseScanResponseData(record.getScanRecord());
+    return new ScanResult(
+      record.getDeviceId(),
+      advertisementData.getLocalName(), //cached device name is not captured, advertised one is the closest match
+      record.getRssi(),
+      Constants.MINIMUM_MTU,
+      record.isConnectable(),
+      null, //overflowServiceUUIDs are not available on Android
+      advertisementData
+    );
+  }
 }
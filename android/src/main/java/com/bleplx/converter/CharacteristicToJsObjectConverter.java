@@ -1,11 +1,16 @@
 package com.bleplx.converter;
 
+import androidx.annotation.Nullable;
+
 import com.bleplx.adapter.Characteristic;
-import com.bleplx.adapter.utils.Base64Converter;
 import com.bleplx.adapter.utils.UUIDConverter;
+import com.bleplx.jsi.BinaryValueStore;
 import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 
+import java.nio.ByteBuffer;
+
 public class CharacteristicToJsObjectConverter extends JSObjectConverter<Characteristic> {
 
   private interface Metadata {
@@ -21,10 +26,50 @@ public class CharacteristicToJsObjectConverter extends JSObjectConverter<Charact
     String IS_NOTIFYING = "isNotifying";
     String IS_INDICATABLE = "isIndicatable";
     String VALUE = "value";
+    String VALUE_HANDLE = "valueHandle";
+    String DECODED_VALUE = "decodedValue";
+  }
+
+  @Nullable
+  private volatile BinaryValueStore valueStore;
+
+  /**
+   * When set, values are passed as handles to this store instead of base64 strings.
+   */
+  public void setValueStore(@Nullable BinaryValueStore valueStore) {
+    this.valueStore = valueStore;
   }
 
   @Override
   public WritableMap toJSObject(Characteristic characteristic) {
+    return toJSObject(characteristic, null);
+  }
+
+  /**
+   * Characteristic with value decoded by the decoder instead of raw value. Raw value is passed
+   * when it doesn't match the decoder schema.
+   */
+  public WritableMap toJSObject(Characteristic characteristic, @Nullable ValueDecoder decoder) {
+    WritableMap js = toJSMetadata(characteristic);
+    byte[] value = characteristic.getValue();
+    if (decoder != null && decoder.putDecoded(js, Metadata.DECODED_VALUE, value)) {
+      js.putNull(Metadata.VALUE);
+      return js;
+    }
+    int handle = putToValueStore(value);
+    if (handle != BinaryValueStore.NO_HANDLE) {
+      js.putNull(Metadata.VALUE);
+      js.putInt(Metadata.VALUE_HANDLE, handle);
+    } else {
+      js.putString(Metadata.VALUE, value != null ? toBase64(value) : null);
+    }
+    return js;
+  }
+
+  /**
+   * Characteristic without value.
+   */
+  public WritableMap toJSMetadata(Characteristic characteristic) {
     WritableMap js = Arguments.createMap();
 
     js.putInt(Metadata.ID, characteristic.getId());
@@ -38,9 +83,67 @@ public class CharacteristicToJsObjectConverter extends JSObjectConverter<Charact
     js.putBoolean(Metadata.IS_NOTIFIABLE, characteristic.isNotifiable());
     js.putBoolean(Metadata.IS_INDICATABLE, characteristic.isIndicatable());
     js.putBoolean(Metadata.IS_NOTIFYING, characteristic.isNotifying());
-    js.putString(Metadata.VALUE,
-      characteristic.getValue() != null ?
-        Base64Converter.encode(characteristic.getValue()) : null);
     return js;
   }
+
+  /**
+   * Puts value as a handle when value store is set and has room for it, as base64 string otherwise.
+   */
+  public void putValue(WritableMap js, String key, @Nullable byte[] value) {
+    int handle = putToValueStore(value);
+    if (value == null) {
+      js.putNull(key);
+    } else if (handle != BinaryValueStore.NO_HANDLE) {
+      js.putInt(key, handle);
+    } else {
+      js.putString(key, toBase64(value));
+    }
+  }
+
+  /**
+   * Pushes value as a handle when value store is set and has room for it, as base64 string otherwise.
+   */
+  public void pushValue(WritableArray array, @Nullable byte[] value) {
+    pushValue(array, value, null);
+  }
+
+  /**
+   * Pushes value decoded by the decoder as a map or an array, raw value when it doesn't match the
+   * decoder schema.
+   */
+  public void pushValue(WritableArray array, @Nullable byte[] value, @Nullable ValueDecoder decoder) {
+    if (decoder != null && decoder.pushDecoded(array, value)) {
+      return;
+    }
+    int handle = putToValueStore(value);
+    if (value == null) {
+      array.pushNull();
+    } else if (handle != BinaryValueStore.NO_HANDLE) {
+      array.pushInt(handle);
+    } else {
+      array.pushString(toBase64(value));
+    }
+  }
+
+  /**
+   * Pushes remaining bytes of a buffer backed by an array without changing its position. Bytes are
+   * copied only when they are passed to the value store, base64 is encoded straight from the array.
+   */
+  public void pushValue(WritableArray array, ByteBuffer value) {
+    if (valueStore != null) {
+      byte[] bytes = new byte[value.remaining()];
+      value.duplicate().get(bytes);
+      pushValue(array, bytes);
+      return;
+    }
+    array.pushString(toBase64(value.array(), value.arrayOffset() + value.position(), value.remaining()));
+  }
+
+  /**
+   * @return handle of the value or {@link BinaryValueStore#NO_HANDLE} when it has to be passed as base64.
+   */
+  private int putToValueStore(@Nullable byte[] value) {
+    BinaryValueStore valueStore = this.valueStore;
+    return value != null && valueStore != null ? valueStore.put(value) : BinaryValueStore.NO_HANDLE;
+  }
 }
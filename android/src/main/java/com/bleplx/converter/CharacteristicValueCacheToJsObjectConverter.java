@@ -0,0 +1,25 @@
+package com.bleplx.converter;
+
+import com.bleplx.adapter.cache.CharacteristicValueCache;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+public class CharacteristicValueCacheToJsObjectConverter extends JSObjectConverter<CharacteristicValueCache> {
+
+  interface Metadata {
+    String ENTRY_COUNT = "entryCount";
+    String HIT_COUNT = "hitCount";
+    String MISS_COUNT = "missCount";
+    String INVALIDATED_COUNT = "invalidatedCount";
+  }
+
+  @Override
+  public WritableMap toJSObject(CharacteristicValueCache cache) {
+    WritableMap result = Arguments.createMap();
+    result.putInt(Metadata.ENTRY_COUNT, cache.getEntryCount());
+    result.putDouble(Metadata.HIT_COUNT, cache.getHitCount());
+    result.putDouble(Metadata.MISS_COUNT, cache.getMissCount());
+    result.putDouble(Metadata.INVALIDATED_COUNT, cache.getInvalidatedCount());
+    return result;
+  }
+}
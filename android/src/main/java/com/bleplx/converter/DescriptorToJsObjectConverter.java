@@ -1,8 +1,10 @@
 package com.bleplx.converter;
 
+import androidx.annotation.Nullable;
+
 import com.bleplx.adapter.Descriptor;
-import com.bleplx.adapter.utils.Base64Converter;
 import com.bleplx.adapter.utils.UUIDConverter;
+import com.bleplx.jsi.BinaryValueStore;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.WritableMap;
 
@@ -17,6 +19,17 @@ public class DescriptorToJsObjectConverter extends JSObjectConverter<Descriptor>
     String SERVICE_UUID = "serviceUUID";
     String DEVICE_ID = "deviceID";
     String VALUE = "value";
+    String VALUE_HANDLE = "valueHandle";
+  }
+
+  @Nullable
+  private volatile BinaryValueStore valueStore;
+
+  /**
+   * When set, values are passed as handles to this store instead of base64 strings.
+   */
+  public void setValueStore(@Nullable BinaryValueStore valueStore) {
+    this.valueStore = valueStore;
   }
 
   @Override
@@ -33,7 +46,22 @@ public class DescriptorToJsObjectConverter extends JSObjectConverter<Descriptor>
     if (descriptor.getValue() == null) {
       descriptor.setValueFromCache();
     }
-    js.putString(Metadata.VALUE, descriptor.getValue() != null ? Base64Converter.encode(descriptor.getValue()) : null);
+    byte[] value = descriptor.getValue();
+    int handle = putToValueStore(value);
+    if (handle != BinaryValueStore.NO_HANDLE) {
+      js.putNull(Metadata.VALUE);
+      js.putInt(Metadata.VALUE_HANDLE, handle);
+    } else {
+      js.putString(Metadata.VALUE, value != null ? toBase64(value) : null);
+    }
     return js;
   }
+
+  /**
+   * @return handle of the value or {@link BinaryValueStore#NO_HANDLE} when it has to be passed as base64.
+   */
+  private int putToValueStore(@Nullable byte[] value) {
+    BinaryValueStore valueStore = this.valueStore;
+    return value != null && valueStore != null ? valueStore.put(value) : BinaryValueStore.NO_HANDLE;
+  }
 }
@@ -0,0 +1,46 @@
+package com.bleplx.converter;
+
+import com.bleplx.adapter.queue.GattOperationQueue;
+import com.bleplx.adapter.queue.OperationPriority;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+public class GattOperationQueueToJsObjectConverter extends JSObjectConverter<GattOperationQueue> {
+
+  interface Metadata {
+    String QUEUE_DEPTH = "queueDepth";
+    String IS_OPERATION_RUNNING = "isOperationRunning";
+    String PREEMPTED_COUNT = "preemptedCount";
+    String CANCELLED_COUNT = "cancelledCount";
+    String TIMED_OUT_COUNT = "timedOutCount";
+    String INTERACTIVE = "interactive";
+    String NORMAL = "normal";
+    String BULK = "bulk";
+    String COMPLETED_COUNT = "completedCount";
+    String AVERAGE_WAIT_TIME = "averageWaitTime";
+    String MAX_WAIT_TIME = "maxWaitTime";
+  }
+
+  @Override
+  public WritableMap toJSObject(GattOperationQueue queue) {
+    WritableMap result = Arguments.createMap();
+    result.putInt(Metadata.QUEUE_DEPTH, queue.getQueueDepth());
+    result.putBoolean(Metadata.IS_OPERATION_RUNNING, queue.isOperationRunning());
+    result.putDouble(Metadata.PREEMPTED_COUNT, queue.getPreemptedCount());
+    result.putDouble(Metadata.CANCELLED_COUNT, queue.getCancelledCount());
+    result.putDouble(Metadata.TIMED_OUT_COUNT, queue.getTimedOutCount());
+    result.putMap(Metadata.INTERACTIVE, toJSObject(queue, OperationPriority.INTERACTIVE));
+    result.putMap(Metadata.NORMAL, toJSObject(queue, OperationPriority.NORMAL));
+    result.putMap(Metadata.BULK, toJSObject(queue, OperationPriority.BULK));
+    return result;
+  }
+
+  private WritableMap toJSObject(GattOperationQueue queue, OperationPriority priority) {
+    WritableMap result = Arguments.createMap();
+    result.putInt(Metadata.QUEUE_DEPTH, queue.getQueueDepth(priority));
+    result.putDouble(Metadata.COMPLETED_COUNT, queue.getCompletedCount(priority));
+    result.putDouble(Metadata.AVERAGE_WAIT_TIME, queue.getAverageWaitMillis(priority));
+    result.putDouble(Metadata.MAX_WAIT_TIME, queue.getMaxWaitMillis(priority));
+    return result;
+  }
+}
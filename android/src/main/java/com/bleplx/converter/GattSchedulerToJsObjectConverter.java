@@ -0,0 +1,25 @@
+package com.bleplx.converter;
+
+import com.bleplx.adapter.queue.GattScheduler;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+public class GattSchedulerToJsObjectConverter extends JSObjectConverter<GattScheduler> {
+
+  interface Metadata {
+    String MAX_OPERATIONS_IN_FLIGHT = "maxOperationsInFlight";
+    String OPERATIONS_IN_FLIGHT = "operationsInFlight";
+    String WAITING_DEVICE_COUNT = "waitingDeviceCount";
+    String TIMED_OUT_COUNT = "timedOutCount";
+  }
+
+  @Override
+  public WritableMap toJSObject(GattScheduler scheduler) {
+    WritableMap result = Arguments.createMap();
+    result.putInt(Metadata.MAX_OPERATIONS_IN_FLIGHT, scheduler.getMaxOperationsInFlight());
+    result.putInt(Metadata.OPERATIONS_IN_FLIGHT, scheduler.getOperationsInFlight());
+    result.putInt(Metadata.WAITING_DEVICE_COUNT, scheduler.getWaitingDeviceCount());
+    result.putDouble(Metadata.TIMED_OUT_COUNT, scheduler.getTimedOutCount());
+    return result;
+  }
+}
@@ -1,13 +1,40 @@
 package com.bleplx.converter;
 
+import com.bleplx.adapter.utils.Base64Converter;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 
 abstract class JSObjectConverter<T> {
 
+  // Converters are shared by scan, notification and bridge threads, each encodes into its own buffer
+  private static final ThreadLocal<char[]> base64Buffer = new ThreadLocal<char[]>() {
+    @Override
+    protected char[] initialValue() {
+      return new char[Base64Converter.encodedLength(ValueDecoder.MAX_VALUE_LENGTH)];
+    }
+  };
+
   abstract public WritableMap toJSObject(T value);
 
+  static String toBase64(byte[] value) {
+    return toBase64(value, 0, value.length);
+  }
+
+  /**
+   * Encodes value into a reused per thread buffer, so only the resulting string is allocated.
+   */
+  static String toBase64(byte[] value, int offset, int length) {
+    int encodedLength = Base64Converter.encodedLength(length);
+    char[] chars = base64Buffer.get();
+    if (chars.length < encodedLength) {
+      chars = new char[encodedLength];
+      base64Buffer.set(chars);
+    }
+    int count = Base64Converter.encode(value, offset, length, chars, 0);
+    return new String(chars, 0, count);
+  }
+
   public WritableArray toJSCallback(T value) {
     WritableArray array = Arguments.createArray();
     array.pushNull();
@@ -1,10 +1,10 @@
 package com.bleplx.converter;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.bleplx.adapter.AdvertisementData;
 import com.bleplx.adapter.ScanResult;
-import com.bleplx.adapter.utils.Base64Converter;
 import com.bleplx.adapter.utils.UUIDConverter;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.WritableArray;
@@ -30,6 +30,12 @@ public class ScanResultToJsObjectConverter extends JSObjectConverter<ScanResult>
     String RAW_SCAN_RECORD = "rawScanRecord";
     String IS_CONNECTABLE = "isConnectable";
     String OVERFLOW_SERVICE_UUIDS = "overflowServiceUUIDs";
+    String ADVERTISING_SID = "advertisingSid";
+    String PRIMARY_PHY = "primaryPhy";
+    String SECONDARY_PHY = "secondaryPhy";
+    String PERIODIC_ADVERTISING_INTERVAL = "periodicAdvertisingInterval";
+    String DECRYPTED_SERVICE_DATA = "decryptedServiceData";
+    String DECRYPTION_STATUS = "decryptionStatus";
   }
 
   @Override
@@ -44,13 +50,13 @@ public class ScanResultToJsObjectConverter extends JSObjectConverter<ScanResult>
     AdvertisementData advData = scanResult.getAdvertisementData();
     result.putString(Metadata.MANUFACTURER_DATA,
       advData.getManufacturerData() != null ?
-        Base64Converter.encode(advData.getManufacturerData()) : null);
+        toBase64(advData.getManufacturerData()) : null);
 
     if (advData.getServiceData() != null) {
       WritableMap serviceData = Arguments.createMap();
       for (Map.Entry<UUID, byte[]> entry : advData.getServiceData().entrySet()) {
         serviceData.putString(UUIDConverter.fromUUID(entry.getKey()),
-          Base64Converter.encode(entry.getValue()));
+          toBase64(entry.getValue()));
       }
       result.putMap(Metadata.SERVICE_DATA, serviceData);
     } else {
@@ -90,13 +96,38 @@ public class ScanResultToJsObjectConverter extends JSObjectConverter<ScanResult>
     }
 
     if (advData.getRawScanRecord() != null) {
-      result.putString(Metadata.RAW_SCAN_RECORD, Base64Converter.encode(advData.getRawScanRecord()));
+      result.putString(Metadata.RAW_SCAN_RECORD, toBase64(advData.getRawScanRecord()));
     } else {
       result.putNull(Metadata.RAW_SCAN_RECORD);
     }
 
+    putNullableInt(result, Metadata.ADVERTISING_SID, scanResult.getAdvertisingSid());
+    putNullableInt(result, Metadata.PRIMARY_PHY, scanResult.getPrimaryPhy());
+    putNullableInt(result, Metadata.SECONDARY_PHY, scanResult.getSecondaryPhy());
+    putNullableInt(result, Metadata.PERIODIC_ADVERTISING_INTERVAL, scanResult.getPeriodicAdvertisingInterval());
+
+    if (scanResult.getDecryptedServiceData() != null) {
+      WritableMap decryptedServiceData = Arguments.createMap();
+      for (Map.Entry<UUID, byte[]> entry : scanResult.getDecryptedServiceData().entrySet()) {
+        decryptedServiceData.putString(UUIDConverter.fromUUID(entry.getKey()),
+          toBase64(entry.getValue()));
+      }
+      result.putMap(Metadata.DECRYPTED_SERVICE_DATA, decryptedServiceData);
+    } else {
+      result.putNull(Metadata.DECRYPTED_SERVICE_DATA);
+    }
+    result.putString(Metadata.DECRYPTION_STATUS, scanResult.getDecryptionStatus());
+
     // Attributes which are not accessible on Android
     result.putNull(Metadata.OVERFLOW_SERVICE_UUIDS);
     return result;
   }
+
+  private static void putNullableInt(WritableMap map, String key, @Nullable Integer value) {
+    if (value != null) {
+      map.putInt(key, value);
+    } else {
+      map.putNull(key);
+    }
+  }
 }
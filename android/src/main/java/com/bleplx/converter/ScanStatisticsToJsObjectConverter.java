@@ -0,0 +1,41 @@
+package com.bleplx.converter;
+
+import com.bleplx.adapter.scan.ScanStatistics;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+public class ScanStatisticsToJsObjectConverter extends JSObjectConverter<ScanStatistics> {
+
+  interface Metadata {
+    String DURATION = "duration";
+    String RAW_RESULT_COUNT = "rawResultCount";
+    String RESULTS_PER_SECOND = "resultsPerSecond";
+    String UNIQUE_DEVICE_COUNT = "uniqueDeviceCount";
+    String DELIVERED_RESULT_COUNT = "deliveredResultCount";
+    String DROPPED_RESULT_COUNT = "droppedResultCount";
+    String AVERAGE_PARSE_TIME = "averageParseTime";
+    String AVERAGE_CONVERSION_TIME = "averageConversionTime";
+    String AVERAGE_EMIT_TIME = "averageEmitTime";
+    String QUEUE_SIZE = "queueSize";
+    String QUEUE_HIGH_WATER_MARK = "queueHighWaterMark";
+    String IS_ACTIVE = "isActive";
+  }
+
+  @Override
+  public WritableMap toJSObject(ScanStatistics statistics) {
+    WritableMap result = Arguments.createMap();
+    result.putDouble(Metadata.DURATION, statistics.getDurationMillis());
+    result.putDouble(Metadata.RAW_RESULT_COUNT, statistics.getRawResultCount());
+    result.putDouble(Metadata.RESULTS_PER_SECOND, statistics.getResultsPerSecond());
+    result.putInt(Metadata.UNIQUE_DEVICE_COUNT, statistics.getUniqueDeviceCount());
+    result.putDouble(Metadata.DELIVERED_RESULT_COUNT, statistics.getDeliveredResultCount());
+    result.putDouble(Metadata.DROPPED_RESULT_COUNT, statistics.getDroppedResultCount());
+    result.putDouble(Metadata.AVERAGE_PARSE_TIME, statistics.getAverageParseMicros());
+    result.putDouble(Metadata.AVERAGE_CONVERSION_TIME, statistics.getAverageConversionMicros());
+    result.putDouble(Metadata.AVERAGE_EMIT_TIME, statistics.getAverageEmitMicros());
+    result.putInt(Metadata.QUEUE_SIZE, statistics.getQueueSize());
+    result.putInt(Metadata.QUEUE_HIGH_WATER_MARK, statistics.getQueueHighWaterMark());
+    result.putBoolean(Metadata.IS_ACTIVE, statistics.isActive());
+    return result;
+  }
+}
@@ -0,0 +1,267 @@
+package com.bleplx.converter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+
+/**
+ * Decodes characteristic values to numbers according to a schema passed from JS, so that
+ * frequent values don't have to be decoded on the JS thread. The schema is a list of fields,
+ * each of them has a numeric type, an optional byte offset (by default it follows the previous
+ * field), a count of consecutive elements, a scale factor and endianness.
+ * <p>
+ * Values are decoded to a map keyed by field names when all fields are named, to a flat array of
+ * numbers otherwise. Fields with count greater than 1 are decoded to arrays in maps.
+ */
+public class ValueDecoder {
+
+  /**
+   * Maximum length of an attribute value, fields ending after it could never be decoded.
+   */
+  static final int MAX_VALUE_LENGTH = 512;
+
+  private enum FieldType {
+    INT8("int8", 1, true),
+    UINT8("uint8", 1, false),
+    INT16("int16", 2, true),
+    UINT16("uint16", 2, false),
+    INT24("int24", 3, true),
+    UINT24("uint24", 3, false),
+    INT32("int32", 4, true),
+    UINT32("uint32", 4, false),
+    FLOAT32("float32", 4, true),
+    FLOAT64("float64", 8, true);
+
+    final String jsName;
+    final int size;
+    final boolean signed;
+
+    FieldType(String jsName, int size, boolean signed) {
+      this.jsName = jsName;
+      this.size = size;
+      this.signed = signed;
+    }
+
+    @Nullable
+    static FieldType fromJs(String jsName) {
+      for (FieldType type : values()) {
+        if (type.jsName.equals(jsName)) {
+          return type;
+        }
+      }
+      return null;
+    }
+  }
+
+  private static final class Field {
+    @Nullable
+    final String name;
+    final FieldType type;
+    final int offset;
+    final int count;
+    final double scale;
+    final boolean littleEndian;
+
+    Field(@Nullable String name, FieldType type, int offset, int count, double scale, boolean littleEndian) {
+      this.name = name;
+      this.type = type;
+      this.offset = offset;
+      this.count = count;
+      this.scale = scale;
+      this.littleEndian = littleEndian;
+    }
+  }
+
+  private final Field[] fields;
+  private final boolean named;
+  private final int minLength;
+  private final int elementCount;
+
+  private ValueDecoder(Field[] fields) {
+    boolean named = true;
+    int minLength = 0;
+    int elementCount = 0;
+    for (Field field : fields) {
+      named &= field.name != null;
+      minLength = Math.max(minLength, field.offset + field.type.size * field.count);
+      elementCount += field.count;
+    }
+    this.fields = fields;
+    this.named = named;
+    this.minLength = minLength;
+    this.elementCount = elementCount;
+  }
+
+  /**
+   * @param schema object with {@code fields} array and optional default {@code littleEndian} flag.
+   * @return decoder or null if schema wasn't passed.
+   * @throws IllegalArgumentException when the schema is malformed.
+   */
+  @Nullable
+  public static ValueDecoder fromJs(@Nullable ReadableMap schema) {
+    if (schema == null) {
+      return null;
+    }
+    if (!schema.hasKey("fields") || schema.getType("fields") != ReadableType.Array) {
+      throw new IllegalArgumentException("Decoder schema has to contain array of fields");
+    }
+    boolean littleEndian = !schema.hasKey("littleEndian")
+      || schema.getType("littleEndian") != ReadableType.Boolean
+      || schema.getBoolean("littleEndian");
+
+    ReadableArray jsFields = schema.getArray("fields");
+    if (jsFields.size() == 0) {
+      throw new IllegalArgumentException("Decoder schema has to contain at least one field");
+    }
+    Field[] fields = new Field[jsFields.size()];
+    int nextOffset = 0;
+    for (int i = 0; i < jsFields.size(); i++) {
+      if (jsFields.getType(i) != ReadableType.Map) {
+        throw new IllegalArgumentException("Decoder field " + i + " has to be an object");
+      }
+      ReadableMap jsField = jsFields.getMap(i);
+      FieldType type = jsField.hasKey("type") && jsField.getType("type") == ReadableType.String
+        ? FieldType.fromJs(jsField.getString("type"))
+        : null;
+      if (type == null) {
+        throw new IllegalArgumentException("Decoder field " + i + " has unknown type");
+      }
+      int offset = getInt(jsField, "offset", nextOffset);
+      int count = getInt(jsField, "count", 1);
+      if (offset < 0 || count < 1) {
+        throw new IllegalArgumentException("Decoder field " + i + " has negative offset or count lower than 1");
+      }
+      // Computed in long, offset and count come from JS and their product may overflow int
+      if (offset + (long) type.size * count > MAX_VALUE_LENGTH) {
+        throw new IllegalArgumentException("Decoder field " + i + " ends after " + MAX_VALUE_LENGTH + " bytes");
+      }
+      String name = jsField.hasKey("name") && jsField.getType("name") == ReadableType.String
+        ? jsField.getString("name")
+        : null;
+      double scale = jsField.hasKey("scale") && jsField.getType("scale") == ReadableType.Number
+        ? jsField.getDouble("scale")
+        : 1;
+      boolean fieldLittleEndian = jsField.hasKey("littleEndian") && jsField.getType("littleEndian") == ReadableType.Boolean
+        ? jsField.getBoolean("littleEndian")
+        : littleEndian;
+      fields[i] = new Field(name, type, offset, count, scale, fieldLittleEndian);
+      nextOffset = offset + type.size * count;
+    }
+    return new ValueDecoder(fields);
+  }
+
+  /**
+   * Puts decoded value under the key as a map or an array.
+   *
+   * @return false if value is too short for the schema and nothing was put.
+   */
+  public boolean putDecoded(@NonNull WritableMap js, @NonNull String key, @Nullable byte[] value) {
+    double[] decoded = decode(value);
+    if (decoded == null) {
+      return false;
+    }
+    if (named) {
+      js.putMap(key, toMap(decoded));
+    } else {
+      js.putArray(key, toArray(decoded));
+    }
+    return true;
+  }
+
+  /**
+   * Pushes decoded value as a map or an array.
+   *
+   * @return false if value is too short for the schema and nothing was pushed.
+   */
+  public boolean pushDecoded(@NonNull WritableArray array, @Nullable byte[] value) {
+    double[] decoded = decode(value);
+    if (decoded == null) {
+      return false;
+    }
+    if (named) {
+      array.pushMap(toMap(decoded));
+    } else {
+      array.pushArray(toArray(decoded));
+    }
+    return true;
+  }
+
+  /**
+   * @return elements of all fields in schema order or null if value is too short for the schema.
+   */
+  @Nullable
+  double[] decode(@Nullable byte[] value) {
+    if (value == null || value.length < minLength) {
+      return null;
+    }
+    double[] decoded = new double[elementCount];
+    int position = 0;
+    for (Field field : fields) {
+      for (int i = 0; i < field.count; i++) {
+        decoded[position++] = decode(value, field, field.offset + i * field.type.size);
+      }
+    }
+    return decoded;
+  }
+
+  private WritableMap toMap(double[] decoded) {
+    WritableMap js = Arguments.createMap();
+    int position = 0;
+    for (Field field : fields) {
+      if (field.count == 1) {
+        js.putDouble(field.name, decoded[position++]);
+      } else {
+        WritableArray elements = Arguments.createArray();
+        for (int i = 0; i < field.count; i++) {
+          elements.pushDouble(decoded[position++]);
+        }
+        js.putArray(field.name, elements);
+      }
+    }
+    return js;
+  }
+
+  private static WritableArray toArray(double[] decoded) {
+    WritableArray js = Arguments.createArray();
+    for (double element : decoded) {
+      js.pushDouble(element);
+    }
+    return js;
+  }
+
+  private static double decode(byte[] value, Field field, int offset) {
+    int size = field.type.size;
+    long bits = 0;
+    for (int i = 0; i < size; i++) {
+      int b = value[offset + (field.littleEndian ? i : size - 1 - i)] & 0xFF;
+      bits |= (long) b << (8 * i);
+    }
+    double decoded;
+    switch (field.type) {
+      case FLOAT32:
+        decoded = Float.intBitsToFloat((int) bits);
+        break;
+      case FLOAT64:
+        decoded = Double.longBitsToDouble(bits);
+        break;
+      default:
+        if (field.type.signed) {
+          int shift = 64 - 8 * size;
+          decoded = (bits << shift) >> shift;
+        } else {
+          decoded = bits;
+        }
+    }
+    return decoded * field.scale;
+  }
+
+  private static int getInt(ReadableMap js, String key, int defaultValue) {
+    return js.hasKey(key) && js.getType(key) == ReadableType.Number ? js.getInt(key) : defaultValue;
+  }
+}
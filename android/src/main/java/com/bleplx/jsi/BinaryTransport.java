@@ -0,0 +1,56 @@
+package com.bleplx.jsi;
+
+import com.bleplx.BuildConfig;
+import com.polidea.rxandroidble2.internal.RxBleLog;
+
+/**
+ * Installs JSI functions which pass raw characteristic and descriptor values to and from JS as
+ * ArrayBuffers:
+ * <ul>
+ *   <li>{@code __blePlxTakeValue(handle)} returns bytes stored under the handle, or null,</li>
+ *   <li>{@code __blePlxPutValue(arrayBuffer)} stores bytes and returns their handle.</li>
+ * </ul>
+ * The native part is built only when {@code BlePlx_binaryTransport=true} is set in Gradle
+ * properties, otherwise values are passed as base64 strings.
+ */
+public final class BinaryTransport {
+
+  private static final String LIBRARY_NAME = "bleplx-jsi";
+
+  private static final BinaryValueStore valueStore = new BinaryValueStore();
+
+  private static boolean libraryLoaded = false;
+
+  private BinaryTransport() {
+  }
+
+  public static BinaryValueStore getValueStore() {
+    return valueStore;
+  }
+
+  /**
+   * Has to be called on JS thread.
+   *
+   * @param runtimePointer pointer to {@code jsi::Runtime} of the JS context.
+   * @return true if functions were installed in the runtime.
+   */
+  public static synchronized boolean install(long runtimePointer) {
+    if (!BuildConfig.IS_BINARY_TRANSPORT_ENABLED || runtimePointer == 0) {
+      return false;
+    }
+    if (!libraryLoaded) {
+      try {
+        System.loadLibrary(LIBRARY_NAME);
+        libraryLoaded = true;
+      } catch (UnsatisfiedLinkError e) {
+        RxBleLog.e(e, "Binary transport library could not be loaded, falling back to base64 values");
+        return false;
+      }
+    }
+    valueStore.clear();
+    nativeInstall(runtimePointer, valueStore);
+    return true;
+  }
+
+  private static native void nativeInstall(long runtimePointer, BinaryValueStore valueStore);
+}
@@ -0,0 +1,84 @@
+package com.bleplx.jsi;
+
+import androidx.annotation.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Raw values exchanged with JS through the binary transport. Events and promise results carry only
+ * an integer handle, JS takes the bytes by the handle as an ArrayBuffer, and values written from JS
+ * are put here in the same way. Each value can be taken once.
+ * <p>
+ * Values are never evicted while JS may still take them. When the store is full, {@link #put}
+ * returns {@link #NO_HANDLE} and the caller passes the value as base64 instead. Only values which
+ * were not taken for {@link #ORPHAN_TIMEOUT_NANOS}, e.g. notifications for which JS has no listener
+ * anymore, are dropped to make room.
+ */
+public class BinaryValueStore {
+
+  public static final int CAPACITY = 4096;
+
+  public static final int NO_HANDLE = 0;
+
+  // JS takes values as soon as it handles the event which carries them
+  static final long ORPHAN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+  private static final class Entry {
+    final byte[] value;
+    final long putAtNanos;
+
+    Entry(byte[] value, long putAtNanos) {
+      this.value = value;
+      this.putAtNanos = putAtNanos;
+    }
+  }
+
+  // Insertion order is also age order, the oldest values are checked first
+  private final Map<Integer, Entry> values = new LinkedHashMap<>();
+
+  private int nextHandle = 1;
+
+  /**
+   * @return handle of the value or {@link #NO_HANDLE} if the store is full.
+   */
+  public int put(byte[] value) {
+    return put(value, System.nanoTime());
+  }
+
+  synchronized int put(byte[] value, long nowNanos) {
+    if (values.size() >= CAPACITY && !dropOrphans(nowNanos)) {
+      return NO_HANDLE;
+    }
+    int handle = nextHandle;
+    nextHandle = nextHandle == Integer.MAX_VALUE ? 1 : nextHandle + 1;
+    values.put(handle, new Entry(value, nowNanos));
+    return handle;
+  }
+
+  @Nullable
+  public synchronized byte[] take(int handle) {
+    Entry entry = values.remove(handle);
+    return entry != null ? entry.value : null;
+  }
+
+  public synchronized int size() {
+    return values.size();
+  }
+
+  public synchronized void clear() {
+    values.clear();
+  }
+
+  private boolean dropOrphans(long nowNanos) {
+    boolean dropped = false;
+    Iterator<Entry> iterator = values.values().iterator();
+    while (iterator.hasNext() && nowNanos - iterator.next().putAtNanos > ORPHAN_TIMEOUT_NANOS) {
+      iterator.remove();
+      dropped = true;
+    }
+    return dropped;
+  }
+}
@@ -7,15 +7,31 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nullable;
 
 public class SafePromise {
+
+  /**
+   * Called once, with the value or error the promise is settled with, before it is passed to JS.
+   */
+  public interface OnSettledListener {
+    void onSettled(@Nullable Object value, boolean error);
+  }
+
   private Promise promise;
+  @Nullable
+  private OnSettledListener onSettledListener;
   private AtomicBoolean isFinished = new AtomicBoolean();
 
   public SafePromise(Promise promise) {
     this.promise = promise;
   }
 
+  public SafePromise(Promise promise, @Nullable OnSettledListener onSettledListener) {
+    this.promise = promise;
+    this.onSettledListener = onSettledListener;
+  }
+
   public void resolve(@Nullable Object value) {
     if (isFinished.compareAndSet(false, true)) {
+      notifySettled(value, false);
       promise.resolve(value);
     }
   }
@@ -24,6 +40,7 @@ public class SafePromise {
     if (isFinished.compareAndSet(false, true)) {
       String safeCode = code == null ? ErrorDefaults.CODE : code;
       String safeMessage = message == null ? ErrorDefaults.MESSAGE : message;
+      notifySettled(safeMessage, true);
       promise.reject(safeCode, safeMessage);
     }
   }
@@ -31,6 +48,7 @@ public class SafePromise {
   public void reject(@Nullable String code, Throwable e) {
     if (isFinished.compareAndSet(false, true)) {
       String safeCode = code == null ? ErrorDefaults.CODE : code;
+      notifySettled(null, true);
       promise.reject(safeCode, e);
     }
   }
@@ -39,6 +57,7 @@ public class SafePromise {
     if (isFinished.compareAndSet(false, true)) {
       String safeCode = code == null ? ErrorDefaults.CODE : code;
       String safeMessage = message == null ? ErrorDefaults.MESSAGE : message;
+      notifySettled(safeMessage, true);
       promise.reject(safeCode, safeMessage, e);
     }
   }
@@ -47,13 +66,21 @@ public class SafePromise {
   public void reject(@Nullable String message) {
     if (isFinished.compareAndSet(false, true)) {
       String safeMessage = message == null ? ErrorDefaults.MESSAGE : message;
+      notifySettled(safeMessage, true);
       promise.reject(ErrorDefaults.CODE, safeMessage);
     }
   }
 
   public void reject(Throwable reason) {
     if (isFinished.compareAndSet(false, true)) {
+      notifySettled(null, true);
       promise.reject(reason);
     }
   }
+
+  private void notifySettled(@Nullable Object value, boolean error) {
+    if (onSettledListener != null) {
+      onSettledListener.onSettled(value, error);
+    }
+  }
 }
@@ -0,0 +1,118 @@
+package com.bleplx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.ReactContext;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class EventQueueTest {
+
+  private static final long TIMEOUT_SECONDS = 5;
+
+  // Records emitted events, the first emit is held until the test releases it
+  private static class RecordingEmitter implements EventQueue.Emitter {
+    final CountDownLatch firstEmitStarted = new CountDownLatch(1);
+    final CountDownLatch firstEmitReleased = new CountDownLatch(1);
+    final List<Object> emitted = new ArrayList<>();
+    final CountDownLatch allEmitted;
+
+    RecordingEmitter(int expectedCount) {
+      allEmitted = new CountDownLatch(expectedCount);
+    }
+
+    @Override
+    public void emit(@NonNull Event event, @Nullable Object params) {
+      firstEmitStarted.countDown();
+      try {
+        firstEmitReleased.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      synchronized (emitted) {
+        emitted.add(params);
+      }
+      allEmitted.countDown();
+    }
+  }
+
+  private static EventQueue createQueue(EventQueue.Emitter emitter) {
+    // No JS thread in unit tests, lag probes are not posted and lag stays zero
+    return new EventQueue(new ReactContext(null) {
+      @Override
+      public boolean runOnJSQueueThread(Runnable runnable) {
+        return false;
+      }
+    }, emitter);
+  }
+
+  @Test
+  public void highPriorityEventDoesNotOvertakeEarlierEventsOfTheSameDevice() throws InterruptedException {
+    RecordingEmitter emitter = new RecordingEmitter(5);
+    EventQueue queue = createQueue(emitter);
+
+    queue.send(Event.ReadEvent, "gate", "device-0");
+    assertTrue(emitter.firstEmitStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    queue.send(Event.ReadEvent, "read-1", "device-1");
+    queue.send(Event.ReadEvent, "read-2", "device-2");
+    queue.send(Event.DisconnectionEvent, "disconnection-1", "device-1");
+    queue.send(Event.StateChangeEvent, "state", null);
+    emitter.firstEmitReleased.countDown();
+
+    assertTrue(emitter.allEmitted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    queue.stop();
+    assertEquals(
+      Arrays.<Object>asList("gate", "read-1", "disconnection-1", "state", "read-2"),
+      emitter.emitted
+    );
+  }
+
+  @Test
+  public void highPriorityEventOvertakesLaterEventsOfTheSameDevice() throws InterruptedException {
+    RecordingEmitter emitter = new RecordingEmitter(3);
+    EventQueue queue = createQueue(emitter);
+
+    queue.send(Event.ReadEvent, "gate", "device-0");
+    assertTrue(emitter.firstEmitStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    queue.send(Event.DisconnectionEvent, "disconnection-1", "device-1");
+    queue.send(Event.L2capCloseEvent, "close-1", "device-1");
+    emitter.firstEmitReleased.countDown();
+
+    assertTrue(emitter.allEmitted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    queue.stop();
+    assertEquals(Arrays.<Object>asList("gate", "disconnection-1", "close-1"), emitter.emitted);
+  }
+
+  @Test
+  public void eventsSentAfterStopAreDropped() throws InterruptedException {
+    RecordingEmitter emitter = new RecordingEmitter(1);
+    emitter.firstEmitReleased.countDown();
+    EventQueue queue = createQueue(emitter);
+
+    queue.send(Event.StateChangeEvent, "before", null);
+    assertTrue(emitter.allEmitted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    queue.stop();
+    queue.send(Event.StateChangeEvent, "after", null);
+    queue.send(Event.ScanErrorEvent, "error", null);
+
+    Thread.sleep(50);
+    assertEquals(Arrays.<Object>asList("before"), emitter.emitted);
+    assertEquals(1, queue.getEmittedCount());
+  }
+
+  @Test
+  public void scanErrorsAreNeverDropped() {
+    assertEquals(Event.ScanEvent.name, Event.ScanErrorEvent.name);
+    assertTrue(Event.ScanErrorEvent.priority != Event.Priority.LOW);
+  }
+}
@@ -0,0 +1,84 @@
+package com.bleplx;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import android.bluetooth.BluetoothGattService;
+
+import com.bleplx.adapter.Characteristic;
+import com.bleplx.adapter.Service;
+import com.facebook.react.bridge.JavaOnlyMap;
+
+import org.junit.Test;
+
+import java.util.UUID;
+
+public class NotificationHistoryTest {
+
+  private static final Characteristic CHARACTERISTIC = new Characteristic(1,
+    new Service(1, "device", new BluetoothGattService(UUID.randomUUID(), BluetoothGattService.SERVICE_TYPE_PRIMARY)),
+    null);
+
+  private static void receive(NotificationHistory history, int value) {
+    history.onEvent(new Characteristic(CHARACTERISTIC, new byte[]{(byte) value}, value * 1_000_000L));
+  }
+
+  @Test
+  public void readsNotificationsInOrderOfArrival() {
+    NotificationHistory history = new NotificationHistory(4, null);
+    for (int value = 0; value < 3; value++) {
+      receive(history, value);
+    }
+
+    NotificationHistory.Snapshot snapshot = history.read(1, 0);
+    assertEquals(1, snapshot.firstSeq);
+    assertEquals(3, snapshot.nextSeq);
+    assertEquals(0, snapshot.droppedCount);
+    assertEquals(2, snapshot.values.size());
+    assertArrayEquals(new byte[]{1}, snapshot.values.get(0));
+    assertArrayEquals(new byte[]{2}, snapshot.values.get(1));
+    assertEquals(2 * (NotificationBatcher.RECORD_HEADER_SIZE + 1), snapshot.packedValues.length);
+  }
+
+  @Test
+  public void countsOverwrittenNotificationsAsDropped() {
+    NotificationHistory history = new NotificationHistory(2, null);
+    for (int value = 0; value < 5; value++) {
+      receive(history, value);
+    }
+
+    NotificationHistory.Snapshot snapshot = history.read(0, 1);
+    assertEquals(3, snapshot.firstSeq);
+    assertEquals(4, snapshot.nextSeq);
+    assertEquals(3, snapshot.droppedCount);
+    assertArrayEquals(new byte[]{3}, snapshot.values.get(0));
+
+    NotificationHistory.Snapshot rest = history.read(snapshot.nextSeq, 0);
+    assertEquals(0, rest.droppedCount);
+    assertArrayEquals(new byte[]{4}, rest.values.get(0));
+  }
+
+  @Test
+  public void acceptsMaximumCapacity() {
+    assertEquals(NotificationHistory.MAX_CAPACITY,
+      MonitorOptions.fromJs(options(NotificationHistory.MAX_CAPACITY)).getHistoryCapacity());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsCapacityAboveMaximum() {
+    MonitorOptions.fromJs(options(NotificationHistory.MAX_CAPACITY + 1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsZeroCapacity() {
+    MonitorOptions.fromJs(options(0));
+  }
+
+  private static JavaOnlyMap options(int capacity) {
+    JavaOnlyMap history = new JavaOnlyMap();
+    history.putInt("capacity", capacity);
+    JavaOnlyMap options = new JavaOnlyMap();
+    options.putMap("history", history);
+    return options;
+  }
+}
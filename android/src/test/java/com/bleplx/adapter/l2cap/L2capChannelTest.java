@@ -0,0 +1,219 @@
+package com.bleplx.adapter.l2cap;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.observers.TestObserver;
+
+public class L2capChannelTest {
+
+  private static final String DEVICE_ID = "AA:BB:CC:DD:EE:01";
+  private static final int PSM = 0x80;
+  private static final int MAX_PACKET_SIZE = 10;
+
+  // Transport which connects to a socket fed by the test instead of a radio
+  private static class FakeTransport implements L2capTransport {
+    final FakeSocket socket = new FakeSocket();
+    String deviceId;
+    int psm;
+    boolean secure;
+
+    @Override
+    public L2capSocket connect(String deviceId, int psm, boolean secure) {
+      this.deviceId = deviceId;
+      this.psm = psm;
+      this.secure = secure;
+      return socket;
+    }
+  }
+
+  private static class FakeSocket implements L2capSocket {
+    // Identity of these arrays tells end of the stream apart from received SDUs
+    private static final byte[] EOF = new byte[0];
+    private static final byte[] CLOSED = new byte[0];
+
+    final LinkedBlockingQueue<byte[]> received = new LinkedBlockingQueue<>();
+    final List<byte[]> written = Collections.synchronizedList(new ArrayList<>());
+    volatile boolean isClosed = false;
+
+    void receive(int... values) {
+      byte[] sdu = new byte[values.length];
+      for (int i = 0; i < values.length; i++) {
+        sdu[i] = (byte) values[i];
+      }
+      received.add(sdu);
+    }
+
+    @Override
+    public int read(ByteBuffer buffer) throws IOException {
+      byte[] sdu;
+      try {
+        sdu = received.take();
+      } catch (InterruptedException e) {
+        throw new IOException(e);
+      }
+      if (sdu == EOF) {
+        return -1;
+      }
+      if (sdu == CLOSED) {
+        throw new IOException("socket closed");
+      }
+      buffer.put(sdu);
+      return sdu.length;
+    }
+
+    @Override
+    public int available() {
+      byte[] sdu = received.peek();
+      return sdu != null ? sdu.length : 0;
+    }
+
+    @Override
+    public void write(ByteBuffer buffer) throws IOException {
+      if (isClosed) {
+        throw new IOException("socket closed");
+      }
+      byte[] data = new byte[buffer.remaining()];
+      buffer.get(data);
+      written.add(data);
+    }
+
+    @Override
+    public int getMaxReceivePacketSize() {
+      return MAX_PACKET_SIZE;
+    }
+
+    @Override
+    public int getMaxTransmitPacketSize() {
+      return MAX_PACKET_SIZE * 2;
+    }
+
+    @Override
+    public void close() {
+      isClosed = true;
+      received.add(CLOSED);
+    }
+  }
+
+  private final FakeTransport transport = new FakeTransport();
+
+  private L2capChannel open(int chunkSize) throws IOException {
+    return new L2capChannel(DEVICE_ID, PSM, transport.connect(DEVICE_ID, PSM, true), chunkSize);
+  }
+
+  private static byte[] bytes(ByteBuffer chunk) {
+    byte[] bytes = new byte[chunk.remaining()];
+    chunk.get(bytes);
+    return bytes;
+  }
+
+  @Test
+  public void openedChannelDescribesConnectedSocket() throws IOException {
+    L2capChannel channel = open(L2capChannel.DEFAULT_CHUNK_SIZE);
+
+    assertEquals(DEVICE_ID, transport.deviceId);
+    assertEquals(PSM, transport.psm);
+    assertTrue(transport.secure);
+    assertEquals(DEVICE_ID, channel.getDeviceId());
+    assertEquals(PSM, channel.getPsm());
+    assertEquals(MAX_PACKET_SIZE, channel.getMaxReceivePacketSize());
+    assertEquals(MAX_PACKET_SIZE * 2, channel.getMaxTransmitPacketSize());
+  }
+
+  @Test
+  public void waitingSdusAreJoinedIntoChunksOfWholeSdus() throws IOException {
+    L2capChannel channel = open(25);
+    transport.socket.receive(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    transport.socket.receive(11, 12, 13, 14, 15, 16, 17, 18);
+    transport.socket.receive(19, 20, 21, 22, 23, 24, 25, 26, 27, 28);
+    transport.socket.receive(29);
+
+    // Only 7 bytes of the buffer are left after two SDUs, the third one could be cut, so it starts the next chunk
+    assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18},
+      bytes(channel.readChunk()));
+    assertArrayEquals(new byte[]{19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29}, bytes(channel.readChunk()));
+  }
+
+  @Test
+  public void chunksAreReadToTheSameBuffer() throws IOException {
+    L2capChannel channel = open(L2capChannel.DEFAULT_CHUNK_SIZE);
+    transport.socket.receive(1);
+    ByteBuffer first = channel.readChunk();
+    transport.socket.receive(2);
+    ByteBuffer second = channel.readChunk();
+
+    assertSame(first, second);
+    assertArrayEquals(new byte[]{2}, bytes(second));
+  }
+
+  @Test
+  public void remoteEndOfStreamEndsReading() throws IOException {
+    L2capChannel channel = open(L2capChannel.DEFAULT_CHUNK_SIZE);
+    transport.socket.receive(1);
+    transport.socket.received.add(FakeSocket.EOF);
+
+    assertArrayEquals(new byte[]{1}, bytes(channel.readChunk()));
+    assertNull(channel.readChunk());
+  }
+
+  @Test
+  public void writesArePassedInOrderOfCalls() throws IOException {
+    L2capChannel channel = open(L2capChannel.DEFAULT_CHUNK_SIZE);
+    List<TestObserver<Void>> observers = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      observers.add(channel.write(new byte[]{(byte) i}).test());
+    }
+
+    for (TestObserver<Void> observer : observers) {
+      observer.awaitTerminalEvent(5, TimeUnit.SECONDS);
+      observer.assertComplete();
+    }
+    assertEquals(100, transport.socket.written.size());
+    for (int i = 0; i < 100; i++) {
+      assertArrayEquals(new byte[]{(byte) i}, transport.socket.written.get(i));
+    }
+  }
+
+  @Test
+  public void closeFailsBlockedReadAndLaterWrites() throws Exception {
+    L2capChannel channel = open(L2capChannel.DEFAULT_CHUNK_SIZE);
+    ExecutorService reader = Executors.newSingleThreadExecutor();
+    try {
+      Future<ByteBuffer> read = reader.submit(channel::readChunk);
+      channel.close();
+
+      try {
+        read.get(5, TimeUnit.SECONDS);
+        fail("Read of a closed channel should fail");
+      } catch (ExecutionException e) {
+        assertTrue(e.getCause() instanceof IOException);
+      }
+    } finally {
+      reader.shutdownNow();
+    }
+    assertTrue(transport.socket.isClosed);
+
+    TestObserver<Void> write = channel.write(new byte[]{1}).test();
+    write.awaitTerminalEvent(5, TimeUnit.SECONDS);
+    write.assertError(IOException.class);
+    assertTrue(transport.socket.written.isEmpty());
+  }
+}
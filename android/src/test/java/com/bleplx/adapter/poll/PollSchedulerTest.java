@@ -0,0 +1,64 @@
+package com.bleplx.adapter.poll;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.TestScheduler;
+
+public class PollSchedulerTest {
+
+  private final TestScheduler testScheduler = new TestScheduler();
+  private final PollScheduler pollScheduler = new PollScheduler(testScheduler);
+
+  @Test
+  public void ticksAreAlignedToMultiplesOfInterval() {
+    testScheduler.advanceTimeTo(30, TimeUnit.MILLISECONDS);
+    AtomicInteger fast = new AtomicInteger();
+    AtomicInteger slow = new AtomicInteger();
+    pollScheduler.register(100, 0, fast::incrementAndGet);
+    pollScheduler.register(200, 0, slow::incrementAndGet);
+
+    testScheduler.advanceTimeTo(99, TimeUnit.MILLISECONDS);
+    assertEquals(0, fast.get());
+    testScheduler.advanceTimeTo(100, TimeUnit.MILLISECONDS);
+    assertEquals(1, fast.get());
+    assertEquals(0, slow.get());
+    testScheduler.advanceTimeTo(200, TimeUnit.MILLISECONDS);
+    assertEquals(2, fast.get());
+    assertEquals(1, slow.get());
+  }
+
+  @Test
+  public void disposedRegistrationDoesNotTick() {
+    AtomicInteger first = new AtomicInteger();
+    AtomicInteger second = new AtomicInteger();
+    Disposable firstRegistration = pollScheduler.register(100, 0, first::incrementAndGet);
+    Disposable secondRegistration = pollScheduler.register(100, 0, second::incrementAndGet);
+
+    testScheduler.advanceTimeTo(100, TimeUnit.MILLISECONDS);
+    firstRegistration.dispose();
+    testScheduler.advanceTimeTo(300, TimeUnit.MILLISECONDS);
+    assertEquals(1, first.get());
+    assertEquals(3, second.get());
+
+    secondRegistration.dispose();
+    testScheduler.advanceTimeTo(1000, TimeUnit.MILLISECONDS);
+    assertEquals(3, second.get());
+  }
+
+  @Test
+  public void jitterDelaysTickByLessThanItsValue() {
+    AtomicInteger ticks = new AtomicInteger();
+    pollScheduler.register(100, 50, ticks::incrementAndGet);
+
+    testScheduler.advanceTimeTo(99, TimeUnit.MILLISECONDS);
+    assertEquals(0, ticks.get());
+    testScheduler.advanceTimeTo(150, TimeUnit.MILLISECONDS);
+    assertEquals(1, ticks.get());
+  }
+}
@@ -0,0 +1,132 @@
+package com.bleplx.adapter.queue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.SingleSubject;
+
+public class GattOperationQueueTest {
+
+  private final GattScheduler scheduler = new GattScheduler();
+  private final GattOperationQueue queue = new GattOperationQueue(scheduler);
+  private final List<String> started = new ArrayList<>();
+
+  // Operation which records when the queue subscribes to it and completes when the subject does
+  private Single<String> operation(String name, SingleSubject<String> subject) {
+    return subject.doOnSubscribe(disposable -> started.add(name));
+  }
+
+  @Test
+  public void operationsOfHigherPriorityOvertakeQueuedOnes() {
+    SingleSubject<String> running = SingleSubject.create();
+    SingleSubject<String> bulk = SingleSubject.create();
+    SingleSubject<String> normal = SingleSubject.create();
+    SingleSubject<String> interactive = SingleSubject.create();
+
+    queue.schedule(OperationPriority.NORMAL, operation("running", running)).test();
+    TestObserver<String> bulkObserver = queue.schedule(OperationPriority.BULK, operation("bulk", bulk)).test();
+    queue.schedule(OperationPriority.NORMAL, operation("normal", normal)).test();
+    queue.schedule(OperationPriority.INTERACTIVE, operation("interactive", interactive)).test();
+    assertEquals(3, queue.getQueueDepth());
+
+    running.onSuccess("running");
+    interactive.onSuccess("interactive");
+    normal.onSuccess("normal");
+    bulk.onSuccess("bulk");
+
+    bulkObserver.assertValue("bulk");
+    assertEquals(listOf("running", "interactive", "normal", "bulk"), started);
+    assertEquals(2, queue.getPreemptedCount());
+    assertEquals(1, queue.getCompletedCount(OperationPriority.BULK));
+    assertFalse(queue.isOperationRunning());
+  }
+
+  @Test
+  public void disposedQueuedOperationIsNeverStarted() {
+    SingleSubject<String> running = SingleSubject.create();
+    SingleSubject<String> cancelled = SingleSubject.create();
+    SingleSubject<String> next = SingleSubject.create();
+
+    queue.schedule(OperationPriority.NORMAL, operation("running", running)).test();
+    TestObserver<String> cancelledObserver =
+      queue.schedule(OperationPriority.NORMAL, operation("cancelled", cancelled)).test();
+    queue.schedule(OperationPriority.NORMAL, operation("next", next)).test();
+
+    cancelledObserver.dispose();
+    running.onSuccess("running");
+
+    assertEquals(listOf("running", "next"), started);
+    assertEquals(1, queue.getCancelledCount());
+    assertTrue(queue.isOperationRunning());
+  }
+
+  @Test
+  public void disposingRunningOperationStartsTheNextOne() {
+    SingleSubject<String> running = SingleSubject.create();
+    SingleSubject<String> next = SingleSubject.create();
+
+    TestObserver<String> runningObserver =
+      queue.schedule(OperationPriority.NORMAL, operation("running", running)).test();
+    queue.schedule(OperationPriority.NORMAL, operation("next", next)).test();
+
+    runningObserver.dispose();
+
+    assertFalse(running.hasObservers());
+    assertEquals(listOf("running", "next"), started);
+    assertEquals(1, scheduler.getOperationsInFlight());
+  }
+
+  @Test
+  public void operationFailsWhenItIsNotDoneBeforeItsOwnDeadline() throws InterruptedException {
+    SingleSubject<String> running = SingleSubject.create();
+    SingleSubject<String> queued = SingleSubject.create();
+
+    queue.schedule(OperationPriority.NORMAL, operation("running", running)).test();
+    TestObserver<String> observer =
+      queue.schedule(OperationPriority.NORMAL, 20, operation("queued", queued)).test();
+
+    assertTrue(observer.await(5, TimeUnit.SECONDS));
+    observer.assertError(TimeoutException.class);
+    assertEquals(1, queue.getTimedOutCount());
+    assertEquals(1, scheduler.getTimedOutCount());
+
+    // Timed out operation left the queue, the device moves on after the running one
+    running.onSuccess("running");
+    assertEquals(listOf("running"), started);
+    assertFalse(queue.isOperationRunning());
+  }
+
+  @Test
+  public void defaultDeadlineOfPriorityAppliesWhenOperationHasNoneOfItsOwn() throws InterruptedException {
+    scheduler.setDefaultDeadline(OperationPriority.BULK, 20);
+
+    TestObserver<String> bulkObserver =
+      queue.schedule(OperationPriority.BULK, operation("bulk", SingleSubject.<String>create())).test();
+
+    assertTrue(bulkObserver.await(5, TimeUnit.SECONDS));
+    bulkObserver.assertError(TimeoutException.class);
+
+    TestObserver<String> noDeadlineObserver =
+      queue.schedule(OperationPriority.BULK, 0, operation("noDeadline", SingleSubject.<String>create())).test();
+    Thread.sleep(50);
+    noDeadlineObserver.assertNotTerminated();
+  }
+
+  private static List<String> listOf(String... names) {
+    List<String> list = new ArrayList<>();
+    for (String name : names) {
+      list.add(name);
+    }
+    return list;
+  }
+}
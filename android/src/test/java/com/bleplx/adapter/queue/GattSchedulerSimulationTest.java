@@ -0,0 +1,120 @@
+package com.bleplx.adapter.queue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import io.reactivex.schedulers.TestScheduler;
+
+/**
+ * Tail latency of operations of 8 busy connections on a simulated Bluetooth stack, with and
+ * without a cap on operations in flight. One device has a long backlog of bulk writes, the other
+ * seven are read together every {@link #READ_PERIOD_MILLIS}.
+ * <p>
+ * The simulated stack runs one operation at a time, like Android does across all connections, and
+ * accepts only {@link #CONTROLLER_SLOTS} pending operations. Operations above that fail, like with
+ * GATT status 133, and are retried after {@link #RETRY_DELAY_MILLIS}. Time is virtual, so results
+ * are deterministic and the simulation runs in milliseconds.
+ */
+public class GattSchedulerSimulationTest {
+
+  private static final int DEVICE_COUNT = 8;
+  private static final int CONTROLLER_SLOTS = 4;
+  private static final long SERVICE_MILLIS = 8;
+  private static final long RETRY_DELAY_MILLIS = 100;
+  private static final long READ_PERIOD_MILLIS = 80;
+  private static final long DURATION_MILLIS = 10_000;
+
+  private static final class SimulatedStack {
+    private final TestScheduler clock;
+    private int pendingCount = 0;
+    private long busyUntilMillis = 0;
+    private long rejectedCount = 0;
+
+    SimulatedStack(TestScheduler clock) {
+      this.clock = clock;
+    }
+
+    Single<Long> operation() {
+      return Single.defer(() -> {
+        if (pendingCount >= CONTROLLER_SLOTS) {
+          rejectedCount++;
+          return Single.<Long>error(new IllegalStateException("GATT status 133"));
+        }
+        pendingCount++;
+        long now = clock.now(TimeUnit.MILLISECONDS);
+        long doneAt = Math.max(now, busyUntilMillis) + SERVICE_MILLIS;
+        busyUntilMillis = doneAt;
+        // Slot is free before the result is delivered, like after onCharacteristicRead()
+        return Single.timer(doneAt - now, TimeUnit.MILLISECONDS, clock).doOnSuccess(value -> pendingCount--);
+      }).retryWhen(errors -> errors.flatMap(error -> Flowable.timer(RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS, clock)));
+    }
+  }
+
+  private static final class Result {
+    final List<Long> readLatencies;
+    final long rejectedCount;
+
+    Result(List<Long> readLatencies, long rejectedCount) {
+      this.readLatencies = readLatencies;
+      this.rejectedCount = rejectedCount;
+    }
+
+    long percentile(double percentile) {
+      List<Long> sorted = new ArrayList<>(readLatencies);
+      Collections.sort(sorted);
+      int index = (int) Math.ceil(percentile / 100 * sorted.size()) - 1;
+      return sorted.get(Math.max(0, index));
+    }
+  }
+
+  private static Result simulate(int maxOperationsInFlight) {
+    final TestScheduler clock = new TestScheduler();
+    final SimulatedStack stack = new SimulatedStack(clock);
+    final GattScheduler scheduler = new GattScheduler();
+    scheduler.setMaxOperationsInFlight(maxOperationsInFlight);
+    final List<Long> readLatencies = new ArrayList<>();
+
+    GattOperationQueue busyDevice = new GattOperationQueue(scheduler);
+    for (long i = 0; i < DURATION_MILLIS / SERVICE_MILLIS; i++) {
+      busyDevice.schedule(OperationPriority.BULK, stack.operation()).subscribe();
+    }
+
+    for (int device = 1; device < DEVICE_COUNT; device++) {
+      final GattOperationQueue queue = new GattOperationQueue(scheduler);
+      // Devices are read on the same timer tick, so their reads arrive together
+      for (long time = device; time < DURATION_MILLIS; time += READ_PERIOD_MILLIS) {
+        clock.scheduleDirect(() -> {
+          final long startedAt = clock.now(TimeUnit.MILLISECONDS);
+          queue.schedule(OperationPriority.NORMAL, stack.operation())
+            .subscribe(value -> readLatencies.add(clock.now(TimeUnit.MILLISECONDS) - startedAt));
+        }, time, TimeUnit.MILLISECONDS);
+      }
+    }
+
+    clock.advanceTimeBy(DURATION_MILLIS * 10, TimeUnit.MILLISECONDS);
+    return new Result(readLatencies, stack.rejectedCount);
+  }
+
+  @Test
+  public void cappedSchedulerShortensTailLatencyOfBusyConnections() {
+    Result uncapped = simulate(DEVICE_COUNT);
+    Result capped = simulate(CONTROLLER_SLOTS);
+
+    long expectedReads = (DEVICE_COUNT - 1) * (DURATION_MILLIS / READ_PERIOD_MILLIS);
+    assertEquals(expectedReads, uncapped.readLatencies.size());
+    assertEquals(expectedReads, capped.readLatencies.size());
+    assertTrue(uncapped.rejectedCount > 0);
+    assertEquals(0, capped.rejectedCount);
+    assertTrue(capped.percentile(99) * 2 < uncapped.percentile(99));
+    assertTrue(capped.percentile(50) <= uncapped.percentile(50));
+  }
+}
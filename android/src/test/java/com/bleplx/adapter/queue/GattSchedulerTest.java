@@ -0,0 +1,85 @@
+package com.bleplx.adapter.queue;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.reactivex.Single;
+import io.reactivex.subjects.SingleSubject;
+
+public class GattSchedulerTest {
+
+  private final GattScheduler scheduler = new GattScheduler();
+  private final List<String> started = new ArrayList<>();
+  private final List<SingleSubject<String>> running = new ArrayList<>();
+
+  // Operation which stays in flight until the test completes it
+  private Single<String> operation(final String name) {
+    final SingleSubject<String> subject = SingleSubject.create();
+    return subject.doOnSubscribe(disposable -> {
+      started.add(name);
+      running.add(subject);
+    });
+  }
+
+  private void completeOldestRunning() {
+    running.remove(0).onSuccess("done");
+  }
+
+  @Test
+  public void operationsInFlightAreNotLimitedByDefault() {
+    for (int device = 0; device < 8; device++) {
+      new GattOperationQueue(scheduler).schedule(OperationPriority.NORMAL, operation("device" + device)).test();
+    }
+
+    assertEquals(8, scheduler.getOperationsInFlight());
+    assertEquals(0, scheduler.getWaitingDeviceCount());
+  }
+
+  @Test
+  public void operationsInFlightAreCappedAcrossDevices() {
+    scheduler.setMaxOperationsInFlight(2);
+    for (int device = 0; device < 4; device++) {
+      new GattOperationQueue(scheduler).schedule(OperationPriority.NORMAL, operation("device" + device)).test();
+    }
+
+    assertEquals(2, scheduler.getOperationsInFlight());
+    assertEquals(2, scheduler.getWaitingDeviceCount());
+
+    completeOldestRunning();
+    assertEquals(2, scheduler.getOperationsInFlight());
+    assertEquals(1, scheduler.getWaitingDeviceCount());
+
+    scheduler.setMaxOperationsInFlight(4);
+    assertEquals(3, scheduler.getOperationsInFlight());
+    assertEquals(0, scheduler.getWaitingDeviceCount());
+  }
+
+  @Test
+  public void busyDeviceTakesTurnsWithOtherDevices() {
+    scheduler.setMaxOperationsInFlight(1);
+    GattOperationQueue busy = new GattOperationQueue(scheduler);
+    GattOperationQueue quiet = new GattOperationQueue(scheduler);
+    for (int i = 0; i < 3; i++) {
+      busy.schedule(OperationPriority.NORMAL, operation("busy" + i)).test();
+    }
+    quiet.schedule(OperationPriority.NORMAL, operation("quiet0")).test();
+    quiet.schedule(OperationPriority.NORMAL, operation("quiet1")).test();
+
+    while (!running.isEmpty()) {
+      completeOldestRunning();
+    }
+
+    List<String> expected = new ArrayList<>();
+    expected.add("busy0");
+    expected.add("quiet0");
+    expected.add("busy1");
+    expected.add("quiet1");
+    expected.add("busy2");
+    assertEquals(expected, started);
+    assertEquals(0, scheduler.getOperationsInFlight());
+  }
+}
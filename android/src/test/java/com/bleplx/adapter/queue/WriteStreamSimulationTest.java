@@ -0,0 +1,150 @@
+package com.bleplx.adapter.queue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Single;
+import io.reactivex.SingleEmitter;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.TestScheduler;
+
+/**
+ * Sustained throughput of a stream of writes without response on a simulated link, and latency
+ * of reads of the same device queued while the stream runs.
+ * <p>
+ * The simulated controller buffers up to {@link #BUFFER_CREDITS} packets and sends up to {@link
+ * #PACKETS_PER_EVENT} of them every connection interval. A write completes, like with {@code
+ * onCharacteristicWrite()}, when its packet is taken into the buffer. A read is answered in the
+ * connection event after the next one. Time is virtual, so results are deterministic.
+ */
+public class WriteStreamSimulationTest {
+
+  private static final long CONNECTION_INTERVAL_MICROS = 7_500;
+  private static final long CALLBACK_DELAY_MICROS = 200;
+  private static final int PACKETS_PER_EVENT = 6;
+  private static final int BUFFER_CREDITS = 8;
+  private static final int PACKET_COUNT = 2_000;
+  private static final long READ_PERIOD_MICROS = 100_000;
+
+  private static final class SimulatedLink {
+    private final TestScheduler clock;
+    private final ArrayDeque<SingleEmitter<byte[]>> waitingWrites = new ArrayDeque<>();
+    private final ArrayDeque<byte[]> waitingValues = new ArrayDeque<>();
+    private int bufferedPackets = 0;
+
+    SimulatedLink(TestScheduler clock) {
+      this.clock = clock;
+    }
+
+    Disposable start() {
+      return clock.schedulePeriodicallyDirect(this::onConnectionEvent,
+        CONNECTION_INTERVAL_MICROS, CONNECTION_INTERVAL_MICROS, TimeUnit.MICROSECONDS);
+    }
+
+    Single<byte[]> writeWithoutResponse(final byte[] value) {
+      return Single.create(emitter -> {
+        if (bufferedPackets < BUFFER_CREDITS) {
+          bufferedPackets++;
+          acknowledge(emitter, value);
+        } else {
+          waitingWrites.add(emitter);
+          waitingValues.add(value);
+        }
+      });
+    }
+
+    Single<byte[]> read() {
+      long now = clock.now(TimeUnit.MICROSECONDS);
+      long nextEvent = (now / CONNECTION_INTERVAL_MICROS + 1) * CONNECTION_INTERVAL_MICROS;
+      return Single.timer(nextEvent + CONNECTION_INTERVAL_MICROS - now, TimeUnit.MICROSECONDS, clock)
+        .map(tick -> new byte[]{1});
+    }
+
+    private void onConnectionEvent() {
+      bufferedPackets -= Math.min(bufferedPackets, PACKETS_PER_EVENT);
+      while (bufferedPackets < BUFFER_CREDITS && !waitingWrites.isEmpty()) {
+        bufferedPackets++;
+        acknowledge(waitingWrites.poll(), waitingValues.poll());
+      }
+    }
+
+    private void acknowledge(final SingleEmitter<byte[]> emitter, final byte[] value) {
+      clock.scheduleDirect(() -> emitter.onSuccess(value), CALLBACK_DELAY_MICROS, TimeUnit.MICROSECONDS);
+    }
+  }
+
+  private static final class Result {
+    final double kilobytesPerSecond;
+    final List<Long> readLatenciesMicros;
+
+    Result(double kilobytesPerSecond, List<Long> readLatenciesMicros) {
+      this.kilobytesPerSecond = kilobytesPerSecond;
+      this.readLatenciesMicros = readLatenciesMicros;
+    }
+
+    double readPercentileMillis(double percentile) {
+      List<Long> sorted = new ArrayList<>(readLatenciesMicros);
+      Collections.sort(sorted);
+      int index = (int) Math.ceil(percentile / 100 * sorted.size()) - 1;
+      return sorted.get(Math.max(0, index)) / 1000.0;
+    }
+  }
+
+  /**
+   * @param queuedPerPacket true if each packet is queued separately, false if the whole stream is
+   *                        a single queued operation.
+   */
+  private static Result simulate(int packetSize, boolean queuedPerPacket) {
+    final TestScheduler clock = new TestScheduler();
+    final SimulatedLink link = new SimulatedLink(clock);
+    final GattOperationQueue queue = new GattOperationQueue(new GattScheduler());
+    final Disposable connectionEvents = link.start();
+
+    List<Single<byte[]>> writes = new ArrayList<>();
+    for (int i = 0; i < PACKET_COUNT; i++) {
+      writes.add(link.writeWithoutResponse(new byte[packetSize]));
+    }
+    final long[] streamDoneAt = {0};
+    Single<Long> stream = queuedPerPacket
+      ? queue.scheduleSequence(OperationPriority.BULK, 0, writes).count()
+      : queue.schedule(OperationPriority.BULK, Single.concat(writes).count());
+    stream.subscribe(count -> streamDoneAt[0] = clock.now(TimeUnit.MICROSECONDS));
+
+    final List<Long> readLatencies = new ArrayList<>();
+    long streamMicros = (long) PACKET_COUNT / PACKETS_PER_EVENT * CONNECTION_INTERVAL_MICROS;
+    for (long time = READ_PERIOD_MICROS / 2; time < streamMicros; time += READ_PERIOD_MICROS) {
+      clock.scheduleDirect(() -> {
+        final long startedAt = clock.now(TimeUnit.MICROSECONDS);
+        queue.schedule(OperationPriority.INTERACTIVE, link.read())
+          .subscribe(value -> readLatencies.add(clock.now(TimeUnit.MICROSECONDS) - startedAt));
+      }, time, TimeUnit.MICROSECONDS);
+    }
+
+    clock.advanceTimeBy(streamMicros * 4, TimeUnit.MICROSECONDS);
+    connectionEvents.dispose();
+    double kilobytesPerSecond = (double) PACKET_COUNT * packetSize / 1024 / (streamDoneAt[0] / 1_000_000.0);
+    return new Result(kilobytesPerSecond, readLatencies);
+  }
+
+  @Test
+  public void streamQueuedPerPacketKeepsThroughputAndLetsReadsThrough() {
+    for (int packetSize : new int[]{20, 182, 244}) {
+      Result perPacket = simulate(packetSize, true);
+      Result singleOperation = simulate(packetSize, false);
+      double linkCapacity = PACKETS_PER_EVENT * packetSize / 1024.0 / (CONNECTION_INTERVAL_MICROS / 1_000_000.0);
+      assertEquals(singleOperation.readLatenciesMicros.size(), perPacket.readLatenciesMicros.size());
+      assertTrue(perPacket.kilobytesPerSecond > linkCapacity * 0.9);
+      assertTrue(perPacket.kilobytesPerSecond >= singleOperation.kilobytesPerSecond * 0.9);
+      assertTrue(perPacket.readPercentileMillis(99) < 3 * CONNECTION_INTERVAL_MICROS / 1000.0);
+      assertTrue(singleOperation.readPercentileMillis(99) > 10 * perPacket.readPercentileMillis(99));
+    }
+  }
+}
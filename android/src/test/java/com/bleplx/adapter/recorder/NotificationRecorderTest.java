@@ -0,0 +1,127 @@
+package com.bleplx.adapter.recorder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.bluetooth.BluetoothGattCharacteristic;
+import android.bluetooth.BluetoothGattService;
+
+import com.bleplx.adapter.Characteristic;
+import com.bleplx.adapter.Service;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.UUID;
+
+public class NotificationRecorderTest {
+
+  private static final int SEGMENT_SIZE = NotificationRecorder.MIN_SEGMENT_SIZE;
+  private static final UUID SERVICE_UUID = UUID.fromString("0000180d-0000-1000-8000-00805f9b34fb");
+  private static final UUID CHARACTERISTIC_UUID = UUID.fromString("00002a37-0000-1000-8000-00805f9b34fb");
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static Characteristic characteristic() {
+    BluetoothGattService gattService = new BluetoothGattService(SERVICE_UUID, BluetoothGattService.SERVICE_TYPE_PRIMARY) {
+      @Override
+      public UUID getUuid() {
+        return SERVICE_UUID;
+      }
+    };
+    BluetoothGattCharacteristic gattCharacteristic = new BluetoothGattCharacteristic(CHARACTERISTIC_UUID, 0, 0) {
+      @Override
+      public UUID getUuid() {
+        return CHARACTERISTIC_UUID;
+      }
+    };
+    return new Characteristic(7, new Service(3, "AA:BB:CC:DD:EE:01", gattService), gattCharacteristic);
+  }
+
+  private static NotificationRecorder open(File directory) throws IOException {
+    return new NotificationRecorder(directory, SEGMENT_SIZE, 0, FsyncPolicy.NEVER, 0);
+  }
+
+  private static void write(NotificationRecorder recorder, int count) throws IOException {
+    Characteristic characteristic = characteristic();
+    for (int i = 0; i < count; i++) {
+      recorder.write(new Characteristic(characteristic, new byte[]{(byte) i, (byte) (i >> 8)}, i * 1_000_000L));
+    }
+  }
+
+  @Test
+  public void readerReturnsRecordedNotifications() throws IOException {
+    File directory = folder.newFolder();
+    try (NotificationRecorder recorder = open(directory)) {
+      write(recorder, 3);
+      assertEquals(3, recorder.getNextSeq());
+    }
+
+    try (NotificationRecordingReader reader = new NotificationRecordingReader(directory, 1)) {
+      NotificationRecord record = reader.read();
+      assertEquals(1, record.getSeq());
+      assertEquals("AA:BB:CC:DD:EE:01", record.getDeviceId());
+      assertEquals(7, record.getCharacteristicId());
+      assertEquals(SERVICE_UUID, record.getServiceUUID());
+      assertEquals(CHARACTERISTIC_UUID, record.getCharacteristicUUID());
+      assertArrayEquals(new byte[]{1, 0}, record.getValue());
+      assertEquals(2, reader.read().getSeq());
+      assertNull(reader.read());
+    }
+  }
+
+  @Test
+  public void segmentsKeepTheirSizeWhileMappedByReader() throws IOException {
+    File directory = folder.newFolder();
+    int count = 200;
+    NotificationRecorder recorder = open(directory);
+    write(recorder, 1);
+    try (NotificationRecordingReader reader = new NotificationRecordingReader(directory, 0)) {
+      assertEquals(0, reader.read().getSeq());
+      // Recorder moves on to next segments and closes the one mapped by the reader
+      write(recorder, count - 1);
+      recorder.close();
+
+      // Reader listed only the first segment, it is read up to the zero length after its last record
+      long expectedSeq = 1;
+      NotificationRecord record;
+      while ((record = reader.read()) != null) {
+        assertEquals(expectedSeq++, record.getSeq());
+      }
+      assertTrue(expectedSeq > 1 && expectedSeq < count);
+    }
+
+    File[] segments = NotificationRecordingFormat.listSegments(directory);
+    assertTrue(segments.length > 1);
+    for (File segment : segments) {
+      assertEquals(SEGMENT_SIZE, segment.length());
+    }
+  }
+
+  @Test
+  public void recordingContinuesAfterLastRecordOfExistingDirectory() throws IOException {
+    File directory = folder.newFolder();
+    try (NotificationRecorder recorder = open(directory)) {
+      write(recorder, 150);
+    }
+    try (NotificationRecorder recorder = open(directory)) {
+      assertEquals(150, recorder.getNextSeq());
+      write(recorder, 10);
+    }
+
+    try (NotificationRecordingReader reader = new NotificationRecordingReader(directory, 0)) {
+      long expectedSeq = 0;
+      NotificationRecord record;
+      while ((record = reader.read()) != null) {
+        assertEquals(expectedSeq++, record.getSeq());
+      }
+      assertEquals(160, expectedSeq);
+    }
+  }
+}
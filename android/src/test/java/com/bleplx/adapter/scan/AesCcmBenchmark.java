@@ -0,0 +1,78 @@
+package com.bleplx.adapter.scan;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of decrypting BTHome v2 encrypted advertisements, in advertisements per millisecond.
+ * Uses the vectors of {@link AesCcmTest}, the tampered payload measures rejected advertisements.
+ * Run with {@code ./gradlew benchmark -Pbenchmark=AesCcmBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AesCcmBenchmark {
+
+  private static final String DEVICE_ID = "54:48:E6:8F:80:A5";
+  private static final byte[] KEY = hex("231d39c1d7cc1ab1aee224cd096db932");
+  private static final byte[] NONCE = hex("5448e68f80a5d2fc4100112233");
+  private static final byte[] CIPHERTEXT = hex("a47266c95f73016d8ddb41cf55865a941d619aa4c5da15d592ec");
+  private static final byte[] TAG = hex("ec6c248d");
+
+  private AesCcm aesCcm;
+  private byte[] payload;
+  private byte[] tamperedPayload;
+
+  @Setup
+  public void setUp() throws GeneralSecurityException {
+    aesCcm = new AesCcm(KEY);
+    // Device info, ciphertext, counter and MIC as sent in BTHome service data
+    payload = new byte[1 + CIPHERTEXT.length + 4 + TAG.length];
+    payload[0] = NONCE[8];
+    System.arraycopy(CIPHERTEXT, 0, payload, 1, CIPHERTEXT.length);
+    System.arraycopy(NONCE, 9, payload, 1 + CIPHERTEXT.length, 4);
+    System.arraycopy(TAG, 0, payload, 1 + CIPHERTEXT.length + 4, TAG.length);
+    if (AdvertisementDecryptor.decryptBTHome(aesCcm, DEVICE_ID, payload) == null) {
+      throw new IllegalStateException("Benchmark payload doesn't decrypt");
+    }
+    tamperedPayload = payload.clone();
+    tamperedPayload[payload.length - 1] ^= 1;
+  }
+
+  @Benchmark
+  public byte[] decrypt() throws GeneralSecurityException {
+    return aesCcm.decrypt(NONCE, CIPHERTEXT, 0, CIPHERTEXT.length, TAG, 0, TAG.length);
+  }
+
+  @Benchmark
+  public byte[] decryptBTHome() {
+    return AdvertisementDecryptor.decryptBTHome(aesCcm, DEVICE_ID, payload);
+  }
+
+  @Benchmark
+  public byte[] rejectTamperedBTHome() {
+    return AdvertisementDecryptor.decryptBTHome(aesCcm, DEVICE_ID, tamperedPayload);
+  }
+
+  private static byte[] hex(String hex) {
+    byte[] bytes = new byte[hex.length() / 2];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,66 @@
+package com.bleplx.adapter.scan;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import java.security.GeneralSecurityException;
+
+public class AesCcmTest {
+
+  // Vectors generated with an independent AES-CCM implementation (pyca/cryptography AESCCM)
+  private static final byte[] KEY = hex("231d39c1d7cc1ab1aee224cd096db932");
+  private static final byte[] NONCE = hex("5448e68f80a5d2fc4100112233");
+  private static final byte[] PLAINTEXT = hex("02ca0903bf13000102030405060708090a0b0c0d0e0f10111213");
+  private static final byte[] CIPHERTEXT = hex("a47266c95f73016d8ddb41cf55865a941d619aa4c5da15d592ec");
+  private static final byte[] TAG_4 = hex("ec6c248d");
+  private static final byte[] TAG_16 = hex("64ab4a2ef7b711d2e2b92349815bc609");
+
+  @Test
+  public void decryptsWithShortAndFullTag() throws GeneralSecurityException {
+    AesCcm aesCcm = new AesCcm(KEY);
+    assertArrayEquals(PLAINTEXT, aesCcm.decrypt(NONCE, CIPHERTEXT, 0, CIPHERTEXT.length, TAG_4, 0, 4));
+    assertArrayEquals(PLAINTEXT, aesCcm.decrypt(NONCE, CIPHERTEXT, 0, CIPHERTEXT.length, TAG_16, 0, 16));
+  }
+
+  @Test
+  public void decryptsPayloadAndTagInsideLargerFrame() throws GeneralSecurityException {
+    byte[] frame = new byte[3 + CIPHERTEXT.length + TAG_4.length];
+    System.arraycopy(CIPHERTEXT, 0, frame, 3, CIPHERTEXT.length);
+    System.arraycopy(TAG_4, 0, frame, 3 + CIPHERTEXT.length, TAG_4.length);
+
+    byte[] plaintext = new AesCcm(KEY).decrypt(NONCE, frame, 3, CIPHERTEXT.length, frame, 3 + CIPHERTEXT.length, 4);
+
+    assertArrayEquals(PLAINTEXT, plaintext);
+  }
+
+  @Test
+  public void returnsNullWhenTagDoesNotMatch() throws GeneralSecurityException {
+    byte[] tag = TAG_4.clone();
+    tag[0] ^= 1;
+    assertNull(new AesCcm(KEY).decrypt(NONCE, CIPHERTEXT, 0, CIPHERTEXT.length, tag, 0, 4));
+
+    byte[] ciphertext = CIPHERTEXT.clone();
+    ciphertext[ciphertext.length - 1] ^= 1;
+    assertNull(new AesCcm(KEY).decrypt(NONCE, ciphertext, 0, ciphertext.length, TAG_4, 0, 4));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsTooLongNonce() throws GeneralSecurityException {
+    new AesCcm(KEY).decrypt(new byte[14], CIPHERTEXT, 0, CIPHERTEXT.length, TAG_4, 0, 4);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsOddTagLength() throws GeneralSecurityException {
+    new AesCcm(KEY).decrypt(NONCE, CIPHERTEXT, 0, CIPHERTEXT.length, TAG_16, 0, 5);
+  }
+
+  private static byte[] hex(String hex) {
+    byte[] bytes = new byte[hex.length() / 2];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,158 @@
+package com.bleplx.adapter.scan;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.bleplx.adapter.ScanResult;
+import com.bleplx.adapter.utils.mapper.RxScanResultToScanResultMapper;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.schedulers.TestScheduler;
+
+public class ScanCaptureRoundTripTest {
+
+  private static final long BASE_TIMESTAMP_NANOS = 1_000_000_000L;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void replayedRecordsAreMappedLikeLiveScanResults() throws IOException {
+    File file = folder.newFile("capture.bin");
+    byte[] scanRecord = advertisement("Thermometer");
+    try (ScanCaptureWriter writer = new ScanCaptureWriter(file)) {
+      writer.write(BASE_TIMESTAMP_NANOS, "AA:BB:CC:DD:EE:01", -40, true, scanRecord);
+      writer.write(BASE_TIMESTAMP_NANOS + 5_000_000L, "AA:BB:CC:DD:EE:02", -97, false, new byte[0]);
+      assertEquals(2, writer.getRecordCount());
+    }
+
+    RxScanResultToScanResultMapper mapper = new RxScanResultToScanResultMapper();
+    TestObserver<ScanResult> observer = ScanCaptureReplay
+      .replay(file, 0, Schedulers.trampoline())
+      .map(mapper::map)
+      .test();
+
+    observer.assertComplete();
+    List<ScanResult> results = observer.values();
+    assertEquals(2, results.size());
+
+    ScanResult first = results.get(0);
+    assertEquals("AA:BB:CC:DD:EE:01", first.getDeviceId());
+    assertEquals("Thermometer", first.getDeviceName());
+    assertEquals(-40, first.getRssi());
+    assertTrue(first.isConnectable());
+    assertEquals("Thermometer", first.getAdvertisementData().getLocalName());
+
+    ScanResult second = results.get(1);
+    assertEquals("AA:BB:CC:DD:EE:02", second.getDeviceId());
+    assertEquals(-97, second.getRssi());
+    assertFalse(second.isConnectable());
+    assertNull(second.getDeviceName());
+  }
+
+  @Test
+  public void consecutiveSessionsAreRebasedToOneTimeline() throws IOException {
+    File file = folder.newFile("capture.bin");
+    try (ScanCaptureWriter writer = new ScanCaptureWriter(file)) {
+      writer.write(BASE_TIMESTAMP_NANOS, "AA:BB:CC:DD:EE:01", -40, true, advertisement("A"));
+      writer.write(BASE_TIMESTAMP_NANOS + 2_000_000L, "AA:BB:CC:DD:EE:01", -41, true, advertisement("A"));
+    }
+    // Writer opened again appends a new session whose clock started from zero
+    try (ScanCaptureWriter writer = new ScanCaptureWriter(file)) {
+      writer.write(10_000L, "AA:BB:CC:DD:EE:02", -50, true, advertisement("B"));
+      writer.write(3_010_000L, "AA:BB:CC:DD:EE:02", -51, true, advertisement("B"));
+    }
+
+    try (ScanCaptureReader reader = new ScanCaptureReader(file)) {
+      ScanCaptureRecord record;
+      long previousTimestampNanos = Long.MIN_VALUE;
+      int count = 0;
+      while ((record = reader.read()) != null) {
+        assertTrue(record.getTimestampNanos() >= previousTimestampNanos);
+        previousTimestampNanos = record.getTimestampNanos();
+        count++;
+      }
+      assertEquals(4, count);
+      assertEquals(BASE_TIMESTAMP_NANOS + 5_000_000L, previousTimestampNanos);
+    }
+  }
+
+  @Test
+  public void truncatedRecordIsTreatedAsEndOfFile() throws IOException {
+    File file = folder.newFile("capture.bin");
+    byte[] scanRecord = advertisement("Truncated");
+    try (ScanCaptureWriter writer = new ScanCaptureWriter(file)) {
+      writer.write(BASE_TIMESTAMP_NANOS, "AA:BB:CC:DD:EE:01", -40, true, scanRecord);
+      writer.write(BASE_TIMESTAMP_NANOS + 1_000L, "AA:BB:CC:DD:EE:01", -40, true, scanRecord);
+    }
+    try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+      raf.setLength(raf.length() - 3);
+    }
+
+    try (ScanCaptureReader reader = new ScanCaptureReader(file)) {
+      ScanCaptureRecord record = reader.read();
+      assertArrayEquals(scanRecord, record.getScanRecord());
+      assertNull(reader.read());
+    }
+  }
+
+  @Test
+  public void replayKeepsOriginalPaceDividedBySpeed() throws IOException {
+    File file = folder.newFile("capture.bin");
+    try (ScanCaptureWriter writer = new ScanCaptureWriter(file)) {
+      writer.write(BASE_TIMESTAMP_NANOS, "AA:BB:CC:DD:EE:01", -40, true, advertisement("A"));
+      writer.write(BASE_TIMESTAMP_NANOS + 100_000_000L, "AA:BB:CC:DD:EE:01", -40, true, advertisement("A"));
+    }
+
+    TestScheduler scheduler = new TestScheduler();
+    TestObserver<ScanCaptureRecord> observer = ScanCaptureReplay.replay(file, 2, scheduler).test();
+
+    scheduler.triggerActions();
+    observer.assertValueCount(1);
+    scheduler.advanceTimeBy(49, TimeUnit.MILLISECONDS);
+    observer.assertValueCount(1);
+    scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+    observer.assertValueCount(2);
+    observer.assertComplete();
+  }
+
+  @Test
+  public void fileWhichIsNotCaptureFailsReplay() throws IOException {
+    File file = folder.newFile("capture.bin");
+    try (FileOutputStream outputStream = new FileOutputStream(file)) {
+      outputStream.write(new byte[]{(byte) ScanCaptureFormat.SESSION_TAG, 1, 2, 3, 4, 5, 6, 7, 8});
+    }
+
+    ScanCaptureReplay.replay(file, 0, Schedulers.trampoline())
+      .test()
+      .assertError(IOException.class);
+  }
+
+  private static byte[] advertisement(String localName) {
+    byte[] name = localName.getBytes(Charset.forName("UTF-8"));
+    byte[] scanRecord = new byte[3 + 2 + name.length];
+    scanRecord[0] = 2;
+    scanRecord[1] = 0x01; // flags
+    scanRecord[2] = 0x06;
+    scanRecord[3] = (byte) (name.length + 1);
+    scanRecord[4] = 0x09; // complete local name
+    System.arraycopy(name, 0, scanRecord, 5, name.length);
+    return scanRecord;
+  }
+}
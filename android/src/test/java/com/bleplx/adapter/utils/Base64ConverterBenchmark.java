@@ -0,0 +1,78 @@
+package com.bleplx.adapter.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Base64Converter} with {@code java.util.Base64} for characteristic sized values.
+ * {@code android.util.Base64} is not available on a plain JVM, the JDK codec stands in for it.
+ * Run with {@code ./gradlew benchmark -Pbenchmark=Base64ConverterBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Base64ConverterBenchmark {
+
+  @Param({"20", "244", "512"})
+  public int length;
+
+  private byte[] bytes;
+  private String base64;
+  private char[] chars;
+  private byte[] decoded;
+
+  @Setup
+  public void setUp() {
+    bytes = new byte[length];
+    new Random(42).nextBytes(bytes);
+    base64 = Base64.getEncoder().encodeToString(bytes);
+    chars = new char[Base64Converter.encodedLength(length)];
+    decoded = new byte[Base64Converter.maxDecodedLength(base64.length())];
+  }
+
+  @Benchmark
+  public String encode() {
+    return Base64Converter.encode(bytes);
+  }
+
+  @Benchmark
+  public int encodeIntoBuffer() {
+    return Base64Converter.encode(bytes, 0, bytes.length, chars, 0);
+  }
+
+  @Benchmark
+  public String encodeJdk() {
+    return Base64.getEncoder().encodeToString(bytes);
+  }
+
+  @Benchmark
+  public byte[] decode() {
+    return Base64Converter.decode(base64);
+  }
+
+  @Benchmark
+  public int decodeIntoBuffer() {
+    return Base64Converter.decode(base64, decoded, 0);
+  }
+
+  @Benchmark
+  public byte[] decodeJdk() {
+    return Base64.getDecoder().decode(base64);
+  }
+}
@@ -0,0 +1,94 @@
+package com.bleplx.adapter.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+public class Base64ConverterTest {
+
+  private final Random random = new Random(42);
+
+  @Test
+  public void encodesLikeJavaEncoder() {
+    // Lengths over the scratch buffer size use temporary buffers
+    for (int length = 0; length < 6000; length += length < 64 ? 1 : 97) {
+      byte[] bytes = randomBytes(length);
+      assertEquals(Base64.getEncoder().encodeToString(bytes), Base64Converter.encode(bytes));
+    }
+  }
+
+  @Test
+  public void decodesWhatJavaEncoderProduced() {
+    for (int length = 0; length < 6000; length += length < 64 ? 1 : 97) {
+      byte[] bytes = randomBytes(length);
+      assertArrayEquals(bytes, Base64Converter.decode(Base64.getEncoder().encodeToString(bytes)));
+      assertArrayEquals(bytes, Base64Converter.decode(Base64.getEncoder().withoutPadding().encodeToString(bytes)));
+    }
+  }
+
+  @Test
+  public void handlesPadding() {
+    assertArrayEquals(new byte[]{1}, Base64Converter.decode("AQ=="));
+    assertArrayEquals(new byte[]{1}, Base64Converter.decode("AQ"));
+    assertArrayEquals(new byte[]{1, 2}, Base64Converter.decode("AQI="));
+    assertArrayEquals(new byte[]{1, 2}, Base64Converter.decode("AQI"));
+    assertArrayEquals(new byte[]{1, 2, 3}, Base64Converter.decode("AQID"));
+    assertArrayEquals(new byte[0], Base64Converter.decode(""));
+  }
+
+  @Test
+  public void skipsCharactersOutsideOfAlphabet() {
+    assertArrayEquals(Base64.getMimeDecoder().decode("AQID\r\nBA=="), Base64Converter.decode("AQID\r\nBA=="));
+    assertArrayEquals(new byte[]{1, 2, 3}, Base64Converter.decode(" AQ\tID\u00e9"));
+  }
+
+  @Test
+  public void rejectsMalformedInput() {
+    String[] malformed = {"A", "AQIDB", "AQ=", "A===", "====", "AQID=", "AQ==AQ==", "AQ=I"};
+    for (String base64 : malformed) {
+      try {
+        Base64Converter.decode(base64);
+        fail("Decoded malformed Base64: " + base64);
+      } catch (IllegalArgumentException e) {
+        // Rejected by java.util.Base64 as well
+        assertRejectedByJavaDecoder(base64);
+      }
+    }
+  }
+
+  @Test
+  public void encodesIntoAndDecodesFromCallerBuffers() {
+    byte[] bytes = randomBytes(100);
+    char[] chars = new char[3 + Base64Converter.encodedLength(40)];
+    int charCount = Base64Converter.encode(bytes, 10, 40, chars, 3);
+    assertEquals(Base64Converter.encodedLength(40), charCount);
+    String expected = Base64.getEncoder().encodeToString(Arrays.copyOfRange(bytes, 10, 50));
+    assertEquals(expected, new String(chars, 3, charCount));
+
+    byte[] decoded = new byte[5 + Base64Converter.maxDecodedLength(expected.length())];
+    int byteCount = Base64Converter.decode(expected, decoded, 5);
+    assertEquals(40, byteCount);
+    assertArrayEquals(Arrays.copyOfRange(bytes, 10, 50), Arrays.copyOfRange(decoded, 5, 45));
+  }
+
+  private byte[] randomBytes(int length) {
+    byte[] bytes = new byte[length];
+    random.nextBytes(bytes);
+    return bytes;
+  }
+
+  private static void assertRejectedByJavaDecoder(String base64) {
+    try {
+      Base64.getDecoder().decode(base64);
+      fail("java.util.Base64 decoded " + base64);
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+}
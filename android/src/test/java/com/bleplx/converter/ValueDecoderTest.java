@@ -0,0 +1,161 @@
+package com.bleplx.converter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+
+import org.junit.Test;
+
+public class ValueDecoderTest {
+
+  private static final double DELTA = 1e-9;
+
+  @Test
+  public void decodesLittleEndianFieldsByDefault() {
+    ValueDecoder decoder = ValueDecoder.fromJs(schema(
+      field("temperature", "int16").putDouble("scale", 0.01),
+      field("humidity", "uint8"),
+      field("counter", "uint24")
+    ));
+
+    double[] decoded = decoder.decode(bytes(0x2C, 0x09, 0x37, 0x01, 0x00, 0x80));
+
+    assertArrayEquals(new double[]{23.48, 55, 0x800001}, decoded, DELTA);
+  }
+
+  @Test
+  public void extendsSignOfSignedFields() {
+    ValueDecoder decoder = ValueDecoder.fromJs(schema(
+      field(null, "int8"),
+      field(null, "int16"),
+      field(null, "int24"),
+      field(null, "int32")
+    ));
+
+    double[] decoded = decoder.decode(bytes(0x80, 0xFF, 0xFF, 0xFE, 0xFF, 0xFF, 0x00, 0x00, 0x00, 0x80));
+
+    assertArrayEquals(new double[]{-128, -1, -2, Integer.MIN_VALUE}, decoded, DELTA);
+  }
+
+  @Test
+  public void fieldEndiannessOverridesSchemaEndianness() {
+    JavaOnlyMap schema = schema(
+      field(null, "uint16"),
+      field(null, "uint16").putBoolean("littleEndian", true)
+    );
+    schema.putBoolean("littleEndian", false);
+
+    double[] decoded = ValueDecoder.fromJs(schema).decode(bytes(0x01, 0x02, 0x01, 0x02));
+
+    assertArrayEquals(new double[]{0x0102, 0x0201}, decoded, DELTA);
+  }
+
+  @Test
+  public void decodesFloats() {
+    ValueDecoder decoder = ValueDecoder.fromJs(schema(field(null, "float32"), field(null, "float64")));
+
+    double[] decoded = decoder.decode(bytes(
+      0x00, 0x00, 0xC0, 0x3F,
+      0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x04, 0xC0
+    ));
+
+    assertArrayEquals(new double[]{1.5, -2.5}, decoded, DELTA);
+  }
+
+  @Test
+  public void fieldWithoutOffsetFollowsPreviousField() {
+    ValueDecoder decoder = ValueDecoder.fromJs(schema(
+      field("samples", "uint8").putInt("offset", 2).putInt("count", 3),
+      field("flags", "uint8")
+    ));
+
+    assertArrayEquals(new double[]{1, 2, 3, 4}, decoder.decode(bytes(0, 0, 1, 2, 3, 4)), DELTA);
+    assertNull(decoder.decode(bytes(0, 0, 1, 2, 3)));
+    assertNull(decoder.decode(null));
+  }
+
+  @Test
+  public void missingSchemaDisablesDecoding() {
+    assertNull(ValueDecoder.fromJs(null));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsSchemaWithoutFields() {
+    ValueDecoder.fromJs(new JavaOnlyMap());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsUnknownFieldType() {
+    ValueDecoder.fromJs(schema(field(null, "int12")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsZeroCount() {
+    ValueDecoder.fromJs(schema(field(null, "uint8").putInt("count", 0)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsCountOverflowingValueLength() {
+    ValueDecoder.fromJs(schema(field(null, "int32").putInt("count", 1 << 30)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsFieldEndingAfterMaximumValueLength() {
+    ValueDecoder.fromJs(schema(field(null, "uint16").putInt("offset", ValueDecoder.MAX_VALUE_LENGTH - 1)));
+  }
+
+  @Test
+  public void acceptsFieldEndingAtMaximumValueLength() {
+    ValueDecoder decoder = ValueDecoder.fromJs(schema(field(null, "uint8").putInt("count", ValueDecoder.MAX_VALUE_LENGTH)));
+    assertEquals(ValueDecoder.MAX_VALUE_LENGTH, decoder.decode(new byte[ValueDecoder.MAX_VALUE_LENGTH]).length);
+  }
+
+  private static JavaOnlyMap schema(FieldBuilder... fields) {
+    JavaOnlyArray jsFields = new JavaOnlyArray();
+    for (FieldBuilder field : fields) {
+      jsFields.pushMap(field.js);
+    }
+    JavaOnlyMap schema = new JavaOnlyMap();
+    schema.putArray("fields", jsFields);
+    return schema;
+  }
+
+  private static FieldBuilder field(String name, String type) {
+    FieldBuilder field = new FieldBuilder();
+    if (name != null) {
+      field.js.putString("name", name);
+    }
+    field.js.putString("type", type);
+    return field;
+  }
+
+  private static byte[] bytes(int... values) {
+    byte[] bytes = new byte[values.length];
+    for (int i = 0; i < values.length; i++) {
+      bytes[i] = (byte) values[i];
+    }
+    return bytes;
+  }
+
+  private static final class FieldBuilder {
+    final JavaOnlyMap js = new JavaOnlyMap();
+
+    FieldBuilder putDouble(String key, double value) {
+      js.putDouble(key, value);
+      return this;
+    }
+
+    FieldBuilder putInt(String key, int value) {
+      js.putInt(key, value);
+      return this;
+    }
+
+    FieldBuilder putBoolean(String key, boolean value) {
+      js.putBoolean(key, value);
+      return this;
+    }
+  }
+}
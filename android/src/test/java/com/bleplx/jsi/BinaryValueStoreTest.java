@@ -0,0 +1,51 @@
+package com.bleplx.jsi;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class BinaryValueStoreTest {
+
+  private final BinaryValueStore store = new BinaryValueStore();
+
+  @Test
+  public void valueCanBeTakenOnce() {
+    byte[] value = {1, 2, 3};
+    int handle = store.put(value);
+
+    assertNotEquals(BinaryValueStore.NO_HANDLE, handle);
+    assertArrayEquals(value, store.take(handle));
+    assertNull(store.take(handle));
+  }
+
+  @Test
+  public void fullStoreKeepsValuesAndRefusesNewOnes() {
+    int firstHandle = store.put(new byte[]{1}, 0);
+    for (int i = 1; i < BinaryValueStore.CAPACITY; i++) {
+      store.put(new byte[]{2}, 0);
+    }
+
+    assertEquals(BinaryValueStore.NO_HANDLE, store.put(new byte[]{3}, BinaryValueStore.ORPHAN_TIMEOUT_NANOS));
+    assertArrayEquals(new byte[]{1}, store.take(firstHandle));
+  }
+
+  @Test
+  public void fullStoreDropsOnlyValuesNotTakenInTime() {
+    int orphanHandle = store.put(new byte[]{1}, 0);
+    int recentHandle = 0;
+    for (int i = 1; i < BinaryValueStore.CAPACITY; i++) {
+      recentHandle = store.put(new byte[]{2}, 1000);
+    }
+
+    long now = BinaryValueStore.ORPHAN_TIMEOUT_NANOS + 1;
+    int handle = store.put(new byte[]{3}, now);
+
+    assertNotEquals(BinaryValueStore.NO_HANDLE, handle);
+    assertNull(store.take(orphanHandle));
+    assertArrayEquals(new byte[]{2}, store.take(recentHandle));
+    assertEquals(BinaryValueStore.CAPACITY - 1, store.size());
+  }
+}
@@ -11,6 +11,7 @@ export type MainStackParamList = {
   AUTODISCONNECT_SCREEN: undefined
   INSTANCE_DESTROY_SCREEN: undefined
   DEVICE_ON_DISCONNECT_TEST_SCREEN: undefined
+  GETTER_LATENCY_SCREEN: undefined
 }
 
 const MainStack = createNativeStackNavigator<MainStackParamList>()
@@ -62,6 +63,13 @@ export function MainStackComponent() {
           headerTitle: 'On disconnect test'
         }}
       />
+      <MainStack.Screen
+        name="GETTER_LATENCY_SCREEN"
+        component={screenComponents.GetterLatencyScreen}
+        options={{
+          headerTitle: 'Getter latency'
+        }}
+      />
     </MainStack.Navigator>
   )
 }
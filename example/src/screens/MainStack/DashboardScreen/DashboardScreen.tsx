@@ -96,6 +96,7 @@ export function DashboardScreen({ navigation }: DashboardScreenProps) {
       />
       <AppButton label="instance destroy screen" onPress={() => navigation.navigate('INSTANCE_DESTROY_SCREEN')} />
       <AppButton label="On disconnect test" onPress={() => navigation.navigate('DEVICE_ON_DISCONNECT_TEST_SCREEN')} />
+      <AppButton label="Getter latency benchmark" onPress={() => navigation.navigate('GETTER_LATENCY_SCREEN')} />
       <FlatList
         style={{ flex: 1 }}
         data={foundDevices}
@@ -0,0 +1,76 @@
+import React, { useState } from 'react'
+import type { NativeStackScreenProps } from '@react-navigation/native-stack'
+import { NativeModules, Platform, ScrollView } from 'react-native'
+import type { MainStackParamList } from '../../../navigation/navigators'
+import { AppButton, ScreenDefaultContainer, TestStateDisplay } from '../../../components/atoms'
+import { BLEService } from '../../../services'
+import type { TestStateType } from '../../../types'
+
+type GetterLatencyScreenProps = NativeStackScreenProps<MainStackParamList, 'GETTER_LATENCY_SCREEN'>
+
+const ITERATIONS = 1000
+
+// Compares latency of the same in-memory getter called as a promise over the bridge and as a blocking
+// synchronous method. The native module is called directly, so both variants do the same native work.
+const BlePlx = NativeModules.BlePlx
+
+const percentile = (sortedSamples: number[], fraction: number) =>
+  sortedSamples[Math.min(sortedSamples.length - 1, Math.floor(sortedSamples.length * fraction))] ?? 0
+
+const summarize = (samples: number[]) => {
+  const sorted = [...samples].sort((a, b) => a - b)
+  return `p50 ${percentile(sorted, 0.5).toFixed(3)} ms, p99 ${percentile(sorted, 0.99).toFixed(3)} ms, max ${(
+    sorted[sorted.length - 1] ?? 0
+  ).toFixed(3)} ms`
+}
+
+export function GetterLatencyScreen(_props: GetterLatencyScreenProps) {
+  const [state, setState] = useState<TestStateType>('WAITING')
+  const [asyncResult, setAsyncResult] = useState('')
+  const [syncResult, setSyncResult] = useState('')
+
+  const measureAsync = async () => {
+    const samples: number[] = []
+    for (let i = 0; i < ITERATIONS; i += 1) {
+      const start = performance.now()
+      await BlePlx.state()
+      samples.push(performance.now() - start)
+    }
+    return summarize(samples)
+  }
+
+  const measureSync = () => {
+    const samples: number[] = []
+    for (let i = 0; i < ITERATIONS; i += 1) {
+      const start = performance.now()
+      BlePlx.stateSync()
+      samples.push(performance.now() - start)
+    }
+    return summarize(samples)
+  }
+
+  const startBenchmark = async () => {
+    if (Platform.OS !== 'android' || !BlePlx.stateSync) {
+      console.error('Synchronous getters are available only on Android')
+      setState('ERROR')
+      return
+    }
+    setState('IN_PROGRESS')
+    // Makes sure that the native client exists, getters of a destroyed client fail fast
+    await BLEService.manager.state()
+    setAsyncResult(await measureAsync())
+    setSyncResult(measureSync())
+    setState('DONE')
+  }
+
+  return (
+    <ScreenDefaultContainer>
+      <ScrollView>
+        <AppButton label={`Measure ${ITERATIONS} state() calls`} onPress={startBenchmark} />
+        <TestStateDisplay label="Benchmark" state={state} />
+        <TestStateDisplay label="Promise over bridge" value={asyncResult} />
+        <TestStateDisplay label="Synchronous method" value={syncResult} />
+      </ScrollView>
+    </ScreenDefaultContainer>
+  )
+}
@@ -4,3 +4,4 @@ export * from './DevicenRFTestScreen/DevicenRFTestScreen'
 export * from './DeviceConnectDisconnectTestScreen/DeviceConnectDisconnectTestScreen'
 export * from './InstanceDestroyScreen/InstanceDestroyScreen'
 export * from './DeviceOnDisconnectTestScreen/DeviceOnDisconnectTestScreen'
+export * from './GetterLatencyScreen/GetterLatencyScreen'
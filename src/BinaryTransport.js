@@ -0,0 +1,183 @@
+// @flow
+'use strict'
+
+import { BleModule } from './BleModule'
+import type { Base64, WritableValue } from './TypeDefinition'
+
+const BASE64_ALPHABET = 'ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/'
+const BASE64_LOOKUP = new Uint8Array(128)
+for (let i = 0; i < BASE64_ALPHABET.length; i++) {
+  BASE64_LOOKUP[BASE64_ALPHABET.charCodeAt(i)] = i
+}
+
+/**
+ * Installs JSI functions which pass characteristic and descriptor values between native module and JS as raw bytes
+ * instead of Base64 strings. Available only on Android when the library is built with `BlePlx_binaryTransport=true`.
+ *
+ * @returns {boolean} `true` if binary transport is used.
+ * @private
+ */
+export function installBinaryTransport(): boolean {
+  if (typeof BleModule.installBinaryTransport !== 'function') {
+    return false
+  }
+  try {
+    return BleModule.installBinaryTransport() === true
+  } catch (error) {
+    // Synchronous native calls are not available when JS runs outside of the device, e.g. in remote debugger.
+    return false
+  }
+}
+
+// Returned by native store instead of a handle when it is full
+const NO_HANDLE = 0
+
+function isBinaryTransportInstalled(): boolean {
+  return typeof global.__blePlxPutValue === 'function' && typeof global.__blePlxTakeValue === 'function'
+}
+
+function takeValue(handle: number): ArrayBuffer {
+  const value = isBinaryTransportInstalled() ? global.__blePlxTakeValue(handle) : null
+  if (value == null) {
+    throw new Error(`Binary value ${handle} is no longer available, it was taken already or not taken in time`)
+  }
+  return value
+}
+
+/**
+ * Converts value passed to write operations to the form expected by native module.
+ *
+ * @param {WritableValue} value Base64 string or raw bytes.
+ * @returns {Base64 | number} Base64 string or handle of raw value when binary transport is used.
+ * @private
+ */
+export function toNativeValue(value: WritableValue): Base64 | number {
+  if (typeof value === 'string') {
+    return value
+  }
+  if (isBinaryTransportInstalled()) {
+    const handle = global.__blePlxPutValue(value)
+    if (handle !== NO_HANDLE) {
+      return handle
+    }
+  }
+  return base64FromArrayBuffer(value)
+}
+
+/**
+ * Converts value passed from native module outside of characteristic or descriptor object to raw bytes.
+ *
+ * @param {Base64 | number} value Base64 string or handle of raw value when binary transport is used.
+ * @returns {ArrayBuffer} Raw bytes.
+ * @throws {Error} if handle is no longer valid.
+ * @private
+ */
+export function fromNativeValue(value: Base64 | number): ArrayBuffer {
+  if (typeof value === 'number') {
+    return takeValue(value)
+  }
+  return arrayBufferFromBase64(value)
+}
+
+/**
+ * Defines `value` and `rawValue` properties of characteristic or descriptor created from native object. Native
+ * object carries either Base64 `value` or `valueHandle` of raw bytes, the other representation is computed only when
+ * it is read for the first time.
+ *
+ * @param {Object} target Characteristic or descriptor.
+ * @param {Object} nativeObject Native characteristic or descriptor.
+ * @throws {Error} if value handle is no longer valid.
+ * @private
+ */
+export function defineValueProperties(target: Object, nativeObject: { value: ?Base64, valueHandle?: ?number }) {
+  let value: ?Base64 | void = nativeObject.value
+  let rawValue: ?ArrayBuffer | void = undefined
+  if (nativeObject.valueHandle != null) {
+    value = undefined
+    rawValue = takeValue(nativeObject.valueHandle)
+  }
+  delete target.valueHandle
+
+  Object.defineProperty(target, 'value', {
+    enumerable: true,
+    configurable: true,
+    get: () => {
+      if (value === undefined) {
+        value = rawValue != null ? base64FromArrayBuffer(rawValue) : null
+      }
+      return value
+    },
+    set: (newValue: ?Base64) => {
+      value = newValue
+      rawValue = undefined
+    }
+  })
+  Object.defineProperty(target, 'rawValue', {
+    enumerable: false,
+    configurable: true,
+    get: () => {
+      if (rawValue === undefined) {
+        rawValue = value != null ? arrayBufferFromBase64(value) : null
+      }
+      return rawValue
+    },
+    set: (newRawValue: ?ArrayBuffer) => {
+      rawValue = newRawValue
+      value = undefined
+    }
+  })
+}
+
+/**
+ * Encodes raw bytes to Base64 string.
+ *
+ * @param {ArrayBuffer} buffer Raw bytes.
+ * @returns {Base64} Base64 string.
+ * @private
+ */
+export function base64FromArrayBuffer(buffer: ArrayBuffer): Base64 {
+  const bytes = new Uint8Array(buffer)
+  let result = ''
+  let i = 0
+  for (; i + 2 < bytes.length; i += 3) {
+    const chunk = (bytes[i] << 16) | (bytes[i + 1] << 8) | bytes[i + 2]
+    result +=
+      BASE64_ALPHABET[chunk >> 18] +
+      BASE64_ALPHABET[(chunk >> 12) & 63] +
+      BASE64_ALPHABET[(chunk >> 6) & 63] +
+      BASE64_ALPHABET[chunk & 63]
+  }
+  if (i < bytes.length) {
+    const chunk = (bytes[i] << 16) | (i + 1 < bytes.length ? bytes[i + 1] << 8 : 0)
+    result += BASE64_ALPHABET[chunk >> 18] + BASE64_ALPHABET[(chunk >> 12) & 63]
+    result += i + 1 < bytes.length ? BASE64_ALPHABET[(chunk >> 6) & 63] + '=' : '=='
+  }
+  return result
+}
+
+/**
+ * Decodes Base64 string to raw bytes.
+ *
+ * @param {Base64} base64 Base64 string.
+ * @returns {ArrayBuffer} Raw bytes.
+ * @private
+ */
+export function arrayBufferFromBase64(base64: Base64): ArrayBuffer {
+  let length = base64.length
+  while (length > 0 && base64[length - 1] === '=') {
+    length--
+  }
+  const bytes = new Uint8Array((length * 3) >> 2)
+  let bits = 0
+  let bitCount = 0
+  let position = 0
+  for (let i = 0; i < length; i++) {
+    bits = ((bits << 6) | BASE64_LOOKUP[base64.charCodeAt(i) & 127]) & 0xffff
+    bitCount += 6
+    if (bitCount >= 8) {
+      bitCount -= 8
+      bytes[position++] = (bits >> bitCount) & 255
+    }
+  }
+  return bytes.buffer
+}
@@ -5,7 +5,7 @@ import { Device } from './Device'
 import { Service } from './Service'
 import { Characteristic } from './Characteristic'
 import { Descriptor } from './Descriptor'
-import { State, LogLevel, ConnectionPriority } from './TypeDefinition'
+import { State, LogLevel, ConnectionPriority, AdvertisementEncryptionFormat } from './TypeDefinition'
 import { BleModule, EventEmitter } from './BleModule'
 import {
   parseBleError,
@@ -16,7 +16,14 @@ import {
   BleAndroidErrorCode,
   BleIOSErrorCode
 } from './BleError'
-import type { NativeDevice, NativeCharacteristic, NativeDescriptor, NativeBleRestoredState } from './BleModule'
+import type {
+  NativeDevice,
+  NativeCharacteristic,
+  NativeCharacteristicReadResult,
+  NativeDescriptor,
+  NativeNotificationRecord,
+  NativeBleRestoredState
+} from './BleModule'
 import type {
   BleErrorCodeMessageMapping,
   Subscription,
@@ -25,12 +32,39 @@ import type {
   UUID,
   TransactionId,
   CharacteristicSubscriptionType,
+  MonitorOptions,
+  PollOptions,
+  ReadOptions,
+  DecodedValue,
+  CharacteristicHistory,
+  NotificationRecorderOptions,
+  NotificationRecord,
+  NotificationRecording,
+  L2capChannelOptions,
+  L2capChannel,
   Base64,
+  WritableValue,
   ScanOptions,
+  ScanReplayOptions,
+  ScanStatistics,
+  EventQueueStatistics,
+  OperationPriority,
+  OperationQueueStatistics,
+  GattSchedulerOptions,
+  GattSchedulerStatistics,
+  CharacteristicReadResult,
+  CharacteristicCacheStatistics,
+  LongWriteOptions,
+  WriteProgress,
+  WriteStreamResult,
+  BridgeTraffic,
+  BackgroundScanOptions,
+  BackgroundScanResults,
   ConnectionOptions,
   BleManagerOptions
 } from './TypeDefinition'
 import { isIOS } from './Utils'
+import { defineValueProperties, fromNativeValue, installBinaryTransport, toNativeValue } from './BinaryTransport'
 import { Platform } from 'react-native'
 
 const enableDisableDeprecatedMessage =
@@ -63,6 +97,12 @@ export class BleManager {
   _activePromises: { [id: string]: (error: BleError) => void }
   // Map of active subscriptions
   _activeSubscriptions: { [id: string]: Subscription }
+  // Monitoring event listeners by event name and transaction id, sharing one BleModule listener per event name
+  _monitorListeners: {
+    [eventName: string]: { subscription: Subscription, listeners: Map<TransactionId, (event: Array<any>) => void> }
+  }
+  // Transaction ids of monitors with native history by their subscriptions
+  _historyTransactions: WeakMap<Subscription, TransactionId>
 
   // Map of error codes to error messages
   _errorCodesToMessagesMapping: BleErrorCodeMessageMapping
@@ -84,6 +124,8 @@ export class BleManager {
     this._uniqueId = 0
     this._activePromises = {}
     this._activeSubscriptions = {}
+    this._monitorListeners = {}
+    this._historyTransactions = new WeakMap()
 
     const restoreStateFunction = options.restoreStateFunction
     if (restoreStateFunction != null && options.restoreStateIdentifier != null) {
@@ -109,6 +151,7 @@ export class BleManager {
       : BleErrorCodeMessage
 
     BleModule.createClient(options.restoreStateIdentifier || null)
+    installBinaryTransport()
     BleManager.sharedInstance = this
   }
 
@@ -202,6 +245,30 @@ export class BleManager {
     }
   }
 
+  /**
+   * Calls native getter which is served from memory. Synchronous variant of the getter is used when native module
+   * provides one, which skips asynchronous round trip over the bridge. Otherwise call falls back to promise based
+   * variant.
+   *
+   * @param {string} name Name of native getter.
+   * @param {...any} args Getter arguments.
+   * @returns {Promise<T>} Promise which emits getter result.
+   * @private
+   */
+  _callGetter<T>(name: string, ...args: Array<any>): Promise<T> {
+    // $FlowFixMe: Synchronous getters are not part of BleModule interface on all platforms.
+    const syncGetter = BleModule[name + 'Sync']
+    if (typeof syncGetter !== 'function') {
+      // $FlowFixMe: Getter name is checked at call sites.
+      return this._callPromise(BleModule[name](...args))
+    }
+    const [error, value] = syncGetter(...args)
+    if (error != null) {
+      return Promise.reject(parseBleError(error, this._errorCodesToMessagesMapping))
+    }
+    return Promise.resolve(value)
+  }
+
   // Mark: Common ------------------------------------------------------------------------------------------------------
 
   /**
@@ -218,7 +285,7 @@ export class BleManager {
    * @returns {Promise<LogLevel>} Current log level.
    */
   logLevel(): Promise<$Keys<typeof LogLevel>> {
-    return this._callPromise(BleModule.logLevel())
+    return this._callGetter('logLevel')
   }
 
   /**
@@ -250,6 +317,38 @@ export class BleManager {
     return this._callPromise(BleModule.cancelTransaction(transactionId))
   }
 
+  /**
+   * Returns counters of native event emitter queue: waiting events per priority, JS thread lag and events which were
+   * coalesced or dropped while JS was lagging. [Android only]
+   *
+   * @returns {Promise<EventQueueStatistics>} Event queue statistics.
+   */
+  getEventQueueStatistics(): Promise<EventQueueStatistics> {
+    return this._callPromise(BleModule.getEventQueueStatistics())
+  }
+
+  /**
+   * Enables or disables accounting of values passed from native module to JS, per event and per method. Enabling
+   * clears values recorded so far. Accounting adds overhead to every event and call, so it is disabled by default.
+   * [Android only]
+   *
+   * @param {boolean} enabled `true` to enable accounting.
+   * @returns {Promise<void>}
+   */
+  setBridgeTrafficAccounting(enabled: boolean): Promise<void> {
+    return this._callPromise(BleModule.setBridgeTrafficAccounting(enabled))
+  }
+
+  /**
+   * Returns values passed from native module to JS since accounting was enabled: count, estimated bytes and time
+   * per event and per method. [Android only]
+   *
+   * @returns {Promise<BridgeTraffic>} Bridge traffic.
+   */
+  getBridgeTraffic(): Promise<BridgeTraffic> {
+    return this._callPromise(BleModule.getBridgeTraffic())
+  }
+
   // Mark: Monitoring state --------------------------------------------------------------------------------------------
 
   /**
@@ -289,7 +388,7 @@ export class BleManager {
    * @returns {Promise<State>} Promise which emits current state of BleManager.
    */
   state(): Promise<$Keys<typeof State>> {
-    return this._callPromise(BleModule.state())
+    return this._callGetter('state')
   }
 
   /**
@@ -391,6 +490,300 @@ export class BleManager {
     return this._callPromise(BleModule.stopDeviceScan())
   }
 
+  /**
+   * Returns counters of the most recent device scan: received and dropped results, unique devices, native queue usage
+   * and time spent on parsing, conversion and emitting of results. Statistics are kept until the next scan is
+   * started. [Android only]
+   *
+   * @returns {Promise<?ScanStatistics>} Scan statistics or `null` if no scan was started yet.
+   */
+  getScanStatistics(): Promise<?ScanStatistics> {
+    return this._callPromise(BleModule.getScanStatistics())
+  }
+
+  /**
+   * Notifies periodically about statistics of a running device scan. Listener is not called while no scan is
+   * running. [Android only]
+   *
+   * @param {function(statistics: ScanStatistics)} listener Callback which receives scan statistics.
+   * @param {number} [interval=1000] Interval in milliseconds between notifications.
+   * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+   */
+  onScanStatistics(listener: (statistics: ScanStatistics) => void, interval: number = 1000): Subscription {
+    const id = this._nextUniqueID()
+    const subscription: Subscription = this._eventEmitter.addListener(BleModule.ScanStatisticsEvent, listener)
+
+    const wrappedSubscription = {
+      remove: () => {
+        if (this._activeSubscriptions[id] != null) {
+          delete this._activeSubscriptions[id]
+          subscription.remove()
+          BleModule.stopScanStatisticsUpdates().catch(() => {})
+        }
+      }
+    }
+    this._activeSubscriptions[id] = wrappedSubscription
+    BleModule.startScanStatisticsUpdates(interval).catch(() => {})
+    return wrappedSubscription
+  }
+
+  /**
+   * Starts scan which registers hardware filters with the system and delivers matching results to a native receiver
+   * through a `PendingIntent`. Results are buffered natively and handed over in batches with
+   * {@link #blemanagergetbackgroundscanresults|getBackgroundScanResults()} or
+   * {@link #blemanageronbackgroundscanresults|onBackgroundScanResults()}, so neither the app process nor JS runtime
+   * have to be kept busy while scanning. Scan continues until
+   * {@link #blemanagerstopbackgrounddevicescan|stopBackgroundDeviceScan()} is called. Android may not deliver any
+   * results to unfiltered background scans while the screen is off, so `UUIDs` should be provided. [Android only]
+   *
+   * @param {?Array<UUID>} UUIDs Array of strings containing {@link UUID}s of {@link Service}s which are registered in
+   * scanned {@link Device}.
+   * @param {?BackgroundScanOptions} options Optional configuration for scanning operation.
+   * @returns {Promise<void>} the promise may be rejected if the operation is impossible to perform.
+   */
+  startBackgroundDeviceScan(UUIDs: ?Array<UUID>, options: ?BackgroundScanOptions): Promise<void> {
+    return this._callPromise(BleModule.startBackgroundDeviceScan(UUIDs, options))
+  }
+
+  /**
+   * Stops scan started with {@link #blemanagerstartbackgrounddevicescan|startBackgroundDeviceScan()}. Results which
+   * were already buffered can still be retrieved. [Android only]
+   *
+   * @returns {Promise<void>} the promise may be rejected if the operation is impossible to perform.
+   */
+  stopBackgroundDeviceScan(): Promise<void> {
+    return this._callPromise(BleModule.stopBackgroundDeviceScan())
+  }
+
+  /**
+   * Takes scan results buffered by background scan. Taken results are removed from the native buffer. [Android only]
+   *
+   * @param {number} [maxCount=0] Maximum number of results to take. All buffered results are taken when 0.
+   * @returns {Promise<BackgroundScanResults>} Scanned devices in order of arrival and number of results dropped
+   * because native buffer was full.
+   */
+  async getBackgroundScanResults(maxCount: number = 0): Promise<BackgroundScanResults> {
+    const results = await this._callPromise(BleModule.getBackgroundScanResults(maxCount))
+    return {
+      devices: results.devices.map(nativeDevice => new Device(nativeDevice, this)),
+      droppedCount: results.droppedCount
+    }
+  }
+
+  /**
+   * Notifies about scan results buffered by background scan. Listener is called with results buffered so far right
+   * after subscribing, and later every time the app comes to foreground or new results arrive while it is in
+   * foreground. Results passed to the listener are removed from the native buffer. [Android only]
+   *
+   * @param {function(results: BackgroundScanResults)} listener Callback which receives batches of buffered results.
+   * @param {number} [maxCount=0] Maximum number of results in a single batch. All buffered results are passed when 0.
+   * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+   */
+  onBackgroundScanResults(
+    listener: (results: BackgroundScanResults) => void,
+    maxCount: number = 0
+  ): Subscription {
+    const id = this._nextUniqueID()
+    const takeResults = () => {
+      this.getBackgroundScanResults(maxCount).then(
+        results => {
+          if (this._activeSubscriptions[id] != null && (results.devices.length > 0 || results.droppedCount > 0)) {
+            listener(results)
+          }
+        },
+        () => {}
+      )
+    }
+    const subscription: Subscription = this._eventEmitter.addListener(BleModule.BackgroundScanEvent, takeResults)
+
+    const wrappedSubscription = {
+      remove: () => {
+        if (this._activeSubscriptions[id] != null) {
+          delete this._activeSubscriptions[id]
+          subscription.remove()
+        }
+      }
+    }
+    this._activeSubscriptions[id] = wrappedSubscription
+    takeResults()
+    return wrappedSubscription
+  }
+
+  /**
+   * Registers a key used to decrypt advertisements of a device during scan. Decryption happens natively before scanned
+   * devices are passed to JS: decrypted payloads are reported in {@link Device#decryptedServiceData} and failed
+   * authentication in {@link Device#decryptionStatus}. Only BTHome v2 service data is decrypted, manufacturer data
+   * is passed to JS as advertised. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @param {Base64} key AES-128 key.
+   * @param {AdvertisementEncryptionFormat} [format=BTHomeV2] Format of encrypted payload.
+   * @returns {Promise<void>} the promise may be rejected if key or format are invalid.
+   */
+  setAdvertisementDecryptionKey(
+    deviceIdentifier: DeviceId,
+    key: Base64,
+    format: $Values<typeof AdvertisementEncryptionFormat> = AdvertisementEncryptionFormat.BTHomeV2
+  ): Promise<void> {
+    return this._callPromise(BleModule.setAdvertisementDecryptionKey(deviceIdentifier, key, format))
+  }
+
+  /**
+   * Removes a key registered with
+   * {@link #blemanagersetadvertisementdecryptionkey|setAdvertisementDecryptionKey()}. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @returns {Promise<void>} the promise may be rejected if the operation is impossible to perform.
+   */
+  removeAdvertisementDecryptionKey(deviceIdentifier: DeviceId): Promise<void> {
+    return this._callPromise(BleModule.removeAdvertisementDecryptionKey(deviceIdentifier))
+  }
+
+  /**
+   * Starts recording raw advertisements received by device scans to a compact binary file. Capture stays active across
+   * {@link #blemanagerstartdevicescan|startDeviceScan()} calls until {@link #blemanagerstopscancapture|stopScanCapture()}
+   * is called. [Android only]
+   *
+   * @param {string} filePath Path of the capture file. New records are appended if the file already exists.
+   * @returns {Promise<void>} the promise may be rejected if the file cannot be opened.
+   */
+  startScanCapture(filePath: string): Promise<void> {
+    return this._callPromise(BleModule.startScanCapture(filePath))
+  }
+
+  /**
+   * Stops recording advertisements started with {@link #blemanagerstartscancapture|startScanCapture()}. [Android only]
+   *
+   * @returns {Promise<number>} Number of advertisements written to the capture file.
+   */
+  stopScanCapture(): Promise<number> {
+    return this._callPromise(BleModule.stopScanCapture())
+  }
+
+  /**
+   * Replays advertisements recorded with {@link #blemanagerstartscancapture|startScanCapture()}. Recorded advertisements
+   * are parsed and delivered in the same way as during a real scan, which makes it possible to reproduce and profile
+   * crowded environments without any hardware. Replay replaces the scan in progress and can be stopped with
+   * {@link #blemanagerstopdevicescan|stopDeviceScan()}. [Android only]
+   *
+   * @param {string} filePath Path of the capture file.
+   * @param {?ScanReplayOptions} options Replay options.
+   * @param {function(error: ?BleError, scannedDevice: ?Device)} listener Function which will be called for every
+   * replayed advertisement.
+   * @returns {Promise<void>} the promise completes when all records were replayed. It is rejected with
+   * {@link #bleerrorcodeoperationcancelled|OperationCancelled} when the replay is stopped with {@link #blemanagerstopdevicescan|stopDeviceScan()}.
+   */
+  async replayScanCapture(
+    filePath: string,
+    options: ?ScanReplayOptions,
+    listener: (error: ?BleError, scannedDevice: ?Device) => void
+  ): Promise<void> {
+    const scanListener = ([error, nativeDevice]: [?string, ?NativeDevice]) => {
+      listener(
+        error ? parseBleError(error, this._errorCodesToMessagesMapping) : null,
+        nativeDevice ? new Device(nativeDevice, this) : null
+      )
+    }
+    if (this._scanEventSubscription != null) {
+      this._scanEventSubscription.remove()
+    }
+    // $FlowFixMe: Flow cannot deduce EmitterSubscription type.
+    this._scanEventSubscription = this._eventEmitter.addListener(BleModule.ScanEvent, scanListener)
+
+    return this._callPromise(BleModule.replayScanCapture(filePath, options))
+  }
+
+  /**
+   * Sets options of scheduler of read and write operations shared by all devices. At most one operation of each device
+   * is in flight. Operations of all devices are not limited by default; with `maxOperationsInFlight` set, devices
+   * waiting for a free slot take turns, so a busy device can't starve the others. Only passed options are changed.
+   * [Android only]
+   *
+   * @param {GattSchedulerOptions} options Scheduler options.
+   * @returns {Promise<void>}
+   */
+  setGattSchedulerOptions(options: GattSchedulerOptions): Promise<void> {
+    return this._callPromise(BleModule.setGattSchedulerOptions(options))
+  }
+
+  /**
+   * Returns statistics of scheduler of read and write operations shared by all devices. [Android only]
+   *
+   * @returns {Promise<GattSchedulerStatistics>} Scheduler statistics.
+   */
+  getGattSchedulerStatistics(): Promise<GattSchedulerStatistics> {
+    return this._callPromise(BleModule.getGattSchedulerStatistics())
+  }
+
+  /**
+   * Sets priority of read and write operations on a characteristic and its descriptors. Operations of a device are
+   * passed to the radio one at a time, queued `bulk` operations are overtaken by `normal` and `interactive` ones.
+   * Priority is kept until {@link #blemanagerdestroy|bleManager.destroy()} is called, also across reconnections.
+   * [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Device identifier.
+   * @param {UUID} serviceUUID {@link Service} UUID.
+   * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+   * @param {OperationPriority} priority Priority of operations, `normal` by default.
+   * @returns {Promise<void>}
+   */
+  setCharacteristicPriorityForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    priority: OperationPriority
+  ): Promise<void> {
+    return this._callPromise(
+      BleModule.setCharacteristicPriorityForDevice(deviceIdentifier, serviceUUID, characteristicUUID, priority)
+    )
+  }
+
+  /**
+   * Returns statistics of queue of read and write operations of a device: queued operations and wait times per
+   * priority. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Device identifier.
+   * @returns {Promise<OperationQueueStatistics>} Operation queue statistics.
+   */
+  getOperationQueueStatisticsForDevice(deviceIdentifier: DeviceId): Promise<OperationQueueStatistics> {
+    return this._callPromise(BleModule.getOperationQueueStatisticsForDevice(deviceIdentifier))
+  }
+
+  /**
+   * Enables caching of read values of a characteristic which doesn't change, e.g. characteristics of Device Information
+   * Service. Reads of a cached value are resolved without touching the radio. Cached value is dropped when it expires,
+   * when the characteristic is written and when the device disconnects. Setting is kept until
+   * {@link #blemanagerdestroy|bleManager.destroy()} is called, also across reconnections. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Device identifier.
+   * @param {UUID} serviceUUID {@link Service} UUID.
+   * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+   * @param {?(number | 'connection')} ttl Time in milliseconds for which read value is used, `'connection'` to use it
+   * until the device disconnects, `0` or `null` to stop caching the characteristic.
+   * @returns {Promise<void>}
+   */
+  setCharacteristicCacheForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    ttl: ?(number | 'connection')
+  ): Promise<void> {
+    const nativeTtl = ttl === 'connection' ? -1 : ttl || 0
+    return this._callPromise(
+      BleModule.setCharacteristicCacheTtlForDevice(deviceIdentifier, serviceUUID, characteristicUUID, nativeTtl)
+    )
+  }
+
+  /**
+   * Returns statistics of cache of characteristic values of a device. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Device identifier.
+   * @returns {Promise<CharacteristicCacheStatistics>} Cache statistics.
+   */
+  getCharacteristicCacheStatisticsForDevice(deviceIdentifier: DeviceId): Promise<CharacteristicCacheStatistics> {
+    return this._callPromise(BleModule.getCharacteristicCacheStatisticsForDevice(deviceIdentifier))
+  }
+
   /**
    * Request a connection parameter update. This functions may update connection parameters on Android API level 21 or
    * above.
@@ -568,7 +961,7 @@ export class BleManager {
     const nativeDevice = await this._callPromise(
       BleModule.discoverAllServicesAndCharacteristicsForDevice(deviceIdentifier, transactionId)
     )
-    const services = await this._callPromise(BleModule.servicesForDevice(deviceIdentifier))
+    const services = await this._callGetter('servicesForDevice', deviceIdentifier)
     const serviceUUIDs = (services || []).map(service => service.uuid)
 
     // $FlowFixMe
@@ -589,7 +982,7 @@ export class BleManager {
    * {@link Device}.
    */
   async servicesForDevice(deviceIdentifier: DeviceId): Promise<Array<Service>> {
-    const services = await this._callPromise(BleModule.servicesForDevice(deviceIdentifier))
+    const services = await this._callGetter('servicesForDevice', deviceIdentifier)
     return services.map(nativeService => {
       return new Service(nativeService, this)
     })
@@ -604,7 +997,7 @@ export class BleManager {
    * discovered for a {@link Device} in specified {@link Service}.
    */
   characteristicsForDevice(deviceIdentifier: DeviceId, serviceUUID: UUID): Promise<Array<Characteristic>> {
-    return this._handleCharacteristics(BleModule.characteristicsForDevice(deviceIdentifier, serviceUUID))
+    return this._handleCharacteristics(this._callGetter('characteristicsForDevice', deviceIdentifier, serviceUUID))
   }
 
   /**
@@ -616,7 +1009,7 @@ export class BleManager {
    * @private
    */
   _characteristicsForService(serviceIdentifier: Identifier): Promise<Array<Characteristic>> {
-    return this._handleCharacteristics(BleModule.characteristicsForService(serviceIdentifier))
+    return this._handleCharacteristics(this._callGetter('characteristicsForService', serviceIdentifier))
   }
 
   /**
@@ -630,7 +1023,7 @@ export class BleManager {
   async _handleCharacteristics(
     characteristicsPromise: Promise<Array<NativeCharacteristic>>
   ): Promise<Array<Characteristic>> {
-    const characteristics = await this._callPromise(characteristicsPromise)
+    const characteristics = await characteristicsPromise
     return characteristics.map(nativeCharacteristic => {
       return new Characteristic(nativeCharacteristic, this)
     })
@@ -650,7 +1043,9 @@ export class BleManager {
     serviceUUID: UUID,
     characteristicUUID: UUID
   ): Promise<Array<Descriptor>> {
-    return this._handleDescriptors(BleModule.descriptorsForDevice(deviceIdentifier, serviceUUID, characteristicUUID))
+    return this._handleDescriptors(
+      this._callGetter('descriptorsForDevice', deviceIdentifier, serviceUUID, characteristicUUID)
+    )
   }
 
   /**
@@ -663,7 +1058,7 @@ export class BleManager {
    * @private
    */
   _descriptorsForService(serviceIdentifier: Identifier, characteristicUUID: UUID): Promise<Array<Descriptor>> {
-    return this._handleDescriptors(BleModule.descriptorsForService(serviceIdentifier, characteristicUUID))
+    return this._handleDescriptors(this._callGetter('descriptorsForService', serviceIdentifier, characteristicUUID))
   }
 
   /**
@@ -675,7 +1070,7 @@ export class BleManager {
    * @private
    */
   _descriptorsForCharacteristic(characteristicIdentifier: Identifier): Promise<Array<Descriptor>> {
-    return this._handleDescriptors(BleModule.descriptorsForCharacteristic(characteristicIdentifier))
+    return this._handleDescriptors(this._callGetter('descriptorsForCharacteristic', characteristicIdentifier))
   }
 
   /**
@@ -686,7 +1081,7 @@ export class BleManager {
    * @private
    */
   async _handleDescriptors(descriptorsPromise: Promise<Array<NativeDescriptor>>): Promise<Array<Descriptor>> {
-    const descriptors = await this._callPromise(descriptorsPromise)
+    const descriptors = await descriptorsPromise
     return descriptors.map(nativeDescriptor => {
       return new Descriptor(nativeDescriptor, this)
     })
@@ -702,6 +1097,7 @@ export class BleManager {
    * @param {UUID} characteristicUUID {@link Characteristic} UUID.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @param {?ReadOptions} options [android only] read options, e.g. schema by which value is decoded natively.
    * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
    * UUID paths. Latest value of {@link Characteristic} will be stored inside returned object.
    */
@@ -709,17 +1105,48 @@ export class BleManager {
     deviceIdentifier: DeviceId,
     serviceUUID: UUID,
     characteristicUUID: UUID,
-    transactionId: ?TransactionId
+    transactionId: ?TransactionId,
+    options: ?ReadOptions
   ): Promise<Characteristic> {
     if (!transactionId) {
       transactionId = this._nextUniqueID()
     }
-    const nativeCharacteristic = await this._callPromise(
-      BleModule.readCharacteristicForDevice(deviceIdentifier, serviceUUID, characteristicUUID, transactionId)
-    )
+    const commonArgs = [deviceIdentifier, serviceUUID, characteristicUUID, transactionId]
+    const args = isIOS ? commonArgs : [...commonArgs, options || null]
+    const nativeCharacteristic = await this._callPromise(BleModule.readCharacteristicForDevice(...args))
     return new Characteristic(nativeCharacteristic, this)
   }
 
+  /**
+   * Read values of several characteristics of a device in a single call. Reads are queued back to back natively and
+   * the returned promise resolves once all of them are done, failure of one read doesn't affect the others.
+   * [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @param {Array<[UUID, UUID]>} characteristicUUIDs Pairs of {@link Service} and {@link Characteristic} UUIDs.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|cancelTransaction()} function to cancel all reads.
+   * @returns {Promise<Array<CharacteristicReadResult>>} Results in order of passed UUIDs.
+   */
+  async readCharacteristicsForDevice(
+    deviceIdentifier: DeviceId,
+    characteristicUUIDs: Array<[UUID, UUID]>,
+    transactionId: ?TransactionId
+  ): Promise<Array<CharacteristicReadResult>> {
+    if (!transactionId) {
+      transactionId = this._nextUniqueID()
+    }
+    const nativeResults = await this._callPromise(
+      BleModule.readCharacteristicsForDevice(deviceIdentifier, characteristicUUIDs, transactionId)
+    )
+    return nativeResults.map((result: NativeCharacteristicReadResult) => ({
+      serviceUUID: result.serviceUUID,
+      characteristicUUID: result.characteristicUUID,
+      characteristic: result.characteristic ? new Characteristic(result.characteristic, this) : null,
+      error: result.error ? parseBleError(result.error, this._errorCodesToMessagesMapping) : null
+    }))
+  }
+
   /**
    * Read {@link Characteristic} value.
    *
@@ -727,6 +1154,7 @@ export class BleManager {
    * @param {UUID} characteristicUUID {@link Characteristic} UUID.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @param {?ReadOptions} options [android only] read options, e.g. schema by which value is decoded natively.
    * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
    * UUID paths. Latest value of {@link Characteristic} will be stored inside returned object.
    * @private
@@ -734,14 +1162,15 @@ export class BleManager {
   async _readCharacteristicForService(
     serviceIdentifier: Identifier,
     characteristicUUID: UUID,
-    transactionId: ?TransactionId
+    transactionId: ?TransactionId,
+    options: ?ReadOptions
   ): Promise<Characteristic> {
     if (!transactionId) {
       transactionId = this._nextUniqueID()
     }
-    const nativeCharacteristic = await this._callPromise(
-      BleModule.readCharacteristicForService(serviceIdentifier, characteristicUUID, transactionId)
-    )
+    const commonArgs = [serviceIdentifier, characteristicUUID, transactionId]
+    const args = isIOS ? commonArgs : [...commonArgs, options || null]
+    const nativeCharacteristic = await this._callPromise(BleModule.readCharacteristicForService(...args))
     return new Characteristic(nativeCharacteristic, this)
   }
 
@@ -751,20 +1180,22 @@ export class BleManager {
    * @param {Identifier} characteristicIdentifier {@link Characteristic} ID.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @param {?ReadOptions} options [android only] read options, e.g. schema by which value is decoded natively.
    * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified ID.
    * Latest value of {@link Characteristic} will be stored inside returned object.
    * @private
    */
   async _readCharacteristic(
     characteristicIdentifier: Identifier,
-    transactionId: ?TransactionId
+    transactionId: ?TransactionId,
+    options: ?ReadOptions
   ): Promise<Characteristic> {
     if (!transactionId) {
       transactionId = this._nextUniqueID()
     }
-    const nativeCharacteristic = await this._callPromise(
-      BleModule.readCharacteristic(characteristicIdentifier, transactionId)
-    )
+    const commonArgs = [characteristicIdentifier, transactionId]
+    const args = isIOS ? commonArgs : [...commonArgs, options || null]
+    const nativeCharacteristic = await this._callPromise(BleModule.readCharacteristic(...args))
     return new Characteristic(nativeCharacteristic, this)
   }
 
@@ -774,7 +1205,7 @@ export class BleManager {
    * @param {DeviceId} deviceIdentifier {@link Device} identifier.
    * @param {UUID} serviceUUID {@link Service} UUID.
    * @param {UUID} characteristicUUID {@link Characteristic} UUID.
-   * @param {Base64} base64Value Value in Base64 format.
+   * @param {WritableValue} base64Value Value in Base64 format or raw bytes.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|cancelTransaction()} function.
    * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
@@ -784,7 +1215,7 @@ export class BleManager {
     deviceIdentifier: DeviceId,
     serviceUUID: UUID,
     characteristicUUID: UUID,
-    base64Value: Base64,
+    base64Value: WritableValue,
     transactionId: ?TransactionId
   ): Promise<Characteristic> {
     if (!transactionId) {
@@ -795,7 +1226,7 @@ export class BleManager {
         deviceIdentifier,
         serviceUUID,
         characteristicUUID,
-        base64Value,
+        toNativeValue(base64Value),
         true,
         transactionId
       )
@@ -808,7 +1239,7 @@ export class BleManager {
    *
    * @param {Identifier} serviceIdentifier {@link Service} ID.
    * @param {UUID} characteristicUUID {@link Characteristic} UUID.
-   * @param {Base64} base64Value Value in Base64 format.
+   * @param {WritableValue} base64Value Value in Base64 format or raw bytes.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|cancelTransaction()} function.
    * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
@@ -818,14 +1249,14 @@ export class BleManager {
   async _writeCharacteristicWithResponseForService(
     serviceIdentifier: Identifier,
     characteristicUUID: UUID,
-    base64Value: Base64,
+    base64Value: WritableValue,
     transactionId: ?TransactionId
   ): Promise<Characteristic> {
     if (!transactionId) {
       transactionId = this._nextUniqueID()
     }
     const nativeCharacteristic = await this._callPromise(
-      BleModule.writeCharacteristicForService(serviceIdentifier, characteristicUUID, base64Value, true, transactionId)
+      BleModule.writeCharacteristicForService(serviceIdentifier, characteristicUUID, toNativeValue(base64Value), true, transactionId)
     )
     return new Characteristic(nativeCharacteristic, this)
   }
@@ -834,7 +1265,7 @@ export class BleManager {
    * Write {@link Characteristic} value with response.
    *
    * @param {Identifier} characteristicIdentifier {@link Characteristic} ID.
-   * @param {Base64} base64Value Value in Base64 format.
+   * @param {WritableValue} base64Value Value in Base64 format or raw bytes.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|cancelTransaction()} function.
    * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified ID.
@@ -843,14 +1274,14 @@ export class BleManager {
    */
   async _writeCharacteristicWithResponse(
     characteristicIdentifier: Identifier,
-    base64Value: Base64,
+    base64Value: WritableValue,
     transactionId: ?TransactionId
   ): Promise<Characteristic> {
     if (!transactionId) {
       transactionId = this._nextUniqueID()
     }
     const nativeCharacteristic = await this._callPromise(
-      BleModule.writeCharacteristic(characteristicIdentifier, base64Value, true, transactionId)
+      BleModule.writeCharacteristic(characteristicIdentifier, toNativeValue(base64Value), true, transactionId)
     )
     return new Characteristic(nativeCharacteristic, this)
   }
@@ -861,7 +1292,7 @@ export class BleManager {
    * @param {DeviceId} deviceIdentifier {@link Device} identifier.
    * @param {UUID} serviceUUID {@link Service} UUID.
    * @param {UUID} characteristicUUID {@link Characteristic} UUID.
-   * @param {Base64} base64Value Value in Base64 format.
+   * @param {WritableValue} base64Value Value in Base64 format or raw bytes.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|cancelTransaction()} function.
    * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
@@ -871,7 +1302,7 @@ export class BleManager {
     deviceIdentifier: DeviceId,
     serviceUUID: UUID,
     characteristicUUID: UUID,
-    base64Value: Base64,
+    base64Value: WritableValue,
     transactionId: ?TransactionId
   ): Promise<Characteristic> {
     if (!transactionId) {
@@ -882,7 +1313,7 @@ export class BleManager {
         deviceIdentifier,
         serviceUUID,
         characteristicUUID,
-        base64Value,
+        toNativeValue(base64Value),
         false,
         transactionId
       )
@@ -890,12 +1321,118 @@ export class BleManager {
     return new Characteristic(nativeCharacteristic, this)
   }
 
+  /**
+   * Write {@link Characteristic} value longer than a single write allows. Value is passed to the native module once,
+   * split into batches of the size derived from negotiated MTU and written one after another. Each batch is queued
+   * separately, so reads and writes queued in the meantime may run between batches, including writes to the same
+   * characteristic. Deadline of the characteristic's priority applies to the whole write. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @param {UUID} serviceUUID {@link Service} UUID.
+   * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+   * @param {WritableValue} base64Value Value in Base64 format or raw bytes.
+   * @param {?LongWriteOptions} options Write options.
+   * @param {?function(progress: WriteProgress)} onProgress Callback which receives progress of the write, at most
+   * once per `options.progressInterval`.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
+   * UUID paths when the whole value is written.
+   */
+  async writeLongCharacteristicForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    base64Value: WritableValue,
+    options: ?LongWriteOptions,
+    onProgress: ?(progress: WriteProgress) => void,
+    transactionId: ?TransactionId
+  ): Promise<Characteristic> {
+    const filledTransactionId = transactionId || this._nextUniqueID()
+    const withResponse = options && options.withResponse != null ? options.withResponse : true
+    const progressInterval = options && options.progressInterval != null ? options.progressInterval : 100
+
+    // Progress of the last batch is always emitted, but it may arrive after the promise is settled, so listener is
+    // removed when the last batch is reported or the write fails.
+    const id = this._nextUniqueID()
+    const removeProgressListener = () => {
+      if (this._activeSubscriptions[id] != null) {
+        this._activeSubscriptions[id].remove()
+        delete this._activeSubscriptions[id]
+      }
+    }
+    if (onProgress) {
+      this._activeSubscriptions[id] = this._eventEmitter.addListener(
+        BleModule.WriteProgressEvent,
+        ([progressTransactionId, bytesWritten, totalBytes]) => {
+          if (progressTransactionId !== filledTransactionId) {
+            return
+          }
+          if (bytesWritten >= totalBytes) {
+            removeProgressListener()
+          }
+          onProgress({ bytesWritten, totalBytes })
+        }
+      )
+    }
+
+    try {
+      const nativeCharacteristic = await this._callPromise(
+        BleModule.writeLongCharacteristicForDevice(
+          deviceIdentifier,
+          serviceUUID,
+          characteristicUUID,
+          toNativeValue(base64Value),
+          withResponse,
+          onProgress ? Math.max(progressInterval, 1) : 0,
+          filledTransactionId
+        )
+      )
+      return new Characteristic(nativeCharacteristic, this)
+    } catch (error) {
+      removeProgressListener()
+      throw error
+    }
+  }
+
+  /**
+   * Write several values to {@link Characteristic} without response in one call. Values are written in order, the
+   * next one is passed to the stack when the stack reports the previous one written, so buffers of the stack don't
+   * overflow. Each value is queued separately, reads and writes queued in the meantime may run between them. Deadline
+   * of the characteristic's priority applies to the whole stream. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @param {UUID} serviceUUID {@link Service} UUID.
+   * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+   * @param {Array<WritableValue>} values Values in Base64 format or raw bytes.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|cancelTransaction()} function to stop the stream.
+   * @returns {Promise<WriteStreamResult>} Summary of the stream when all values are written.
+   */
+  writeCharacteristicStreamForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    values: Array<WritableValue>,
+    transactionId: ?TransactionId
+  ): Promise<WriteStreamResult> {
+    return this._callPromise(
+      BleModule.writeCharacteristicStreamForDevice(
+        deviceIdentifier,
+        serviceUUID,
+        characteristicUUID,
+        values.map(toNativeValue),
+        transactionId || this._nextUniqueID()
+      )
+    )
+  }
+
   /**
    * Write {@link Characteristic} value without response.
    *
    * @param {Identifier} serviceIdentifier {@link Service} ID.
    * @param {UUID} characteristicUUID {@link Characteristic} UUID.
-   * @param {Base64} base64Value Value in Base64 format.
+   * @param {WritableValue} base64Value Value in Base64 format or raw bytes.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|cancelTransaction()} function.
    * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
@@ -905,14 +1442,14 @@ export class BleManager {
   async _writeCharacteristicWithoutResponseForService(
     serviceIdentifier: Identifier,
     characteristicUUID: UUID,
-    base64Value: Base64,
+    base64Value: WritableValue,
     transactionId: ?TransactionId
   ): Promise<Characteristic> {
     if (!transactionId) {
       transactionId = this._nextUniqueID()
     }
     const nativeCharacteristic = await this._callPromise(
-      BleModule.writeCharacteristicForService(serviceIdentifier, characteristicUUID, base64Value, false, transactionId)
+      BleModule.writeCharacteristicForService(serviceIdentifier, characteristicUUID, toNativeValue(base64Value), false, transactionId)
     )
     return new Characteristic(nativeCharacteristic, this)
   }
@@ -921,7 +1458,7 @@ export class BleManager {
    * Write {@link Characteristic} value without response.
    *
    * @param {Identifier} characteristicIdentifier {@link Characteristic} UUID.
-   * @param {Base64} base64Value Value in Base64 format.
+   * @param {WritableValue} base64Value Value in Base64 format or raw bytes.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|cancelTransaction()} function.
    * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified ID.
@@ -930,14 +1467,14 @@ export class BleManager {
    */
   async _writeCharacteristicWithoutResponse(
     characteristicIdentifier: Identifier,
-    base64Value: Base64,
+    base64Value: WritableValue,
     transactionId: ?TransactionId
   ): Promise<Characteristic> {
     if (!transactionId) {
       transactionId = this._nextUniqueID()
     }
     const nativeCharacteristic = await this._callPromise(
-      BleModule.writeCharacteristic(characteristicIdentifier, base64Value, false, transactionId)
+      BleModule.writeCharacteristic(characteristicIdentifier, toNativeValue(base64Value), false, transactionId)
     )
     return new Characteristic(nativeCharacteristic, this)
   }
@@ -953,6 +1490,8 @@ export class BleManager {
    * {@link Characteristic} objects with modified value for each notification.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @param {?CharacteristicSubscriptionType} subscriptionType [android only] subscription type of the characteristic
+   * @param {?MonitorOptions} options [android only] monitoring options
    * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
    */
   monitorCharacteristicForDevice(
@@ -961,16 +1500,63 @@ export class BleManager {
     characteristicUUID: UUID,
     listener: (error: ?BleError, characteristic: ?Characteristic) => void,
     transactionId: ?TransactionId,
-    subscriptionType: ?CharacteristicSubscriptionType
+    subscriptionType: ?CharacteristicSubscriptionType,
+    options: ?MonitorOptions
   ): Subscription {
     const filledTransactionId = transactionId || this._nextUniqueID()
     const commonArgs = [deviceIdentifier, serviceUUID, characteristicUUID, filledTransactionId]
-    const args = isIOS ? commonArgs : [...commonArgs, subscriptionType]
+    const args = isIOS ? commonArgs : [...commonArgs, subscriptionType, options || null]
 
     return this._handleMonitorCharacteristic(
       BleModule.monitorCharacteristicForDevice(...args),
       filledTransactionId,
-      listener
+      listener,
+      options
+    )
+  }
+
+  /**
+   * [Android only] Read value of a {@link Characteristic} periodically. Timers of all polls run on a single
+   * native scheduler and are aligned to multiples of their interval, so polls of several devices with the
+   * same interval read at the same time. Reads go through the operation queue and characteristic cache
+   * like {@link #blemanagerreadcharacteristicfordevice|readCharacteristicForDevice()}, a tick is skipped
+   * while the previous read is still in progress.
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @param {UUID} serviceUUID {@link Service} UUID.
+   * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+   * @param {function(error: ?BleError, characteristic: ?Characteristic)} listener - callback which emits
+   * {@link Characteristic} objects with read values. By default only values different from the previous one
+   * are emitted.
+   * @param {PollOptions} options poll interval, jitter and monitoring options.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @returns {Subscription} Subscription on which `remove()` function can be called to stop polling.
+   */
+  pollCharacteristicForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    listener: (error: ?BleError, characteristic: ?Characteristic) => void,
+    options: PollOptions,
+    transactionId: ?TransactionId
+  ): Subscription {
+    const filledTransactionId = transactionId || this._nextUniqueID()
+
+    return this._handleMonitorCharacteristic(
+      BleModule.pollCharacteristicForDevice(
+        deviceIdentifier,
+        serviceUUID,
+        characteristicUUID,
+        options.interval,
+        options.jitter || 0,
+        options.emitOnChangeOnly !== false,
+        filledTransactionId,
+        options
+      ),
+      filledTransactionId,
+      listener,
+      options
     )
   }
 
@@ -984,6 +1570,8 @@ export class BleManager {
    * {@link Characteristic} objects with modified value for each notification.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @param {?CharacteristicSubscriptionType} subscriptionType [android only] subscription type of the characteristic
+   * @param {?MonitorOptions} options [android only] monitoring options
    * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
    * @private
    */
@@ -992,16 +1580,18 @@ export class BleManager {
     characteristicUUID: UUID,
     listener: (error: ?BleError, characteristic: ?Characteristic) => void,
     transactionId: ?TransactionId,
-    subscriptionType: ?CharacteristicSubscriptionType
+    subscriptionType: ?CharacteristicSubscriptionType,
+    options: ?MonitorOptions
   ): Subscription {
     const filledTransactionId = transactionId || this._nextUniqueID()
     const commonArgs = [serviceIdentifier, characteristicUUID, filledTransactionId]
-    const args = isIOS ? commonArgs : [...commonArgs, subscriptionType]
+    const args = isIOS ? commonArgs : [...commonArgs, subscriptionType, options || null]
 
     return this._handleMonitorCharacteristic(
       BleModule.monitorCharacteristicForService(...args),
       filledTransactionId,
-      listener
+      listener,
+      options
     )
   }
 
@@ -1015,6 +1605,7 @@ export class BleManager {
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * @param {?CharacteristicSubscriptionType} subscriptionType [android only] subscription type of the characteristic
    * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @param {?MonitorOptions} options [android only] monitoring options
    * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
    * @private
    */
@@ -1022,13 +1613,19 @@ export class BleManager {
     characteristicIdentifier: Identifier,
     listener: (error: ?BleError, characteristic: ?Characteristic) => void,
     transactionId: ?TransactionId,
-    subscriptionType: ?CharacteristicSubscriptionType
+    subscriptionType: ?CharacteristicSubscriptionType,
+    options: ?MonitorOptions
   ): Subscription {
     const filledTransactionId = transactionId || this._nextUniqueID()
     const commonArgs = [characteristicIdentifier, filledTransactionId]
-    const args = isIOS ? commonArgs : [...commonArgs, subscriptionType]
+    const args = isIOS ? commonArgs : [...commonArgs, subscriptionType, options || null]
 
-    return this._handleMonitorCharacteristic(BleModule.monitorCharacteristic(...args), filledTransactionId, listener)
+    return this._handleMonitorCharacteristic(
+      BleModule.monitorCharacteristic(...args),
+      filledTransactionId,
+      listener,
+      options
+    )
   }
 
   /**
@@ -1038,30 +1635,86 @@ export class BleManager {
    * @param {TransactionId} transactionId TransactionId of passed promise
    * @param {function(error: ?BleError, characteristic: ?Characteristic)} listener - callback which emits
    * {@link Characteristic} objects with modified value for each notification.
+   * @param {?MonitorOptions} options Options passed to native monitoring function
    * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
    * @private
    */
   _handleMonitorCharacteristic(
     monitorPromise: Promise<void>,
     transactionId: TransactionId,
-    listener: (error: ?BleError, characteristic: ?Characteristic) => void
+    listener: (error: ?BleError, characteristic: ?Characteristic) => void,
+    options: ?MonitorOptions
   ): Subscription {
-    const monitorListener = ([error, characteristic, msgTransactionId]: [
+    const monitorListener = ([error, characteristic, , timestamp]: [
       ?string,
       NativeCharacteristic,
-      TransactionId
+      TransactionId,
+      ?number
     ]) => {
-      if (transactionId !== msgTransactionId) {
-        return
-      }
       if (error) {
         listener(parseBleError(error, this._errorCodesToMessagesMapping), null)
         return
       }
+      if (timestamp != null) {
+        characteristic.timestamp = timestamp
+      }
+      listener(null, new Characteristic(characteristic, this))
+    }
+
+    // Metadata is passed only with the first compact update or batch and reused for the following ones.
+    let metadata: ?NativeCharacteristic = null
+    // Value is a handle when binary transport is used and an array or an object when it was decoded natively.
+    const compactMonitorListener = ([, value, timestamp, nativeMetadata]: [
+      TransactionId,
+      ?(Base64 | number | DecodedValue),
+      ?number,
+      ?NativeCharacteristic
+    ]) => {
+      if (nativeMetadata != null) {
+        metadata = nativeMetadata
+      }
+      if (metadata == null) {
+        return
+      }
+      const characteristic: NativeCharacteristic = Object.assign({}, metadata, {
+        value: typeof value === 'string' ? value : null,
+        valueHandle: typeof value === 'number' ? value : null,
+        decodedValue: value != null && typeof value === 'object' ? value : null,
+        timestamp
+      })
       listener(null, new Characteristic(characteristic, this))
     }
 
-    const subscription: Subscription = this._eventEmitter.addListener(BleModule.ReadEvent, monitorListener)
+    // Batch is a sequence of records: float64 timestamp, uint16 value length and value, all little endian.
+    // Values decoded natively are passed separately, one for each record.
+    const batchMonitorListener = ([, packedValues, nativeMetadata, decodedValues]: [
+      TransactionId,
+      Base64 | number,
+      ?NativeCharacteristic,
+      ?Array<?DecodedValue>
+    ]) => {
+      if (nativeMetadata != null) {
+        metadata = nativeMetadata
+      }
+      if (metadata == null) {
+        return
+      }
+      this._unpackCharacteristics(metadata, packedValues, decodedValues).forEach(characteristic =>
+        listener(null, characteristic)
+      )
+    }
+
+    let subscription: Subscription
+    if (options && (options.history || options.recordOnly)) {
+      // Notifications are pulled from native history or only recorded, listener receives only errors.
+      subscription = { remove: () => {} }
+    } else if (options && options.batchInterval && BleModule.BatchReadEvent != null) {
+      subscription = this._addMonitorListener(BleModule.BatchReadEvent, 0, transactionId, batchMonitorListener)
+    } else if (options && options.compact && BleModule.CompactReadEvent != null) {
+      subscription = this._addMonitorListener(BleModule.CompactReadEvent, 0, transactionId, compactMonitorListener)
+    } else {
+      subscription = this._addMonitorListener(BleModule.ReadEvent, 2, transactionId, monitorListener)
+    }
 
     const id = this._nextUniqueID()
     const wrappedSubscription: Subscription = {
@@ -1084,11 +1737,275 @@ export class BleManager {
       }
     )
 
-    return {
+    const monitorSubscription = {
       remove: () => {
         BleModule.cancelTransaction(transactionId)
       }
     }
+    if (options && options.history) {
+      this._historyTransactions.set(monitorSubscription, transactionId)
+    }
+    return monitorSubscription
+  }
+
+  /**
+   * Unpacks characteristics from a sequence of records: float64 timestamp, uint16 value length and value, all little
+   * endian.
+   *
+   * @param {NativeCharacteristic} metadata Characteristic without value.
+   * @param {Base64 | number} packedValues Packed records as Base64 or handle of raw bytes.
+   * @param {?Array<?DecodedValue>} decodedValues Values decoded natively, one for each record.
+   * @returns {Array<Characteristic>} Characteristics in order of records.
+   * @private
+   */
+  _unpackCharacteristics(
+    metadata: NativeCharacteristic,
+    packedValues: Base64 | number,
+    decodedValues: ?Array<?DecodedValue>
+  ): Array<Characteristic> {
+    const buffer = fromNativeValue(packedValues)
+    const characteristics = []
+    const view = new DataView(buffer)
+    let offset = 0
+    while (offset + 10 <= buffer.byteLength) {
+      const timestamp = view.getFloat64(offset, true)
+      const length = view.getUint16(offset + 8, true)
+      offset += 10
+      const decodedValue = decodedValues != null ? decodedValues[characteristics.length] : null
+      const characteristic = new Characteristic(
+        Object.assign({}, metadata, { value: null, timestamp, decodedValue }),
+        this
+      )
+      characteristic.rawValue = buffer.slice(offset, offset + length)
+      offset += length
+      characteristics.push(characteristic)
+    }
+    return characteristics
+  }
+
+  /**
+   * [Android only] Pull notifications from native history of a monitor started with `history` option. Notifications
+   * are kept natively until they are overwritten by newer ones, so they are not lost while JS thread is busy.
+   * History is available also after monitoring ends with an error, until subscription is removed.
+   *
+   * @param {Subscription} subscription Subscription returned by monitoring function called with `history` option.
+   * @param {number} sinceSeq Sequence number of the first notification to pull, `nextSeq` of the previous pull.
+   * @param {?number} max Maximum number of notifications to pull, all available by default.
+   * @returns {Promise<CharacteristicHistory>} Pulled notifications.
+   */
+  async getCharacteristicHistory(
+    subscription: Subscription,
+    sinceSeq: number = 0,
+    max: ?number
+  ): Promise<CharacteristicHistory> {
+    const transactionId = this._historyTransactions.get(subscription)
+    if (transactionId == null) {
+      throw new BleError(
+        {
+          errorCode: BleErrorCode.OperationStartFailed,
+          attErrorCode: (null: ?$Values<typeof BleATTErrorCode>),
+          iosErrorCode: (null: ?$Values<typeof BleIOSErrorCode>),
+          androidErrorCode: (null: ?$Values<typeof BleAndroidErrorCode>),
+          reason: 'Subscription was not created with history option'
+        },
+        this._errorCodesToMessagesMapping
+      )
+    }
+    const nativeHistory = await this._callPromise(BleModule.getCharacteristicHistory(transactionId, sinceSeq, max || 0))
+    const metadata = nativeHistory.characteristic
+    return {
+      characteristics:
+        metadata != null ? this._unpackCharacteristics(metadata, nativeHistory.values, nativeHistory.decodedValues) : [],
+      firstSeq: nativeHistory.firstSeq,
+      nextSeq: nativeHistory.nextSeq,
+      droppedCount: nativeHistory.droppedCount
+    }
+  }
+
+  /**
+   * [Android only] Opens a recorder which appends notifications to rotating memory mapped segment files in a
+   * directory, without passing them over the bridge. Notifications of monitors started with `recorder` option set to
+   * the returned id are recorded until the recorder is closed. Recording continues after the last notification if the
+   * directory already contains a recording. Fails if a recorder of the directory is already open.
+   *
+   * @param {string} directoryPath Directory of the recording. It is created if it doesn't exist.
+   * @param {?NotificationRecorderOptions} options Segment size, retention and fsync policy of the recording.
+   * @returns {Promise<string>} Id of the recorder to be passed in {@link MonitorOptions}.
+   */
+  async openNotificationRecorder(directoryPath: string, options: ?NotificationRecorderOptions): Promise<string> {
+    const recorderId = this._nextUniqueID()
+    await this._callPromise(BleModule.openNotificationRecorder(recorderId, directoryPath, options))
+    return recorderId
+  }
+
+  /**
+   * [Android only] Closes a recorder opened by
+   * {@link #blemanageropennotificationrecorder|openNotificationRecorder()}. Monitors recording to it continue without
+   * recording.
+   *
+   * @param {string} recorderId Id of the recorder.
+   * @returns {Promise<number>} Number of notifications written by the recorder.
+   */
+  closeNotificationRecorder(recorderId: string): Promise<number> {
+    return this._callPromise(BleModule.closeNotificationRecorder(recorderId))
+  }
+
+  /**
+   * [Android only] Reads notifications from a recording, also while it is being recorded. Segments with only older
+   * notifications than `sinceSeq` are skipped without reading them.
+   *
+   * @param {string} directoryPath Directory of the recording.
+   * @param {number} sinceSeq Sequence number of the first notification to read, `nextSeq` of the previous read.
+   * @param {?number} max Maximum number of notifications to read, all available by default.
+   * @returns {Promise<NotificationRecording>} Read notifications.
+   */
+  async readNotificationRecording(
+    directoryPath: string,
+    sinceSeq: number = 0,
+    max: ?number
+  ): Promise<NotificationRecording> {
+    const nativeRecording = await this._callPromise(
+      BleModule.readNotificationRecording(directoryPath, sinceSeq, max || 0)
+    )
+    return {
+      records: nativeRecording.records.map((nativeRecord: NativeNotificationRecord) => {
+        const { value, ...metadata } = nativeRecord
+        const record: NotificationRecord = (metadata: any)
+        defineValueProperties(
+          record,
+          typeof value === 'number' ? { value: null, valueHandle: value } : { value, valueHandle: null }
+        )
+        return record
+      }),
+      nextSeq: nativeRecording.nextSeq
+    }
+  }
+
+  /**
+   * Registers listener of monitoring events with specified transaction id. All monitors share a single BleModule
+   * listener per event name, which passes each event only to the monitor it belongs to.
+   *
+   * @param {string} eventName BleModule event name.
+   * @param {number} transactionIdIndex Index of transaction id in event array.
+   * @param {TransactionId} transactionId Transaction id of the monitor.
+   * @param {function(event: Array<any>)} listener Callback which receives events of the monitor.
+   * @returns {Subscription} Subscription on which `remove()` function can be called to unregister listener.
+   * @private
+   */
+  _addMonitorListener(
+    eventName: string,
+    transactionIdIndex: number,
+    transactionId: TransactionId,
+    listener: (event: Array<any>) => void
+  ): Subscription {
+    let dispatcher = this._monitorListeners[eventName]
+    if (dispatcher == null) {
+      const listeners = new Map()
+      dispatcher = {
+        listeners,
+        subscription: this._eventEmitter.addListener(eventName, (event: Array<any>) => {
+          const monitorListener = listeners.get(event[transactionIdIndex])
+          if (monitorListener != null) {
+            monitorListener(event)
+          }
+        })
+      }
+      this._monitorListeners[eventName] = dispatcher
+    }
+    dispatcher.listeners.set(transactionId, listener)
+
+    return {
+      remove: () => {
+        const currentDispatcher = this._monitorListeners[eventName]
+        // Transaction id may be already reused by a new monitor
+        if (currentDispatcher == null || currentDispatcher.listeners.get(transactionId) !== listener) {
+          return
+        }
+        currentDispatcher.listeners.delete(transactionId)
+        if (currentDispatcher.listeners.size === 0) {
+          currentDispatcher.subscription.remove()
+          delete this._monitorListeners[eventName]
+        }
+      }
+    }
+  }
+
+  // Mark: L2CAP channels -----------------------------------------------------------------------------------------
+
+  /**
+   * [Android only] Opens an LE L2CAP connection-oriented channel to a connected device. Channels carry data streams
+   * several times faster than GATT notifications. Received data is passed to the listener in chunks of raw bytes,
+   * until the channel is closed. Then the listener is called with `null` data, and with an error if the channel
+   * failed. Requires Android 10 or newer.
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @param {number} psm Protocol/Service Multiplexer of the channel published by the device.
+   * @param {function(error: ?BleError, data: ?ArrayBuffer)} listener Callback which receives chunks of data.
+   * @param {?L2capChannelOptions} options Channel options.
+   * @returns {Promise<L2capChannel>} Promise which emits the channel when it is open.
+   */
+  async openL2capChannelForDevice(
+    deviceIdentifier: DeviceId,
+    psm: number,
+    listener: (error: ?BleError, data: ?ArrayBuffer) => void,
+    options: ?L2capChannelOptions
+  ): Promise<L2capChannel> {
+    const transactionId = this._nextUniqueID()
+    const removeListeners = () => {
+      dataSubscription.remove()
+      closeSubscription.remove()
+    }
+    const dataSubscription = this._addMonitorListener(
+      BleModule.L2capDataEvent,
+      0,
+      transactionId,
+      ([, value]: [TransactionId, Base64 | number]) => {
+        listener(null, fromNativeValue(value))
+      }
+    )
+    const closeSubscription = this._addMonitorListener(
+      BleModule.L2capCloseEvent,
+      0,
+      transactionId,
+      ([, error]: [TransactionId, ?string]) => {
+        removeListeners()
+        listener(error ? parseBleError(error, this._errorCodesToMessagesMapping) : null, null)
+      }
+    )
+
+    try {
+      return await this._callPromise(
+        BleModule.openL2capChannelForDevice(deviceIdentifier, psm, transactionId, options)
+      )
+    } catch (error) {
+      removeListeners()
+      throw error
+    }
+  }
+
+  /**
+   * [Android only] Writes data to a channel opened by
+   * {@link #blemanageropenl2capchannelfordevice|openL2capChannelForDevice()}. Writes are passed to the channel in
+   * order of calls.
+   *
+   * @param {string} channelId {@link L2capChannel} identifier.
+   * @param {WritableValue} value Data in Base64 format or raw bytes.
+   * @returns {Promise<void>} Promise which resolves when the data is passed to the channel.
+   */
+  writeL2capChannel(channelId: string, value: WritableValue): Promise<void> {
+    return this._callPromise(BleModule.writeL2capChannel(channelId, toNativeValue(value)))
+  }
+
+  /**
+   * [Android only] Closes a channel opened by
+   * {@link #blemanageropenl2capchannelfordevice|openL2capChannelForDevice()}. Its listener is called with `null` data
+   * when the channel is closed.
+   *
+   * @param {string} channelId {@link L2capChannel} identifier.
+   * @returns {Promise<void>}
+   */
+  closeL2capChannel(channelId: string): Promise<void> {
+    return this._callPromise(BleModule.cancelTransaction(channelId))
   }
 
   // Mark: Descriptors operations ----------------------------------------------------------------------------------
@@ -1204,7 +2121,7 @@ export class BleManager {
    * @param {UUID} serviceUUID Service UUID
    * @param {UUID} characteristicUUID Characteristic UUID
    * @param {UUID} descriptorUUID Descriptor UUID
-   * @param {Base64} valueBase64 Value to be set coded in Base64
+   * @param {WritableValue} valueBase64 Value to be set coded in Base64 or as raw bytes
    * @param {?TransactionId} transactionId Transaction handle used to cancel operation
    * @returns {Promise<Descriptor>} Descriptor which saved passed value
    */
@@ -1213,7 +2130,7 @@ export class BleManager {
     serviceUUID: UUID,
     characteristicUUID: UUID,
     descriptorUUID: UUID,
-    valueBase64: Base64,
+    valueBase64: WritableValue,
     transactionId: ?TransactionId
   ): Promise<Descriptor> {
     if (!transactionId) {
@@ -1225,7 +2142,7 @@ export class BleManager {
         serviceUUID,
         characteristicUUID,
         descriptorUUID,
-        valueBase64,
+        toNativeValue(valueBase64),
         transactionId
       )
     )
@@ -1238,7 +2155,7 @@ export class BleManager {
    * @param {Identifier} serviceIdentifier Service identifier
    * @param {UUID} characteristicUUID Characteristic UUID
    * @param {UUID} descriptorUUID Descriptor UUID
-   * @param {Base64} valueBase64 Value to be set coded in Base64
+   * @param {WritableValue} valueBase64 Value to be set coded in Base64 or as raw bytes
    * @param {?TransactionId} transactionId Transaction handle used to cancel operation
    * @returns {Promise<Descriptor>} Descriptor which saved passed value
    * @private
@@ -1247,7 +2164,7 @@ export class BleManager {
     serviceIdentifier: Identifier,
     characteristicUUID: UUID,
     descriptorUUID: UUID,
-    valueBase64: Base64,
+    valueBase64: WritableValue,
     transactionId: ?TransactionId
   ): Promise<Descriptor> {
     if (!transactionId) {
@@ -1258,7 +2175,7 @@ export class BleManager {
         serviceIdentifier,
         characteristicUUID,
         descriptorUUID,
-        valueBase64,
+        toNativeValue(valueBase64),
         transactionId
       )
     )
@@ -1270,7 +2187,7 @@ export class BleManager {
    *
    * @param {Identifier} characteristicIdentifier Characteristic identifier
    * @param {UUID} descriptorUUID Descriptor UUID
-   * @param {Base64} valueBase64 Value to be set coded in Base64
+   * @param {WritableValue} valueBase64 Value to be set coded in Base64 or as raw bytes
    * @param {?TransactionId} transactionId Transaction handle used to cancel operation
    * @returns {Promise<Descriptor>} Descriptor which saved passed value
    * @private
@@ -1278,14 +2195,14 @@ export class BleManager {
   async _writeDescriptorForCharacteristic(
     characteristicIdentifier: Identifier,
     descriptorUUID: UUID,
-    valueBase64: Base64,
+    valueBase64: WritableValue,
     transactionId: ?TransactionId
   ): Promise<Descriptor> {
     if (!transactionId) {
       transactionId = this._nextUniqueID()
     }
     const nativeDescriptor = await this._callPromise(
-      BleModule.writeDescriptorForCharacteristic(characteristicIdentifier, descriptorUUID, valueBase64, transactionId)
+      BleModule.writeDescriptorForCharacteristic(characteristicIdentifier, descriptorUUID, toNativeValue(valueBase64), transactionId)
     )
     return new Descriptor(nativeDescriptor, this)
   }
@@ -1294,21 +2211,21 @@ export class BleManager {
    * Write {@link Descriptor} value.
    *
    * @param {Identifier} descriptorIdentifier Descriptor identifier
-   * @param {Base64} valueBase64 Value to be set coded in Base64
+   * @param {WritableValue} valueBase64 Value to be set coded in Base64 or as raw bytes
    * @param {?TransactionId} transactionId Transaction handle used to cancel operation
    * @returns {Promise<Descriptor>} Descriptor which saved passed value
    * @private
    */
   async _writeDescriptor(
     descriptorIdentifier: Identifier,
-    valueBase64: Base64,
+    valueBase64: WritableValue,
     transactionId: ?TransactionId
   ): Promise<Descriptor> {
     if (!transactionId) {
       transactionId = this._nextUniqueID()
     }
     const nativeDescriptor = await this._callPromise(
-      BleModule.writeDescriptor(descriptorIdentifier, valueBase64, transactionId)
+      BleModule.writeDescriptor(descriptorIdentifier, toNativeValue(valueBase64), transactionId)
     )
     return new Descriptor(nativeDescriptor, this)
   }
@@ -2,18 +2,58 @@
 'use strict'
 
 import { NativeModules, NativeEventEmitter } from 'react-native'
-import { State, LogLevel, ConnectionPriority } from './TypeDefinition'
+import {
+  State,
+  LogLevel,
+  ConnectionPriority,
+  AdvertisementDecryptionStatus,
+  AdvertisementEncryptionFormat
+} from './TypeDefinition'
 import type {
   DeviceId,
   Identifier,
   UUID,
   TransactionId,
   CharacteristicSubscriptionType,
+  MonitorOptions,
+  ReadOptions,
+  DecodedValue,
+  NotificationRecorderOptions,
+  L2capChannelOptions,
+  L2capChannel,
   Base64,
   ScanOptions,
+  ScanReplayOptions,
+  ScanStatistics,
+  EventQueueStatistics,
+  OperationPriority,
+  OperationQueueStatistics,
+  GattSchedulerOptions,
+  GattSchedulerStatistics,
+  BridgeTraffic,
+  CharacteristicCacheStatistics,
+  WriteStreamResult,
+  BackgroundScanOptions,
   ConnectionOptions
 } from './TypeDefinition'
 
+/**
+ * Batch of background scan results passed from BleModule.
+ * @private
+ */
+export interface NativeBackgroundScanResults {
+  /**
+   * Scanned devices in order of arrival.
+   * @private
+   */
+  devices: Array<NativeDevice>;
+  /**
+   * Number of results dropped since previous batch because native buffer was full.
+   * @private
+   */
+  droppedCount: number;
+}
+
 /**
  * Native device object passed from BleModule.
  * @private
@@ -97,6 +137,42 @@ export interface NativeDevice {
    * @private
    */
   overflowServiceUUIDs: ?Array<UUID>;
+
+  /**
+   * Advertising set identifier of extended advertisement.
+   * @private
+   */
+  advertisingSid: ?number;
+
+  /**
+   * Primary PHY of extended advertisement.
+   * @private
+   */
+  primaryPhy: ?number;
+
+  /**
+   * Secondary PHY of extended advertisement.
+   * @private
+   */
+  secondaryPhy: ?number;
+
+  /**
+   * Periodic advertising interval in units of 1.25 ms.
+   * @private
+   */
+  periodicAdvertisingInterval: ?number;
+
+  /**
+   * Map of service UUIDs with decrypted data.
+   * @private
+   */
+  decryptedServiceData: ?{ [uuid: UUID]: Base64 };
+
+  /**
+   * Result of advertisement decryption.
+   * @private
+   */
+  decryptionStatus: ?$Values<typeof AdvertisementDecryptionStatus>;
 }
 
 /**
@@ -191,6 +267,144 @@ export interface NativeCharacteristic {
    * @private
    */
   value: ?Base64;
+  /**
+   * Time when value was received in milliseconds since device boot
+   * @private
+   */
+  timestamp?: ?number;
+  /**
+   * Handle of raw characteristic value passed instead of Base64 value when binary transport is used
+   * @private
+   */
+  valueHandle?: ?number;
+  /**
+   * Value decoded natively, passed instead of Base64 value when decoder schema was set
+   * @private
+   */
+  decodedValue?: ?DecodedValue;
+}
+
+/**
+ * Notifications pulled from native characteristic history.
+ * @private
+ */
+export interface NativeCharacteristicHistory {
+  /**
+   * Sequence number of the first pulled notification
+   * @private
+   */
+  firstSeq: number;
+  /**
+   * Sequence number following the last pulled notification
+   * @private
+   */
+  nextSeq: number;
+  /**
+   * Number of requested notifications which were overwritten
+   * @private
+   */
+  droppedCount: number;
+  /**
+   * Packed notifications in the layout of BatchReadEvent, Base64 or handle of raw bytes
+   * @private
+   */
+  values: Base64 | number;
+  /**
+   * Monitored characteristic without value, null if there weren't any notifications yet
+   * @private
+   */
+  characteristic: ?NativeCharacteristic;
+  /**
+   * Values decoded natively, one for each notification, when decoder schema was set
+   * @private
+   */
+  decodedValues?: ?Array<?DecodedValue>;
+}
+
+/**
+ * Notification read from a native recording.
+ * @private
+ */
+export interface NativeNotificationRecord {
+  /**
+   * Sequence number of the notification
+   * @private
+   */
+  seq: number;
+  /**
+   * Time when the notification was received in milliseconds since the Unix epoch
+   * @private
+   */
+  timestamp: number;
+  /**
+   * Device identifier
+   * @private
+   */
+  deviceID: DeviceId;
+  /**
+   * Characteristic identifier in the session in which it was recorded
+   * @private
+   */
+  characteristicID: Identifier;
+  /**
+   * Service UUID
+   * @private
+   */
+  serviceUUID: UUID;
+  /**
+   * Characteristic UUID
+   * @private
+   */
+  characteristicUUID: UUID;
+  /**
+   * Notified value, Base64 or handle of raw bytes
+   * @private
+   */
+  value: Base64 | number;
+}
+
+/**
+ * Notifications read from a native recording.
+ * @private
+ */
+export interface NativeNotificationRecording {
+  /**
+   * Read notifications
+   * @private
+   */
+  records: Array<NativeNotificationRecord>;
+  /**
+   * Sequence number following the last read notification
+   * @private
+   */
+  nextSeq: number;
+}
+
+/**
+ * Result of a single read of a batch characteristic read passed from BleModule.
+ * @private
+ */
+export interface NativeCharacteristicReadResult {
+  /**
+   * Service UUID as passed to the read.
+   * @private
+   */
+  serviceUUID: UUID;
+  /**
+   * Characteristic UUID as passed to the read.
+   * @private
+   */
+  characteristicUUID: UUID;
+  /**
+   * Read characteristic or `null` if the read failed.
+   * @private
+   */
+  characteristic: ?NativeCharacteristic;
+  /**
+   * Error of the read or `null` if it succeeded.
+   * @private
+   */
+  error: ?string;
 }
 
 /**
@@ -238,6 +452,11 @@ export interface NativeDescriptor {
    * @private
    */
   value: ?Base64;
+  /**
+   * Handle of raw descriptor value passed instead of Base64 value when binary transport is used
+   * @private
+   */
+  valueHandle?: ?number;
 }
 
 /**
@@ -331,8 +550,256 @@ export interface BleModuleInterface {
    */
   stopDeviceScan(): Promise<void>;
 
+  /**
+   * Returns counters of the most recent device scan. [Android only]
+   * @private
+   * @returns {Promise<?ScanStatistics>} Scan statistics or `null` if no scan was started.
+   */
+  getScanStatistics(): Promise<?ScanStatistics>;
+
+  /**
+   * Starts emitting scan statistics periodically while device scan is running. [Android only]
+   * @param {number} interval Interval in milliseconds.
+   * @private
+   * @returns {Promise<void>} the promise may be rejected if the interval is invalid.
+   */
+  startScanStatisticsUpdates(interval: number): Promise<void>;
+
+  /**
+   * Stops emitting scan statistics. [Android only]
+   * @private
+   * @returns {Promise<void>} the promise may be rejected if the operation is impossible to perform.
+   */
+  stopScanStatisticsUpdates(): Promise<void>;
+
+  /**
+   * Starts scan which delivers results to a native receiver, even when the app is not running. [Android only]
+   *
+   * @param {?Array<UUID>} filteredUUIDs List of UUIDs for services which needs to be present to detect device during
+   * scanning.
+   * @param {?BackgroundScanOptions} options Background scan options.
+   * @returns {Promise<void>} the promise may be rejected if the operation is impossible to perform.
+   * @private
+   */
+  startBackgroundDeviceScan(filteredUUIDs: ?Array<UUID>, options: ?BackgroundScanOptions): Promise<void>;
+
+  /**
+   * Stops background device scan. [Android only]
+   *
+   * @returns {Promise<void>} the promise may be rejected if the operation is impossible to perform.
+   * @private
+   */
+  stopBackgroundDeviceScan(): Promise<void>;
+
+  /**
+   * Takes scan results buffered by background scan. [Android only]
+   *
+   * @param {number} maxCount Maximum number of results to take, 0 takes all of them.
+   * @returns {Promise<NativeBackgroundScanResults>} Buffered results.
+   * @private
+   */
+  getBackgroundScanResults(maxCount: number): Promise<NativeBackgroundScanResults>;
+
+  /**
+   * Registers key used to decrypt advertisements of a device. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Device identifier.
+   * @param {Base64} key AES-128 key.
+   * @param {AdvertisementEncryptionFormat} format Format of encrypted payload.
+   * @returns {Promise<void>} the promise may be rejected if key or format are invalid.
+   * @private
+   */
+  setAdvertisementDecryptionKey(
+    deviceIdentifier: DeviceId,
+    key: Base64,
+    format: $Values<typeof AdvertisementEncryptionFormat>
+  ): Promise<void>;
+
+  /**
+   * Removes key used to decrypt advertisements of a device. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Device identifier.
+   * @returns {Promise<void>} the promise may be rejected if the operation is impossible to perform.
+   * @private
+   */
+  removeAdvertisementDecryptionKey(deviceIdentifier: DeviceId): Promise<void>;
+
+  /**
+   * Starts appending raw scan results to a capture file. [Android only]
+   *
+   * @param {string} filePath Path of the capture file. New records are appended if file exists.
+   * @returns {Promise<void>} the promise may be rejected if the file cannot be opened.
+   * @private
+   */
+  startScanCapture(filePath: string): Promise<void>;
+
+  /**
+   * Stops scan capture. [Android only]
+   *
+   * @returns {Promise<number>} Number of records written during the capture.
+   * @private
+   */
+  stopScanCapture(): Promise<number>;
+
+  /**
+   * Replays a capture file as scan results emitted with ScanEvent. [Android only]
+   *
+   * @param {string} filePath Path of the capture file.
+   * @param {?ScanReplayOptions} options Replay options.
+   * @returns {Promise<void>} the promise completes when the replay is finished or stopped.
+   * @private
+   */
+  replayScanCapture(filePath: string, options: ?ScanReplayOptions): Promise<void>;
+
   // Device operations
 
+  /**
+   * Sets options of scheduler of read and write operations shared by all devices. [Android only]
+   *
+   * @param {GattSchedulerOptions} options Scheduler options.
+   * @returns {Promise<void>}
+   * @private
+   */
+  setGattSchedulerOptions(options: GattSchedulerOptions): Promise<void>;
+
+  /**
+   * Returns statistics of scheduler of read and write operations shared by all devices. [Android only]
+   *
+   * @returns {Promise<GattSchedulerStatistics>} Scheduler statistics.
+   * @private
+   */
+  getGattSchedulerStatistics(): Promise<GattSchedulerStatistics>;
+
+  /**
+   * Sets priority of read and write operations on a characteristic and its descriptors. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Device identifier.
+   * @param {UUID} serviceUUID Service UUID.
+   * @param {UUID} characteristicUUID Characteristic UUID.
+   * @param {OperationPriority} priority Priority of operations.
+   * @returns {Promise<void>}
+   * @private
+   */
+  setCharacteristicPriorityForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    priority: OperationPriority
+  ): Promise<void>;
+
+  /**
+   * Returns statistics of queue of read and write operations of a device. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Device identifier.
+   * @returns {Promise<OperationQueueStatistics>} Operation queue statistics.
+   * @private
+   */
+  getOperationQueueStatisticsForDevice(deviceIdentifier: DeviceId): Promise<OperationQueueStatistics>;
+
+  /**
+   * Sets time for which read values of a characteristic are cached. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Device identifier.
+   * @param {UUID} serviceUUID Service UUID.
+   * @param {UUID} characteristicUUID Characteristic UUID.
+   * @param {number} ttl Time in milliseconds, -1 to cache values until disconnection, 0 to stop caching.
+   * @returns {Promise<void>}
+   * @private
+   */
+  setCharacteristicCacheTtlForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    ttl: number
+  ): Promise<void>;
+
+  /**
+   * Returns statistics of cache of characteristic values of a device. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Device identifier.
+   * @returns {Promise<CharacteristicCacheStatistics>} Cache statistics.
+   * @private
+   */
+  getCharacteristicCacheStatisticsForDevice(deviceIdentifier: DeviceId): Promise<CharacteristicCacheStatistics>;
+
+  /**
+   * [Android only] Pull notifications from history of monitor started with history option.
+   *
+   * @param {TransactionId} transactionId Transaction handle of the monitor
+   * @param {number} sinceSeq Sequence number of the first notification to pull
+   * @param {number} max Maximum number of notifications to pull, all if 0
+   * @returns {Promise<NativeCharacteristicHistory>} Pulled notifications
+   * @private
+   */
+  getCharacteristicHistory(
+    transactionId: TransactionId,
+    sinceSeq: number,
+    max: number
+  ): Promise<NativeCharacteristicHistory>;
+
+  /**
+   * [Android only] Opens a recorder appending notifications of monitors to segment files in a directory.
+   *
+   * @param {string} recorderId Id of the recorder passed in monitor options
+   * @param {string} directoryPath Directory of the recording, recording continues if it already exists
+   * @param {?NotificationRecorderOptions} options Recorder options
+   * @returns {Promise<{ nextSeq: number }>} Sequence number of the next recorded notification
+   * @private
+   */
+  openNotificationRecorder(
+    recorderId: string,
+    directoryPath: string,
+    options: ?NotificationRecorderOptions
+  ): Promise<{ nextSeq: number }>;
+
+  /**
+   * [Android only] Closes a notification recorder.
+   *
+   * @param {string} recorderId Id of the recorder
+   * @returns {Promise<number>} Number of notifications written by the recorder
+   * @private
+   */
+  closeNotificationRecorder(recorderId: string): Promise<number>;
+
+  /**
+   * [Android only] Reads notifications from a recording.
+   *
+   * @param {string} directoryPath Directory of the recording
+   * @param {number} sinceSeq Sequence number of the first notification to read
+   * @param {number} max Maximum number of notifications to read, all if 0
+   * @returns {Promise<NativeNotificationRecording>} Read notifications
+   * @private
+   */
+  readNotificationRecording(directoryPath: string, sinceSeq: number, max: number): Promise<NativeNotificationRecording>;
+
+  /**
+   * [Android only] Opens an L2CAP channel. Received data is emitted with L2capDataEvent and closing of the channel
+   * with L2capCloseEvent. The channel is closed by cancelling the transaction.
+   *
+   * @param {DeviceId} deviceIdentifier Device identifier
+   * @param {number} psm Protocol/Service Multiplexer of the channel
+   * @param {TransactionId} transactionId Transaction handle which identifies the channel
+   * @param {?L2capChannelOptions} options Channel options
+   * @returns {Promise<L2capChannel>} Open channel
+   * @private
+   */
+  openL2capChannelForDevice(
+    deviceIdentifier: DeviceId,
+    psm: number,
+    transactionId: TransactionId,
+    options: ?L2capChannelOptions
+  ): Promise<L2capChannel>;
+
+  /**
+   * [Android only] Writes data to an open L2CAP channel.
+   *
+   * @param {TransactionId} transactionId Transaction handle which identifies the channel
+   * @param {Base64 | number} value Data in Base64 format or handle of raw bytes
+   * @returns {Promise<void>} Promise which resolves when the data is passed to the channel
+   * @private
+   */
+  writeL2capChannel(transactionId: TransactionId, value: Base64 | number): Promise<void>;
+
   /**
    * Request a connection parameter update. This functions may update connection parameters on Android API level 21 or
    * above.
@@ -500,6 +967,70 @@ export interface BleModuleInterface {
    */
   descriptorsForCharacteristic(characteristicIdentifier: Identifier): Promise<Array<NativeDescriptor>>;
 
+  // Binary transport
+
+  /**
+   * Installs JSI functions used to pass raw values. [Android only]
+   * @returns {boolean} True if functions were installed.
+   * @private
+   */
+  +installBinaryTransport?: () => boolean;
+
+  // Synchronous getters
+
+  // Blocking variants of getters which are served from memory. Each returns `[error, value]` pair where error is
+  // serialized in the same way as in rejected promises. [Android only]
+
+  /**
+   * @private
+   */
+  +stateSync?: () => [?string, $Keys<typeof State>];
+
+  /**
+   * @private
+   */
+  +logLevelSync?: () => [?string, $Keys<typeof LogLevel>];
+
+  /**
+   * @private
+   */
+  +servicesForDeviceSync?: (deviceIdentifier: DeviceId) => [?string, Array<NativeService>];
+
+  /**
+   * @private
+   */
+  +characteristicsForDeviceSync?: (
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID
+  ) => [?string, Array<NativeCharacteristic>];
+
+  /**
+   * @private
+   */
+  +characteristicsForServiceSync?: (serviceIdentifier: Identifier) => [?string, Array<NativeCharacteristic>];
+
+  /**
+   * @private
+   */
+  +descriptorsForDeviceSync?: (
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID
+  ) => [?string, Array<NativeDescriptor>];
+
+  /**
+   * @private
+   */
+  +descriptorsForServiceSync?: (
+    serviceIdentifier: Identifier,
+    characteristicUUID: UUID
+  ) => [?string, Array<NativeDescriptor>];
+
+  /**
+   * @private
+   */
+  +descriptorsForCharacteristicSync?: (characteristicIdentifier: Identifier) => [?string, Array<NativeDescriptor>];
+
   // Characteristics operations
 
   /**
@@ -509,6 +1040,7 @@ export interface BleModuleInterface {
    * @param {UUID} serviceUUID Service UUID
    * @param {UUID} characteristicUUID Characteristic UUID
    * @param {TransactionId} transactionId Transaction handle used to cancel operation
+   * @param {?ReadOptions} options [android only] read options
    * @returns {Promise<NativeCharacteristic>} Characteristic for which value was read
    * @private
    */
@@ -516,22 +1048,40 @@ export interface BleModuleInterface {
     deviceIdentifier: DeviceId,
     serviceUUID: UUID,
     characteristicUUID: UUID,
-    transactionId: TransactionId
+    transactionId: TransactionId,
+    options: ?ReadOptions
   ): Promise<NativeCharacteristic>;
 
+  /**
+   * Read values of several characteristics of a device, reads are queued back to back. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Connected device identifier
+   * @param {Array<[UUID, UUID]>} characteristicUUIDs Pairs of service and characteristic UUIDs
+   * @param {TransactionId} transactionId Transaction handle used to cancel operation
+   * @returns {Promise<Array<NativeCharacteristicReadResult>>} Results in order of passed UUIDs
+   * @private
+   */
+  readCharacteristicsForDevice(
+    deviceIdentifier: DeviceId,
+    characteristicUUIDs: Array<[UUID, UUID]>,
+    transactionId: TransactionId
+  ): Promise<Array<NativeCharacteristicReadResult>>;
+
   /**
    * Read characteristic's value.
    *
    * @param {Identifier} serviceIdentifier Service ID
    * @param {UUID} characteristicUUID Characteristic UUID
    * @param {TransactionId} transactionId Transaction handle used to cancel operation
+   * @param {?ReadOptions} options [android only] read options
    * @returns {Promise<NativeCharacteristic>} Characteristic for which value was read
    * @private
    */
   readCharacteristicForService(
     serviceIdentifier: Identifier,
     characteristicUUID: UUID,
-    transactionId: TransactionId
+    transactionId: TransactionId,
+    options: ?ReadOptions
   ): Promise<NativeCharacteristic>;
 
   /**
@@ -539,10 +1089,57 @@ export interface BleModuleInterface {
    *
    * @param {Identifier} characteristicIdentifer Characteristic ID
    * @param {TransactionId} transactionId Transaction handle used to cancel operation
+   * @param {?ReadOptions} options [android only] read options
    * @returns {Promise<NativeCharacteristic>} Characteristic for which value was read
    * @private
    */
-  readCharacteristic(characteristicIdentifer: Identifier, transactionId: TransactionId): Promise<NativeCharacteristic>;
+  readCharacteristic(
+    characteristicIdentifer: Identifier,
+    transactionId: TransactionId,
+    options: ?ReadOptions
+  ): Promise<NativeCharacteristic>;
+
+  /**
+   * Write value longer than a single GATT write allows, split into batches by negotiated MTU. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Connected device identifier
+   * @param {UUID} serviceUUID Service UUID
+   * @param {UUID} characteristicUUID Characteristic UUID
+   * @param {Base64 | number} valueBase64 Value to be set coded in Base64 or handle of raw value
+   * @param {boolean} withResponse True if batches should be written with response
+   * @param {number} progressInterval Minimum time in milliseconds between progress events, 0 disables them
+   * @param {TransactionId} transactionId Transaction handle used to cancel operation and match progress events
+   * @returns {Promise<NativeCharacteristic>} Characteristic which saved passed value
+   * @private
+   */
+  writeLongCharacteristicForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    valueBase64: Base64 | number,
+    withResponse: boolean,
+    progressInterval: number,
+    transactionId: TransactionId
+  ): Promise<NativeCharacteristic>;
+
+  /**
+   * Write values to characteristic without response one after another. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Connected device identifier
+   * @param {UUID} serviceUUID Service UUID
+   * @param {UUID} characteristicUUID Characteristic UUID
+   * @param {Array<Base64 | number>} values Values coded in Base64 or handles of raw values
+   * @param {TransactionId} transactionId Transaction handle used to cancel operation
+   * @returns {Promise<WriteStreamResult>} Summary of the stream
+   * @private
+   */
+  writeCharacteristicStreamForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    values: Array<Base64 | number>,
+    transactionId: TransactionId
+  ): Promise<WriteStreamResult>;
 
   /**
    * Write value to characteristic.
@@ -550,7 +1147,7 @@ export interface BleModuleInterface {
    * @param {DeviceId} deviceIdentifier Connected device identifier
    * @param {UUID} serviceUUID Service UUID
    * @param {UUID} characteristicUUID Characteristic UUID
-   * @param {Base64} valueBase64 Value to be set coded in Base64
+   * @param {Base64 | number} valueBase64 Value to be set coded in Base64 or handle of raw value
    * @param {boolean} withResponse True if write should be with response
    * @param {TransactionId} transactionId Transaction handle used to cancel operation
    * @returns {Promise<NativeCharacteristic>} Characteristic which saved passed value
@@ -560,7 +1157,7 @@ export interface BleModuleInterface {
     deviceIdentifier: DeviceId,
     serviceUUID: UUID,
     characteristicUUID: UUID,
-    valueBase64: Base64,
+    valueBase64: Base64 | number,
     withResponse: boolean,
     transactionId: TransactionId
   ): Promise<NativeCharacteristic>;
@@ -570,7 +1167,7 @@ export interface BleModuleInterface {
    *
    * @param {Identifier} serviceIdentifier Service ID
    * @param {UUID} characteristicUUID Characteristic UUID
-   * @param {Base64} valueBase64 Value to be set coded in Base64
+   * @param {Base64 | number} valueBase64 Value to be set coded in Base64 or handle of raw value
    * @param {boolean} withResponse True if write should be with response
    * @param {TransactionId} transactionId Transaction handle used to cancel operation
    * @returns {Promise<NativeCharacteristic>} Characteristic which saved passed value
@@ -579,7 +1176,7 @@ export interface BleModuleInterface {
   writeCharacteristicForService(
     serviceIdentifier: Identifier,
     characteristicUUID: UUID,
-    valueBase64: Base64,
+    valueBase64: Base64 | number,
     withResponse: boolean,
     transactionId: TransactionId
   ): Promise<NativeCharacteristic>;
@@ -588,7 +1185,7 @@ export interface BleModuleInterface {
    * Write value to characteristic.
    *
    * @param {Identifier} characteristicIdentifier Characteristic ID
-   * @param {Base64} valueBase64 Value to be set coded in Base64
+   * @param {Base64 | number} valueBase64 Value to be set coded in Base64 or handle of raw value
    * @param {boolean} withResponse True if write should be with response
    * @param {TransactionId} transactionId Transaction handle used to cancel operation
    * @returns {Promise<NativeCharacteristic>} Characteristic which saved passed value
@@ -596,7 +1193,7 @@ export interface BleModuleInterface {
    */
   writeCharacteristic(
     characteristicIdentifier: Identifier,
-    valueBase64: Base64,
+    valueBase64: Base64 | number,
     withResponse: boolean,
     transactionId: TransactionId
   ): Promise<NativeCharacteristic>;
@@ -609,6 +1206,7 @@ export interface BleModuleInterface {
    * @param {UUID} characteristicUUID Characteristic UUID
    * @param {TransactionId} transactionId Transaction handle used to cancel operation
    * @param {?CharacteristicSubscriptionType} subscriptionType [android only] subscription type of the characteristic
+   * @param {?MonitorOptions} options [android only] monitoring options
    * @returns {Promise<void>} Value which is returned when monitoring was cancelled or resulted in error
    * @private
    */
@@ -617,7 +1215,33 @@ export interface BleModuleInterface {
     serviceUUID: UUID,
     characteristicUUID: UUID,
     transactionId: TransactionId,
-    subscriptionType: ?CharacteristicSubscriptionType
+    subscriptionType: ?CharacteristicSubscriptionType,
+    options: ?MonitorOptions
+  ): Promise<void>;
+
+  /**
+   * [Android only] Setup periodic reads of characteristic value.
+   *
+   * @param {DeviceId} deviceIdentifier Connected device identifier
+   * @param {UUID} serviceUUID Service UUID
+   * @param {UUID} characteristicUUID Characteristic UUID
+   * @param {number} interval Time between reads in milliseconds
+   * @param {number} jitter Maximum random delay of each read in milliseconds
+   * @param {boolean} emitOnChangeOnly Whether values equal to the previous one are dropped
+   * @param {TransactionId} transactionId Transaction handle used to cancel operation
+   * @param {?MonitorOptions} options monitoring options
+   * @returns {Promise<void>} Value which is returned when polling was cancelled or resulted in error
+   * @private
+   */
+  pollCharacteristicForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    interval: number,
+    jitter: number,
+    emitOnChangeOnly: boolean,
+    transactionId: TransactionId,
+    options: ?MonitorOptions
   ): Promise<void>;
 
   /**
@@ -627,6 +1251,7 @@ export interface BleModuleInterface {
    * @param {UUID} characteristicUUID Characteristic UUID
    * @param {TransactionId} transactionId Transaction handle used to cancel operation
    * @param {?CharacteristicSubscriptionType} subscriptionType [android only] subscription type of the characteristic
+   * @param {?MonitorOptions} options [android only] monitoring options
    * @returns {Promise<void>} Value which is returned when monitoring was cancelled or resulted in error
    * @private
    */
@@ -634,7 +1259,8 @@ export interface BleModuleInterface {
     serviceIdentifier: Identifier,
     characteristicUUID: UUID,
     transactionId: TransactionId,
-    subscriptionType: ?CharacteristicSubscriptionType
+    subscriptionType: ?CharacteristicSubscriptionType,
+    options: ?MonitorOptions
   ): Promise<void>;
 
   /**
@@ -643,13 +1269,15 @@ export interface BleModuleInterface {
    * @param {Identifier} characteristicIdentifier Characteristic ID
    * @param {TransactionId} transactionId Transaction handle used to cancel operation
    * @param {?CharacteristicSubscriptionType} subscriptionType [android only] subscription type of the characteristic
+   * @param {?MonitorOptions} options [android only] monitoring options
    * @returns {Promise<void>} Value which is returned when monitoring was cancelled or resulted in error
    * @private
    */
   monitorCharacteristic(
     characteristicIdentifier: Identifier,
     transactionId: TransactionId,
-    subscriptionType: ?CharacteristicSubscriptionType
+    subscriptionType: ?CharacteristicSubscriptionType,
+    options: ?MonitorOptions
   ): Promise<void>;
 
   // Descriptor operations
@@ -722,7 +1350,7 @@ export interface BleModuleInterface {
    * @param {UUID} serviceUUID Service UUID
    * @param {UUID} characteristicUUID Characteristic UUID
    * @param {UUID} descriptorUUID Descriptor UUID
-   * @param {Base64} valueBase64 Value to be set coded in Base64
+   * @param {Base64 | number} valueBase64 Value to be set coded in Base64 or handle of raw value
    * @param {TransactionId} transactionId Transaction handle used to cancel operation
    * @returns {Promise<NativeDescriptor>} Descriptor which saved passed value
    * @private
@@ -732,7 +1360,7 @@ export interface BleModuleInterface {
     serviceUUID: UUID,
     characteristicUUID: UUID,
     descriptorUUID: UUID,
-    valueBase64: Base64,
+    valueBase64: Base64 | number,
     transactionId: TransactionId
   ): Promise<NativeDescriptor>;
 
@@ -742,7 +1370,7 @@ export interface BleModuleInterface {
    * @param {Identifier} serviceIdentifier Service identifier
    * @param {UUID} characteristicUUID Characteristic UUID
    * @param {UUID} descriptorUUID Descriptor UUID
-   * @param {Base64} valueBase64 Value to be set coded in Base64
+   * @param {Base64 | number} valueBase64 Value to be set coded in Base64 or handle of raw value
    * @param {TransactionId} transactionId Transaction handle used to cancel operation
    * @returns {Promise<NativeDescriptor>} Descriptor which saved passed value
    * @private
@@ -751,7 +1379,7 @@ export interface BleModuleInterface {
     serviceIdentifier: Identifier,
     characteristicUUID: UUID,
     descriptorUUID: UUID,
-    valueBase64: Base64,
+    valueBase64: Base64 | number,
     transactionId: TransactionId
   ): Promise<NativeDescriptor>;
 
@@ -760,7 +1388,7 @@ export interface BleModuleInterface {
    *
    * @param {Identifier} characteristicIdentifier Characteristic identifier
    * @param {UUID} descriptorUUID Descriptor UUID
-   * @param {Base64} valueBase64 Value to be set coded in Base64
+   * @param {Base64 | number} valueBase64 Value to be set coded in Base64 or handle of raw value
    * @param {TransactionId} transactionId Transaction handle used to cancel operation
    * @returns {Promise<NativeDescriptor>} Descriptor which saved passed value
    * @private
@@ -768,7 +1396,7 @@ export interface BleModuleInterface {
   writeDescriptorForCharacteristic(
     characteristicIdentifier: Identifier,
     descriptorUUID: UUID,
-    valueBase64: Base64,
+    valueBase64: Base64 | number,
     transactionId: TransactionId
   ): Promise<NativeDescriptor>;
 
@@ -776,14 +1404,14 @@ export interface BleModuleInterface {
    * Write value to descriptor.
    *
    * @param {Identifier} descriptorIdentifier Descriptor identifier
-   * @param {Base64} valueBase64 Value to be set coded in Base64
+   * @param {Base64 | number} valueBase64 Value to be set coded in Base64 or handle of raw value
    * @param {TransactionId} transactionId Transaction handle used to cancel operation
    * @returns {Promise<NativeDescriptor>} Descriptor which saved passed value
    * @private
    */
   writeDescriptor(
     descriptorIdentifier: Identifier,
-    valueBase64: Base64,
+    valueBase64: Base64 | number,
     transactionId: TransactionId
   ): Promise<NativeDescriptor>;
 
@@ -813,6 +1441,28 @@ export interface BleModuleInterface {
    */
   logLevel(): Promise<$Keys<typeof LogLevel>>;
 
+  /**
+   * Returns counters of native event emitter queue. [Android only]
+   * @returns {Promise<EventQueueStatistics>} Event queue statistics.
+   * @private
+   */
+  getEventQueueStatistics(): Promise<EventQueueStatistics>;
+
+  /**
+   * Enables or disables accounting of values passed to JS. Enabling clears recorded values. [Android only]
+   * @param {boolean} enabled `true` to enable accounting.
+   * @returns {Promise<void>}
+   * @private
+   */
+  setBridgeTrafficAccounting(enabled: boolean): Promise<void>;
+
+  /**
+   * Returns values passed to JS since accounting was enabled. [Android only]
+   * @returns {Promise<BridgeTraffic>} Bridge traffic.
+   * @private
+   */
+  getBridgeTraffic(): Promise<BridgeTraffic>;
+
   // Events
 
   /**
@@ -828,6 +1478,22 @@ export interface BleModuleInterface {
    */
   ReadEvent: string;
 
+  /**
+   * Characteristic value update of monitoring with `compact` option as
+   * [TransactionId, ?(Base64 | number), ?number, ?NativeCharacteristic]. Characteristic metadata without value is
+   * passed only with the first update. [Android only]
+   * @private
+   */
+  CompactReadEvent?: string;
+
+  /**
+   * Packed characteristic value updates of monitoring with `batchInterval` option as
+   * [TransactionId, Base64 | number, ?NativeCharacteristic]. Characteristic metadata without value is passed only with
+   * the first batch. [Android only]
+   * @private
+   */
+  BatchReadEvent?: string;
+
   /**
    * BLE Manager changed its state as $Keys<typeof State>
    * @private
@@ -845,6 +1511,36 @@ export interface BleModuleInterface {
    * @private
    */
   DisconnectionEvent: string;
+
+  /**
+   * Background scan results are waiting to be taken, passed as number of buffered results. [Android only]
+   * @private
+   */
+  BackgroundScanEvent: string;
+
+  /**
+   * Periodic scan statistics, passed as {@link ScanStatistics}. [Android only]
+   * @private
+   */
+  ScanStatisticsEvent: string;
+
+  /**
+   * Progress of long write as [TransactionId, number, number] with bytes written and total bytes. [Android only]
+   * @private
+   */
+  WriteProgressEvent?: string;
+
+  /**
+   * Data received from L2CAP channel as [TransactionId, Base64 | number]. [Android only]
+   * @private
+   */
+  L2capDataEvent?: string;
+
+  /**
+   * L2CAP channel was closed as [TransactionId, ?string] with error if it failed. [Android only]
+   * @private
+   */
+  L2capCloseEvent?: string;
 }
 
 /**
@@ -11,10 +11,15 @@ import type {
   UUID,
   TransactionId,
   CharacteristicSubscriptionType,
+  MonitorOptions,
+  DecodedValue,
   Base64,
-  Subscription
+  WritableValue,
+  Subscription,
+  ReadOptions
 } from './TypeDefinition'
 import { isIOS } from './Utils'
+import { defineValueProperties } from './BinaryTransport'
 
 /**
  * Characteristic object.
@@ -73,6 +78,21 @@ export class Characteristic implements NativeCharacteristic {
    * Characteristic value if present
    */
   value: ?Base64
+  /**
+   * Characteristic value as raw bytes if present. Computed from {@link Characteristic#value} on first access, or passed
+   * directly from native module when binary transport is available.
+   */
+  rawValue: ?ArrayBuffer
+  /**
+   * Time when value was received in milliseconds since device boot. Present only in characteristics emitted by
+   * monitoring with `timestamps` or `batchInterval` option. [Android only]
+   */
+  timestamp: ?number
+  /**
+   * Value decoded natively according to `decoder` schema passed to monitoring or read options. When it is set,
+   * {@link Characteristic#value} is null, except for monitoring with `batchInterval` option. [Android only]
+   */
+  decodedValue: ?DecodedValue
 
   /**
    * Private constructor used to create instance of {@link Characteristic}.
@@ -82,6 +102,7 @@ export class Characteristic implements NativeCharacteristic {
    */
   constructor(nativeCharacteristic: NativeCharacteristic, manager: BleManager) {
     Object.assign(this, nativeCharacteristic)
+    defineValueProperties(this, nativeCharacteristic)
     Object.defineProperty(this, '_manager', { value: manager, enumerable: false })
   }
 
@@ -100,36 +121,37 @@ export class Characteristic implements NativeCharacteristic {
    *
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+   * @param {?ReadOptions} options [android only] read options, e.g. schema by which value is decoded natively.
    * @returns {Promise<Characteristic>} Promise which emits this {@link Characteristic}. Latest value will be stored
    * inside returned object.
    */
-  read(transactionId: ?TransactionId): Promise<Characteristic> {
-    return this._manager._readCharacteristic(this.id, transactionId)
+  read(transactionId: ?TransactionId, options: ?ReadOptions): Promise<Characteristic> {
+    return this._manager._readCharacteristic(this.id, transactionId, options)
   }
 
   /**
    * {@link #blemanagerwritecharacteristicwithresponsefordevice|bleManager.writeCharacteristicWithResponseForDevice()} with partially filled arguments.
    *
-   * @param {Base64} valueBase64 Value in Base64 format.
+   * @param {WritableValue} valueBase64 Value in Base64 format or raw bytes.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
    * @returns {Promise<Characteristic>} Promise which emits this {@link Characteristic}. Latest value may
    * not be stored inside returned object.
    */
-  writeWithResponse(valueBase64: Base64, transactionId: ?TransactionId): Promise<Characteristic> {
+  writeWithResponse(valueBase64: WritableValue, transactionId: ?TransactionId): Promise<Characteristic> {
     return this._manager._writeCharacteristicWithResponse(this.id, valueBase64, transactionId)
   }
 
   /**
    * {@link #blemanagerwritecharacteristicwithoutresponsefordevice|bleManager.writeCharacteristicWithoutResponseForDevice()} with partially filled arguments.
    *
-   * @param {Base64} valueBase64 Value in Base64 format.
+   * @param {WritableValue} valueBase64 Value in Base64 format or raw bytes.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
    * @returns {Promise<Characteristic>} Promise which emits this {@link Characteristic}. Latest value may
    * not be stored inside returned object.
    */
-  writeWithoutResponse(valueBase64: Base64, transactionId: ?TransactionId): Promise<Characteristic> {
+  writeWithoutResponse(valueBase64: WritableValue, transactionId: ?TransactionId): Promise<Characteristic> {
     return this._manager._writeCharacteristicWithoutResponse(this.id, valueBase64, transactionId)
   }
 
@@ -141,15 +163,17 @@ export class Characteristic implements NativeCharacteristic {
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * @param {?CharacteristicSubscriptionType} subscriptionType [android only] subscription type of the characteristic
    * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+   * @param {?MonitorOptions} options [android only] monitoring options
    * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
    */
   monitor(
     listener: (error: ?BleError, characteristic: ?Characteristic) => void,
     transactionId: ?TransactionId,
-    subscriptionType: ?CharacteristicSubscriptionType
+    subscriptionType: ?CharacteristicSubscriptionType,
+    options: ?MonitorOptions
   ): Subscription {
     const commonArgs = [this.id, listener, transactionId]
-    const args = isIOS ? commonArgs : [...commonArgs, subscriptionType]
+    const args = isIOS ? commonArgs : [...commonArgs, subscriptionType, options]
     return this._manager._monitorCharacteristic(...args)
   }
 
@@ -170,11 +194,11 @@ export class Characteristic implements NativeCharacteristic {
    * {@link #blemanagerwritedescriptorfordevice|bleManager.writeDescriptorForDevice()} with partially filled arguments.
    *
    * @param {UUID} descriptorUUID Descriptor UUID
-   * @param {Base64} valueBase64 Value to be set coded in Base64
+   * @param {WritableValue} valueBase64 Value to be set coded in Base64 or as raw bytes
    * @param {?TransactionId} transactionId Transaction handle used to cancel operation
    * @returns {Promise<Descriptor>} Descriptor which saved passed value.
    */
-  async writeDescriptor(descriptorUUID: UUID, valueBase64: Base64, transactionId: ?TransactionId): Promise<Descriptor> {
+  async writeDescriptor(descriptorUUID: UUID, valueBase64: WritableValue, transactionId: ?TransactionId): Promise<Descriptor> {
     return this._manager._writeDescriptorForCharacteristic(this.id, descriptorUUID, valueBase64, transactionId)
   }
 }
@@ -3,7 +3,8 @@
 
 import type { BleManager } from './BleManager'
 import type { NativeDescriptor } from './BleModule'
-import type { DeviceId, Identifier, UUID, TransactionId, Base64 } from './TypeDefinition'
+import type { DeviceId, Identifier, UUID, TransactionId, Base64, WritableValue } from './TypeDefinition'
+import { defineValueProperties } from './BinaryTransport'
 
 /**
  * Descriptor object.
@@ -46,6 +47,11 @@ export class Descriptor implements NativeDescriptor {
    * Descriptor value if present
    */
   value: ?Base64
+  /**
+   * Descriptor value as raw bytes if present. Computed from {@link Descriptor#value} on first access, or passed
+   * directly from native module when binary transport is available.
+   */
+  rawValue: ?ArrayBuffer
 
   /**
    * Private constructor used to create instance of {@link Descriptor}.
@@ -55,6 +61,7 @@ export class Descriptor implements NativeDescriptor {
    */
   constructor(nativeDescriptor: NativeDescriptor, manager: BleManager) {
     Object.assign(this, nativeDescriptor)
+    defineValueProperties(this, nativeDescriptor)
     Object.defineProperty(this, '_manager', { value: manager, enumerable: false })
   }
 
@@ -73,11 +80,11 @@ export class Descriptor implements NativeDescriptor {
   /**
    * {@link #blemanagerwritedescriptorfordevice|bleManager.writeDescriptorForDevice()} with partially filled arguments.
    *
-   * @param {Base64} valueBase64 Value to be set coded in Base64
+   * @param {WritableValue} valueBase64 Value to be set coded in Base64 or as raw bytes
    * @param {?TransactionId} transactionId Transaction handle used to cancel operation
    * @returns {Promise<Descriptor>} Descriptor which saved passed value.
    */
-  async write(valueBase64: Base64, transactionId: ?TransactionId): Promise<Descriptor> {
+  async write(valueBase64: WritableValue, transactionId: ?TransactionId): Promise<Descriptor> {
     return this._manager._writeDescriptor(this.id, valueBase64, transactionId)
   }
 }
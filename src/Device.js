@@ -6,15 +6,28 @@ import type { BleError } from './BleError'
 import type { Characteristic } from './Characteristic'
 import type { Service } from './Service'
 import type { Descriptor } from './Descriptor'
-import { ConnectionPriority } from './TypeDefinition'
+import { ConnectionPriority, AdvertisementDecryptionStatus } from './TypeDefinition'
 import type { NativeDevice } from './BleModule'
 import type {
   DeviceId,
   Base64,
+  WritableValue,
   UUID,
   Subscription,
   TransactionId,
   CharacteristicSubscriptionType,
+  MonitorOptions,
+  PollOptions,
+  ReadOptions,
+  OperationPriority,
+  OperationQueueStatistics,
+  CharacteristicReadResult,
+  CharacteristicCacheStatistics,
+  LongWriteOptions,
+  WriteProgress,
+  WriteStreamResult,
+  L2capChannelOptions,
+  L2capChannel,
   ConnectionOptions
 } from './TypeDefinition'
 import { isIOS } from './Utils'
@@ -99,6 +112,40 @@ export class Device implements NativeDevice {
    */
   overflowServiceUUIDs: ?Array<UUID>
 
+  /**
+   * Advertising set identifier. Present only for devices found by extended scan. [Android only]
+   */
+  advertisingSid: ?number
+
+  /**
+   * PHY on which primary advertisement was received. Present only for devices found by extended scan. [Android only]
+   */
+  primaryPhy: ?number
+
+  /**
+   * PHY on which secondary advertisement was received. Present only for devices found by extended scan. [Android only]
+   */
+  secondaryPhy: ?number
+
+  /**
+   * Periodic advertising interval in units of 1.25 ms. Present only for periodic advertisers found by extended scan.
+   * [Android only]
+   */
+  periodicAdvertisingInterval: ?number
+
+  /**
+   * Map of service UUIDs (as keys) with decrypted data (as values). Present only when a decryption key was registered
+   * for this device with {@link #blemanagersetadvertisementdecryptionkey|bleManager.setAdvertisementDecryptionKey()}
+   * and its advertisement was decrypted successfully. [Android only]
+   */
+  decryptedServiceData: ?{ [uuid: UUID]: Base64 }
+
+  /**
+   * Result of advertisement decryption, `null` if advertisement was not encrypted or no key was registered.
+   * [Android only]
+   */
+  decryptionStatus: ?$Values<typeof AdvertisementDecryptionStatus>
+
   /**
    * Private constructor used to create {@link Device} object.
    *
@@ -125,6 +172,49 @@ export class Device implements NativeDevice {
     return this._manager.requestConnectionPriorityForDevice(this.id, connectionPriority, transactionId)
   }
 
+  /**
+   * {@link #blemanagersetcharacteristicpriorityfordevice|bleManager.setCharacteristicPriorityForDevice()} with partially filled arguments.
+   *
+   * @param {UUID} serviceUUID {@link Service} UUID.
+   * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+   * @param {OperationPriority} priority Priority of operations, `normal` by default.
+   * @returns {Promise<void>}
+   */
+  setCharacteristicPriority(serviceUUID: UUID, characteristicUUID: UUID, priority: OperationPriority): Promise<void> {
+    return this._manager.setCharacteristicPriorityForDevice(this.id, serviceUUID, characteristicUUID, priority)
+  }
+
+  /**
+   * {@link #blemanagergetoperationqueuestatisticsfordevice|bleManager.getOperationQueueStatisticsForDevice()} with partially filled arguments.
+   *
+   * @returns {Promise<OperationQueueStatistics>} Operation queue statistics.
+   */
+  operationQueueStatistics(): Promise<OperationQueueStatistics> {
+    return this._manager.getOperationQueueStatisticsForDevice(this.id)
+  }
+
+  /**
+   * {@link #blemanagersetcharacteristiccachefordevice|bleManager.setCharacteristicCacheForDevice()} with partially filled arguments.
+   *
+   * @param {UUID} serviceUUID {@link Service} UUID.
+   * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+   * @param {?(number | 'connection')} ttl Time in milliseconds for which read value is used, `'connection'` to use it
+   * until the device disconnects, `0` or `null` to stop caching the characteristic.
+   * @returns {Promise<void>}
+   */
+  setCharacteristicCache(serviceUUID: UUID, characteristicUUID: UUID, ttl: ?(number | 'connection')): Promise<void> {
+    return this._manager.setCharacteristicCacheForDevice(this.id, serviceUUID, characteristicUUID, ttl)
+  }
+
+  /**
+   * {@link #blemanagergetcharacteristiccachestatisticsfordevice|bleManager.getCharacteristicCacheStatisticsForDevice()} with partially filled arguments.
+   *
+   * @returns {Promise<CharacteristicCacheStatistics>} Cache statistics.
+   */
+  characteristicCacheStatistics(): Promise<CharacteristicCacheStatistics> {
+    return this._manager.getCharacteristicCacheStatisticsForDevice(this.id)
+  }
+
   /**
    * {@link #blemanagerreadrssifordevice|bleManager.readRSSIForDevice()} with partially filled arguments.
    *
@@ -236,15 +326,32 @@ export class Device implements NativeDevice {
    * @param {UUID} characteristicUUID {@link Characteristic} UUID.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+   * @param {?ReadOptions} options [android only] read options, e.g. schema by which value is decoded natively.
    * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
    * UUID paths. Latest value of {@link Characteristic} will be stored inside returned object.
    */
   readCharacteristicForService(
     serviceUUID: UUID,
     characteristicUUID: UUID,
-    transactionId: ?TransactionId
+    transactionId: ?TransactionId,
+    options: ?ReadOptions
   ): Promise<Characteristic> {
-    return this._manager.readCharacteristicForDevice(this.id, serviceUUID, characteristicUUID, transactionId)
+    return this._manager.readCharacteristicForDevice(this.id, serviceUUID, characteristicUUID, transactionId, options)
+  }
+
+  /**
+   * {@link #blemanagerreadcharacteristicsfordevice|bleManager.readCharacteristicsForDevice()} with partially filled arguments.
+   *
+   * @param {Array<[UUID, UUID]>} characteristicUUIDs Pairs of {@link Service} and {@link Characteristic} UUIDs.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function to cancel all reads.
+   * @returns {Promise<Array<CharacteristicReadResult>>} Results in order of passed UUIDs.
+   */
+  readCharacteristics(
+    characteristicUUIDs: Array<[UUID, UUID]>,
+    transactionId: ?TransactionId
+  ): Promise<Array<CharacteristicReadResult>> {
+    return this._manager.readCharacteristicsForDevice(this.id, characteristicUUIDs, transactionId)
   }
 
   /**
@@ -252,7 +359,7 @@ export class Device implements NativeDevice {
    *
    * @param {UUID} serviceUUID {@link Service} UUID.
    * @param {UUID} characteristicUUID {@link Characteristic} UUID.
-   * @param {Base64} valueBase64 Value in Base64 format.
+   * @param {WritableValue} valueBase64 Value in Base64 format or raw bytes.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
    * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
@@ -261,7 +368,7 @@ export class Device implements NativeDevice {
   writeCharacteristicWithResponseForService(
     serviceUUID: UUID,
     characteristicUUID: UUID,
-    valueBase64: Base64,
+    valueBase64: WritableValue,
     transactionId: ?TransactionId
   ): Promise<Characteristic> {
     return this._manager.writeCharacteristicWithResponseForDevice(
@@ -278,7 +385,7 @@ export class Device implements NativeDevice {
    *
    * @param {UUID} serviceUUID {@link Service} UUID.
    * @param {UUID} characteristicUUID {@link Characteristic} UUID.
-   * @param {Base64} valueBase64 Value in Base64 format.
+   * @param {WritableValue} valueBase64 Value in Base64 format or raw bytes.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
    * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
@@ -287,7 +394,7 @@ export class Device implements NativeDevice {
   writeCharacteristicWithoutResponseForService(
     serviceUUID: UUID,
     characteristicUUID: UUID,
-    valueBase64: Base64,
+    valueBase64: WritableValue,
     transactionId: ?TransactionId
   ): Promise<Characteristic> {
     return this._manager.writeCharacteristicWithoutResponseForDevice(
@@ -299,6 +406,79 @@ export class Device implements NativeDevice {
     )
   }
 
+  /**
+   * {@link #blemanagerwritelongcharacteristicfordevice|bleManager.writeLongCharacteristicForDevice()} with partially filled arguments.
+   *
+   * @param {UUID} serviceUUID {@link Service} UUID.
+   * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+   * @param {WritableValue} valueBase64 Value in Base64 format or raw bytes.
+   * @param {?LongWriteOptions} options Write options.
+   * @param {?function(progress: WriteProgress)} onProgress Callback which receives progress of the write.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+   * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
+   * UUID paths when the whole value is written.
+   */
+  writeLongCharacteristicForService(
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    valueBase64: WritableValue,
+    options: ?LongWriteOptions,
+    onProgress: ?(progress: WriteProgress) => void,
+    transactionId: ?TransactionId
+  ): Promise<Characteristic> {
+    return this._manager.writeLongCharacteristicForDevice(
+      this.id,
+      serviceUUID,
+      characteristicUUID,
+      valueBase64,
+      options,
+      onProgress,
+      transactionId
+    )
+  }
+
+  /**
+   * {@link #blemanagerwritecharacteristicstreamfordevice|bleManager.writeCharacteristicStreamForDevice()} with partially filled arguments.
+   *
+   * @param {UUID} serviceUUID {@link Service} UUID.
+   * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+   * @param {Array<WritableValue>} values Values in Base64 format or raw bytes.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function to stop the stream.
+   * @returns {Promise<WriteStreamResult>} Summary of the stream when all values are written.
+   */
+  writeCharacteristicStreamForService(
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    values: Array<WritableValue>,
+    transactionId: ?TransactionId
+  ): Promise<WriteStreamResult> {
+    return this._manager.writeCharacteristicStreamForDevice(
+      this.id,
+      serviceUUID,
+      characteristicUUID,
+      values,
+      transactionId
+    )
+  }
+
+  /**
+   * {@link #blemanageropenl2capchannelfordevice|bleManager.openL2capChannelForDevice()} with partially filled arguments.
+   *
+   * @param {number} psm Protocol/Service Multiplexer of the channel published by the device.
+   * @param {function(error: ?BleError, data: ?ArrayBuffer)} listener Callback which receives chunks of data.
+   * @param {?L2capChannelOptions} options Channel options.
+   * @returns {Promise<L2capChannel>} Promise which emits the channel when it is open.
+   */
+  openL2capChannel(
+    psm: number,
+    listener: (error: ?BleError, data: ?ArrayBuffer) => void,
+    options: ?L2capChannelOptions
+  ): Promise<L2capChannel> {
+    return this._manager.openL2capChannelForDevice(this.id, psm, listener, options)
+  }
+
   /**
    * {@link #blemanagermonitorcharacteristicfordevice|bleManager.monitorCharacteristicForDevice()} with partially filled arguments.
    *
@@ -309,6 +489,7 @@ export class Device implements NativeDevice {
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * @param {?CharacteristicSubscriptionType} subscriptionType [android only] subscription type of the characteristic
    * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+   * @param {?MonitorOptions} options [android only] monitoring options
    * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
    */
   monitorCharacteristicForService(
@@ -316,14 +497,44 @@ export class Device implements NativeDevice {
     characteristicUUID: UUID,
     listener: (error: ?BleError, characteristic: ?Characteristic) => void,
     transactionId: ?TransactionId,
-    subscriptionType?: CharacteristicSubscriptionType
+    subscriptionType?: CharacteristicSubscriptionType,
+    options?: MonitorOptions
   ): Subscription {
     const commonArgs = [this.id, serviceUUID, characteristicUUID, listener, transactionId]
-    const args = isIOS ? commonArgs : [...commonArgs, subscriptionType]
+    const args = isIOS ? commonArgs : [...commonArgs, subscriptionType, options]
 
     return this._manager.monitorCharacteristicForDevice(...args)
   }
 
+  /**
+   * {@link #blemanagerpollcharacteristicfordevice|bleManager.pollCharacteristicForDevice()} with partially filled arguments.
+   *
+   * @param {UUID} serviceUUID {@link Service} UUID.
+   * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+   * @param {function(error: ?BleError, characteristic: ?Characteristic)} listener - callback which emits
+   * {@link Characteristic} objects with read values.
+   * @param {PollOptions} options poll interval, jitter and monitoring options.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+   * @returns {Subscription} Subscription on which `remove()` function can be called to stop polling.
+   */
+  pollCharacteristicForService(
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    listener: (error: ?BleError, characteristic: ?Characteristic) => void,
+    options: PollOptions,
+    transactionId: ?TransactionId
+  ): Subscription {
+    return this._manager.pollCharacteristicForDevice(
+      this.id,
+      serviceUUID,
+      characteristicUUID,
+      listener,
+      options,
+      transactionId
+    )
+  }
+
   /**
    * {@link #blemanagerreaddescriptorfordevice|bleManager.readDescriptorForDevice()} with partially filled arguments.
    *
@@ -356,7 +567,7 @@ export class Device implements NativeDevice {
    * @param {UUID} serviceUUID {@link Service} UUID.
    * @param {UUID} characteristicUUID Characteristic UUID
    * @param {UUID} descriptorUUID Descriptor UUID
-   * @param {Base64} valueBase64 Value to be set coded in Base64
+   * @param {WritableValue} valueBase64 Value to be set coded in Base64 or as raw bytes
    * @param {?TransactionId} transactionId Transaction handle used to cancel operation
    * @returns {Promise<Descriptor>} Descriptor which saved passed value.
    */
@@ -364,7 +575,7 @@ export class Device implements NativeDevice {
     serviceUUID: UUID,
     characteristicUUID: UUID,
     descriptorUUID: UUID,
-    valueBase64: Base64,
+    valueBase64: WritableValue,
     transactionId: ?TransactionId
   ): Promise<Descriptor> {
     return this._manager.writeDescriptorForDevice(
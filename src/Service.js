@@ -10,10 +10,13 @@ import type {
   DeviceId,
   Identifier,
   Base64,
+  WritableValue,
   UUID,
   Subscription,
   TransactionId,
-  CharacteristicSubscriptionType
+  CharacteristicSubscriptionType,
+  MonitorOptions,
+  ReadOptions
 } from './TypeDefinition'
 import { isIOS } from './Utils'
 
@@ -83,18 +86,23 @@ export class Service implements NativeService {
    * @param {UUID} characteristicUUID {@link Characteristic} UUID.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+   * @param {?ReadOptions} options [android only] read options, e.g. schema by which value is decoded natively.
    * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
    * UUID path. Latest value of {@link Characteristic} will be stored inside returned object.
    */
-  readCharacteristic(characteristicUUID: UUID, transactionId: ?TransactionId): Promise<Characteristic> {
-    return this._manager._readCharacteristicForService(this.id, characteristicUUID, transactionId)
+  readCharacteristic(
+    characteristicUUID: UUID,
+    transactionId: ?TransactionId,
+    options: ?ReadOptions
+  ): Promise<Characteristic> {
+    return this._manager._readCharacteristicForService(this.id, characteristicUUID, transactionId, options)
   }
 
   /**
    * {@link #blemanagerwritecharacteristicwithresponsefordevice|bleManager.writeCharacteristicWithResponseForDevice()} with partially filled arguments.
    *
    * @param {UUID} characteristicUUID {@link Characteristic} UUID.
-   * @param {Base64} valueBase64 Value in Base64 format.
+   * @param {WritableValue} valueBase64 Value in Base64 format or raw bytes.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
    * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
@@ -102,7 +110,7 @@ export class Service implements NativeService {
    */
   writeCharacteristicWithResponse(
     characteristicUUID: UUID,
-    valueBase64: Base64,
+    valueBase64: WritableValue,
     transactionId: ?TransactionId
   ): Promise<Characteristic> {
     return this._manager._writeCharacteristicWithResponseForService(
@@ -117,7 +125,7 @@ export class Service implements NativeService {
    * {@link #blemanagerwritecharacteristicwithoutresponsefordevice|bleManager.writeCharacteristicWithoutResponseForDevice()} with partially filled arguments.
    *
    * @param {UUID} characteristicUUID {@link Characteristic} UUID.
-   * @param {Base64} valueBase64 Value in Base64 format.
+   * @param {WritableValue} valueBase64 Value in Base64 format or raw bytes.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
    * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
@@ -125,7 +133,7 @@ export class Service implements NativeService {
    */
   writeCharacteristicWithoutResponse(
     characteristicUUID: UUID,
-    valueBase64: Base64,
+    valueBase64: WritableValue,
     transactionId: ?TransactionId
   ): Promise<Characteristic> {
     return this._manager._writeCharacteristicWithoutResponseForService(
@@ -145,16 +153,18 @@ export class Service implements NativeService {
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * @param {?CharacteristicSubscriptionType} subscriptionType [android only] subscription type of the characteristic
    * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+   * @param {?MonitorOptions} options [android only] monitoring options
    * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
    */
   monitorCharacteristic(
     characteristicUUID: UUID,
     listener: (error: ?BleError, characteristic: ?Characteristic) => void,
     transactionId: ?TransactionId,
-    subscriptionType: ?CharacteristicSubscriptionType
+    subscriptionType: ?CharacteristicSubscriptionType,
+    options: ?MonitorOptions
   ): Subscription {
     const commonArgs = [this.id, characteristicUUID, listener, transactionId]
-    const args = isIOS ? commonArgs : [...commonArgs, subscriptionType]
+    const args = isIOS ? commonArgs : [...commonArgs, subscriptionType, options]
 
     return this._manager._monitorCharacteristicForService(...args)
   }
@@ -182,14 +192,14 @@ export class Service implements NativeService {
    *
    * @param {UUID} characteristicUUID Characteristic UUID
    * @param {UUID} descriptorUUID Descriptor UUID
-   * @param {Base64} valueBase64 Value to be set coded in Base64
+   * @param {WritableValue} valueBase64 Value to be set coded in Base64 or as raw bytes
    * @param {?TransactionId} transactionId Transaction handle used to cancel operation
    * @returns {Promise<Descriptor>} Descriptor which saved passed value.
    */
   async writeDescriptorForCharacteristic(
     characteristicUUID: UUID,
     descriptorUUID: UUID,
-    valueBase64: Base64,
+    valueBase64: WritableValue,
     transactionId: ?TransactionId
   ): Promise<Descriptor> {
     return this._manager._writeDescriptorForService(
@@ -2,6 +2,8 @@
 'use strict'
 
 import type { Device } from './Device'
+import type { Characteristic } from './Characteristic'
+import type { BleError } from './BleError'
 import { BleErrorCode } from './BleError'
 
 /**
@@ -24,6 +26,12 @@ export type UUID = string
  */
 export type Base64 = string
 
+/**
+ * Value written to a characteristic or descriptor, either Base64 string or raw bytes. Raw bytes are passed to native
+ * module without Base64 encoding when binary transport is available.
+ */
+export type WritableValue = Base64 | ArrayBuffer
+
 /**
  * Transaction identifier. All transaction identifiers in numeric form are reserved for internal use.
  */
@@ -34,6 +42,40 @@ export type TransactionId = string
  */
 export type CharacteristicSubscriptionType = 'notification' | 'indication'
 
+/**
+ * Priority class of read and write operations on a characteristic and its descriptors. Operations of a device are
+ * passed to the radio one at a time, queued `bulk` operations are overtaken by `normal` and `interactive` ones.
+ * [Android only]
+ */
+export type OperationPriority = 'interactive' | 'normal' | 'bulk'
+
+/**
+ * When notifications written by a notification recorder are forced to the storage device: `never` leaves it to the
+ * system, `interval` forces them periodically and `always` after every notification. [Android only]
+ */
+export type FsyncPolicy = 'never' | 'interval' | 'always'
+
+/**
+ * Numeric type of a {@link ValueField}. [Android only]
+ */
+export type ValueFieldType =
+  | 'int8'
+  | 'uint8'
+  | 'int16'
+  | 'uint16'
+  | 'int24'
+  | 'uint24'
+  | 'int32'
+  | 'uint32'
+  | 'float32'
+  | 'float64'
+
+/**
+ * Characteristic value decoded natively according to {@link ValueSchema}. It is an object keyed by field names when all
+ * fields are named, a flat array of numbers otherwise. [Android only]
+ */
+export type DecodedValue = Array<number> | { [name: string]: number | Array<number> }
+
 /**
  * [Android only] ConnectionOptions parameter to describe when to call BluetoothGatt.refresh()
  */
@@ -158,6 +200,54 @@ export const ScanCallbackType = {
   MatchLost: 4
 }
 
+/**
+ * Format of encrypted advertisement payloads which can be decrypted natively. [Android only]
+ * @name AdvertisementEncryptionFormat
+ */
+export const AdvertisementEncryptionFormat = {
+  /**
+   * BTHome v2 encrypted service data (AES-CCM). Decrypted payload is reported in plaintext BTHome format.
+   */
+  BTHomeV2: 'BTHomeV2'
+}
+
+/**
+ * Result of advertisement payload decryption. [Android only]
+ * @name AdvertisementDecryptionStatus
+ */
+export const AdvertisementDecryptionStatus = {
+  /**
+   * Payload was decrypted and authenticated.
+   */
+  Decrypted: 'Decrypted',
+
+  /**
+   * Payload authentication failed, either the key is wrong or the payload was tampered with.
+   */
+  AuthenticationFailed: 'AuthenticationFailed'
+}
+
+/**
+ * Physical layer used for extended Bluetooth LE scan. [Android only]
+ * @name ScanPhy
+ */
+export const ScanPhy = {
+  /**
+   * Scan for advertisements sent on LE 1M PHY.
+   */
+  LE1M: 1,
+
+  /**
+   * Scan for advertisements sent on LE Coded PHY (long range).
+   */
+  LECoded: 3,
+
+  /**
+   * Scan for advertisements sent on all PHYs supported by the device.
+   */
+  AllSupported: 255
+}
+
 /**
  * Options which can be passed to scanning function
  * @name ScanOptions
@@ -184,52 +274,1077 @@ export interface ScanOptions {
    */
   callbackType?: $Values<typeof ScanCallbackType>;
   /**
-   * Use legacyScan (default true) [Android only]
+   * Use legacyScan (default true, false when `phy` is set) [Android only]
    * https://developer.android.com/reference/android/bluetooth/le/ScanSettings.Builder#setLegacy(boolean)
    * @memberof ScanOptions
    * @instance
    */
   legacyScan?: boolean;
+
+  /**
+   * Run an extended scan on the specified PHY (requires Android 8.0). Scanned devices include extended advertising
+   * fields such as `advertisingSid` and `periodicAdvertisingInterval`. Unless `legacyScan` is set explicitly, the scan
+   * is not legacy. Legacy scan is possible only on {@link #scanphy|ScanPhy.LE1M}, other combinations fail with
+   * {@link #bleerrorcodescanstartfailed|ScanStartFailed}. Only PHY selection and the advertising fields are
+   * supported, synchronizing to periodic advertising trains is not available to regular apps. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  phy?: $Values<typeof ScanPhy>;
+
+  /**
+   * Capacity of a native queue through which scan results are handed from the scanner thread to a separate thread
+   * for conversion and emitting. When the queue is full, the oldest results are dropped and counted in
+   * {@link ScanStatistics}. By default there is no queue and results are emitted on the scanner thread, none of them
+   * are dropped. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  resultQueueCapacity?: number;
 }
 
 /**
- * Connection specific options to be passed before connection happen. [Not used]
+ * Options which can be passed to {@link #blemanagerstartbackgrounddevicescan|bleManager.startBackgroundDeviceScan()}.
+ * [Android only]
+ * @name BackgroundScanOptions
  */
-export interface ConnectionOptions {
+export interface BackgroundScanOptions {
   /**
-   * Whether to directly connect to the remote device (false) or to automatically connect as soon as the remote device
-   * becomes available (true). [Android only]
-   * @memberof ConnectionOptions
+   * Scan mode for Bluetooth LE scan
+   * @memberof BackgroundScanOptions
    * @instance
    */
-  autoConnect?: boolean;
+  scanMode?: $Values<typeof ScanMode>;
 
   /**
-   * Whether MTU size will be negotiated to this value. It is not guaranteed to get it after connection is successful.
-   *
-   * @memberof ConnectionOptions
+   * Scan callback type for Bluetooth LE scan
+   * @memberof BackgroundScanOptions
    * @instance
    */
-  requestMTU?: number;
+  callbackType?: $Values<typeof ScanCallbackType>;
 
   /**
-   * Whether action will be taken to reset services cache. This option may be useful when a peripheral's firmware was
-   * updated and it's services/characteristics were added/removed/altered. [Android only]
-   * {@link https://stackoverflow.com/questions/22596951/how-to-programmatically-force-bluetooth-low-energy-service-discovery-on-android}
-   * @memberof ConnectionOptions
+   * Maximum number of scan results buffered natively until they are retrieved (default 256). When the buffer is full
+   * the oldest results are dropped.
+   * @memberof BackgroundScanOptions
    * @instance
    */
-  refreshGatt?: RefreshGattMoment;
+  maxBufferedResults?: number;
+}
 
+/**
+ * Scan results buffered by background scan.
+ * @name BackgroundScanResults
+ */
+export interface BackgroundScanResults {
   /**
-   * Number of milliseconds after connection is automatically timed out. In case of race condition were connection is
-   * established right after timeout event, device will be disconnected immediately. Time out may happen earlier then
-   * specified due to OS specific behavior.
-   *
-   * @memberof ConnectionOptions
+   * Scanned devices in order of arrival.
+   * @memberof BackgroundScanResults
    * @instance
    */
-  timeout?: number;
+  devices: Array<Device>;
+
+  /**
+   * Number of results dropped since the previous batch because native buffer was full.
+   * @memberof BackgroundScanResults
+   * @instance
+   */
+  droppedCount: number;
+}
+
+/**
+ * Counters of the most recent device scan started with {@link #blemanagerstartdevicescan|bleManager.startDeviceScan()}
+ * or {@link #blemanagerreplayscancapture|bleManager.replayScanCapture()}. Scan results are parsed natively, queued if
+ * `resultQueueCapacity` is set, converted to JS objects and emitted over the bridge; timings of each stage help to
+ * tune scan settings. [Android only]
+ * @name ScanStatistics
+ */
+export interface ScanStatistics {
+  /**
+   * Time in milliseconds since the scan was started, or its total duration if it already stopped.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  duration: number;
+
+  /**
+   * Number of scan results received from the system.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  rawResultCount: number;
+
+  /**
+   * Average number of scan results received per second.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  resultsPerSecond: number;
+
+  /**
+   * Number of distinct devices found.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  uniqueDeviceCount: number;
+
+  /**
+   * Number of scan results emitted to JS.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  deliveredResultCount: number;
+
+  /**
+   * Number of scan results dropped because native queue was full, always 0 without `resultQueueCapacity`.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  droppedResultCount: number;
+
+  /**
+   * Average time in microseconds spent on parsing a raw scan result.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  averageParseTime: number;
+
+  /**
+   * Average time in microseconds spent on converting a scan result to a JS object.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  averageConversionTime: number;
+
+  /**
+   * Average time in microseconds spent on emitting a scan result over the bridge.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  averageEmitTime: number;
+
+  /**
+   * Number of scan results waiting in native queue, always 0 without `resultQueueCapacity`.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  queueSize: number;
+
+  /**
+   * Maximum number of scan results which were waiting in native queue at once.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  queueHighWaterMark: number;
+
+  /**
+   * `true` if the scan is still running.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  isActive: boolean;
+}
+
+/**
+ * Counters of native event emitter queue. Events are emitted in order of their priority and low priority events may
+ * be coalesced or dropped when JS thread is lagging behind. [Android only]
+ */
+export interface EventQueueStatistics {
+  /**
+   * Number of events waiting in native emitter queue.
+   * @memberof EventQueueStatistics
+   * @instance
+   */
+  queueDepth: number;
+
+  /**
+   * Number of waiting state change, state restoration and disconnection events.
+   * @memberof EventQueueStatistics
+   * @instance
+   */
+  highPriorityQueueDepth: number;
+
+  /**
+   * Number of waiting characteristic notification events.
+   * @memberof EventQueueStatistics
+   * @instance
+   */
+  normalPriorityQueueDepth: number;
+
+  /**
+   * Number of waiting scan result and scan statistics events.
+   * @memberof EventQueueStatistics
+   * @instance
+   */
+  lowPriorityQueueDepth: number;
+
+  /**
+   * Time in milliseconds which the last emitted event waited until JS thread was free.
+   * @memberof EventQueueStatistics
+   * @instance
+   */
+  lag: number;
+
+  /**
+   * Number of events emitted to JS.
+   * @memberof EventQueueStatistics
+   * @instance
+   */
+  emittedEventCount: number;
+
+  /**
+   * Number of scan results replaced by newer ones of the same device while JS was lagging.
+   * @memberof EventQueueStatistics
+   * @instance
+   */
+  coalescedEventCount: number;
+
+  /**
+   * Number of low priority events dropped because too many of them were waiting.
+   * @memberof EventQueueStatistics
+   * @instance
+   */
+  droppedEventCount: number;
+}
+
+/**
+ * Traffic of a single native event or method, see {@link BridgeTraffic}. [Android only]
+ */
+export interface BridgeTrafficEntry {
+  /**
+   * Number of emitted events or settled method calls.
+   * @memberof BridgeTrafficEntry
+   * @instance
+   */
+  count: number;
+
+  /**
+   * Number of method calls which were rejected or returned an error. Always `0` for events.
+   * @memberof BridgeTrafficEntry
+   * @instance
+   */
+  errorCount: number;
+
+  /**
+   * Estimated size in bytes of all payloads, measured as length of their JSON representation.
+   * @memberof BridgeTrafficEntry
+   * @instance
+   */
+  bytes: number;
+
+  /**
+   * Estimated bytes per minute since accounting was enabled.
+   * @memberof BridgeTrafficEntry
+   * @instance
+   */
+  bytesPerMinute: number;
+
+  /**
+   * Average time in microseconds spent converting native objects of an event, or average time from a method call until
+   * its promise was settled or, for synchronous getters, until it returned.
+   * @memberof BridgeTrafficEntry
+   * @instance
+   */
+  averageTime: number;
+}
+
+/**
+ * Values passed from native module to JS since bridge traffic accounting was enabled with
+ * {@link #blemanagersetbridgetrafficaccounting|bleManager.setBridgeTrafficAccounting()}. [Android only]
+ */
+export interface BridgeTraffic {
+  /**
+   * Time in milliseconds since accounting was enabled.
+   * @memberof BridgeTraffic
+   * @instance
+   */
+  duration: number;
+
+  /**
+   * `true` if accounting is enabled.
+   * @memberof BridgeTraffic
+   * @instance
+   */
+  isEnabled: boolean;
+
+  /**
+   * Traffic per native event name.
+   * @memberof BridgeTraffic
+   * @instance
+   */
+  events: { [eventName: string]: BridgeTrafficEntry };
+
+  /**
+   * Traffic per native method name.
+   * @memberof BridgeTraffic
+   * @instance
+   */
+  methods: { [methodName: string]: BridgeTrafficEntry };
+}
+
+/**
+ * Statistics of operations of a single {@link OperationPriority}, see {@link OperationQueueStatistics}. [Android only]
+ */
+export interface OperationPriorityStatistics {
+  /**
+   * Number of queued operations of this priority.
+   * @memberof OperationPriorityStatistics
+   * @instance
+   */
+  queueDepth: number;
+
+  /**
+   * Number of operations of this priority passed to the radio which have finished.
+   * @memberof OperationPriorityStatistics
+   * @instance
+   */
+  completedCount: number;
+
+  /**
+   * Average time in milliseconds which operations of this priority waited in the queue.
+   * @memberof OperationPriorityStatistics
+   * @instance
+   */
+  averageWaitTime: number;
+
+  /**
+   * Longest time in milliseconds which an operation of this priority waited in the queue.
+   * @memberof OperationPriorityStatistics
+   * @instance
+   */
+  maxWaitTime: number;
+}
+
+/**
+ * Statistics of queue of read and write operations of a device. [Android only]
+ */
+export interface OperationQueueStatistics {
+  /**
+   * Number of queued operations.
+   * @memberof OperationQueueStatistics
+   * @instance
+   */
+  queueDepth: number;
+
+  /**
+   * `true` if an operation was passed to the radio and has not finished yet.
+   * @memberof OperationQueueStatistics
+   * @instance
+   */
+  isOperationRunning: boolean;
+
+  /**
+   * Number of operations started before an older operation of lower priority.
+   * @memberof OperationQueueStatistics
+   * @instance
+   */
+  preemptedCount: number;
+
+  /**
+   * Number of operations cancelled while they were still queued.
+   * @memberof OperationQueueStatistics
+   * @instance
+   */
+  cancelledCount: number;
+
+  /**
+   * Number of operations which failed because they were not done before their deadline.
+   * @memberof OperationQueueStatistics
+   * @instance
+   */
+  timedOutCount: number;
+
+  /**
+   * Statistics of `interactive` operations.
+   * @memberof OperationQueueStatistics
+   * @instance
+   */
+  interactive: OperationPriorityStatistics;
+
+  /**
+   * Statistics of `normal` operations.
+   * @memberof OperationQueueStatistics
+   * @instance
+   */
+  normal: OperationPriorityStatistics;
+
+  /**
+   * Statistics of `bulk` operations.
+   * @memberof OperationQueueStatistics
+   * @instance
+   */
+  bulk: OperationPriorityStatistics;
+}
+
+/**
+ * Options which can be passed to {@link #blemanagersetgattscheduleroptions|bleManager.setGattSchedulerOptions()}. Deadlines
+ * are defaults for operations queued afterwards without their own deadline, operations which are not done in time fail
+ * with `OperationTimedOut` error. [Android only]
+ */
+export interface GattSchedulerOptions {
+  /**
+   * Maximum number of operations in flight across all devices. Each device has at most one operation in flight. `0` or
+   * `null` removes the limit, operations are not limited by default.
+   * @memberof GattSchedulerOptions
+   * @instance
+   */
+  maxOperationsInFlight?: ?number;
+
+  /**
+   * Time in milliseconds in which `interactive` operations have to be done, including time spent in the queue. `0` or
+   * `null` disables the deadline.
+   * @memberof GattSchedulerOptions
+   * @instance
+   */
+  interactiveDeadline?: ?number;
+
+  /**
+   * Time in milliseconds in which `normal` operations have to be done, including time spent in the queue. `0` or `null`
+   * disables the deadline.
+   * @memberof GattSchedulerOptions
+   * @instance
+   */
+  normalDeadline?: ?number;
+
+  /**
+   * Time in milliseconds in which `bulk` operations have to be done, including time spent in the queue. `0` or `null`
+   * disables the deadline.
+   * @memberof GattSchedulerOptions
+   * @instance
+   */
+  bulkDeadline?: ?number;
+}
+
+/**
+ * Statistics of scheduler of read and write operations shared by all devices. [Android only]
+ */
+export interface GattSchedulerStatistics {
+  /**
+   * Maximum number of operations in flight across all devices, `0` if they are not limited.
+   * @memberof GattSchedulerStatistics
+   * @instance
+   */
+  maxOperationsInFlight: number;
+
+  /**
+   * Number of operations passed to the radio which have not finished yet.
+   * @memberof GattSchedulerStatistics
+   * @instance
+   */
+  operationsInFlight: number;
+
+  /**
+   * Number of devices waiting for their turn to start an operation.
+   * @memberof GattSchedulerStatistics
+   * @instance
+   */
+  waitingDeviceCount: number;
+
+  /**
+   * Number of operations which failed because they were not done before their deadline.
+   * @memberof GattSchedulerStatistics
+   * @instance
+   */
+  timedOutCount: number;
+}
+
+/**
+ * Result of a single read of {@link #blemanagerreadcharacteristicsfordevice|bleManager.readCharacteristicsForDevice()}.
+ * [Android only]
+ */
+export interface CharacteristicReadResult {
+  /**
+   * {@link Service} UUID as passed to the read.
+   * @memberof CharacteristicReadResult
+   * @instance
+   */
+  serviceUUID: UUID;
+
+  /**
+   * {@link Characteristic} UUID as passed to the read.
+   * @memberof CharacteristicReadResult
+   * @instance
+   */
+  characteristicUUID: UUID;
+
+  /**
+   * Read characteristic or `null` if the read failed.
+   * @memberof CharacteristicReadResult
+   * @instance
+   */
+  characteristic: ?Characteristic;
+
+  /**
+   * Error of the read or `null` if it succeeded.
+   * @memberof CharacteristicReadResult
+   * @instance
+   */
+  error: ?BleError;
+}
+
+/**
+ * Statistics of cache of characteristic values of a device. [Android only]
+ */
+export interface CharacteristicCacheStatistics {
+  /**
+   * Number of cached values.
+   * @memberof CharacteristicCacheStatistics
+   * @instance
+   */
+  entryCount: number;
+
+  /**
+   * Number of reads of cached characteristics resolved with cached value.
+   * @memberof CharacteristicCacheStatistics
+   * @instance
+   */
+  hitCount: number;
+
+  /**
+   * Number of reads of cached characteristics which had to be passed to the radio.
+   * @memberof CharacteristicCacheStatistics
+   * @instance
+   */
+  missCount: number;
+
+  /**
+   * Number of cached values dropped because their characteristic was written.
+   * @memberof CharacteristicCacheStatistics
+   * @instance
+   */
+  invalidatedCount: number;
+}
+
+/**
+ * Options which can be passed to
+ * {@link #blemanagerwritelongcharacteristicfordevice|bleManager.writeLongCharacteristicForDevice()}. [Android only]
+ */
+export interface LongWriteOptions {
+  /**
+   * Whether batches are written with response (default `true`).
+   * @memberof LongWriteOptions
+   * @instance
+   */
+  withResponse?: boolean;
+
+  /**
+   * Minimum time in milliseconds between progress updates (default 100). The last batch is always reported.
+   * @memberof LongWriteOptions
+   * @instance
+   */
+  progressInterval?: number;
+}
+
+/**
+ * Progress of {@link #blemanagerwritelongcharacteristicfordevice|bleManager.writeLongCharacteristicForDevice()}.
+ * [Android only]
+ */
+export interface WriteProgress {
+  /**
+   * Number of bytes written so far.
+   * @memberof WriteProgress
+   * @instance
+   */
+  bytesWritten: number;
+
+  /**
+   * Length of the whole value in bytes.
+   * @memberof WriteProgress
+   * @instance
+   */
+  totalBytes: number;
+}
+
+/**
+ * Summary of {@link #blemanagerwritecharacteristicstreamfordevice|bleManager.writeCharacteristicStreamForDevice()}.
+ * [Android only]
+ */
+export interface WriteStreamResult {
+  /**
+   * Number of written values.
+   * @memberof WriteStreamResult
+   * @instance
+   */
+  packetCount: number;
+
+  /**
+   * Number of written bytes.
+   * @memberof WriteStreamResult
+   * @instance
+   */
+  byteCount: number;
+
+  /**
+   * Time in milliseconds from the first write until the stack reported the last one written.
+   * @memberof WriteStreamResult
+   * @instance
+   */
+  duration: number;
+
+  /**
+   * Sustained throughput of the stream in bytes per second.
+   * @memberof WriteStreamResult
+   * @instance
+   */
+  bytesPerSecond: number;
+}
+
+/**
+ * Options which can be passed to {@link #blemanagerreplayscancapture|bleManager.replayScanCapture()}. [Android only]
+ * @name ScanReplayOptions
+ */
+export interface ScanReplayOptions {
+  /**
+   * Replay speed relative to the original capture (default 1). Value of `2` replays twice as fast, `0` emits records as
+   * fast as they can be read.
+   * @memberof ScanReplayOptions
+   * @instance
+   */
+  speed?: number;
+}
+
+/**
+ * Connection specific options to be passed before connection happen. [Not used]
+ */
+export interface ConnectionOptions {
+  /**
+   * Whether to directly connect to the remote device (false) or to automatically connect as soon as the remote device
+   * becomes available (true). [Android only]
+   * @memberof ConnectionOptions
+   * @instance
+   */
+  autoConnect?: boolean;
+
+  /**
+   * Whether MTU size will be negotiated to this value. It is not guaranteed to get it after connection is successful.
+   *
+   * @memberof ConnectionOptions
+   * @instance
+   */
+  requestMTU?: number;
+
+  /**
+   * Whether action will be taken to reset services cache. This option may be useful when a peripheral's firmware was
+   * updated and it's services/characteristics were added/removed/altered. [Android only]
+   * {@link https://stackoverflow.com/questions/22596951/how-to-programmatically-force-bluetooth-low-energy-service-discovery-on-android}
+   * @memberof ConnectionOptions
+   * @instance
+   */
+  refreshGatt?: RefreshGattMoment;
+
+  /**
+   * Number of milliseconds after connection is automatically timed out. In case of race condition were connection is
+   * established right after timeout event, device will be disconnected immediately. Time out may happen earlier then
+   * specified due to OS specific behavior.
+   *
+   * @memberof ConnectionOptions
+   * @instance
+   */
+  timeout?: number;
+}
+
+/**
+ * Field of a characteristic value decoded natively. [Android only]
+ */
+export interface ValueField {
+  /**
+   * Name of the field in decoded value.
+   * @memberof ValueField
+   * @instance
+   */
+  name?: string;
+
+  /**
+   * Numeric type of the field.
+   * @memberof ValueField
+   * @instance
+   */
+  type: ValueFieldType;
+
+  /**
+   * Offset of the field in bytes. By default the field follows the previous one. The field has to end within the
+   * first 512 bytes of the value, the maximum attribute length.
+   * @memberof ValueField
+   * @instance
+   */
+  offset?: number;
+
+  /**
+   * Number of consecutive elements of the field type (default 1). Fields with more elements are decoded to arrays.
+   * @memberof ValueField
+   * @instance
+   */
+  count?: number;
+
+  /**
+   * Factor by which decoded numbers are multiplied (default 1).
+   * @memberof ValueField
+   * @instance
+   */
+  scale?: number;
+
+  /**
+   * Byte order of the field, overrides {@link ValueSchema#littleEndian}.
+   * @memberof ValueField
+   * @instance
+   */
+  littleEndian?: boolean;
+}
+
+/**
+ * Binary layout of a characteristic value which is decoded natively, off the JS thread. Characteristics with decoded
+ * values have {@link Characteristic#decodedValue} set instead of {@link Characteristic#value}. Values shorter than the
+ * schema are passed undecoded. [Android only]
+ */
+export interface ValueSchema {
+  /**
+   * Fields of the value.
+   * @memberof ValueSchema
+   * @instance
+   */
+  fields: Array<ValueField>;
+
+  /**
+   * Default byte order of fields (default `true`, like values of Bluetooth SIG characteristics).
+   * @memberof ValueSchema
+   * @instance
+   */
+  littleEndian?: boolean;
+}
+
+/**
+ * Options which can be passed to characteristic monitoring functions. [Android only]
+ */
+export interface MonitorOptions {
+  /**
+   * Whether native module should send characteristic metadata only once and pass only values with further
+   * notifications. It reduces conversion and bridge traffic for frequent notifications. Listener still receives
+   * {@link Characteristic} objects.
+   * @memberof MonitorOptions
+   * @instance
+   */
+  compact?: boolean;
+
+  /**
+   * Whether {@link Characteristic#timestamp} should be set to the time when notification was received.
+   * @memberof MonitorOptions
+   * @instance
+   */
+  timestamps?: boolean;
+
+  /**
+   * Interval in milliseconds in which native module packs notifications and sends them together. It reduces number of
+   * bridge events for characteristics notifying hundreds of times per second. Listener is still called for each
+   * notification and {@link Characteristic#timestamp} is always set. Batching is disabled by default.
+   * @memberof MonitorOptions
+   * @instance
+   */
+  batchInterval?: number;
+
+  /**
+   * Size in bytes of packed notifications after which they are sent before `batchInterval` elapses. Each notification
+   * takes 10 bytes plus its value length. Default is 16384.
+   * @memberof MonitorOptions
+   * @instance
+   */
+  batchSize?: number;
+
+  /**
+   * Schema by which values are decoded natively.
+   * @memberof MonitorOptions
+   * @instance
+   */
+  decoder?: ValueSchema;
+
+  /**
+   * Keeps notifications in a native history of fixed capacity instead of passing them to the listener, which then
+   * receives only errors. Notifications are pulled from the history by
+   * {@link #blemanagergetcharacteristichistory|getCharacteristicHistory()}. Other options except `decoder` are
+   * ignored.
+   * @memberof MonitorOptions
+   * @instance
+   */
+  history?: HistoryOptions;
+
+  /**
+   * Id of a recorder opened by {@link #blemanageropennotificationrecorder|openNotificationRecorder()} to which
+   * notifications are written natively.
+   * @memberof MonitorOptions
+   * @instance
+   */
+  recorder?: string;
+
+  /**
+   * Whether notifications are only written to `recorder` and not passed to the listener, which then receives only
+   * errors.
+   * @memberof MonitorOptions
+   * @instance
+   */
+  recordOnly?: boolean;
+}
+
+/**
+ * Options of native history of characteristic notifications. [Android only]
+ */
+export interface HistoryOptions {
+  /**
+   * Number of notifications kept in the history, from 1 to 16384. When it is full, the oldest notifications are
+   * overwritten. Monitoring fails to start with a larger capacity.
+   * @memberof HistoryOptions
+   * @instance
+   */
+  capacity: number;
+}
+
+/**
+ * Notifications pulled from native history of a monitored characteristic. [Android only]
+ */
+export interface CharacteristicHistory {
+  /**
+   * Characteristics with values of pulled notifications, oldest first. {@link Characteristic#timestamp} is the time
+   * when the notification was received.
+   * @memberof CharacteristicHistory
+   * @instance
+   */
+  characteristics: Array<Characteristic>;
+
+  /**
+   * Sequence number of the first pulled notification. Notifications are numbered consecutively from 0.
+   * @memberof CharacteristicHistory
+   * @instance
+   */
+  firstSeq: number;
+
+  /**
+   * Sequence number to be passed to the next pull.
+   * @memberof CharacteristicHistory
+   * @instance
+   */
+  nextSeq: number;
+
+  /**
+   * Number of notifications requested by `sinceSeq` which were overwritten before they were pulled.
+   * @memberof CharacteristicHistory
+   * @instance
+   */
+  droppedCount: number;
+}
+
+/**
+ * Options of {@link #blemanageropennotificationrecorder|bleManager.openNotificationRecorder()}. [Android only]
+ */
+export interface NotificationRecorderOptions {
+  /**
+   * Size in bytes of segment files of the recording (default 4 MiB, at least 4096).
+   * @memberof NotificationRecorderOptions
+   * @instance
+   */
+  segmentSize?: number;
+
+  /**
+   * Maximum number of kept segment files, the oldest ones are deleted. All of them are kept by default.
+   * @memberof NotificationRecorderOptions
+   * @instance
+   */
+  maxSegments?: number;
+
+  /**
+   * When notifications are forced to the storage device (default `interval`).
+   * @memberof NotificationRecorderOptions
+   * @instance
+   */
+  fsync?: FsyncPolicy;
+
+  /**
+   * Interval in milliseconds of `interval` fsync policy (default 1000).
+   * @memberof NotificationRecorderOptions
+   * @instance
+   */
+  fsyncInterval?: number;
+}
+
+/**
+ * Notification read from a recording. [Android only]
+ */
+export interface NotificationRecord {
+  /**
+   * Sequence number of the notification. Notifications are numbered consecutively from 0, also across recorders
+   * opened on the same directory.
+   * @memberof NotificationRecord
+   * @instance
+   */
+  seq: number;
+
+  /**
+   * Time when the notification was received in milliseconds since the Unix epoch.
+   * @memberof NotificationRecord
+   * @instance
+   */
+  timestamp: number;
+
+  /**
+   * Device identifier.
+   * @memberof NotificationRecord
+   * @instance
+   */
+  deviceID: DeviceId;
+
+  /**
+   * Characteristic identifier in the session in which it was recorded.
+   * @memberof NotificationRecord
+   * @instance
+   */
+  characteristicID: Identifier;
+
+  /**
+   * Service UUID.
+   * @memberof NotificationRecord
+   * @instance
+   */
+  serviceUUID: UUID;
+
+  /**
+   * Characteristic UUID.
+   * @memberof NotificationRecord
+   * @instance
+   */
+  characteristicUUID: UUID;
+
+  /**
+   * Notified value in Base64 format.
+   * @memberof NotificationRecord
+   * @instance
+   */
+  value: ?Base64;
+
+  /**
+   * Notified value as raw bytes.
+   * @memberof NotificationRecord
+   * @instance
+   */
+  rawValue: ?ArrayBuffer;
+}
+
+/**
+ * Notifications read from a recording. [Android only]
+ */
+export interface NotificationRecording {
+  /**
+   * Read notifications, oldest first.
+   * @memberof NotificationRecording
+   * @instance
+   */
+  records: Array<NotificationRecord>;
+
+  /**
+   * Sequence number to be passed to the next read.
+   * @memberof NotificationRecording
+   * @instance
+   */
+  nextSeq: number;
+}
+
+/**
+ * Options of {@link #blemanageropenl2capchannelfordevice|bleManager.openL2capChannelForDevice()}. [Android only]
+ */
+export interface L2capChannelOptions {
+  /**
+   * Whether the channel requires an encrypted and authenticated link (default `false`). The device has to be bonded
+   * to open a secure channel.
+   * @memberof L2capChannelOptions
+   * @instance
+   */
+  secure?: boolean;
+
+  /**
+   * Maximum size in bytes of chunks of received data passed to the listener (default 16384). Data received while the
+   * previous chunk is passed on is joined to the next chunk, but a single received SDU is never split.
+   * @memberof L2capChannelOptions
+   * @instance
+   */
+  chunkSize?: number;
+}
+
+/**
+ * Open LE L2CAP connection-oriented channel. [Android only]
+ */
+export interface L2capChannel {
+  /**
+   * Channel identifier passed to {@link #blemanagerwritel2capchannel|bleManager.writeL2capChannel()} and
+   * {@link #blemanagerclosel2capchannel|bleManager.closeL2capChannel()}.
+   * @memberof L2capChannel
+   * @instance
+   */
+  id: string;
+
+  /**
+   * Device identifier.
+   * @memberof L2capChannel
+   * @instance
+   */
+  deviceID: DeviceId;
+
+  /**
+   * Protocol/Service Multiplexer of the channel.
+   * @memberof L2capChannel
+   * @instance
+   */
+  psm: number;
+
+  /**
+   * Maximum size of a single SDU sent to the device. Larger writes are split by the stack.
+   * @memberof L2capChannel
+   * @instance
+   */
+  maxTransmitPacketSize: number;
+
+  /**
+   * Maximum size of a single SDU received from the device.
+   * @memberof L2capChannel
+   * @instance
+   */
+  maxReceivePacketSize: number;
+}
+
+/**
+ * Options of {@link #blemanagerpollcharacteristicfordevice|bleManager.pollCharacteristicForDevice()}. Options of
+ * {@link MonitorOptions} apply to polled values as well. [Android only]
+ */
+export interface PollOptions extends MonitorOptions {
+  /**
+   * Interval in milliseconds between reads. Reads of all polls are aligned to multiples of their interval, so polls of
+   * several devices with the same interval read at the same moments.
+   * @memberof PollOptions
+   * @instance
+   */
+  interval: number;
+
+  /**
+   * Maximum random delay in milliseconds of each read (default 0). It should be smaller than `interval`.
+   * @memberof PollOptions
+   * @instance
+   */
+  jitter?: number;
+
+  /**
+   * Whether listener is called only when read value differs from the previous one (default `true`). The first read
+   * value is always passed.
+   * @memberof PollOptions
+   * @instance
+   */
+  emitOnChangeOnly?: boolean;
+}
+
+/**
+ * Options which can be passed to characteristic read functions. [Android only]
+ */
+export interface ReadOptions {
+  /**
+   * Schema by which read value is decoded natively.
+   * @memberof ReadOptions
+   * @instance
+   */
+  decoder?: ValueSchema;
 }
 
 /**
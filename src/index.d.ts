@@ -9,6 +9,11 @@ declare module 'react-native-ble-plx' {
    * Base64 value
    */
   export type Base64 = string
+  /**
+   * Value written to a characteristic or descriptor, either Base64 string or raw bytes. Raw bytes are passed to native
+   * module without Base64 encoding when binary transport is available.
+   */
+  export type WritableValue = Base64 | ArrayBuffer
   /**
    * Bluetooth UUID
    */
@@ -31,6 +36,40 @@ declare module 'react-native-ble-plx' {
    */
   export type CharacteristicSubscriptionType = 'notification' | 'indication'
 
+  /**
+   * Priority class of read and write operations on a characteristic and its descriptors. Operations of a device are
+   * passed to the radio one at a time, queued `bulk` operations are overtaken by `normal` and `interactive` ones.
+   * [Android only]
+   */
+  export type OperationPriority = 'interactive' | 'normal' | 'bulk'
+
+  /**
+   * When notifications written by a notification recorder are forced to the storage device: `never` leaves it to the
+   * system, `interval` forces them periodically and `always` after every notification. [Android only]
+   */
+  export type FsyncPolicy = 'never' | 'interval' | 'always'
+
+  /**
+   * Numeric type of a {@link ValueField}. [Android only]
+   */
+  export type ValueFieldType =
+    | 'int8'
+    | 'uint8'
+    | 'int16'
+    | 'uint16'
+    | 'int24'
+    | 'uint24'
+    | 'int32'
+    | 'uint32'
+    | 'float32'
+    | 'float64'
+
+  /**
+   * Characteristic value decoded natively according to {@link ValueSchema}. It is an object keyed by field names when
+   * all fields are named, a flat array of numbers otherwise. [Android only]
+   */
+  export type DecodedValue = number[] | { [name: string]: number | number[] }
+
   /**
    * Subscription
    * @interface
@@ -92,126 +131,995 @@ declare module 'react-native-ble-plx' {
      * List of connected devices after state restoration.
      * @type {Array<Device>}
      * @instance
-     * @memberof BleRestoredState
+     * @memberof BleRestoredState
+     */
+    connectedPeripherals: Device[]
+  }
+
+  /**
+   * Scan mode for Bluetooth LE scan.
+   */
+  export enum ScanMode {
+    /**
+     * A special Bluetooth LE scan mode. Applications using this scan mode will passively listen for
+     * other scan results without starting BLE scans themselves.
+     */
+    Opportunistic = -1,
+
+    /**
+     * Perform Bluetooth LE scan in low power mode. This is the default scan mode as it consumes the
+     * least power. [default value]
+     */
+    LowPower = 0,
+
+    /**
+     * Perform Bluetooth LE scan in balanced power mode. Scan results are returned at a rate that
+     * provides a good trade-off between scan frequency and power consumption.
+     */
+    Balanced = 1,
+
+    /**
+     * Scan using highest duty cycle. It's recommended to only use this mode when the application is
+     * running in the foreground.
+     */
+    LowLatency = 2
+  }
+
+  /**
+   * Scan callback type for Bluetooth LE scan.
+   * @name ScanCallbackType
+   */
+  export enum ScanCallbackType {
+    /**
+     * Trigger a callback for every Bluetooth advertisement found that matches the filter criteria.
+     * If no filter is active, all advertisement packets are reported. [default value]
+     */
+    AllMatches = 1,
+
+    /**
+     * A result callback is only triggered for the first advertisement packet received that matches
+     * the filter criteria.
+     */
+    FirstMatch = 2,
+
+    /**
+     * Receive a callback when advertisements are no longer received from a device that has been
+     * previously reported by a first match callback.
+     */
+    MatchLost = 4
+  }
+
+  /**
+   * Format of encrypted advertisement payloads which can be decrypted natively. [Android only]
+   * @name AdvertisementEncryptionFormat
+   */
+  export enum AdvertisementEncryptionFormat {
+    /**
+     * BTHome v2 encrypted service data (AES-CCM). Decrypted payload is reported in plaintext BTHome format.
+     */
+    BTHomeV2 = 'BTHomeV2'
+  }
+
+  /**
+   * Result of advertisement payload decryption. [Android only]
+   * @name AdvertisementDecryptionStatus
+   */
+  export enum AdvertisementDecryptionStatus {
+    /**
+     * Payload was decrypted and authenticated.
+     */
+    Decrypted = 'Decrypted',
+
+    /**
+     * Payload authentication failed, either the key is wrong or the payload was tampered with.
+     */
+    AuthenticationFailed = 'AuthenticationFailed'
+  }
+
+  /**
+   * Physical layer used for extended Bluetooth LE scan. [Android only]
+   * @name ScanPhy
+   */
+  export enum ScanPhy {
+    /**
+     * Scan for advertisements sent on LE 1M PHY.
+     */
+    LE1M = 1,
+
+    /**
+     * Scan for advertisements sent on LE Coded PHY (long range).
+     */
+    LECoded = 3,
+
+    /**
+     * Scan for advertisements sent on all PHYs supported by the device.
+     */
+    AllSupported = 255
+  }
+
+  /**
+   * Options which can be passed to scanning function
+   * @name ScanOptions
+   */
+  export interface ScanOptions {
+    /**
+     * By allowing duplicates scanning records are received more frequently [iOS only]
+     */
+    allowDuplicates?: boolean
+    /**
+     * Scan mode for Bluetooth LE scan [Android only]
+     */
+    scanMode?: ScanMode
+    /**
+     * Scan callback type for Bluetooth LE scan [Android only]
+     */
+    callbackType?: ScanCallbackType
+    /**
+     * Use legacyScan (default true, false when `phy` is set) [Android only]
+     * https://developer.android.com/reference/android/bluetooth/le/ScanSettings.Builder#setLegacy(boolean)
+     */
+    legacyScan?: boolean
+    /**
+     * Run an extended scan on the specified PHY (requires Android 8.0). Scanned devices include extended advertising
+     * fields such as `advertisingSid` and `periodicAdvertisingInterval`. Unless `legacyScan` is set explicitly, the scan
+     * is not legacy. Legacy scan is possible only on {@link ScanPhy.LE1M}, other combinations fail with
+     * {@link BleErrorCode.ScanStartFailed}. Only PHY selection and the advertising fields are supported, synchronizing
+     * to periodic advertising trains is not available to regular apps. [Android only]
+     */
+    phy?: ScanPhy
+    /**
+     * Capacity of a native queue through which scan results are handed from the scanner thread to a separate thread
+     * for conversion and emitting. When the queue is full, the oldest results are dropped and counted in
+     * {@link ScanStatistics}. By default there is no queue and results are emitted on the scanner thread, none of
+     * them are dropped. [Android only]
+     */
+    resultQueueCapacity?: number
+  }
+
+  /**
+   * Options which can be passed to {@link #blemanagerstartbackgrounddevicescan|bleManager.startBackgroundDeviceScan()}.
+   * [Android only]
+   * @name BackgroundScanOptions
+   */
+  export interface BackgroundScanOptions {
+    /**
+     * Scan mode for Bluetooth LE scan
+     */
+    scanMode?: ScanMode
+    /**
+     * Scan callback type for Bluetooth LE scan
+     */
+    callbackType?: ScanCallbackType
+    /**
+     * Maximum number of scan results buffered natively until they are retrieved (default 256). When the buffer is full
+     * the oldest results are dropped.
+     */
+    maxBufferedResults?: number
+  }
+
+  /**
+   * Scan results buffered by background scan.
+   * @name BackgroundScanResults
+   */
+  export interface BackgroundScanResults {
+    /**
+     * Scanned devices in order of arrival.
+     */
+    devices: Device[]
+    /**
+     * Number of results dropped since the previous batch because native buffer was full.
+     */
+    droppedCount: number
+  }
+
+  /**
+   * Counters of the most recent device scan started with {@link #blemanagerstartdevicescan|bleManager.startDeviceScan()}
+   * or {@link #blemanagerreplayscancapture|bleManager.replayScanCapture()}. Scan results are parsed natively, queued if
+   * `resultQueueCapacity` is set, converted to JS objects and emitted over the bridge; timings of each stage help to
+   * tune scan settings. [Android only]
+   * @name ScanStatistics
+   */
+  export interface ScanStatistics {
+    /**
+     * Time in milliseconds since the scan was started, or its total duration if it already stopped.
+     */
+    duration: number
+    /**
+     * Number of scan results received from the system.
+     */
+    rawResultCount: number
+    /**
+     * Average number of scan results received per second.
+     */
+    resultsPerSecond: number
+    /**
+     * Number of distinct devices found.
+     */
+    uniqueDeviceCount: number
+    /**
+     * Number of scan results emitted to JS.
+     */
+    deliveredResultCount: number
+    /**
+     * Number of scan results dropped because native queue was full, always 0 without `resultQueueCapacity`.
+     */
+    droppedResultCount: number
+    /**
+     * Average time in microseconds spent on parsing a raw scan result.
+     */
+    averageParseTime: number
+    /**
+     * Average time in microseconds spent on converting a scan result to a JS object.
+     */
+    averageConversionTime: number
+    /**
+     * Average time in microseconds spent on emitting a scan result over the bridge.
+     */
+    averageEmitTime: number
+    /**
+     * Number of scan results waiting in native queue, always 0 without `resultQueueCapacity`.
+     */
+    queueSize: number
+    /**
+     * Maximum number of scan results which were waiting in native queue at once.
+     */
+    queueHighWaterMark: number
+    /**
+     * `true` if the scan is still running.
+     */
+    isActive: boolean
+  }
+
+  /**
+   * Counters of native event emitter queue. Events are emitted in order of their priority and low priority events may
+   * be coalesced or dropped when JS thread is lagging behind. [Android only]
+   */
+  export interface EventQueueStatistics {
+    /**
+     * Number of events waiting in native emitter queue.
+     */
+    queueDepth: number
+    /**
+     * Number of waiting state change, state restoration and disconnection events.
+     */
+    highPriorityQueueDepth: number
+    /**
+     * Number of waiting characteristic notification events.
+     */
+    normalPriorityQueueDepth: number
+    /**
+     * Number of waiting scan result and scan statistics events.
+     */
+    lowPriorityQueueDepth: number
+    /**
+     * Time in milliseconds which the last emitted event waited until JS thread was free.
+     */
+    lag: number
+    /**
+     * Number of events emitted to JS.
+     */
+    emittedEventCount: number
+    /**
+     * Number of scan results replaced by newer ones of the same device while JS was lagging.
+     */
+    coalescedEventCount: number
+    /**
+     * Number of low priority events dropped because too many of them were waiting.
+     */
+    droppedEventCount: number
+  }
+
+  /**
+   * Traffic of a single native event or method, see {@link BridgeTraffic}. [Android only]
+   */
+  export interface BridgeTrafficEntry {
+    /**
+     * Number of emitted events or settled method calls.
+     */
+    count: number
+    /**
+     * Number of method calls which were rejected or returned an error. Always `0` for events.
+     */
+    errorCount: number
+    /**
+     * Estimated size in bytes of all payloads, measured as length of their JSON representation.
+     */
+    bytes: number
+    /**
+     * Estimated bytes per minute since accounting was enabled.
+     */
+    bytesPerMinute: number
+    /**
+     * Average time in microseconds spent converting native objects of an event, or average time from a method call
+     * until its promise was settled or, for synchronous getters, until it returned.
+     */
+    averageTime: number
+  }
+
+  /**
+   * Values passed from native module to JS since bridge traffic accounting was enabled with
+   * {@link #blemanagersetbridgetrafficaccounting|bleManager.setBridgeTrafficAccounting()}. [Android only]
+   */
+  export interface BridgeTraffic {
+    /**
+     * Time in milliseconds since accounting was enabled.
+     */
+    duration: number
+    /**
+     * `true` if accounting is enabled.
+     */
+    isEnabled: boolean
+    /**
+     * Traffic per native event name.
+     */
+    events: { [eventName: string]: BridgeTrafficEntry }
+    /**
+     * Traffic per native method name.
+     */
+    methods: { [methodName: string]: BridgeTrafficEntry }
+  }
+
+  /**
+   * Statistics of operations of a single {@link OperationPriority}, see {@link OperationQueueStatistics}. [Android only]
+   */
+  export interface OperationPriorityStatistics {
+    /**
+     * Number of queued operations of this priority.
+     */
+    queueDepth: number
+    /**
+     * Number of operations of this priority passed to the radio which have finished.
+     */
+    completedCount: number
+    /**
+     * Average time in milliseconds which operations of this priority waited in the queue.
+     */
+    averageWaitTime: number
+    /**
+     * Longest time in milliseconds which an operation of this priority waited in the queue.
+     */
+    maxWaitTime: number
+  }
+
+  /**
+   * Statistics of queue of read and write operations of a device. [Android only]
+   */
+  export interface OperationQueueStatistics {
+    /**
+     * Number of queued operations.
+     */
+    queueDepth: number
+    /**
+     * `true` if an operation was passed to the radio and has not finished yet.
+     */
+    isOperationRunning: boolean
+    /**
+     * Number of operations started before an older operation of lower priority.
+     */
+    preemptedCount: number
+    /**
+     * Number of operations cancelled while they were still queued.
+     */
+    cancelledCount: number
+    /**
+     * Number of operations which failed because they were not done before their deadline.
+     */
+    timedOutCount: number
+    /**
+     * Statistics of `interactive` operations.
+     */
+    interactive: OperationPriorityStatistics
+    /**
+     * Statistics of `normal` operations.
+     */
+    normal: OperationPriorityStatistics
+    /**
+     * Statistics of `bulk` operations.
+     */
+    bulk: OperationPriorityStatistics
+  }
+
+  /**
+   * Options which can be passed to {@link #blemanagersetgattscheduleroptions|bleManager.setGattSchedulerOptions()}.
+   * Deadlines are defaults for operations queued afterwards without their own deadline, operations which are not done
+   * in time fail with `OperationTimedOut` error. [Android only]
+   */
+  export interface GattSchedulerOptions {
+    /**
+     * Maximum number of operations in flight across all devices. Each device has at most one operation in flight. `0`
+     * or `null` removes the limit, operations are not limited by default.
+     */
+    maxOperationsInFlight?: number | null
+    /**
+     * Time in milliseconds in which `interactive` operations have to be done, including time spent in the queue. `0` or
+     * `null` disables the deadline.
+     */
+    interactiveDeadline?: number | null
+    /**
+     * Time in milliseconds in which `normal` operations have to be done, including time spent in the queue. `0` or
+     * `null` disables the deadline.
+     */
+    normalDeadline?: number | null
+    /**
+     * Time in milliseconds in which `bulk` operations have to be done, including time spent in the queue. `0` or `null`
+     * disables the deadline.
+     */
+    bulkDeadline?: number | null
+  }
+
+  /**
+   * Statistics of scheduler of read and write operations shared by all devices. [Android only]
+   */
+  export interface GattSchedulerStatistics {
+    /**
+     * Maximum number of operations in flight across all devices, `0` if they are not limited.
+     */
+    maxOperationsInFlight: number
+    /**
+     * Number of operations passed to the radio which have not finished yet.
+     */
+    operationsInFlight: number
+    /**
+     * Number of devices waiting for their turn to start an operation.
+     */
+    waitingDeviceCount: number
+    /**
+     * Number of operations which failed because they were not done before their deadline.
+     */
+    timedOutCount: number
+  }
+
+  /**
+   * Result of a single read of {@link #blemanagerreadcharacteristicsfordevice|bleManager.readCharacteristicsForDevice()}.
+   * [Android only]
+   */
+  export interface CharacteristicReadResult {
+    /**
+     * {@link Service} UUID as passed to the read.
+     */
+    serviceUUID: UUID
+    /**
+     * {@link Characteristic} UUID as passed to the read.
+     */
+    characteristicUUID: UUID
+    /**
+     * Read characteristic or `null` if the read failed.
+     */
+    characteristic: Characteristic | null
+    /**
+     * Error of the read or `null` if it succeeded.
+     */
+    error: BleError | null
+  }
+
+  /**
+   * Statistics of cache of characteristic values of a device. [Android only]
+   */
+  export interface CharacteristicCacheStatistics {
+    /**
+     * Number of cached values.
+     */
+    entryCount: number
+    /**
+     * Number of reads of cached characteristics resolved with cached value.
+     */
+    hitCount: number
+    /**
+     * Number of reads of cached characteristics which had to be passed to the radio.
+     */
+    missCount: number
+    /**
+     * Number of cached values dropped because their characteristic was written.
+     */
+    invalidatedCount: number
+  }
+
+  /**
+   * Options which can be passed to
+   * {@link #blemanagerwritelongcharacteristicfordevice|bleManager.writeLongCharacteristicForDevice()}. [Android only]
+   */
+  export interface LongWriteOptions {
+    /**
+     * Whether batches are written with response (default `true`).
+     */
+    withResponse?: boolean
+    /**
+     * Minimum time in milliseconds between progress updates (default 100). The last batch is always reported.
+     */
+    progressInterval?: number
+  }
+
+  /**
+   * Progress of {@link #blemanagerwritelongcharacteristicfordevice|bleManager.writeLongCharacteristicForDevice()}.
+   * [Android only]
+   */
+  export interface WriteProgress {
+    /**
+     * Number of bytes written so far.
+     */
+    bytesWritten: number
+    /**
+     * Length of the whole value in bytes.
+     */
+    totalBytes: number
+  }
+
+  /**
+   * Summary of {@link #blemanagerwritecharacteristicstreamfordevice|bleManager.writeCharacteristicStreamForDevice()}.
+   * [Android only]
+   */
+  export interface WriteStreamResult {
+    /**
+     * Number of written values.
+     */
+    packetCount: number
+    /**
+     * Number of written bytes.
+     */
+    byteCount: number
+    /**
+     * Time in milliseconds from the first write until the stack reported the last one written.
+     */
+    duration: number
+    /**
+     * Sustained throughput of the stream in bytes per second.
+     */
+    bytesPerSecond: number
+  }
+
+  /**
+   * Options which can be passed to {@link #blemanagerreplayscancapture|bleManager.replayScanCapture()}. [Android only]
+   * @name ScanReplayOptions
+   */
+  export interface ScanReplayOptions {
+    /**
+     * Replay speed relative to the original capture (default 1). Value of `2` replays twice as fast, `0` emits records
+     * as fast as they can be read.
+     */
+    speed?: number
+  }
+
+  /**
+   * Connection specific options to be passed before connection happen. [Not used]
+   */
+  export interface ConnectionOptions {
+    /**
+     * Whether to directly connect to the remote device (false) or to automatically connect as soon as the remote device
+     * becomes available (true). [Android only]
+     * @memberof ConnectionOptions
+     * @instance
+     */
+    autoConnect?: boolean
+
+    /**
+     * Whether MTU size will be negotiated to this value. It is not guaranteed to get it after connection is successful.
+     *
+     * @memberof ConnectionOptions
+     * @instance
+     */
+    requestMTU?: number
+
+    /**
+     * Whether action will be taken to reset services cache. This option may be useful when a peripheral's firmware was
+     * updated and it's services/characteristics were added/removed/altered. [Android only]
+     * {@link https://stackoverflow.com/questions/22596951/how-to-programmatically-force-bluetooth-low-energy-service-discovery-on-android}
+     * @memberof ConnectionOptions
+     * @instance
+     */
+    refreshGatt?: RefreshGattMoment
+
+    /**
+     * Number of milliseconds after connection is automatically timed out. In case of race condition were connection is
+     * established right after timeout event, device will be disconnected immediately. Time out may happen earlier then
+     * specified due to OS specific behavior.
+     *
+     * @memberof ConnectionOptions
+     * @instance
+     */
+    timeout?: number
+  }
+
+  /**
+   * Field of a characteristic value decoded natively. [Android only]
+   */
+  export interface ValueField {
+    /**
+     * Name of the field in decoded value.
+     * @memberof ValueField
+     * @instance
+     */
+    name?: string
+
+    /**
+     * Numeric type of the field.
+     * @memberof ValueField
+     * @instance
+     */
+    type: ValueFieldType
+
+    /**
+     * Offset of the field in bytes. By default the field follows the previous one. The field has to end within the
+     * first 512 bytes of the value, the maximum attribute length.
+     * @memberof ValueField
+     * @instance
+     */
+    offset?: number
+
+    /**
+     * Number of consecutive elements of the field type (default 1). Fields with more elements are decoded to arrays.
+     * @memberof ValueField
+     * @instance
+     */
+    count?: number
+
+    /**
+     * Factor by which decoded numbers are multiplied (default 1).
+     * @memberof ValueField
+     * @instance
+     */
+    scale?: number
+
+    /**
+     * Byte order of the field, overrides {@link ValueSchema#littleEndian}.
+     * @memberof ValueField
+     * @instance
+     */
+    littleEndian?: boolean
+  }
+
+  /**
+   * Binary layout of a characteristic value which is decoded natively, off the JS thread. Characteristics with decoded
+   * values have {@link Characteristic#decodedValue} set instead of {@link Characteristic#value}. Values shorter than the
+   * schema are passed undecoded. [Android only]
+   */
+  export interface ValueSchema {
+    /**
+     * Fields of the value.
+     * @memberof ValueSchema
+     * @instance
+     */
+    fields: ValueField[]
+
+    /**
+     * Default byte order of fields (default `true`, like values of Bluetooth SIG characteristics).
+     * @memberof ValueSchema
+     * @instance
+     */
+    littleEndian?: boolean
+  }
+
+  /**
+   * Options which can be passed to characteristic monitoring functions. [Android only]
+   */
+  export interface MonitorOptions {
+    /**
+     * Whether native module should send characteristic metadata only once and pass only values with further
+     * notifications. It reduces conversion and bridge traffic for frequent notifications. Listener still receives
+     * {@link Characteristic} objects.
+     * @memberof MonitorOptions
+     * @instance
+     */
+    compact?: boolean
+
+    /**
+     * Whether {@link Characteristic#timestamp} should be set to the time when notification was received.
+     * @memberof MonitorOptions
+     * @instance
+     */
+    timestamps?: boolean
+
+    /**
+     * Interval in milliseconds in which native module packs notifications and sends them together. It reduces number of
+     * bridge events for characteristics notifying hundreds of times per second. Listener is still called for each
+     * notification and {@link Characteristic#timestamp} is always set. Batching is disabled by default.
+     * @memberof MonitorOptions
+     * @instance
+     */
+    batchInterval?: number
+
+    /**
+     * Size in bytes of packed notifications after which they are sent before `batchInterval` elapses. Each notification
+     * takes 10 bytes plus its value length. Default is 16384.
+     * @memberof MonitorOptions
+     * @instance
+     */
+    batchSize?: number
+
+    /**
+     * Schema by which values are decoded natively.
+     * @memberof MonitorOptions
+     * @instance
+     */
+    decoder?: ValueSchema
+
+    /**
+     * Keeps notifications in a native history of fixed capacity instead of passing them to the listener, which then
+     * receives only errors. Notifications are pulled from the history by
+     * {@link #blemanagergetcharacteristichistory|getCharacteristicHistory()}. Other options except `decoder` are
+     * ignored.
+     * @memberof MonitorOptions
+     * @instance
+     */
+    history?: HistoryOptions
+
+    /**
+     * Id of a recorder opened by {@link #blemanageropennotificationrecorder|openNotificationRecorder()} to which
+     * notifications are written natively.
+     * @memberof MonitorOptions
+     * @instance
+     */
+    recorder?: string
+
+    /**
+     * Whether notifications are only written to `recorder` and not passed to the listener, which then receives only
+     * errors.
+     * @memberof MonitorOptions
+     * @instance
+     */
+    recordOnly?: boolean
+  }
+
+  /**
+   * Options of native history of characteristic notifications. [Android only]
+   */
+  export interface HistoryOptions {
+    /**
+     * Number of notifications kept in the history, from 1 to 16384. When it is full, the oldest notifications are
+     * overwritten. Monitoring fails to start with a larger capacity.
+     * @memberof HistoryOptions
+     * @instance
+     */
+    capacity: number
+  }
+
+  /**
+   * Notifications pulled from native history of a monitored characteristic. [Android only]
+   */
+  export interface CharacteristicHistory {
+    /**
+     * Characteristics with values of pulled notifications, oldest first. {@link Characteristic#timestamp} is the time
+     * when the notification was received.
+     * @memberof CharacteristicHistory
+     * @instance
+     */
+    characteristics: Characteristic[]
+
+    /**
+     * Sequence number of the first pulled notification. Notifications are numbered consecutively from 0.
+     * @memberof CharacteristicHistory
+     * @instance
+     */
+    firstSeq: number
+
+    /**
+     * Sequence number to be passed to the next pull.
+     * @memberof CharacteristicHistory
+     * @instance
+     */
+    nextSeq: number
+
+    /**
+     * Number of notifications requested by `sinceSeq` which were overwritten before they were pulled.
+     * @memberof CharacteristicHistory
+     * @instance
+     */
+    droppedCount: number
+  }
+
+  /**
+   * Options of {@link #blemanageropennotificationrecorder|bleManager.openNotificationRecorder()}. [Android only]
+   */
+  export interface NotificationRecorderOptions {
+    /**
+     * Size in bytes of segment files of the recording (default 4 MiB, at least 4096).
+     * @memberof NotificationRecorderOptions
+     * @instance
+     */
+    segmentSize?: number
+
+    /**
+     * Maximum number of kept segment files, the oldest ones are deleted. All of them are kept by default.
+     * @memberof NotificationRecorderOptions
+     * @instance
+     */
+    maxSegments?: number
+
+    /**
+     * When notifications are forced to the storage device (default `interval`).
+     * @memberof NotificationRecorderOptions
+     * @instance
+     */
+    fsync?: FsyncPolicy
+
+    /**
+     * Interval in milliseconds of `interval` fsync policy (default 1000).
+     * @memberof NotificationRecorderOptions
+     * @instance
+     */
+    fsyncInterval?: number
+  }
+
+  /**
+   * Notification read from a recording. [Android only]
+   */
+  export interface NotificationRecord {
+    /**
+     * Sequence number of the notification. Notifications are numbered consecutively from 0, also across recorders
+     * opened on the same directory.
+     * @memberof NotificationRecord
+     * @instance
+     */
+    seq: number
+
+    /**
+     * Time when the notification was received in milliseconds since the Unix epoch.
+     * @memberof NotificationRecord
+     * @instance
+     */
+    timestamp: number
+
+    /**
+     * Device identifier.
+     * @memberof NotificationRecord
+     * @instance
+     */
+    deviceID: DeviceId
+
+    /**
+     * Characteristic identifier in the session in which it was recorded.
+     * @memberof NotificationRecord
+     * @instance
      */
-    connectedPeripherals: Device[]
-  }
+    characteristicID: Identifier
 
-  /**
-   * Scan mode for Bluetooth LE scan.
-   */
-  export enum ScanMode {
     /**
-     * A special Bluetooth LE scan mode. Applications using this scan mode will passively listen for
-     * other scan results without starting BLE scans themselves.
+     * Service UUID.
+     * @memberof NotificationRecord
+     * @instance
      */
-    Opportunistic = -1,
+    serviceUUID: UUID
 
     /**
-     * Perform Bluetooth LE scan in low power mode. This is the default scan mode as it consumes the
-     * least power. [default value]
+     * Characteristic UUID.
+     * @memberof NotificationRecord
+     * @instance
      */
-    LowPower = 0,
+    characteristicUUID: UUID
 
     /**
-     * Perform Bluetooth LE scan in balanced power mode. Scan results are returned at a rate that
-     * provides a good trade-off between scan frequency and power consumption.
+     * Notified value in Base64 format.
+     * @memberof NotificationRecord
+     * @instance
      */
-    Balanced = 1,
+    value: Base64 | null
 
     /**
-     * Scan using highest duty cycle. It's recommended to only use this mode when the application is
-     * running in the foreground.
+     * Notified value as raw bytes.
+     * @memberof NotificationRecord
+     * @instance
      */
-    LowLatency = 2
+    rawValue: ArrayBuffer | null
   }
 
   /**
-   * Scan callback type for Bluetooth LE scan.
-   * @name ScanCallbackType
+   * Notifications read from a recording. [Android only]
    */
-  export enum ScanCallbackType {
+  export interface NotificationRecording {
     /**
-     * Trigger a callback for every Bluetooth advertisement found that matches the filter criteria.
-     * If no filter is active, all advertisement packets are reported. [default value]
+     * Read notifications, oldest first.
+     * @memberof NotificationRecording
+     * @instance
      */
-    AllMatches = 1,
+    records: NotificationRecord[]
 
     /**
-     * A result callback is only triggered for the first advertisement packet received that matches
-     * the filter criteria.
+     * Sequence number to be passed to the next read.
+     * @memberof NotificationRecording
+     * @instance
      */
-    FirstMatch = 2,
+    nextSeq: number
+  }
 
+  /**
+   * Options of {@link #blemanageropenl2capchannelfordevice|bleManager.openL2capChannelForDevice()}. [Android only]
+   */
+  export interface L2capChannelOptions {
     /**
-     * Receive a callback when advertisements are no longer received from a device that has been
-     * previously reported by a first match callback.
+     * Whether the channel requires an encrypted and authenticated link (default `false`). The device has to be bonded
+     * to open a secure channel.
+     * @memberof L2capChannelOptions
+     * @instance
      */
-    MatchLost = 4
+    secure?: boolean
+
+    /**
+     * Maximum size in bytes of chunks of received data passed to the listener (default 16384). Data received while the
+     * previous chunk is passed on is joined to the next chunk, but a single received SDU is never split.
+     * @memberof L2capChannelOptions
+     * @instance
+     */
+    chunkSize?: number
   }
 
   /**
-   * Options which can be passed to scanning function
-   * @name ScanOptions
+   * Open LE L2CAP connection-oriented channel. [Android only]
    */
-  export interface ScanOptions {
+  export interface L2capChannel {
     /**
-     * By allowing duplicates scanning records are received more frequently [iOS only]
+     * Channel identifier passed to {@link #blemanagerwritel2capchannel|bleManager.writeL2capChannel()} and
+     * {@link #blemanagerclosel2capchannel|bleManager.closeL2capChannel()}.
+     * @memberof L2capChannel
+     * @instance
      */
-    allowDuplicates?: boolean
+    id: string
+
     /**
-     * Scan mode for Bluetooth LE scan [Android only]
+     * Device identifier.
+     * @memberof L2capChannel
+     * @instance
      */
-    scanMode?: ScanMode
+    deviceID: DeviceId
+
     /**
-     * Scan callback type for Bluetooth LE scan [Android only]
+     * Protocol/Service Multiplexer of the channel.
+     * @memberof L2capChannel
+     * @instance
      */
-    callbackType?: ScanCallbackType
+    psm: number
+
     /**
-     * Use legacyScan (default true) [Android only]
-     * https://developer.android.com/reference/android/bluetooth/le/ScanSettings.Builder#setLegacy(boolean)
+     * Maximum size of a single SDU sent to the device. Larger writes are split by the stack.
+     * @memberof L2capChannel
+     * @instance
      */
-    legacyScan?: boolean
+    maxTransmitPacketSize: number
+
+    /**
+     * Maximum size of a single SDU received from the device.
+     * @memberof L2capChannel
+     * @instance
+     */
+    maxReceivePacketSize: number
   }
 
   /**
-   * Connection specific options to be passed before connection happen. [Not used]
+   * Options which can be passed to characteristic polling functions. [Android only]
    */
-  export interface ConnectionOptions {
+  export interface PollOptions extends MonitorOptions {
     /**
-     * Whether to directly connect to the remote device (false) or to automatically connect as soon as the remote device
-     * becomes available (true). [Android only]
-     * @memberof ConnectionOptions
+     * Interval in milliseconds between reads. Reads of all polls are aligned to multiples of their interval, so polls of
+     * several devices with the same interval read at the same moments.
+     * @memberof PollOptions
      * @instance
      */
-    autoConnect?: boolean
+    interval: number
 
     /**
-     * Whether MTU size will be negotiated to this value. It is not guaranteed to get it after connection is successful.
-     *
-     * @memberof ConnectionOptions
+     * Maximum random delay in milliseconds of each read (default 0). It should be smaller than `interval`.
+     * @memberof PollOptions
      * @instance
      */
-    requestMTU?: number
+    jitter?: number
 
     /**
-     * Whether action will be taken to reset services cache. This option may be useful when a peripheral's firmware was
-     * updated and it's services/characteristics were added/removed/altered. [Android only]
-     * {@link https://stackoverflow.com/questions/22596951/how-to-programmatically-force-bluetooth-low-energy-service-discovery-on-android}
-     * @memberof ConnectionOptions
+     * Whether listener is called only when read value differs from the previous one (default `true`). The first read
+     * value is always passed.
+     * @memberof PollOptions
      * @instance
      */
-    refreshGatt?: RefreshGattMoment
+    emitOnChangeOnly?: boolean
+  }
 
+  /**
+   * Options which can be passed to characteristic read functions. [Android only]
+   */
+  export interface ReadOptions {
     /**
-     * Number of milliseconds after connection is automatically timed out. In case of race condition were connection is
-     * established right after timeout event, device will be disconnected immediately. Time out may happen earlier then
-     * specified due to OS specific behavior.
-     *
-     * @memberof ConnectionOptions
+     * Schema by which read value is decoded natively.
+     * @memberof ReadOptions
      * @instance
      */
-    timeout?: number
+    decoder?: ValueSchema
   }
 
   /**
@@ -843,6 +1751,42 @@ declare module 'react-native-ble-plx' {
      * @private
      */
     overflowServiceUUIDs: UUID[] | null
+
+    /**
+     * Advertising set identifier of extended advertisement.
+     * @private
+     */
+    advertisingSid?: number | null
+
+    /**
+     * Primary PHY of extended advertisement.
+     * @private
+     */
+    primaryPhy?: number | null
+
+    /**
+     * Secondary PHY of extended advertisement.
+     * @private
+     */
+    secondaryPhy?: number | null
+
+    /**
+     * Periodic advertising interval in units of 1.25 ms.
+     * @private
+     */
+    periodicAdvertisingInterval?: number | null
+
+    /**
+     * Map of service UUIDs with decrypted data.
+     * @private
+     */
+    decryptedServiceData?: { [uuid: string]: Base64 } | null
+
+    /**
+     * Result of advertisement decryption.
+     * @private
+     */
+    decryptionStatus?: AdvertisementDecryptionStatus | null
   }
 
   /**
@@ -1073,76 +2017,294 @@ declare module 'react-native-ble-plx' {
      */
     cancelTransaction(transactionId: TransactionId): Promise<void>
 
+    /**
+     * Returns counters of native event emitter queue: waiting events per priority, JS thread lag and events which were
+     * coalesced or dropped while JS was lagging. [Android only]
+     *
+     * @returns {Promise<EventQueueStatistics>} Event queue statistics.
+     */
+    getEventQueueStatistics(): Promise<EventQueueStatistics>
+
+    /**
+     * Enables or disables accounting of values passed from native module to JS, per event and per method. Enabling
+     * clears values recorded so far. Accounting adds overhead to every event and call, so it is disabled by default.
+     * [Android only]
+     *
+     * @param {boolean} enabled `true` to enable accounting.
+     * @returns {Promise<void>}
+     */
+    setBridgeTrafficAccounting(enabled: boolean): Promise<void>
+
+    /**
+     * Returns values passed from native module to JS since accounting was enabled: count, estimated bytes and time
+     * per event and per method. [Android only]
+     *
+     * @returns {Promise<BridgeTraffic>} Bridge traffic.
+     */
+    getBridgeTraffic(): Promise<BridgeTraffic>
+
     // Mark: Monitoring state ------------------------------------------------------------------------------------------
 
     /**
-     * Enable Bluetooth. This function blocks until BLE is in PoweredOn state. [Android only]
+     * Enable Bluetooth. This function blocks until BLE is in PoweredOn state. [Android only]
+     *
+     * @param {?TransactionId} transactionId Transaction handle used to cancel operation
+     * @returns {Promise<BleManager>} Promise completes when state transition was successful.
+     */
+    enable(transactionId?: TransactionId): Promise<BleManager>
+
+    /**
+     * Disable Bluetooth. This function blocks until BLE is in PoweredOff state. [Android only]
+     *
+     * @param {?TransactionId} transactionId Transaction handle used to cancel operation
+     * @returns {Promise<BleManager>} Promise completes when state transition was successful.
+     */
+    disable(transactionId?: TransactionId): Promise<BleManager>
+
+    /**
+     * Current, global {@link State} of a {@link BleManager}. All APIs are working only when active state
+     * is "PoweredOn".
+     *
+     * @returns {Promise<State>} Promise which emits current state of BleManager.
+     */
+    state(): Promise<State>
+
+    /**
+     * Notifies about {@link State} changes of a {@link BleManager}.
+     *
+     * @example
+     * const subscription = this.manager.onStateChange((state) => {
+     *      if (state === 'PoweredOn') {
+     *          this.scanAndConnect();
+     *          subscription.remove();
+     *      }
+     *  }, true);
+     *
+     * @param {function(newState: State)} listener Callback which emits state changes of BLE Manager.
+     * Look at {@link State} for possible values.
+     * @param {boolean} [emitCurrentState=false] If true, current state will be emitted as well. Defaults to false.
+     *
+     * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+     */
+    onStateChange(listener: (newState: State) => void, emitCurrentState?: boolean): Subscription
+
+    // Mark: Scanning --------------------------------------------------------------------------------------------------
+
+    /**
+     * Starts device scanning. When previous scan is in progress it will be stopped before executing this command.
+     *
+     * @param {?Array<UUID>} UUIDs Array of strings containing {@link UUID}s of {@link Service}s which are registered in
+     * scanned {@link Device}. If `null` is passed, all available {@link Device}s will be scanned.
+     * @param {?ScanOptions} options Optional configuration for scanning operation.
+     * @param {function(error?: BleError, scannedDevice: ?Device)} listener Function which will be called for every scanned
+     * {@link Device} (devices may be scanned multiple times). It's first argument is potential {@link Error} which is set
+     * to non `null` value when scanning failed. You have to start scanning process again if that happens. Second argument
+     * is a scanned {@link Device}.
+     * @returns {Promise<void>} the promise may be rejected if the operation is impossible to perform.
+     */
+    startDeviceScan(
+      UUIDs: UUID[] | null,
+      options: ScanOptions | null,
+      listener: (error: BleError | null, scannedDevice: Device | null) => void
+    ): Promise<void>
+
+    /**
+     * Stops {@link Device} scan if in progress.
+     * @returns {Promise<void>} the promise may be rejected if the operation is impossible to perform.
+     */
+    stopDeviceScan(): Promise<void>
+
+    /**
+     * Returns counters of the most recent device scan: received and dropped results, unique devices, native queue usage
+     * and time spent on parsing, conversion and emitting of results. Statistics are kept until the next scan is
+     * started. [Android only]
+     *
+     * @returns {Promise<ScanStatistics | null>} Scan statistics or `null` if no scan was started yet.
+     */
+    getScanStatistics(): Promise<ScanStatistics | null>
+
+    /**
+     * Notifies periodically about statistics of a running device scan. Listener is not called while no scan is
+     * running. [Android only]
+     *
+     * @param {function(statistics: ScanStatistics)} listener Callback which receives scan statistics.
+     * @param {number} [interval=1000] Interval in milliseconds between notifications.
+     * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+     */
+    onScanStatistics(listener: (statistics: ScanStatistics) => void, interval?: number): Subscription
+
+    /**
+     * Starts scan which registers hardware filters with the system and delivers matching results to a native receiver
+     * through a `PendingIntent`. Results are buffered natively and handed over in batches with
+     * {@link #blemanagergetbackgroundscanresults|getBackgroundScanResults()} or
+     * {@link #blemanageronbackgroundscanresults|onBackgroundScanResults()}. Scan continues until
+     * {@link #blemanagerstopbackgrounddevicescan|stopBackgroundDeviceScan()} is called. Android may not deliver any
+     * results to unfiltered background scans while the screen is off, so `UUIDs` should be provided. [Android only]
+     *
+     * @param {?Array<UUID>} UUIDs Array of strings containing {@link UUID}s of {@link Service}s which are registered in
+     * scanned {@link Device}.
+     * @param {?BackgroundScanOptions} options Optional configuration for scanning operation.
+     * @returns {Promise<void>} the promise may be rejected if the operation is impossible to perform.
+     */
+    startBackgroundDeviceScan(UUIDs: UUID[] | null, options?: BackgroundScanOptions | null): Promise<void>
+
+    /**
+     * Stops scan started with {@link #blemanagerstartbackgrounddevicescan|startBackgroundDeviceScan()}. Results which
+     * were already buffered can still be retrieved. [Android only]
+     *
+     * @returns {Promise<void>} the promise may be rejected if the operation is impossible to perform.
+     */
+    stopBackgroundDeviceScan(): Promise<void>
+
+    /**
+     * Takes scan results buffered by background scan. Taken results are removed from the native buffer. [Android only]
+     *
+     * @param {number} [maxCount=0] Maximum number of results to take. All buffered results are taken when 0.
+     * @returns {Promise<BackgroundScanResults>} Scanned devices in order of arrival and number of results dropped
+     * because native buffer was full.
+     */
+    getBackgroundScanResults(maxCount?: number): Promise<BackgroundScanResults>
+
+    /**
+     * Notifies about scan results buffered by background scan. Listener is called with results buffered so far right
+     * after subscribing, and later every time the app comes to foreground or new results arrive while it is in
+     * foreground. Results passed to the listener are removed from the native buffer. [Android only]
+     *
+     * @param {function(results: BackgroundScanResults)} listener Callback which receives batches of buffered results.
+     * @param {number} [maxCount=0] Maximum number of results in a single batch. All buffered results are passed when 0.
+     * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+     */
+    onBackgroundScanResults(listener: (results: BackgroundScanResults) => void, maxCount?: number): Subscription
+
+    /**
+     * Registers a key used to decrypt advertisements of a device during scan. Decrypted payloads are reported in
+     * {@link Device#decryptedServiceData} and failed authentication in {@link Device#decryptionStatus}. Only BTHome v2
+     * service data is decrypted, manufacturer data is passed to JS as advertised. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @param {Base64} key AES-128 key.
+     * @param {AdvertisementEncryptionFormat} [format=BTHomeV2] Format of encrypted payload.
+     * @returns {Promise<void>} the promise may be rejected if key or format are invalid.
+     */
+    setAdvertisementDecryptionKey(
+      deviceIdentifier: DeviceId,
+      key: Base64,
+      format?: AdvertisementEncryptionFormat
+    ): Promise<void>
+
+    /**
+     * Removes a key registered with
+     * {@link #blemanagersetadvertisementdecryptionkey|setAdvertisementDecryptionKey()}. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @returns {Promise<void>} the promise may be rejected if the operation is impossible to perform.
+     */
+    removeAdvertisementDecryptionKey(deviceIdentifier: DeviceId): Promise<void>
+
+    /**
+     * Starts recording raw advertisements received by device scans to a compact binary file. Capture stays active across
+     * {@link #blemanagerstartdevicescan|startDeviceScan()} calls until {@link #blemanagerstopscancapture|stopScanCapture()}
+     * is called. [Android only]
+     *
+     * @param {string} filePath Path of the capture file. New records are appended if the file already exists.
+     * @returns {Promise<void>} the promise may be rejected if the file cannot be opened.
+     */
+    startScanCapture(filePath: string): Promise<void>
+
+    /**
+     * Stops recording advertisements started with {@link #blemanagerstartscancapture|startScanCapture()}. [Android only]
+     *
+     * @returns {Promise<number>} Number of advertisements written to the capture file.
+     */
+    stopScanCapture(): Promise<number>
+
+    /**
+     * Replays advertisements recorded with {@link #blemanagerstartscancapture|startScanCapture()}. Recorded
+     * advertisements are parsed and delivered in the same way as during a real scan. Replay replaces the scan in
+     * progress and can be stopped with {@link #blemanagerstopdevicescan|stopDeviceScan()}. [Android only]
+     *
+     * @param {string} filePath Path of the capture file.
+     * @param {?ScanReplayOptions} options Replay options.
+     * @param {function(error?: BleError, scannedDevice: ?Device)} listener Function which will be called for every
+     * replayed advertisement.
+     * @returns {Promise<void>} the promise completes when all records were replayed. It is rejected with
+     * {@link BleErrorCode.OperationCancelled} when the replay is stopped with {@link BleManager.stopDeviceScan}.
+     */
+    replayScanCapture(
+      filePath: string,
+      options: ScanReplayOptions | null,
+      listener: (error: BleError | null, scannedDevice: Device | null) => void
+    ): Promise<void>
+
+    /**
+     * Sets options of scheduler of read and write operations shared by all devices: maximum number of operations in
+     * flight and deadlines of operations per priority. Only passed options are changed. [Android only]
      *
-     * @param {?TransactionId} transactionId Transaction handle used to cancel operation
-     * @returns {Promise<BleManager>} Promise completes when state transition was successful.
+     * @param {GattSchedulerOptions} options Scheduler options.
+     * @returns {Promise<void>}
      */
-    enable(transactionId?: TransactionId): Promise<BleManager>
+    setGattSchedulerOptions(options: GattSchedulerOptions): Promise<void>
 
     /**
-     * Disable Bluetooth. This function blocks until BLE is in PoweredOff state. [Android only]
+     * Returns statistics of scheduler of read and write operations shared by all devices. [Android only]
      *
-     * @param {?TransactionId} transactionId Transaction handle used to cancel operation
-     * @returns {Promise<BleManager>} Promise completes when state transition was successful.
+     * @returns {Promise<GattSchedulerStatistics>} Scheduler statistics.
      */
-    disable(transactionId?: TransactionId): Promise<BleManager>
+    getGattSchedulerStatistics(): Promise<GattSchedulerStatistics>
 
     /**
-     * Current, global {@link State} of a {@link BleManager}. All APIs are working only when active state
-     * is "PoweredOn".
+     * Sets priority of read and write operations on a characteristic and its descriptors. Priority is kept until
+     * {@link #blemanagerdestroy|bleManager.destroy()} is called, also across reconnections. [Android only]
      *
-     * @returns {Promise<State>} Promise which emits current state of BleManager.
+     * @param {DeviceId} deviceIdentifier Device identifier.
+     * @param {UUID} serviceUUID {@link Service} UUID.
+     * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+     * @param {OperationPriority} priority Priority of operations, `normal` by default.
+     * @returns {Promise<void>}
      */
-    state(): Promise<State>
+    setCharacteristicPriorityForDevice(
+      deviceIdentifier: DeviceId,
+      serviceUUID: UUID,
+      characteristicUUID: UUID,
+      priority: OperationPriority
+    ): Promise<void>
 
     /**
-     * Notifies about {@link State} changes of a {@link BleManager}.
-     *
-     * @example
-     * const subscription = this.manager.onStateChange((state) => {
-     *      if (state === 'PoweredOn') {
-     *          this.scanAndConnect();
-     *          subscription.remove();
-     *      }
-     *  }, true);
-     *
-     * @param {function(newState: State)} listener Callback which emits state changes of BLE Manager.
-     * Look at {@link State} for possible values.
-     * @param {boolean} [emitCurrentState=false] If true, current state will be emitted as well. Defaults to false.
+     * Returns statistics of queue of read and write operations of a device: queued operations and wait times per
+     * priority. [Android only]
      *
-     * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+     * @param {DeviceId} deviceIdentifier Device identifier.
+     * @returns {Promise<OperationQueueStatistics>} Operation queue statistics.
      */
-    onStateChange(listener: (newState: State) => void, emitCurrentState?: boolean): Subscription
-
-    // Mark: Scanning --------------------------------------------------------------------------------------------------
+    getOperationQueueStatisticsForDevice(deviceIdentifier: DeviceId): Promise<OperationQueueStatistics>
 
     /**
-     * Starts device scanning. When previous scan is in progress it will be stopped before executing this command.
+     * Enables caching of read values of a characteristic which doesn't change, e.g. characteristics of Device Information
+     * Service. Reads of a cached value are resolved without touching the radio. Cached value is dropped when it expires,
+     * when the characteristic is written and when the device disconnects. Setting is kept until
+     * {@link #blemanagerdestroy|bleManager.destroy()} is called, also across reconnections. [Android only]
      *
-     * @param {?Array<UUID>} UUIDs Array of strings containing {@link UUID}s of {@link Service}s which are registered in
-     * scanned {@link Device}. If `null` is passed, all available {@link Device}s will be scanned.
-     * @param {?ScanOptions} options Optional configuration for scanning operation.
-     * @param {function(error?: BleError, scannedDevice: ?Device)} listener Function which will be called for every scanned
-     * {@link Device} (devices may be scanned multiple times). It's first argument is potential {@link Error} which is set
-     * to non `null` value when scanning failed. You have to start scanning process again if that happens. Second argument
-     * is a scanned {@link Device}.
-     * @returns {Promise<void>} the promise may be rejected if the operation is impossible to perform.
+     * @param {DeviceId} deviceIdentifier Device identifier.
+     * @param {UUID} serviceUUID {@link Service} UUID.
+     * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+     * @param {?(number | 'connection')} ttl Time in milliseconds for which read value is used, `'connection'` to use it
+     * until the device disconnects, `0` or `null` to stop caching the characteristic.
+     * @returns {Promise<void>}
      */
-    startDeviceScan(
-      UUIDs: UUID[] | null,
-      options: ScanOptions | null,
-      listener: (error: BleError | null, scannedDevice: Device | null) => void
+    setCharacteristicCacheForDevice(
+      deviceIdentifier: DeviceId,
+      serviceUUID: UUID,
+      characteristicUUID: UUID,
+      ttl: number | 'connection' | null
     ): Promise<void>
 
     /**
-     * Stops {@link Device} scan if in progress.
-     * @returns {Promise<void>} the promise may be rejected if the operation is impossible to perform.
+     * Returns statistics of cache of characteristic values of a device. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier Device identifier.
+     * @returns {Promise<CharacteristicCacheStatistics>} Cache statistics.
      */
-    stopDeviceScan(): Promise<void>
+    getCharacteristicCacheStatisticsForDevice(deviceIdentifier: DeviceId): Promise<CharacteristicCacheStatistics>
 
     /**
      * Request a connection parameter update. This functions may update connection parameters on Android API level 21 or
@@ -1300,6 +2462,7 @@ declare module 'react-native-ble-plx' {
      * @param {UUID} characteristicUUID {@link Characteristic} UUID.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+     * @param {?ReadOptions} options [android only] read options, e.g. schema by which value is decoded natively.
      * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
      * UUID paths. Latest value of {@link Characteristic} will be stored inside returned object.
      */
@@ -1307,16 +2470,34 @@ declare module 'react-native-ble-plx' {
       deviceIdentifier: DeviceId,
       serviceUUID: UUID,
       characteristicUUID: UUID,
-      transactionId?: TransactionId
+      transactionId?: TransactionId,
+      options?: ReadOptions | null
     ): Promise<Characteristic>
 
+    /**
+     * Read values of several characteristics of a device in a single call. Reads are queued back to back natively and
+     * the returned promise resolves once all of them are done, failure of one read doesn't affect the others.
+     * [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @param {Array<[UUID, UUID]>} characteristicUUIDs Pairs of {@link Service} and {@link Characteristic} UUIDs.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|cancelTransaction()} function to cancel all reads.
+     * @returns {Promise<Array<CharacteristicReadResult>>} Results in order of passed UUIDs.
+     */
+    readCharacteristicsForDevice(
+      deviceIdentifier: DeviceId,
+      characteristicUUIDs: Array<[UUID, UUID]>,
+      transactionId?: TransactionId
+    ): Promise<Array<CharacteristicReadResult>>
+
     /**
      * Write {@link Characteristic} value with response.
      *
      * @param {DeviceId} deviceIdentifier {@link Device} identifier.
      * @param {UUID} serviceUUID {@link Service} UUID.
      * @param {UUID} characteristicUUID {@link Characteristic} UUID.
-     * @param {Base64} base64Value Value in Base64 format.
+     * @param {WritableValue} base64Value Value in Base64 format or raw bytes.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * {@link #blemanagercanceltransaction|cancelTransaction()} function.
      * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
@@ -1326,7 +2507,7 @@ declare module 'react-native-ble-plx' {
       deviceIdentifier: DeviceId,
       serviceUUID: UUID,
       characteristicUUID: UUID,
-      base64Value: Base64,
+      base64Value: WritableValue,
       transactionId?: TransactionId
     ): Promise<Characteristic>
 
@@ -1336,7 +2517,7 @@ declare module 'react-native-ble-plx' {
      * @param {DeviceId} deviceIdentifier {@link Device} identifier.
      * @param {UUID} serviceUUID {@link Service} UUID.
      * @param {UUID} characteristicUUID {@link Characteristic} UUID.
-     * @param {Base64} base64Value Value in Base64 format.
+     * @param {WritableValue} base64Value Value in Base64 format or raw bytes.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * {@link #blemanagercanceltransaction|cancelTransaction()} function.
      * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
@@ -1346,10 +2527,60 @@ declare module 'react-native-ble-plx' {
       deviceIdentifier: DeviceId,
       serviceUUID: UUID,
       characteristicUUID: UUID,
-      base64Value: Base64,
+      base64Value: WritableValue,
+      transactionId?: TransactionId
+    ): Promise<Characteristic>
+
+    /**
+     * Write {@link Characteristic} value longer than a single write allows. Value is passed to the native module once,
+     * split into batches of the size derived from negotiated MTU and written one after another. Each batch is queued
+     * separately, so reads and writes queued in the meantime may run between batches, including writes to the same
+     * characteristic. Deadline of the characteristic's priority applies to the whole write. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @param {UUID} serviceUUID {@link Service} UUID.
+     * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+     * @param {WritableValue} base64Value Value in Base64 format or raw bytes.
+     * @param {?LongWriteOptions} options Write options.
+     * @param {?function(progress: WriteProgress)} onProgress Callback which receives progress of the write, at most
+     * once per `options.progressInterval`.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+     * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
+     * UUID paths when the whole value is written.
+     */
+    writeLongCharacteristicForDevice(
+      deviceIdentifier: DeviceId,
+      serviceUUID: UUID,
+      characteristicUUID: UUID,
+      base64Value: WritableValue,
+      options?: LongWriteOptions | null,
+      onProgress?: ((progress: WriteProgress) => void) | null,
       transactionId?: TransactionId
     ): Promise<Characteristic>
 
+    /**
+     * Write several values to {@link Characteristic} without response in one call. Values are written in order, the
+     * next one is passed to the stack when the stack reports the previous one written, so buffers of the stack don't
+     * overflow. Each value is queued separately, reads and writes queued in the meantime may run between them.
+     * Deadline of the characteristic's priority applies to the whole stream. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @param {UUID} serviceUUID {@link Service} UUID.
+     * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+     * @param {Array<WritableValue>} values Values in Base64 format or raw bytes.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|cancelTransaction()} function to stop the stream.
+     * @returns {Promise<WriteStreamResult>} Summary of the stream when all values are written.
+     */
+    writeCharacteristicStreamForDevice(
+      deviceIdentifier: DeviceId,
+      serviceUUID: UUID,
+      characteristicUUID: UUID,
+      values: WritableValue[],
+      transactionId?: TransactionId
+    ): Promise<WriteStreamResult>
+
     /**
      * Monitor value changes of a {@link Characteristic}. If notifications are enabled they will be used
      * in favour of indications.
@@ -1361,6 +2592,7 @@ declare module 'react-native-ble-plx' {
      * {@link Characteristic} objects with modified value for each notification.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * @param {?CharacteristicSubscriptionType} subscriptionType [android only] subscription type of the characteristic
+     * @param {?MonitorOptions} options [android only] monitoring options
      * {@link #blemanagercanceltransaction|cancelTransaction()} function.
      * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
      */
@@ -1370,9 +2602,129 @@ declare module 'react-native-ble-plx' {
       characteristicUUID: UUID,
       listener: (error: BleError | null, characteristic: Characteristic | null) => void,
       transactionId?: TransactionId,
-      subscriptionType?: CharacteristicSubscriptionType
+      subscriptionType?: CharacteristicSubscriptionType,
+      options?: MonitorOptions
+    ): Subscription
+
+    /**
+     * [Android only] Read value of a {@link Characteristic} periodically. Timers of all polls run on a single
+     * native scheduler and are aligned to multiples of their interval. A tick is skipped while the previous
+     * read is still in progress.
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @param {UUID} serviceUUID {@link Service} UUID.
+     * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+     * @param {function(error?: BleError, characteristic?: Characteristic)} listener - callback which emits
+     * {@link Characteristic} objects with read values.
+     * @param {PollOptions} options poll interval, jitter and monitoring options.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+     * @returns {Subscription} Subscription on which `remove()` function can be called to stop polling.
+     */
+    pollCharacteristicForDevice(
+      deviceIdentifier: DeviceId,
+      serviceUUID: UUID,
+      characteristicUUID: UUID,
+      listener: (error: BleError | null, characteristic: Characteristic | null) => void,
+      options: PollOptions,
+      transactionId?: TransactionId
     ): Subscription
 
+    /**
+     * [Android only] Pull notifications from native history of a monitor started with `history` option. Notifications
+     * are kept natively until they are overwritten by newer ones, so they are not lost while JS thread is busy.
+     * History is available also after monitoring ends with an error, until subscription is removed.
+     *
+     * @param {Subscription} subscription Subscription returned by monitoring function called with `history` option.
+     * @param {number} sinceSeq Sequence number of the first notification to pull, `nextSeq` of the previous pull.
+     * @param {?number} max Maximum number of notifications to pull, all available by default.
+     * @returns {Promise<CharacteristicHistory>} Pulled notifications.
+     */
+    getCharacteristicHistory(
+      subscription: Subscription,
+      sinceSeq?: number,
+      max?: number | null
+    ): Promise<CharacteristicHistory>
+
+    /**
+     * [Android only] Opens a recorder which appends notifications to rotating memory mapped segment files in a
+     * directory, without passing them over the bridge. Notifications of monitors started with `recorder` option set
+     * to the returned id are recorded until the recorder is closed. Recording continues after the last notification
+     * if the directory already contains a recording. Fails if a recorder of the directory is already open.
+     *
+     * @param {string} directoryPath Directory of the recording. It is created if it doesn't exist.
+     * @param {?NotificationRecorderOptions} options Segment size, retention and fsync policy of the recording.
+     * @returns {Promise<string>} Id of the recorder to be passed in {@link MonitorOptions}.
+     */
+    openNotificationRecorder(directoryPath: string, options?: NotificationRecorderOptions | null): Promise<string>
+
+    /**
+     * [Android only] Closes a recorder opened by
+     * {@link #blemanageropennotificationrecorder|openNotificationRecorder()}. Monitors recording to it continue
+     * without recording.
+     *
+     * @param {string} recorderId Id of the recorder.
+     * @returns {Promise<number>} Number of notifications written by the recorder.
+     */
+    closeNotificationRecorder(recorderId: string): Promise<number>
+
+    /**
+     * [Android only] Reads notifications from a recording, also while it is being recorded. Segments with only older
+     * notifications than `sinceSeq` are skipped without reading them.
+     *
+     * @param {string} directoryPath Directory of the recording.
+     * @param {number} sinceSeq Sequence number of the first notification to read, `nextSeq` of the previous read.
+     * @param {?number} max Maximum number of notifications to read, all available by default.
+     * @returns {Promise<NotificationRecording>} Read notifications.
+     */
+    readNotificationRecording(
+      directoryPath: string,
+      sinceSeq?: number,
+      max?: number | null
+    ): Promise<NotificationRecording>
+
+    // Mark: L2CAP channels -----------------------------------------------------------------------------------------
+
+    /**
+     * [Android only] Opens an LE L2CAP connection-oriented channel to a connected device. Channels carry data streams
+     * several times faster than GATT notifications. Received data is passed to the listener in chunks of raw bytes,
+     * until the channel is closed. Then the listener is called with `null` data, and with an error if the channel
+     * failed. Requires Android 10 or newer.
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @param {number} psm Protocol/Service Multiplexer of the channel published by the device.
+     * @param {function(error: ?BleError, data: ?ArrayBuffer)} listener Callback which receives chunks of data.
+     * @param {?L2capChannelOptions} options Channel options.
+     * @returns {Promise<L2capChannel>} Promise which emits the channel when it is open.
+     */
+    openL2capChannelForDevice(
+      deviceIdentifier: DeviceId,
+      psm: number,
+      listener: (error: BleError | null, data: ArrayBuffer | null) => void,
+      options?: L2capChannelOptions | null
+    ): Promise<L2capChannel>
+
+    /**
+     * [Android only] Writes data to a channel opened by
+     * {@link #blemanageropenl2capchannelfordevice|openL2capChannelForDevice()}. Writes are passed to the channel in
+     * order of calls.
+     *
+     * @param {string} channelId {@link L2capChannel} identifier.
+     * @param {WritableValue} value Data in Base64 format or raw bytes.
+     * @returns {Promise<void>} Promise which resolves when the data is passed to the channel.
+     */
+    writeL2capChannel(channelId: string, value: WritableValue): Promise<void>
+
+    /**
+     * [Android only] Closes a channel opened by
+     * {@link #blemanageropenl2capchannelfordevice|openL2capChannelForDevice()}. Its listener is called with `null`
+     * data when the channel is closed.
+     *
+     * @param {string} channelId {@link L2capChannel} identifier.
+     * @returns {Promise<void>}
+     */
+    closeL2capChannel(channelId: string): Promise<void>
+
     // Mark: Descriptors operations ----------------------------------------------------------------------------------
 
     /**
@@ -1402,7 +2754,7 @@ declare module 'react-native-ble-plx' {
      * @param {UUID} serviceUUID Service UUID
      * @param {UUID} characteristicUUID Characteristic UUID
      * @param {UUID} descriptorUUID Descriptor UUID
-     * @param {Base64} valueBase64 Value to be set coded in Base64
+     * @param {WritableValue} valueBase64 Value to be set coded in Base64 or as raw bytes
      * @param {?TransactionId} transactionId Transaction handle used to cancel operation
      * @returns {Promise<Descriptor>} Descriptor which saved passed value
      */
@@ -1411,7 +2763,7 @@ declare module 'react-native-ble-plx' {
       serviceUUID: UUID,
       characteristicUUID: UUID,
       descriptorUUID: UUID,
-      valueBase64: Base64,
+      valueBase64: WritableValue,
       transactionId?: string
     ): Promise<Descriptor>
   }
@@ -1492,6 +2844,41 @@ declare module 'react-native-ble-plx' {
      */
     overflowServiceUUIDs: UUID[] | null
 
+    /**
+     * Advertising set identifier. Present only for devices found by extended scan. [Android only]
+     */
+    advertisingSid?: number | null
+
+    /**
+     * PHY on which primary advertisement was received. Present only for devices found by extended scan. [Android only]
+     */
+    primaryPhy?: number | null
+
+    /**
+     * PHY on which secondary advertisement was received. Present only for devices found by extended scan.
+     * [Android only]
+     */
+    secondaryPhy?: number | null
+
+    /**
+     * Periodic advertising interval in units of 1.25 ms. Present only for periodic advertisers found by extended scan.
+     * [Android only]
+     */
+    periodicAdvertisingInterval?: number | null
+
+    /**
+     * Map of service UUIDs (as keys) with decrypted data (as values). Present only when a decryption key was registered
+     * for this device with {@link #blemanagersetadvertisementdecryptionkey|bleManager.setAdvertisementDecryptionKey()}
+     * and its advertisement was decrypted successfully. [Android only]
+     */
+    decryptedServiceData?: { [uuid: string]: Base64 } | null
+
+    /**
+     * Result of advertisement decryption, `null` if advertisement was not encrypted or no key was registered.
+     * [Android only]
+     */
+    decryptionStatus?: AdvertisementDecryptionStatus | null
+
     /**
      * Private constructor used to create {@link Device} object.
      *
@@ -1510,6 +2897,41 @@ declare module 'react-native-ble-plx' {
      */
     requestConnectionPriority(connectionPriority: ConnectionPriority, transactionId?: TransactionId): Promise<Device>
 
+    /**
+     * {@link #blemanagersetcharacteristicpriorityfordevice|bleManager.setCharacteristicPriorityForDevice()} with partially filled arguments.
+     *
+     * @param {UUID} serviceUUID {@link Service} UUID.
+     * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+     * @param {OperationPriority} priority Priority of operations, `normal` by default.
+     * @returns {Promise<void>}
+     */
+    setCharacteristicPriority(serviceUUID: UUID, characteristicUUID: UUID, priority: OperationPriority): Promise<void>
+
+    /**
+     * {@link #blemanagergetoperationqueuestatisticsfordevice|bleManager.getOperationQueueStatisticsForDevice()} with partially filled arguments.
+     *
+     * @returns {Promise<OperationQueueStatistics>} Operation queue statistics.
+     */
+    operationQueueStatistics(): Promise<OperationQueueStatistics>
+
+    /**
+     * {@link #blemanagersetcharacteristiccachefordevice|bleManager.setCharacteristicCacheForDevice()} with partially filled arguments.
+     *
+     * @param {UUID} serviceUUID {@link Service} UUID.
+     * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+     * @param {?(number | 'connection')} ttl Time in milliseconds for which read value is used, `'connection'` to use it
+     * until the device disconnects, `0` or `null` to stop caching the characteristic.
+     * @returns {Promise<void>}
+     */
+    setCharacteristicCache(serviceUUID: UUID, characteristicUUID: UUID, ttl: number | 'connection' | null): Promise<void>
+
+    /**
+     * {@link #blemanagergetcharacteristiccachestatisticsfordevice|bleManager.getCharacteristicCacheStatisticsForDevice()} with partially filled arguments.
+     *
+     * @returns {Promise<CharacteristicCacheStatistics>} Cache statistics.
+     */
+    characteristicCacheStatistics(): Promise<CharacteristicCacheStatistics>
+
     /**
      * {@link #blemanagerreadrssifordevice|bleManager.readRSSIForDevice()} with partially filled arguments.
      *
@@ -1601,21 +3023,36 @@ declare module 'react-native-ble-plx' {
      * @param {UUID} characteristicUUID {@link Characteristic} UUID.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+     * @param {?ReadOptions} options [android only] read options, e.g. schema by which value is decoded natively.
      * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
      * UUID paths. Latest value of {@link Characteristic} will be stored inside returned object.
      */
     readCharacteristicForService(
       serviceUUID: UUID,
       characteristicUUID: UUID,
-      transactionId?: TransactionId
+      transactionId?: TransactionId,
+      options?: ReadOptions | null
     ): Promise<Characteristic>
 
+    /**
+     * {@link #blemanagerreadcharacteristicsfordevice|bleManager.readCharacteristicsForDevice()} with partially filled arguments.
+     *
+     * @param {Array<[UUID, UUID]>} characteristicUUIDs Pairs of {@link Service} and {@link Characteristic} UUIDs.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function to cancel all reads.
+     * @returns {Promise<Array<CharacteristicReadResult>>} Results in order of passed UUIDs.
+     */
+    readCharacteristics(
+      characteristicUUIDs: Array<[UUID, UUID]>,
+      transactionId?: TransactionId
+    ): Promise<Array<CharacteristicReadResult>>
+
     /**
      * {@link #blemanagerwritecharacteristicwithresponsefordevice|bleManager.writeCharacteristicWithResponseForDevice()} with partially filled arguments.
      *
      * @param {UUID} serviceUUID {@link Service} UUID.
      * @param {UUID} characteristicUUID {@link Characteristic} UUID.
-     * @param {Base64} valueBase64 Value in Base64 format.
+     * @param {WritableValue} valueBase64 Value in Base64 format or raw bytes.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
      * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
@@ -1624,7 +3061,7 @@ declare module 'react-native-ble-plx' {
     writeCharacteristicWithResponseForService(
       serviceUUID: UUID,
       characteristicUUID: UUID,
-      valueBase64: Base64,
+      valueBase64: WritableValue,
       transactionId?: TransactionId
     ): Promise<Characteristic>
 
@@ -1633,7 +3070,7 @@ declare module 'react-native-ble-plx' {
      *
      * @param {UUID} serviceUUID {@link Service} UUID.
      * @param {UUID} characteristicUUID {@link Characteristic} UUID.
-     * @param {Base64} valueBase64 Value in Base64 format.
+     * @param {WritableValue} valueBase64 Value in Base64 format or raw bytes.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
      * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
@@ -1642,10 +3079,64 @@ declare module 'react-native-ble-plx' {
     writeCharacteristicWithoutResponseForService(
       serviceUUID: UUID,
       characteristicUUID: UUID,
-      valueBase64: Base64,
+      valueBase64: WritableValue,
+      transactionId?: TransactionId
+    ): Promise<Characteristic>
+
+    /**
+     * {@link #blemanagerwritelongcharacteristicfordevice|bleManager.writeLongCharacteristicForDevice()} with partially filled arguments.
+     *
+     * @param {UUID} serviceUUID {@link Service} UUID.
+     * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+     * @param {WritableValue} valueBase64 Value in Base64 format or raw bytes.
+     * @param {?LongWriteOptions} options Write options.
+     * @param {?function(progress: WriteProgress)} onProgress Callback which receives progress of the write.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+     * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
+     * UUID paths when the whole value is written.
+     */
+    writeLongCharacteristicForService(
+      serviceUUID: UUID,
+      characteristicUUID: UUID,
+      valueBase64: WritableValue,
+      options?: LongWriteOptions | null,
+      onProgress?: ((progress: WriteProgress) => void) | null,
       transactionId?: TransactionId
     ): Promise<Characteristic>
 
+    /**
+     * {@link #blemanagerwritecharacteristicstreamfordevice|bleManager.writeCharacteristicStreamForDevice()} with partially filled arguments.
+     *
+     * @param {UUID} serviceUUID {@link Service} UUID.
+     * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+     * @param {Array<WritableValue>} values Values in Base64 format or raw bytes.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function to stop the stream.
+     * @returns {Promise<WriteStreamResult>} Summary of the stream when all values are written.
+     */
+    writeCharacteristicStreamForService(
+      serviceUUID: UUID,
+      characteristicUUID: UUID,
+      values: WritableValue[],
+      transactionId?: TransactionId
+    ): Promise<WriteStreamResult>
+
+    /**
+     * {@link #blemanageropenl2capchannelfordevice|bleManager.openL2capChannelForDevice()} with partially filled
+     * arguments.
+     *
+     * @param {number} psm Protocol/Service Multiplexer of the channel published by the device.
+     * @param {function(error: ?BleError, data: ?ArrayBuffer)} listener Callback which receives chunks of data.
+     * @param {?L2capChannelOptions} options Channel options.
+     * @returns {Promise<L2capChannel>} Promise which emits the channel when it is open.
+     */
+    openL2capChannel(
+      psm: number,
+      listener: (error: BleError | null, data: ArrayBuffer | null) => void,
+      options?: L2capChannelOptions | null
+    ): Promise<L2capChannel>
+
     /**
      * {@link #blemanagermonitorcharacteristicfordevice|bleManager.monitorCharacteristicForDevice()} with partially filled arguments.
      *
@@ -1655,6 +3146,7 @@ declare module 'react-native-ble-plx' {
      * {@link Characteristic} objects with modified value for each notification.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * @param {?CharacteristicSubscriptionType} subscriptionType [android only] subscription type of the characteristic
+     * @param {?MonitorOptions} options [android only] monitoring options
      * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
      * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
      */
@@ -1663,7 +3155,28 @@ declare module 'react-native-ble-plx' {
       characteristicUUID: UUID,
       listener: (error: BleError | null, characteristic: Characteristic | null) => void,
       transactionId?: TransactionId,
-      subscriptionType?: CharacteristicSubscriptionType
+      subscriptionType?: CharacteristicSubscriptionType,
+      options?: MonitorOptions
+    ): Subscription
+
+    /**
+     * {@link #blemanagerpollcharacteristicfordevice|bleManager.pollCharacteristicForDevice()} with partially filled arguments.
+     *
+     * @param {UUID} serviceUUID {@link Service} UUID.
+     * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+     * @param {function(error: ?BleError, characteristic: ?Characteristic)} listener - callback which emits
+     * {@link Characteristic} objects with read values.
+     * @param {PollOptions} options poll interval, jitter and monitoring options.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+     * @returns {Subscription} Subscription on which `remove()` function can be called to stop polling.
+     */
+    pollCharacteristicForService(
+      serviceUUID: UUID,
+      characteristicUUID: UUID,
+      listener: (error: BleError | null, characteristic: Characteristic | null) => void,
+      options: PollOptions,
+      transactionId?: TransactionId
     ): Subscription
 
     /**
@@ -1690,7 +3203,7 @@ declare module 'react-native-ble-plx' {
      * @param {UUID} serviceUUID {@link Service} UUID.
      * @param {UUID} characteristicUUID Characteristic UUID
      * @param {UUID} descriptorUUID Descriptor UUID
-     * @param {Base64} valueBase64 Value to be set coded in Base64
+     * @param {WritableValue} valueBase64 Value to be set coded in Base64 or as raw bytes
      * @param {?TransactionId} transactionId Transaction handle used to cancel operation
      * @returns {Promise<Descriptor>} Descriptor which saved passed value.
      */
@@ -1698,7 +3211,7 @@ declare module 'react-native-ble-plx' {
       serviceUUID: UUID,
       characteristicUUID: UUID,
       descriptorUUID: UUID,
-      valueBase64: Base64,
+      valueBase64: WritableValue,
       transactionId?: string
     ): Promise<Descriptor>
   }
@@ -1762,16 +3275,21 @@ declare module 'react-native-ble-plx' {
      * @param {UUID} characteristicUUID {@link Characteristic} UUID.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+     * @param {?ReadOptions} options [android only] read options, e.g. schema by which value is decoded natively.
      * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
      * UUID path. Latest value of {@link Characteristic} will be stored inside returned object.
      */
-    readCharacteristic(characteristicUUID: UUID, transactionId?: string): Promise<Characteristic>
+    readCharacteristic(
+      characteristicUUID: UUID,
+      transactionId?: string,
+      options?: ReadOptions | null
+    ): Promise<Characteristic>
 
     /**
      * {@link #blemanagerwritecharacteristicwithresponsefordevice|bleManager.writeCharacteristicWithResponseForDevice()} with partially filled arguments.
      *
      * @param {UUID} characteristicUUID {@link Characteristic} UUID.
-     * @param {Base64} valueBase64 Value in Base64 format.
+     * @param {WritableValue} valueBase64 Value in Base64 format or raw bytes.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
      * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
@@ -1779,7 +3297,7 @@ declare module 'react-native-ble-plx' {
      */
     writeCharacteristicWithResponse(
       characteristicUUID: UUID,
-      valueBase64: Base64,
+      valueBase64: WritableValue,
       transactionId?: string
     ): Promise<Characteristic>
 
@@ -1787,7 +3305,7 @@ declare module 'react-native-ble-plx' {
      * {@link #blemanagerwritecharacteristicwithoutresponsefordevice|bleManager.writeCharacteristicWithoutResponseForDevice()} with partially filled arguments.
      *
      * @param {UUID} characteristicUUID {@link Characteristic} UUID.
-     * @param {Base64} valueBase64 Value in Base64 format.
+     * @param {WritableValue} valueBase64 Value in Base64 format or raw bytes.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
      * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
@@ -1795,7 +3313,7 @@ declare module 'react-native-ble-plx' {
      */
     writeCharacteristicWithoutResponse(
       characteristicUUID: UUID,
-      valueBase64: Base64,
+      valueBase64: WritableValue,
       transactionId?: string
     ): Promise<Characteristic>
 
@@ -1807,6 +3325,7 @@ declare module 'react-native-ble-plx' {
      * {@link Characteristic} objects with modified value for each notification.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * @param {?CharacteristicSubscriptionType} subscriptionType [android only] subscription type of the characteristic
+     * @param {?MonitorOptions} options [android only] monitoring options
      * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
      * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
      */
@@ -1814,7 +3333,8 @@ declare module 'react-native-ble-plx' {
       characteristicUUID: UUID,
       listener: (error: BleError | null, characteristic: Characteristic | null) => void,
       transactionId?: string,
-      subscriptionType?: CharacteristicSubscriptionType
+      subscriptionType?: CharacteristicSubscriptionType,
+      options?: MonitorOptions
     ): Subscription
 
     /**
@@ -1838,14 +3358,14 @@ declare module 'react-native-ble-plx' {
      *
      * @param {UUID} characteristicUUID Characteristic UUID
      * @param {UUID} descriptorUUID Descriptor UUID
-     * @param {Base64} valueBase64 Value to be set coded in Base64
+     * @param {WritableValue} valueBase64 Value to be set coded in Base64 or as raw bytes
      * @param {?TransactionId} transactionId Transaction handle used to cancel operation
      * @returns {Promise<Descriptor>} Descriptor which saved passed value.
      */
     writeDescriptorForCharacteristic(
       characteristicUUID: UUID,
       descriptorUUID: UUID,
-      valueBase64: Base64,
+      valueBase64: WritableValue,
       transactionId?: string
     ): Promise<Descriptor>
   }
@@ -1916,6 +3436,24 @@ declare module 'react-native-ble-plx' {
      */
     value: Base64 | null
 
+    /**
+     * Characteristic value as raw bytes if present. Computed from {@link Characteristic#value} on first access, or passed
+     * directly from native module when binary transport is available.
+     */
+    rawValue: ArrayBuffer | null
+
+    /**
+     * Time when value was received in milliseconds since device boot. Present only in characteristics emitted by
+     * monitoring with `timestamps` or `batchInterval` option. [Android only]
+     */
+    timestamp: number | null
+
+    /**
+     * Value decoded natively according to `decoder` schema passed to monitoring or read options. When it is set,
+     * {@link Characteristic#value} is null, except for monitoring with `batchInterval` option. [Android only]
+     */
+    decodedValue: DecodedValue | null
+
     /**
      * Private constructor used to create instance of {@link Characteristic}.
      * @param {NativeCharacteristic} nativeCharacteristic NativeCharacteristic
@@ -1937,32 +3475,33 @@ declare module 'react-native-ble-plx' {
      *
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+     * @param {?ReadOptions} options [android only] read options, e.g. schema by which value is decoded natively.
      * @returns {Promise<Characteristic>} Promise which emits this {@link Characteristic}. Latest value will be stored
      * inside returned object.
      */
-    read(transactionId?: string): Promise<Characteristic>
+    read(transactionId?: string, options?: ReadOptions | null): Promise<Characteristic>
 
     /**
      * {@link #blemanagerwritecharacteristicwithresponsefordevice|bleManager.writeCharacteristicWithResponseForDevice()} with partially filled arguments.
      *
-     * @param {Base64} valueBase64 Value in Base64 format.
+     * @param {WritableValue} valueBase64 Value in Base64 format or raw bytes.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
      * @returns {Promise<Characteristic>} Promise which emits this {@link Characteristic}. Latest value may
      * not be stored inside returned object.
      */
-    writeWithResponse(valueBase64: Base64, transactionId?: string): Promise<Characteristic>
+    writeWithResponse(valueBase64: WritableValue, transactionId?: string): Promise<Characteristic>
 
     /**
      * {@link #blemanagerwritecharacteristicwithoutresponsefordevice|bleManager.writeCharacteristicWithoutResponseForDevice()} with partially filled arguments.
      *
-     * @param {Base64} valueBase64 Value in Base64 format.
+     * @param {WritableValue} valueBase64 Value in Base64 format or raw bytes.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
      * @returns {Promise<Characteristic>} Promise which emits this {@link Characteristic}. Latest value may
      * not be stored inside returned object.
      */
-    writeWithoutResponse(valueBase64: Base64, transactionId?: string): Promise<Characteristic>
+    writeWithoutResponse(valueBase64: WritableValue, transactionId?: string): Promise<Characteristic>
 
     /**
      * {@link #blemanagermonitorcharacteristicfordevice|bleManager.monitorCharacteristicForDevice()} with partially filled arguments.
@@ -1971,13 +3510,15 @@ declare module 'react-native-ble-plx' {
      * this {@link Characteristic} with modified value for each notification.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * @param {?CharacteristicSubscriptionType} subscriptionType [android only] subscription type of the characteristic
+     * @param {?MonitorOptions} options [android only] monitoring options
      * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
      * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
      */
     monitor(
       listener: (error: BleError | null, characteristic: Characteristic | null) => void,
       transactionId?: string,
-      subscriptionType?: CharacteristicSubscriptionType
+      subscriptionType?: CharacteristicSubscriptionType,
+      options?: MonitorOptions
     ): Subscription
 
     /**
@@ -1995,11 +3536,11 @@ declare module 'react-native-ble-plx' {
      * {@link #blemanagerwritedescriptorfordevice|bleManager.writeDescriptorForDevice()} with partially filled arguments.
      *
      * @param {UUID} descriptorUUID Descriptor UUID
-     * @param {Base64} valueBase64 Value to be set coded in Base64
+     * @param {WritableValue} valueBase64 Value to be set coded in Base64 or as raw bytes
      * @param {?TransactionId} transactionId Transaction handle used to cancel operation
      * @returns {Promise<Descriptor>} Descriptor which saved passed value.
      */
-    writeDescriptor(descriptorUUID: UUID, valueBase64: Base64, transactionId?: string): Promise<Descriptor>
+    writeDescriptor(descriptorUUID: UUID, valueBase64: WritableValue, transactionId?: string): Promise<Descriptor>
   }
 
   // Descriptor.js *************************************************************************************************
@@ -2054,6 +3595,12 @@ declare module 'react-native-ble-plx' {
      */
     value: Base64 | null
 
+    /**
+     * Descriptor value as raw bytes if present. Computed from {@link Descriptor#value} on first access, or passed
+     * directly from native module when binary transport is available.
+     */
+    rawValue: ArrayBuffer | null
+
     /**
      * Private constructor used to create instance of {@link Descriptor}.
      * @param {NativeDescriptor} nativeDescriptor NativeDescriptor
@@ -2075,10 +3622,10 @@ declare module 'react-native-ble-plx' {
     /**
      * {@link #blemanagerwritedescriptorfordevice|bleManager.writeDescriptorForDevice()} with partially filled arguments.
      *
-     * @param {Base64} valueBase64 Value to be set coded in Base64
+     * @param {WritableValue} valueBase64 Value to be set coded in Base64 or as raw bytes
      * @param {?TransactionId} transactionId Transaction handle used to cancel operation
      * @returns {Promise<Descriptor>} Descriptor which saved passed value.
      */
-    write(valueBase64: Base64, transactionId?: string): Promise<Descriptor>
+    write(valueBase64: WritableValue, transactionId?: string): Promise<Descriptor>
   }
 }
@@ -5,7 +5,11 @@ export { Service } from './Service'
 export { Characteristic } from './Characteristic'
 export { Descriptor } from './Descriptor'
 export { fullUUID } from './Utils'
-export { State, LogLevel, ConnectionPriority, ScanCallbackType, ScanMode } from './TypeDefinition'
+export { State, LogLevel, ConnectionPriority, ScanCallbackType, ScanMode,
+  ScanPhy,
+  AdvertisementEncryptionFormat,
+  AdvertisementDecryptionStatus
+} from './TypeDefinition'
 
 export type {
   Subscription,
@@ -13,8 +17,41 @@ export type {
   UUID,
   TransactionId,
   Base64,
+  WritableValue,
   ScanOptions,
+  ScanReplayOptions,
+  BackgroundScanOptions,
+  BackgroundScanResults,
+  ScanStatistics,
+  EventQueueStatistics,
+  OperationPriority,
+  OperationPriorityStatistics,
+  ValueFieldType,
+  DecodedValue,
+  ValueField,
+  ValueSchema,
+  OperationQueueStatistics,
+  GattSchedulerOptions,
+  GattSchedulerStatistics,
+  CharacteristicReadResult,
+  CharacteristicCacheStatistics,
+  LongWriteOptions,
+  WriteProgress,
+  WriteStreamResult,
+  BridgeTraffic,
+  BridgeTrafficEntry,
   ConnectionOptions,
+  MonitorOptions,
+  PollOptions,
+  ReadOptions,
+  HistoryOptions,
+  CharacteristicHistory,
+  FsyncPolicy,
+  NotificationRecorderOptions,
+  NotificationRecord,
+  NotificationRecording,
+  L2capChannelOptions,
+  L2capChannel,
   BleManagerOptions,
   BleRestoredState
 } from './TypeDefinition'